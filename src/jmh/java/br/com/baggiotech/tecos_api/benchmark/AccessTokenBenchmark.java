@@ -0,0 +1,55 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenClaims;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da autenticação stateless: {@link TokenService#verifyAccess} (o que o interceptor faz
+ * em toda chamada) e a emissão do par no login/renovação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessTokenBenchmark {
+
+    private TokenService tokenService;
+    private UUID userId;
+    private UUID companyId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService("benchmark-secret-with-at-least-32-bytes",
+                Duration.ofMinutes(15), Duration.ofDays(7));
+        userId = UUID.randomUUID();
+        companyId = UUID.randomUUID();
+        accessToken = tokenService.issue(userId, companyId, "TECNICO").accessToken();
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return tokenService.verifyAccess(accessToken);
+    }
+
+    @Benchmark
+    public Object issue() {
+        return tokenService.issue(userId, companyId, "TECNICO");
+    }
+}
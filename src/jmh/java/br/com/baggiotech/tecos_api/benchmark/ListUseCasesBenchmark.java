@@ -0,0 +1,54 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import br.com.baggiotech.tecos_api.application.budget.ListBudgetsUseCase;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordenação e paginação em memória de {@link ListBudgetsUseCase}
+ * sobre um repositório que devolve {@code rows} registros.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListUseCasesBenchmark {
+
+    private static final int PAGE_SIZE = 15;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ListBudgetsUseCase listBudgetsUseCase;
+
+    @Setup
+    public void setUp() {
+        listBudgetsUseCase = new ListBudgetsUseCase(
+                StubRepositories.listing(BudgetRepository.class, SyntheticData.budgets(rows, 42L)));
+    }
+
+    @Benchmark
+    public Page<?> budgetsFirstPageByCreatedAt() {
+        return listBudgetsUseCase.execute(null, null, null, "created_at", "desc", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<?> budgetsFirstPageByTotalValue() {
+        return listBudgetsUseCase.execute(null, null, null, "total_value", "desc", 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Repositórios em memória para isolar o código das use cases do acesso ao banco:
+ * todo método de listagem devolve as linhas informadas e {@code findById} usa a função de busca.
+ */
+public final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    public static <T> T listing(Class<T> repositoryType, List<?> rows) {
+        return stub(repositoryType, rows, id -> null);
+    }
+
+    public static <T> T stub(Class<T> repositoryType, List<?> rows, Function<Object, Object> findById) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (instance, method, args) -> {
+                    if (method.getReturnType() == List.class) {
+                        return rows;
+                    }
+                    if (method.getName().equals("findById")) {
+                        return Optional.ofNullable(findById.apply(args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return repositoryType.cast(proxy);
+    }
+}
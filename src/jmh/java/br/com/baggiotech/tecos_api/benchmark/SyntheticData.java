@@ -0,0 +1,174 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Massa de dados sintética e determinística para os benchmarks.
+ * As associações são compartilhadas entre as linhas para que o custo medido seja o do código
+ * sob teste e não o da alocação do dataset.
+ */
+public final class SyntheticData {
+
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    private static final String[] DEFECTS = {"Tela quebrada", "Não liga", "Bateria viciada", "Teclado falhando"};
+    private static final String[] NAMES = {"Maria", "João", "Ana", "Pedro", "Carla", "Lucas", "Fernanda", "Bruno"};
+
+    private SyntheticData() {
+    }
+
+    public static CompanyJpaEntity companyEntity() {
+        CompanyJpaEntity company = new CompanyJpaEntity();
+        company.setId(UUID.randomUUID());
+        company.setName("Assistência Benchmark");
+        company.setEmail("benchmark@example.com");
+        company.setIsActive(true);
+        company.setCreatedAt(BASE_TIME);
+        company.setUpdatedAt(BASE_TIME);
+        return company;
+    }
+
+    public static ClientJpaEntity clientEntity(CompanyJpaEntity company) {
+        ClientJpaEntity client = new ClientJpaEntity();
+        client.setId(UUID.randomUUID());
+        client.setCompany(company);
+        client.setName("Maria Silva");
+        client.setPhone("11999999999");
+        client.setIsActive(true);
+        client.setCreatedAt(BASE_TIME);
+        client.setUpdatedAt(BASE_TIME);
+        return client;
+    }
+
+    public static EquipmentJpaEntity equipmentEntity(CompanyJpaEntity company, ClientJpaEntity client) {
+        EquipmentJpaEntity equipment = new EquipmentJpaEntity();
+        equipment.setId(UUID.randomUUID());
+        equipment.setCompany(company);
+        equipment.setClient(client);
+        equipment.setType("Notebook");
+        equipment.setBrand("Dell");
+        equipment.setCreatedAt(BASE_TIME);
+        equipment.setUpdatedAt(BASE_TIME);
+        return equipment;
+    }
+
+    public static UserJpaEntity userEntity(CompanyJpaEntity company) {
+        UserJpaEntity user = new UserJpaEntity();
+        user.setId(UUID.randomUUID());
+        user.setCompany(company);
+        user.setName("Técnico");
+        user.setEmail("tecnico@example.com");
+        user.setPassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench");
+        user.setType("TECNICO");
+        user.setIsActive(true);
+        user.setCreatedAt(BASE_TIME);
+        user.setUpdatedAt(BASE_TIME);
+        return user;
+    }
+
+    public static List<WorkOrderJpaEntity> workOrderEntities(int rows) {
+        CompanyJpaEntity company = companyEntity();
+        ClientJpaEntity client = clientEntity(company);
+        EquipmentJpaEntity equipment = equipmentEntity(company, client);
+        UserJpaEntity technician = userEntity(company);
+        OrderStatus[] statuses = OrderStatus.values();
+
+        List<WorkOrderJpaEntity> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            WorkOrderJpaEntity entity = new WorkOrderJpaEntity();
+            entity.setId(UUID.randomUUID());
+            entity.setCompany(company);
+            entity.setClient(client);
+            entity.setEquipment(equipment);
+            entity.setTechnician(technician);
+            entity.setStatus(statuses[i % statuses.length]);
+            entity.setReportedDefect(DEFECTS[i % DEFECTS.length]);
+            entity.setReturnOrder(false);
+            entity.setCreatedAt(BASE_TIME.plusMinutes(i));
+            entity.setUpdatedAt(BASE_TIME.plusMinutes(i));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    public static List<BudgetJpaEntity> budgetEntities(List<WorkOrderJpaEntity> workOrders) {
+        BudgetStatus[] statuses = BudgetStatus.values();
+        List<BudgetJpaEntity> entities = new ArrayList<>(workOrders.size());
+        for (int i = 0; i < workOrders.size(); i++) {
+            WorkOrderJpaEntity workOrder = workOrders.get(i);
+            BudgetJpaEntity entity = new BudgetJpaEntity();
+            entity.setId(UUID.randomUUID());
+            entity.setCompany(workOrder.getCompany());
+            entity.setWorkOrder(workOrder);
+            entity.setServiceValue(BigDecimal.valueOf(100 + i % 500));
+            entity.setPartsValue(BigDecimal.valueOf(i % 300));
+            entity.setTotalValue(entity.getServiceValue().add(entity.getPartsValue()));
+            entity.setStatus(statuses[i % statuses.length]);
+            entity.setCreatedBy(workOrder.getTechnician());
+            entity.setCreatedAt(workOrder.getCreatedAt());
+            entity.setUpdatedAt(workOrder.getUpdatedAt());
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    public static List<Budget> budgets(int rows, long seed) {
+        Random random = new Random(seed);
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setId(UUID.randomUUID());
+        BudgetStatus[] statuses = BudgetStatus.values();
+
+        List<Budget> budgets = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Budget budget = new Budget();
+            budget.setId(UUID.randomUUID());
+            budget.setCompany(company);
+            budget.setWorkOrder(workOrder);
+            budget.setStatus(statuses[random.nextInt(statuses.length)]);
+            budget.setTotalValue(BigDecimal.valueOf(random.nextInt(100_000), 2));
+            budget.setCreatedAt(BASE_TIME.plusSeconds(random.nextInt(rows * 10)));
+            budget.setUpdatedAt(budget.getCreatedAt());
+            budgets.add(budget);
+        }
+        return budgets;
+    }
+
+    public static List<Client> clients(int rows, long seed) {
+        Random random = new Random(seed);
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+
+        List<Client> clients = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Client client = new Client();
+            client.setId(UUID.randomUUID());
+            client.setCompany(company);
+            client.setName(NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(rows));
+            client.setPhone(String.valueOf(11_900_000_000L + random.nextInt(100_000_000)));
+            client.setIsActive(true);
+            client.setCreatedAt(BASE_TIME);
+            clients.add(client);
+        }
+        return clients;
+    }
+}
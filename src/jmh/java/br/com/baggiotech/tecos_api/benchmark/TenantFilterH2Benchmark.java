@@ -0,0 +1,180 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import br.com.baggiotech.tecos_api.TecosApiApplication;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escopo de tenant em work_order_histories: o predicado antigo do filtro
+ * (EXISTS correlacionado em work_orders, avaliado por linha) contra a igualdade em
+ * company_id denormalizado, e a listagem via Hibernate com o filtro habilitado na criação
+ * do EntityManager. {@code rows} históricos distribuídos entre {@value #COMPANIES} empresas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TenantFilterH2Benchmark {
+
+    private static final int COMPANIES = 10;
+    private static final int PAGE_SIZE = 50;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String INSERT_WORK_ORDER = "INSERT INTO work_orders "
+            + "(id, company_id, client_id, equipment_id, technician_id, status, reported_defect, "
+            + "return, created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_HISTORY = "INSERT INTO work_order_histories "
+            + "(id, work_order_id, company_id, user_id, status_after, observation, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String THROUGH_WORK_ORDER = "SELECT h.id FROM work_order_histories h "
+            + "WHERE EXISTS (SELECT 1 FROM work_orders wo WHERE wo.id = h.work_order_id AND wo.company_id = ?) "
+            + "ORDER BY h.created_at DESC FETCH FIRST " + PAGE_SIZE + " ROWS ONLY";
+    private static final String BY_COMPANY_ID = "SELECT h.id FROM work_order_histories h "
+            + "WHERE h.company_id = ? "
+            + "ORDER BY h.created_at DESC FETCH FIRST " + PAGE_SIZE + " ROWS ONLY";
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private WorkOrderHistoryJpaRepository historyRepository;
+    private List<UUID> companyIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TecosApiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        historyRepository = context.getBean(WorkOrderHistoryJpaRepository.class);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContext.clear();
+        context.close();
+    }
+
+    private void seed() {
+        CompanyJpaRepository companyRepository = context.getBean(CompanyJpaRepository.class);
+        List<CompanyJpaEntity> companies = new ArrayList<>(COMPANIES);
+        for (int i = 0; i < COMPANIES; i++) {
+            CompanyJpaEntity company = new CompanyJpaEntity();
+            company.setName("Assistência Benchmark " + i);
+            company.setEmail("benchmark" + i + "@example.com");
+            companies.add(companyRepository.save(company));
+        }
+        companyIds = companies.stream().map(CompanyJpaEntity::getId).toList();
+
+        ClientJpaEntity client = SyntheticData.clientEntity(companies.get(0));
+        client.setId(null);
+        client = context.getBean(ClientJpaRepository.class).save(client);
+
+        EquipmentJpaEntity equipment = SyntheticData.equipmentEntity(companies.get(0), client);
+        equipment.setId(null);
+        equipment = context.getBean(EquipmentJpaRepository.class).save(equipment);
+
+        UserJpaEntity technician = SyntheticData.userEntity(companies.get(0));
+        technician.setId(null);
+        technician = context.getBean(UserJpaRepository.class).save(technician);
+
+        List<Object[]> workOrders = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> histories = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            UUID workOrderId = UUID.randomUUID();
+            UUID tenant = companies.get(i % COMPANIES).getId();
+            Timestamp createdAt = Timestamp.valueOf(SyntheticData.BASE_TIME.plusSeconds(i));
+            workOrders.add(new Object[]{
+                    workOrderId, tenant, client.getId(), equipment.getId(), technician.getId(),
+                    OrderStatus.RECEBIDO.name(), "Não liga", false, createdAt, createdAt, false
+            });
+            histories.add(new Object[]{
+                    UUID.randomUUID(), workOrderId, tenant, technician.getId(),
+                    OrderStatus.RECEBIDO.name(), "Ordem de serviço criada", createdAt, createdAt
+            });
+            if (workOrders.size() == BATCH_SIZE) {
+                flush(workOrders, histories);
+            }
+        }
+        if (!workOrders.isEmpty()) {
+            flush(workOrders, histories);
+        }
+    }
+
+    private void flush(List<Object[]> workOrders, List<Object[]> histories) {
+        jdbcTemplate.batchUpdate(INSERT_WORK_ORDER, workOrders);
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, histories);
+        workOrders.clear();
+        histories.clear();
+    }
+
+    // Alterna o tenant a cada chamada para que o H2 não reaproveite o resultado da consulta anterior
+    private UUID nextCompanyId() {
+        next = (next + 1) % COMPANIES;
+        return companyIds.get(next);
+    }
+
+    @Benchmark
+    public List<UUID> throughWorkOrderExists() {
+        return jdbcTemplate.queryForList(THROUGH_WORK_ORDER, UUID.class, nextCompanyId());
+    }
+
+    @Benchmark
+    public List<UUID> denormalizedCompanyId() {
+        return jdbcTemplate.queryForList(BY_COMPANY_ID, UUID.class, nextCompanyId());
+    }
+
+    @Benchmark
+    public Page<WorkOrderHistoryJpaEntity> hibernateTenantFilter() {
+        SecurityContext.setCurrentCompanyId(nextCompanyId());
+        try {
+            return transactionTemplate.execute(status -> historyRepository.findAll(
+                    PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        } finally {
+            SecurityContext.clear();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.baggiotech.tecos_api.benchmark;
+
+import br.com.baggiotech.tecos_api.TecosApiApplication;
+import br.com.baggiotech.tecos_api.application.workorder.ListWorkOrdersByCursorUseCase;
+import br.com.baggiotech.tecos_api.application.workorder.ListWorkOrdersUseCase;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagem de ordens de serviço contra o H2 do perfil de teste, com {@code rows} registros
+ * inseridos via JDBC em lote. Cobre a página inicial, uma página profunda (OFFSET) e o cursor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WorkOrderListH2Benchmark {
+
+    private static final int PAGE_SIZE = 15;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String INSERT_WORK_ORDER = "INSERT INTO work_orders "
+            + "(id, company_id, client_id, equipment_id, technician_id, status, reported_defect, "
+            + "return, created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String[] DEFECTS = {"Tela quebrada", "Não liga", "Bateria viciada", "Teclado falhando"};
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ListWorkOrdersUseCase listWorkOrdersUseCase;
+    private ListWorkOrdersByCursorUseCase listWorkOrdersByCursorUseCase;
+    private UUID companyId;
+    private String middleCursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TecosApiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run();
+        listWorkOrdersUseCase = context.getBean(ListWorkOrdersUseCase.class);
+        listWorkOrdersByCursorUseCase = context.getBean(ListWorkOrdersByCursorUseCase.class);
+        seed();
+
+        // Cursor posicionado na mesma linha em que deepPage começa, para comparar OFFSET com keyset
+        middleCursor = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT created_at, id FROM work_orders ORDER BY created_at DESC, id DESC OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY",
+                (rs, rowNum) -> new Cursor(rs.getTimestamp(1).toLocalDateTime(), rs.getObject(2, UUID.class)).encode(),
+                (rows / PAGE_SIZE / 2) * PAGE_SIZE - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed() {
+        CompanyJpaEntity company = new CompanyJpaEntity();
+        company.setName("Assistência Benchmark");
+        company.setEmail("benchmark@example.com");
+        company = context.getBean(CompanyJpaRepository.class).save(company);
+        companyId = company.getId();
+
+        ClientJpaEntity client = SyntheticData.clientEntity(company);
+        client.setId(null);
+        client = context.getBean(ClientJpaRepository.class).save(client);
+
+        EquipmentJpaEntity equipment = SyntheticData.equipmentEntity(company, client);
+        equipment.setId(null);
+        equipment = context.getBean(EquipmentJpaRepository.class).save(equipment);
+
+        UserJpaEntity technician = SyntheticData.userEntity(company);
+        technician.setId(null);
+        technician = context.getBean(UserJpaRepository.class).save(technician);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        OrderStatus[] statuses = OrderStatus.values();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(SyntheticData.BASE_TIME.plusSeconds(i));
+            batch.add(new Object[]{
+                    UUID.randomUUID(), companyId, client.getId(), equipment.getId(), technician.getId(),
+                    statuses[i % statuses.length].name(), DEFECTS[i % DEFECTS.length],
+                    false, createdAt, createdAt, false
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_WORK_ORDER, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_WORK_ORDER, batch);
+        }
+    }
+
+    @Benchmark
+    public Page<WorkOrderSummary> firstPage() {
+        return listWorkOrdersUseCase.execute(companyId, null, null, null, null, null, null,
+                "created_at", "desc", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<WorkOrderSummary> deepPage() {
+        return listWorkOrdersUseCase.execute(companyId, null, null, null, null, null, null,
+                "created_at", "desc", rows / PAGE_SIZE / 2, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<WorkOrderSummary> filteredBySearch() {
+        return listWorkOrdersUseCase.execute(companyId, null, null, null, OrderStatus.RECEBIDO, null, "tela",
+                "created_at", "desc", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<WorkOrderSummary> cursorPage() {
+        return listWorkOrdersByCursorUseCase.execute(companyId, null, null, null, null, null, null,
+                middleCursor, PAGE_SIZE);
+    }
+}
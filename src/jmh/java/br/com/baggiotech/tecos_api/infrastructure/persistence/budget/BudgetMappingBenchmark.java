@@ -0,0 +1,68 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.budget;
+
+import br.com.baggiotech.tecos_api.benchmark.StubRepositories;
+import br.com.baggiotech.tecos_api.benchmark.SyntheticData;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Custo de {@link BudgetRepositoryImpl#toDomain}. A busca da ordem de serviço por orçamento é
+ * atendida em memória, então o número medido é o piso do mapeamento, sem a ida ao banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BudgetMappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private BudgetRepositoryImpl repository;
+    private List<BudgetJpaEntity> entities;
+
+    @Setup
+    public void setUp() {
+        List<WorkOrderJpaEntity> workOrders = SyntheticData.workOrderEntities(rows);
+        Map<UUID, WorkOrder> workOrdersById = workOrders.stream().collect(Collectors.toMap(
+                WorkOrderJpaEntity::getId, entity -> {
+                    WorkOrder workOrder = new WorkOrder();
+                    workOrder.setId(entity.getId());
+                    return workOrder;
+                }));
+        Function<Object, Object> findById = workOrdersById::get;
+        repository = new BudgetRepositoryImpl(null,
+                StubRepositories.stub(WorkOrderRepository.class, List.of(), findById), null);
+        entities = SyntheticData.budgetEntities(workOrders);
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (BudgetJpaEntity entity : entities) {
+            blackhole.consume(repository.toDomain(entity));
+        }
+    }
+}
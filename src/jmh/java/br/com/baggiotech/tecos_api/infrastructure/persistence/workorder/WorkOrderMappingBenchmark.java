@@ -0,0 +1,50 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.workorder;
+
+import br.com.baggiotech.tecos_api.benchmark.SyntheticData;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link WorkOrderRepositoryImpl#toDomain} para um resultado de {@code rows} entidades.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkOrderMappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private WorkOrderRepositoryImpl repository;
+    private List<WorkOrderJpaEntity> entities;
+
+    @Setup
+    public void setUp() {
+        repository = new WorkOrderRepositoryImpl(null, null);
+        entities = SyntheticData.workOrderEntities(rows);
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (WorkOrderJpaEntity entity : entities) {
+            blackhole.consume(repository.toDomain(entity));
+        }
+    }
+}
@@ -3,9 +3,11 @@ package br.com.baggiotech.tecos_api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "br.com.baggiotech.tecos_api.infrastructure.persistence.jpa")
+@EnableScheduling
 public class TecosApiApplication {
 
 	public static void main(String[] args) {
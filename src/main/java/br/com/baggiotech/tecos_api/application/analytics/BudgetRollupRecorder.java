@@ -0,0 +1,51 @@
+package br.com.baggiotech.tecos_api.application.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupDelta;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Traduz as mudanças de orçamento em ajustes dos agregados diários, com as mesmas datas de referência
+ * do recálculo noturno: criação, aprovação (approvedAt) e rejeição (updatedAt). Deve ser chamado na
+ * transação do caso de uso, depois da escrita do orçamento.
+ */
+@Component
+public class BudgetRollupRecorder {
+
+    private final BudgetRollupRepository repository;
+
+    public BudgetRollupRecorder(BudgetRollupRepository repository) {
+        this.repository = repository;
+    }
+
+    public void created(Budget budget) {
+        add(budget, budget.getCreatedAt(), BudgetRollupDelta.created(budget.getTotalValue()));
+    }
+
+    /** {@code demoted}: orçamentos da OS que estavam aprovados antes desta aprovação (lidos antes dela). */
+    public void approved(Budget budget, List<Budget> demoted) {
+        for (Budget previous : demoted) {
+            if (!previous.getId().equals(budget.getId()) && previous.getApprovedAt() != null) {
+                add(previous, previous.getApprovedAt(), BudgetRollupDelta.unapproved(previous.getTotalValue()));
+            }
+        }
+        add(budget, budget.getApprovedAt(), BudgetRollupDelta.approved(budget.getTotalValue()));
+    }
+
+    public void rejected(Budget budget, BudgetStatus previousStatus) {
+        if (previousStatus == BudgetStatus.APROVADO && budget.getApprovedAt() != null) {
+            add(budget, budget.getApprovedAt(), BudgetRollupDelta.unapproved(budget.getTotalValue()));
+        }
+        add(budget, budget.getUpdatedAt(), BudgetRollupDelta.rejected(budget.getTotalValue()));
+    }
+
+    private void add(Budget budget, LocalDateTime at, BudgetRollupDelta delta) {
+        repository.add(budget.getCompany().getId(), budget.getWorkOrder().getTechnician().getId(),
+                at.toLocalDate(), delta);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.baggiotech.tecos_api.application.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Faturamento, ticket médio e taxas de aprovação por mês, lidos dos agregados diários.
+ * Sem período, retorna os últimos 12 meses (incluindo o atual).
+ */
+@Service
+public class GetBudgetAnalyticsUseCase {
+
+    static final int MAX_MONTHS = 24;
+
+    private final BudgetRollupRepository repository;
+
+    public GetBudgetAnalyticsUseCase(BudgetRollupRepository repository) {
+        this.repository = repository;
+    }
+
+    public List<BudgetMonthlySummary> execute(UUID companyId, YearMonth from, YearMonth to, boolean byTechnician) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId é obrigatório para os relatórios de orçamentos");
+        }
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("O mês inicial deve ser anterior ou igual ao mês final.");
+        }
+        if (start.plusMonths(MAX_MONTHS).isBefore(end.plusMonths(1))) {
+            throw new IllegalArgumentException("O período máximo é de " + MAX_MONTHS + " meses.");
+        }
+        return repository.summarizeByMonth(companyId, start.atDay(1), end.atEndOfMonth(), byTechnician);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.baggiotech.tecos_api.application.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Recalcula os agregados diários do período a partir dos orçamentos (GROUP BY no banco), corrigindo
+ * desvios dos ajustes incrementais, como a troca do técnico de uma OS que já tinha orçamentos.
+ * Cada empresa é recalculada na sua própria transação, então a trava da empresa dura só o recálculo dela.
+ */
+@Service
+public class RebuildBudgetRollupsUseCase {
+
+    private final BudgetRollupRepository repository;
+    private final CompanyRepository companyRepository;
+
+    public RebuildBudgetRollupsUseCase(BudgetRollupRepository repository, CompanyRepository companyRepository) {
+        this.repository = repository;
+        this.companyRepository = companyRepository;
+    }
+
+    public void execute(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Período inválido para o recálculo dos agregados.");
+        }
+        for (Company company : companyRepository.findAll()) {
+            repository.rebuild(company.getId(), from, to);
+        }
+    }
+}
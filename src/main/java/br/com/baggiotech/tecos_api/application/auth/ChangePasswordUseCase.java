@@ -5,6 +5,7 @@ import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.infrastructure.security.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -19,6 +20,7 @@ public class ChangePasswordUseCase {
         this.passwordEncoder = passwordEncoder;
     }
 
+    @Transactional
     public void execute(UUID userId, String currentPassword, String newPassword) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User", userId));
@@ -17,8 +17,10 @@ public class LoginUseCase {
         this.passwordEncoder = passwordEncoder;
     }
 
+    // Sem transação: o BCrypt roda sem segurar conexão do pool. Leitura e regravação do hash são
+    // operações curtas e separadas, as duas no primário
     public User execute(String email, String password) {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findCurrentByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("Credenciais inválidas"));
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
@@ -29,6 +31,15 @@ public class LoginUseCase {
             throw new IllegalStateException("Sua conta está desativada. Entre em contato com o administrador.");
         }
 
+        // Hash gravado com outro custo do BCrypt: refaz agora, que a senha em claro foi conferida
+        // Grava só se a senha não mudou enquanto o hash era refeito
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(password);
+            if (userRepository.updatePasswordIfCurrent(user.getId(), user.getPassword(), rehashed)) {
+                user.setPassword(rehashed);
+            }
+        }
+
         return user;
     }
 }
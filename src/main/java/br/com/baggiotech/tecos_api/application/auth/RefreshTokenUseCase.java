@@ -0,0 +1,37 @@
+package br.com.baggiotech.tecos_api.application.auth;
+
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.infrastructure.security.AuthTokens;
+import br.com.baggiotech.tecos_api.infrastructure.security.InvalidTokenException;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenClaims;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Troca um token de renovação por um novo par. É o único ponto que volta ao banco: usuário desativado,
+ * excluído ou movido de empresa deixa de receber tokens de acesso em até um access-ttl.
+ * A transação de escrita leva a consulta ao primário, não a uma réplica atrasada, e a leitura ignora o
+ * cache de segundo nível, que pode guardar o usuário ainda ativo em outra instância.
+ */
+@Service
+public class RefreshTokenUseCase {
+
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+
+    public RefreshTokenUseCase(TokenService tokenService, UserRepository userRepository) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+    }
+
+    @Transactional
+    public AuthTokens execute(String refreshToken) {
+        TokenClaims claims = tokenService.verifyRefresh(refreshToken);
+        User user = userRepository.findCurrentById(claims.userId())
+                .filter(found -> Boolean.TRUE.equals(found.getIsActive()))
+                .orElseThrow(() -> new InvalidTokenException("Usuário inválido ou desativado"));
+        return tokenService.issue(user);
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -20,12 +22,18 @@ public class ApproveBudgetUseCase {
     private final BudgetRepository repository;
     private final UserRepository userRepository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+    private final BudgetRollupRecorder rollupRecorder;
 
     public ApproveBudgetUseCase(BudgetRepository repository, UserRepository userRepository,
-                                CustomMetrics metrics) {
+                                CustomMetrics metrics,
+                                PublicWorkOrderCache publicWorkOrderCache,
+                                BudgetRollupRecorder rollupRecorder) {
         this.repository = repository;
         this.userRepository = userRepository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+        this.rollupRecorder = rollupRecorder;
     }
 
     @Transactional
@@ -55,30 +63,22 @@ public class ApproveBudgetUseCase {
                     .orElseThrow(() -> new EntityNotFoundException("User", approvedByUserId));
         }
 
-        // RB-05: Desaprovar outros orçamentos da mesma OS
-        List<Budget> otherApprovedBudgets = repository.findByWorkOrderIdAndStatus(
-                budget.getWorkOrder().getId(), BudgetStatus.APROVADO);
-        
-        for (Budget otherBudget : otherApprovedBudgets) {
-            if (!otherBudget.getId().equals(budgetId)) {
-                otherBudget.setStatus(BudgetStatus.PENDENTE);
-                otherBudget.setApprovedAt(null);
-                otherBudget.setApprovalMethod(null);
-                otherBudget.setApprovedBy(null);
-                otherBudget.setUpdatedAt(LocalDateTime.now());
-                repository.save(otherBudget);
-            }
-        }
-
         // Aprovar o orçamento
         budget.setStatus(BudgetStatus.APROVADO);
         budget.setApprovedAt(LocalDateTime.now());
         budget.setApprovalMethod(approvalMethod);
         budget.setApprovedBy(approvedBy);
-        budget.setUpdatedAt(LocalDateTime.now());
 
-        Budget saved = repository.save(budget);
+        // Lido antes da aprovação, que devolve para PENDENTE (e limpa approvedAt) o aprovado anterior
+        List<Budget> demoted = repository.findByWorkOrderIdAndStatus(budget.getWorkOrder().getId(), BudgetStatus.APROVADO);
+
+        // RB-05: desaprova os outros orçamentos da mesma OS no mesmo passo (UPDATE em conjunto)
+        if (!repository.approveExclusively(budget)) {
+            throw new IllegalArgumentException("Apenas orçamentos pendentes podem ser aprovados.");
+        }
+        rollupRecorder.approved(budget, demoted);
+        publicWorkOrderCache.evictWorkOrder(budget.getWorkOrder().getId());
         metrics.incrementBudgetsUpdated();
-        return saved;
+        return budget;
     }
 }
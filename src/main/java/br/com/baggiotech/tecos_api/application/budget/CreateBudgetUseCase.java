@@ -1,5 +1,7 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -10,8 +12,8 @@ import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -25,76 +27,79 @@ public class CreateBudgetUseCase {
     private final WorkOrderRepository workOrderRepository;
     private final UserRepository userRepository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+    private final BudgetRollupRecorder rollupRecorder;
 
     public CreateBudgetUseCase(BudgetRepository repository, WorkOrderRepository workOrderRepository,
-                               UserRepository userRepository, CustomMetrics metrics) {
+                               UserRepository userRepository, CustomMetrics metrics,
+                               PublicWorkOrderCache publicWorkOrderCache,
+                               BudgetRollupRecorder rollupRecorder) {
         this.repository = repository;
         this.workOrderRepository = workOrderRepository;
         this.userRepository = userRepository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+        this.rollupRecorder = rollupRecorder;
     }
 
+    @Transactional
     public Budget execute(UUID companyId, UUID workOrderId, BigDecimal serviceValue,
                          BigDecimal partsValue, BigDecimal totalValue, UUID createdByUserId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            // Buscar work order
-            WorkOrder workOrder = workOrderRepository.findById(workOrderId)
-                    .orElseThrow(() -> new EntityNotFoundException("WorkOrder", workOrderId));
+        // Buscar work order
+        WorkOrder workOrder = workOrderRepository.findById(workOrderId)
+                .orElseThrow(() -> new EntityNotFoundException("WorkOrder", workOrderId));
 
-            // Verificar se work_order pertence à mesma company
-            if (workOrder.getCompany() == null || !workOrder.getCompany().getId().equals(companyId)) {
-                throw new IllegalArgumentException("A ordem de serviço não pertence à sua empresa.");
-            }
+        // Verificar se work_order pertence à mesma company
+        if (workOrder.getCompany() == null || !workOrder.getCompany().getId().equals(companyId)) {
+            throw new IllegalArgumentException("A ordem de serviço não pertence à sua empresa.");
+        }
 
-            // Validar se OS pode receber orçamento (não pode estar CANCELADA ou ENTREGUE)
-            if (workOrder.getStatus() == OrderStatus.CANCELADO || workOrder.getStatus() == OrderStatus.ENTREGUE) {
-                throw new IllegalArgumentException(
-                        "Não é possível criar orçamento para uma ordem de serviço com status " + workOrder.getStatus() + ".");
-            }
+        // Validar se OS pode receber orçamento (não pode estar CANCELADA ou ENTREGUE)
+        if (workOrder.getStatus() == OrderStatus.CANCELADO || workOrder.getStatus() == OrderStatus.ENTREGUE) {
+            throw new IllegalArgumentException(
+                    "Não é possível criar orçamento para uma ordem de serviço com status " + workOrder.getStatus() + ".");
+        }
 
-            // Buscar usuário criador
-            User createdBy = userRepository.findById(createdByUserId)
-                    .orElseThrow(() -> new EntityNotFoundException("User", createdByUserId));
+        // Buscar usuário criador
+        User createdBy = userRepository.findById(createdByUserId)
+                .orElseThrow(() -> new EntityNotFoundException("User", createdByUserId));
 
-            // Verificar se usuário pertence à mesma company
-            if (createdBy.getCompany() == null || !createdBy.getCompany().getId().equals(companyId)) {
-                throw new IllegalArgumentException("O usuário não pertence à empresa especificada.");
-            }
+        // Verificar se usuário pertence à mesma company
+        if (createdBy.getCompany() == null || !createdBy.getCompany().getId().equals(companyId)) {
+            throw new IllegalArgumentException("O usuário não pertence à empresa especificada.");
+        }
 
-            // Calcular total_value se não fornecido
-            BigDecimal parts = partsValue != null ? partsValue : BigDecimal.ZERO;
-            BigDecimal total = totalValue != null ? totalValue : serviceValue.add(parts);
+        // Calcular total_value se não fornecido
+        BigDecimal parts = partsValue != null ? partsValue : BigDecimal.ZERO;
+        BigDecimal total = totalValue != null ? totalValue : serviceValue.add(parts);
 
-            // Validar que total_value está correto (tolerância de 0.01)
-            BigDecimal expectedTotal = serviceValue.add(parts);
-            BigDecimal difference = total.subtract(expectedTotal).abs();
-            if (difference.compareTo(new BigDecimal("0.01")) > 0) {
-                throw new IllegalArgumentException("O valor total deve ser igual à soma do serviço e peças.");
-            }
+        // Validar que total_value está correto (tolerância de 0.01)
+        BigDecimal expectedTotal = serviceValue.add(parts);
+        BigDecimal difference = total.subtract(expectedTotal).abs();
+        if (difference.compareTo(new BigDecimal("0.01")) > 0) {
+            throw new IllegalArgumentException("O valor total deve ser igual à soma do serviço e peças.");
+        }
 
-            // Criar orçamento com status PENDENTE
-            Budget budget = new Budget();
-            budget.setId(UUID.randomUUID());
-            budget.setCompany(workOrder.getCompany());
-            budget.setWorkOrder(workOrder);
-            budget.setServiceValue(serviceValue.setScale(2, RoundingMode.HALF_UP));
-            budget.setPartsValue(parts.setScale(2, RoundingMode.HALF_UP));
-            budget.setTotalValue(total.setScale(2, RoundingMode.HALF_UP));
-            budget.setStatus(BudgetStatus.PENDENTE);
-            budget.setRejectionReason(null);
-            budget.setCreatedBy(createdBy);
-            budget.setApprovedAt(null);
-            budget.setApprovalMethod(null);
-            budget.setApprovedBy(null);
-            budget.setCreatedAt(LocalDateTime.now());
-            budget.setUpdatedAt(LocalDateTime.now());
+        // Criar orçamento com status PENDENTE
+        Budget budget = new Budget();
+        budget.setCompany(workOrder.getCompany());
+        budget.setWorkOrder(workOrder);
+        budget.setServiceValue(serviceValue.setScale(2, RoundingMode.HALF_UP));
+        budget.setPartsValue(parts.setScale(2, RoundingMode.HALF_UP));
+        budget.setTotalValue(total.setScale(2, RoundingMode.HALF_UP));
+        budget.setStatus(BudgetStatus.PENDENTE);
+        budget.setRejectionReason(null);
+        budget.setCreatedBy(createdBy);
+        budget.setApprovedAt(null);
+        budget.setApprovalMethod(null);
+        budget.setApprovedBy(null);
+        budget.setCreatedAt(LocalDateTime.now());
+        budget.setUpdatedAt(LocalDateTime.now());
 
-            Budget saved = repository.save(budget);
-            metrics.incrementBudgetsCreated();
-            return saved;
-        } finally {
-            metrics.recordTimer(sample, "create");
-        }
+        Budget saved = repository.save(budget);
+        rollupRecorder.created(saved);
+        publicWorkOrderCache.evictWorkOrder(workOrderId);
+        metrics.incrementBudgetsCreated();
+        return saved;
     }
 }
@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public class GetBudgetByIdUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Budget execute(UUID id) {
         return repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Budget", id));
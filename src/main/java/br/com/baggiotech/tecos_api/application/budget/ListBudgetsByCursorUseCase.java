@@ -0,0 +1,30 @@
+package br.com.baggiotech.tecos_api.application.budget;
+
+import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class ListBudgetsByCursorUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final BudgetRepository repository;
+
+    public ListBudgetsByCursorUseCase(BudgetRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Budget> execute(UUID companyId, UUID workOrderId, BudgetStatus status,
+                                      String cursor, int limit) {
+        return repository.findAfter(companyId, workOrderId, status, Cursor.decode(cursor),
+                Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +24,7 @@ public class ListBudgetsUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Page<Budget> execute(UUID companyId, UUID workOrderId, BudgetStatus status,
                                String sortBy, String sortOrder, int page, int size) {
         List<Budget> budgets;
@@ -1,11 +1,14 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,12 +18,19 @@ public class RejectBudgetUseCase {
 
     private final BudgetRepository repository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+    private final BudgetRollupRecorder rollupRecorder;
 
-    public RejectBudgetUseCase(BudgetRepository repository, CustomMetrics metrics) {
+    public RejectBudgetUseCase(BudgetRepository repository, CustomMetrics metrics,
+                               PublicWorkOrderCache publicWorkOrderCache,
+                               BudgetRollupRecorder rollupRecorder) {
         this.repository = repository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+        this.rollupRecorder = rollupRecorder;
     }
 
+    @Transactional
     public Budget execute(UUID budgetId, UUID companyId, String rejectionReason) {
         Budget budget = repository.findById(budgetId)
                 .orElseThrow(() -> new EntityNotFoundException("Budget", budgetId));
@@ -41,11 +51,16 @@ public class RejectBudgetUseCase {
         }
 
         // Rejeitar o orçamento
+        BudgetStatus previousStatus = budget.getStatus();
         budget.setStatus(BudgetStatus.REJEITADO);
         budget.setRejectionReason(rejectionReason.trim());
         budget.setUpdatedAt(LocalDateTime.now());
 
         Budget saved = repository.save(budget);
+        rollupRecorder.rejected(saved, previousStatus);
+        if (budget.getWorkOrder() != null) {
+            publicWorkOrderCache.evictWorkOrder(budget.getWorkOrder().getId());
+        }
         metrics.incrementBudgetsUpdated();
         return saved;
     }
@@ -6,8 +6,8 @@ import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,31 +25,26 @@ public class CreateClientUseCase {
         this.metrics = metrics;
     }
 
+    @Transactional
     public Client execute(UUID companyId, String name, String phone, String email, 
                          String cpf, String observations, Boolean isActive) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Company company = companyRepository.findById(companyId)
-                    .orElseThrow(() -> new EntityNotFoundException("Company", companyId));
-
-            Client client = new Client();
-            client.setId(UUID.randomUUID());
-            client.setCompany(company);
-            client.setName(name);
-            client.setPhone(phone);
-            client.setEmail(email);
-            client.setCpf(cpf);
-            client.setObservations(observations);
-            client.setIsActive(isActive != null ? isActive : true);
-            client.setCreatedAt(LocalDateTime.now());
-            client.setUpdatedAt(LocalDateTime.now());
-            client.setDeletedAt(null);
-
-            Client saved = repository.save(client);
-            metrics.incrementClientsCreated();
-            return saved;
-        } finally {
-            metrics.recordTimer(sample, "create");
-        }
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new EntityNotFoundException("Company", companyId));
+
+        Client client = new Client();
+        client.setCompany(company);
+        client.setName(name);
+        client.setPhone(phone);
+        client.setEmail(email);
+        client.setCpf(cpf);
+        client.setObservations(observations);
+        client.setIsActive(isActive != null ? isActive : true);
+        client.setCreatedAt(LocalDateTime.now());
+        client.setUpdatedAt(LocalDateTime.now());
+        client.setDeletedAt(null);
+
+        Client saved = repository.save(client);
+        metrics.incrementClientsCreated();
+        return saved;
     }
 }
@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.client.Client;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public class GetClientByIdUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Client execute(UUID id) {
         return repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Client", id));
@@ -1,11 +1,13 @@
 package br.com.baggiotech.tecos_api.application.client;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.client.Client;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,44 +17,47 @@ public class UpdateClientUseCase {
 
     private final ClientRepository repository;
     private final CustomMetrics metrics;
+    private final WorkOrderRepository workOrderRepository;
+    private final PublicWorkOrderCache publicWorkOrderCache;
 
-    public UpdateClientUseCase(ClientRepository repository, CustomMetrics metrics) {
+    public UpdateClientUseCase(ClientRepository repository, CustomMetrics metrics,
+                               WorkOrderRepository workOrderRepository, PublicWorkOrderCache publicWorkOrderCache) {
         this.repository = repository;
         this.metrics = metrics;
+        this.workOrderRepository = workOrderRepository;
+        this.publicWorkOrderCache = publicWorkOrderCache;
     }
 
+    @Transactional
     public Client execute(UUID id, String name, String phone, String email, 
                          String cpf, String observations, Boolean isActive) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Client client = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Client", id));
-
-            if (name != null) {
-                client.setName(name);
-            }
-            if (phone != null) {
-                client.setPhone(phone);
-            }
-            if (email != null) {
-                client.setEmail(email);
-            }
-            if (cpf != null) {
-                client.setCpf(cpf);
-            }
-            if (observations != null) {
-                client.setObservations(observations);
-            }
-            if (isActive != null) {
-                client.setIsActive(isActive);
-            }
-            client.setUpdatedAt(LocalDateTime.now());
-
-            Client updated = repository.save(client);
-            metrics.incrementClientsUpdated();
-            return updated;
-        } finally {
-            metrics.recordTimer(sample, "update");
+        Client client = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Client", id));
+
+        if (name != null) {
+            client.setName(name);
+        }
+        if (phone != null) {
+            client.setPhone(phone);
+        }
+        if (email != null) {
+            client.setEmail(email);
+        }
+        if (cpf != null) {
+            client.setCpf(cpf);
         }
+        if (observations != null) {
+            client.setObservations(observations);
+        }
+        if (isActive != null) {
+            client.setIsActive(isActive);
+        }
+        client.setUpdatedAt(LocalDateTime.now());
+
+        Client updated = repository.save(client);
+        metrics.incrementClientsUpdated();
+        // Nome, telefone e e-mail do cliente aparecem na página pública de cada OS dele
+        workOrderRepository.findIdsByClientId(id).forEach(publicWorkOrderCache::evictWorkOrder);
+        return updated;
     }
 }
@@ -2,47 +2,46 @@ package br.com.baggiotech.tecos_api.application.company;
 
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityAlreadyExistsException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Service
 public class CreateCompanyUseCase {
 
     private final CompanyRepository repository;
+    private final CompanyStatusCounterRepository counterRepository;
     private final CustomMetrics metrics;
 
-    public CreateCompanyUseCase(CompanyRepository repository, CustomMetrics metrics) {
+    public CreateCompanyUseCase(CompanyRepository repository, CompanyStatusCounterRepository counterRepository,
+                                CustomMetrics metrics) {
         this.repository = repository;
+        this.counterRepository = counterRepository;
         this.metrics = metrics;
     }
 
+    @Transactional
     public Company execute(String name, String email, String whatsapp, String logoUrl, Boolean isActive) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            if (email != null && !email.isBlank() && repository.existsByEmail(email)) {
-                throw new EntityAlreadyExistsException("Company", "email", email);
-            }
-
-            Company company = new Company();
-            company.setId(UUID.randomUUID());
-            company.setName(name);
-            company.setEmail(email);
-            company.setWhatsapp(whatsapp);
-            company.setLogoUrl(logoUrl);
-            company.setIsActive(isActive != null ? isActive : true);
-            company.setCreatedAt(LocalDateTime.now());
-            company.setUpdatedAt(LocalDateTime.now());
-
-            Company saved = repository.save(company);
-            metrics.incrementCompaniesCreated();
-            return saved;
-        } finally {
-            metrics.recordTimer(sample, "create");
+        if (email != null && !email.isBlank() && repository.existsByEmail(email)) {
+            throw new EntityAlreadyExistsException("Company", "email", email);
         }
+
+        Company company = new Company();
+        company.setName(name);
+        company.setEmail(email);
+        company.setWhatsapp(whatsapp);
+        company.setLogoUrl(logoUrl);
+        company.setIsActive(isActive != null ? isActive : true);
+        company.setCreatedAt(LocalDateTime.now());
+        company.setUpdatedAt(LocalDateTime.now());
+
+        Company saved = repository.save(company);
+        counterRepository.initialize(saved.getId());
+        metrics.incrementCompaniesCreated();
+        return saved;
     }
 }
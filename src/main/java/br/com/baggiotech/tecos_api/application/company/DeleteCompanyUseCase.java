@@ -3,8 +3,8 @@ package br.com.baggiotech.tecos_api.application.company;
 import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -19,17 +19,13 @@ public class DeleteCompanyUseCase {
         this.metrics = metrics;
     }
 
+    @Transactional
     public void execute(UUID id) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            if (!repository.existsById(id)) {
-                throw new EntityNotFoundException("Company", id);
-            }
-
-            repository.deleteById(id);
-            metrics.incrementCompaniesDeleted();
-        } finally {
-            metrics.recordTimer(sample, "delete");
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Company", id);
         }
+
+        repository.deleteById(id);
+        metrics.incrementCompaniesDeleted();
     }
 }
@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public class GetCompanyByIdUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Company execute(UUID id) {
         return repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Company", id));
@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +22,7 @@ public class ListCompaniesUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Page<Company> execute(Boolean isActive, String search, int page, int size) {
         List<Company> companies;
 
@@ -5,8 +5,8 @@ import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityAlreadyExistsException;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -22,42 +22,38 @@ public class UpdateCompanyUseCase {
         this.metrics = metrics;
     }
 
+    @Transactional
     public Company execute(UUID id, String name, String email, String whatsapp, String logoUrl, Boolean isActive) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Company company = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Company", id));
-
-            if (email != null && !email.isBlank()) {
-                if (!email.equals(company.getEmail()) && repository.existsByEmailAndIdNot(email, id)) {
-                    throw new EntityAlreadyExistsException("Company", "email", email);
-                }
-                company.setEmail(email);
-            }
-
-            if (name != null && !name.isBlank()) {
-                company.setName(name);
-            }
+        Company company = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Company", id));
 
-            if (whatsapp != null) {
-                company.setWhatsapp(whatsapp);
+        if (email != null && !email.isBlank()) {
+            if (!email.equals(company.getEmail()) && repository.existsByEmailAndIdNot(email, id)) {
+                throw new EntityAlreadyExistsException("Company", "email", email);
             }
+            company.setEmail(email);
+        }
 
-            if (logoUrl != null) {
-                company.setLogoUrl(logoUrl);
-            }
+        if (name != null && !name.isBlank()) {
+            company.setName(name);
+        }
 
-            if (isActive != null) {
-                company.setIsActive(isActive);
-            }
+        if (whatsapp != null) {
+            company.setWhatsapp(whatsapp);
+        }
 
-            company.setUpdatedAt(LocalDateTime.now());
+        if (logoUrl != null) {
+            company.setLogoUrl(logoUrl);
+        }
 
-            Company saved = repository.save(company);
-            metrics.incrementCompaniesUpdated();
-            return saved;
-        } finally {
-            metrics.recordTimer(sample, "update");
+        if (isActive != null) {
+            company.setIsActive(isActive);
         }
+
+        company.setUpdatedAt(LocalDateTime.now());
+
+        Company saved = repository.save(company);
+        metrics.incrementCompaniesUpdated();
+        return saved;
     }
 }
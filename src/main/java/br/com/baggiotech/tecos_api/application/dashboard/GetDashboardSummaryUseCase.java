@@ -0,0 +1,35 @@
+package br.com.baggiotech.tecos_api.application.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Quantidade de OS da empresa por status, lida dos contadores mantidos pelos casos de uso de escrita.
+ * Todos os status aparecem no resultado, com zero quando não há OS.
+ */
+@Service
+public class GetDashboardSummaryUseCase {
+
+    private final CompanyStatusCounterRepository counterRepository;
+
+    public GetDashboardSummaryUseCase(CompanyStatusCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    public Map<OrderStatus, Long> execute(UUID companyId) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId é obrigatório para o resumo do dashboard");
+        }
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        counts.putAll(counterRepository.findByCompanyId(companyId));
+        return counts;
+    }
+}
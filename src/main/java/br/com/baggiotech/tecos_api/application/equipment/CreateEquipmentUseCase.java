@@ -7,8 +7,8 @@ import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
 import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -26,38 +26,33 @@ public class CreateEquipmentUseCase {
         this.metrics = metrics;
     }
 
+    @Transactional
     public Equipment execute(UUID companyId, UUID clientId, String type, String brand, 
                             String model, String serialNumber, String observations) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Client client = clientRepository.findById(clientId)
-                    .orElseThrow(() -> new EntityNotFoundException("Client", clientId));
-
-            // Verificar se o client pertence à mesma company
-            if (client.getCompany() == null || !client.getCompany().getId().equals(companyId)) {
-                throw new IllegalArgumentException("O cliente selecionado não pertence à empresa especificada.");
-            }
-
-            Company company = client.getCompany();
-
-            Equipment equipment = new Equipment();
-            equipment.setId(UUID.randomUUID());
-            equipment.setCompany(company);
-            equipment.setClient(client);
-            equipment.setType(type);
-            equipment.setBrand(brand);
-            equipment.setModel(model);
-            equipment.setSerialNumber(serialNumber);
-            equipment.setObservations(observations);
-            equipment.setCreatedAt(LocalDateTime.now());
-            equipment.setUpdatedAt(LocalDateTime.now());
-            equipment.setDeletedAt(null);
-
-            Equipment saved = repository.save(equipment);
-            metrics.incrementEquipmentsCreated();
-            return saved;
-        } finally {
-            metrics.recordTimer(sample, "create");
+        Client client = clientRepository.findById(clientId)
+                .orElseThrow(() -> new EntityNotFoundException("Client", clientId));
+
+        // Verificar se o client pertence à mesma company
+        if (client.getCompany() == null || !client.getCompany().getId().equals(companyId)) {
+            throw new IllegalArgumentException("O cliente selecionado não pertence à empresa especificada.");
         }
+
+        Company company = client.getCompany();
+
+        Equipment equipment = new Equipment();
+        equipment.setCompany(company);
+        equipment.setClient(client);
+        equipment.setType(type);
+        equipment.setBrand(brand);
+        equipment.setModel(model);
+        equipment.setSerialNumber(serialNumber);
+        equipment.setObservations(observations);
+        equipment.setCreatedAt(LocalDateTime.now());
+        equipment.setUpdatedAt(LocalDateTime.now());
+        equipment.setDeletedAt(null);
+
+        Equipment saved = repository.save(equipment);
+        metrics.incrementEquipmentsCreated();
+        return saved;
     }
 }
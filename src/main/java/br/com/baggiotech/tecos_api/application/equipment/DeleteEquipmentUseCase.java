@@ -4,8 +4,8 @@ import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
 import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -20,22 +20,18 @@ public class DeleteEquipmentUseCase {
         this.metrics = metrics;
     }
 
+    @Transactional
     public void execute(UUID id) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Equipment equipment = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Equipment", id));
-
-            // Verificar se o equipment tem work orders associados antes de excluir
-            long workOrderCount = repository.countByEquipmentId(id);
-            if (workOrderCount > 0) {
-                throw new IllegalArgumentException("Não é possível excluir um equipamento que possui ordens de serviço associadas.");
-            }
-
-            repository.delete(equipment);
-            metrics.incrementEquipmentsDeleted();
-        } finally {
-            metrics.recordTimer(sample, "delete");
+        Equipment equipment = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Equipment", id));
+
+        // Verificar se o equipment tem work orders associados antes de excluir
+        long workOrderCount = repository.countByEquipmentId(id);
+        if (workOrderCount > 0) {
+            throw new IllegalArgumentException("Não é possível excluir um equipamento que possui ordens de serviço associadas.");
         }
+
+        repository.delete(equipment);
+        metrics.incrementEquipmentsDeleted();
     }
 }
@@ -0,0 +1,28 @@
+package br.com.baggiotech.tecos_api.application.equipment;
+
+import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Versão atual do recurso para GET condicional, sem carregar o grafo. Vazio quando o registro não existe:
+ * quem chama segue para {@link GetEquipmentByIdUseCase}, que responde o 404.
+ */
+@Service
+public class GetEquipmentVersionUseCase {
+
+    private final EquipmentRepository repository;
+
+    public GetEquipmentVersionUseCase(EquipmentRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> execute(UUID id) {
+        return repository.findVersionById(id);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.application.publiclink;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -22,13 +23,19 @@ public class ApproveBudgetByTokenUseCase {
     private final PublicLinkRepository publicLinkRepository;
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+    private final BudgetRollupRecorder rollupRecorder;
 
     public ApproveBudgetByTokenUseCase(PublicLinkRepository publicLinkRepository,
                                       BudgetRepository budgetRepository,
-                                      UserRepository userRepository) {
+                                      UserRepository userRepository,
+                                      PublicWorkOrderCache publicWorkOrderCache,
+                                      BudgetRollupRecorder rollupRecorder) {
         this.publicLinkRepository = publicLinkRepository;
         this.budgetRepository = budgetRepository;
         this.userRepository = userRepository;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+        this.rollupRecorder = rollupRecorder;
     }
 
     @Transactional
@@ -57,21 +64,6 @@ public class ApproveBudgetByTokenUseCase {
             throw new IllegalArgumentException("A ordem de serviço não está aguardando aprovação.");
         }
 
-        // RB-05: Desaprovar outros orçamentos da mesma OS
-        List<Budget> otherApprovedBudgets = budgetRepository.findByWorkOrderIdAndStatus(
-                budget.getWorkOrder().getId(), BudgetStatus.APROVADO);
-        
-        for (Budget otherBudget : otherApprovedBudgets) {
-            if (!otherBudget.getId().equals(budgetId)) {
-                otherBudget.setStatus(BudgetStatus.PENDENTE);
-                otherBudget.setApprovedAt(null);
-                otherBudget.setApprovalMethod(null);
-                otherBudget.setApprovedBy(null);
-                otherBudget.setUpdatedAt(LocalDateTime.now());
-                budgetRepository.save(otherBudget);
-            }
-        }
-
         // Aprovar via link público
         // Se houver usuário autenticado, salvar ID para auditoria (operador aprovando sem conversar com cliente)
         User approvedBy = null;
@@ -83,8 +75,16 @@ public class ApproveBudgetByTokenUseCase {
         budget.setApprovedAt(LocalDateTime.now());
         budget.setApprovalMethod("link");
         budget.setApprovedBy(approvedBy);
-        budget.setUpdatedAt(LocalDateTime.now());
 
-        return budgetRepository.save(budget);
+        // Lido antes da aprovação, que devolve para PENDENTE (e limpa approvedAt) o aprovado anterior
+        List<Budget> demoted = budgetRepository.findByWorkOrderIdAndStatus(budget.getWorkOrder().getId(), BudgetStatus.APROVADO);
+
+        // RB-05: desaprova os outros orçamentos da mesma OS no mesmo passo (UPDATE em conjunto)
+        if (!budgetRepository.approveExclusively(budget)) {
+            throw new IllegalArgumentException("Este orçamento já foi processado.");
+        }
+        rollupRecorder.approved(budget, demoted);
+        publicWorkOrderCache.evictWorkOrder(publicLink.getWorkOrder().getId());
+        return budget;
     }
 }
@@ -6,6 +6,7 @@ import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -26,6 +27,7 @@ public class CreatePublicLinkUseCase {
         this.workOrderRepository = workOrderRepository;
     }
 
+    @Transactional
     public PublicLink execute(UUID workOrderId, UUID companyId) {
         // Buscar work order
         WorkOrder workOrder = workOrderRepository.findById(workOrderId)
@@ -41,7 +43,6 @@ public class CreatePublicLinkUseCase {
 
         // Criar link público
         PublicLink publicLink = new PublicLink();
-        publicLink.setId(UUID.randomUUID());
         publicLink.setWorkOrder(workOrder);
         publicLink.setToken(token);
         publicLink.setCreatedAt(LocalDateTime.now());
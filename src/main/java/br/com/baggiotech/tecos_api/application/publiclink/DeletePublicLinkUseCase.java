@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -11,11 +12,15 @@ import java.util.UUID;
 public class DeletePublicLinkUseCase {
 
     private final PublicLinkRepository repository;
+    private final PublicWorkOrderCache publicWorkOrderCache;
 
-    public DeletePublicLinkUseCase(PublicLinkRepository repository) {
+    public DeletePublicLinkUseCase(PublicLinkRepository repository,
+                                   PublicWorkOrderCache publicWorkOrderCache) {
         this.repository = repository;
+        this.publicWorkOrderCache = publicWorkOrderCache;
     }
 
+    @Transactional
     public void execute(UUID id, UUID companyId) {
         PublicLink publicLink = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("PublicLink", id));
@@ -28,5 +33,6 @@ public class DeletePublicLinkUseCase {
         }
 
         repository.delete(publicLink);
+        publicWorkOrderCache.evictToken(publicLink.getToken());
     }
 }
@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public class GetPublicLinkByIdUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public PublicLink execute(UUID id) {
         return repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("PublicLink", id));
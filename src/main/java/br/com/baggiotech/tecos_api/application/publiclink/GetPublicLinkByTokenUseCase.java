@@ -4,6 +4,7 @@ import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GetPublicLinkByTokenUseCase {
@@ -14,6 +15,7 @@ public class GetPublicLinkByTokenUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public PublicLink execute(String token) {
         return repository.findByToken(token)
                 .orElseThrow(() -> new EntityNotFoundException("PublicLink", "Token não encontrado"));
@@ -2,14 +2,22 @@ package br.com.baggiotech.tecos_api.application.publiclink;
 
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,14 +25,24 @@ public class GetPublicWorkOrderByTokenUseCase {
 
     private final PublicLinkRepository publicLinkRepository;
     private final BudgetRepository budgetRepository;
+    private final PublicWorkOrderCache cache;
 
     public GetPublicWorkOrderByTokenUseCase(PublicLinkRepository publicLinkRepository,
-                                          BudgetRepository budgetRepository) {
+                                          BudgetRepository budgetRepository,
+                                          PublicWorkOrderCache cache) {
         this.publicLinkRepository = publicLinkRepository;
         this.budgetRepository = budgetRepository;
+        this.cache = cache;
     }
 
+    // Sem readOnly: o que for carregado fica em cache até o TTL, então a falta é lida no primário,
+    // nunca numa réplica atrasada logo após a remoção pós-commit. Acertos no cache não abrem conexão.
+    @Transactional
     public PublicWorkOrderData execute(String token) {
+        return cache.get(token, this::load);
+    }
+
+    private PublicWorkOrderData load(String token) {
         // Buscar link público
         PublicLink publicLink = publicLinkRepository.findByToken(token)
                 .orElseThrow(() -> new EntityNotFoundException("PublicLink", "Token não encontrado"));
@@ -43,21 +61,137 @@ public class GetPublicWorkOrderByTokenUseCase {
         return new PublicWorkOrderData(workOrder, budgets);
     }
 
-    public static class PublicWorkOrderData {
-        private final WorkOrder workOrder;
-        private final List<Budget> budgets;
+    /**
+     * Cópia imutável dos campos expostos na página pública. A entrada é compartilhada pelo cache entre
+     * requisições, então não guarda {@link WorkOrder} nem {@link Budget}, que são mutáveis.
+     */
+    public static final class PublicWorkOrderData {
+        private final WorkOrderInfo workOrder;
+        private final ClientInfo client;
+        private final EquipmentInfo equipment;
+        private final List<BudgetInfo> budgets;
+        private final String etag;
 
         public PublicWorkOrderData(WorkOrder workOrder, List<Budget> budgets) {
-            this.workOrder = workOrder;
-            this.budgets = budgets;
+            this.workOrder = new WorkOrderInfo(
+                    workOrder.getId(),
+                    workOrder.getStatus(),
+                    workOrder.getReportedDefect(),
+                    workOrder.getReturnOrder(),
+                    workOrder.getDeliveredAt(),
+                    workOrder.getCreatedAt(),
+                    workOrder.getUpdatedAt());
+            this.client = workOrder.getClient() != null ? new ClientInfo(
+                    workOrder.getClient().getName(),
+                    workOrder.getClient().getPhone(),
+                    workOrder.getClient().getEmail()) : null;
+            this.equipment = workOrder.getEquipment() != null ? new EquipmentInfo(
+                    workOrder.getEquipment().getType(),
+                    workOrder.getEquipment().getBrand(),
+                    workOrder.getEquipment().getModel(),
+                    workOrder.getEquipment().getSerialNumber()) : null;
+            this.budgets = budgets.stream()
+                    .map(budget -> new BudgetInfo(
+                            budget.getId(),
+                            budget.getServiceValue(),
+                            budget.getPartsValue(),
+                            budget.getTotalValue(),
+                            budget.getStatus(),
+                            budget.getRejectionReason(),
+                            budget.getCreatedAt(),
+                            budget.getApprovedAt()))
+                    .toList();
+            this.etag = computeEtag();
         }
 
-        public WorkOrder getWorkOrder() {
+        public WorkOrderInfo getWorkOrder() {
             return workOrder;
         }
 
-        public List<Budget> getBudgets() {
+        public ClientInfo getClient() {
+            return client;
+        }
+
+        public EquipmentInfo getEquipment() {
+            return equipment;
+        }
+
+        public List<BudgetInfo> getBudgets() {
             return budgets;
         }
+
+        /**
+         * ETag forte calculado sobre todos os campos expostos na página pública.
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        private String computeEtag() {
+            StringBuilder content = new StringBuilder()
+                    .append(workOrder.id()).append('|')
+                    .append(workOrder.status()).append('|')
+                    .append(workOrder.reportedDefect()).append('|')
+                    .append(workOrder.returnOrder()).append('|')
+                    .append(workOrder.deliveredAt()).append('|')
+                    .append(workOrder.createdAt()).append('|')
+                    .append(workOrder.updatedAt()).append('|');
+            if (client != null) {
+                content.append(client.name()).append('|')
+                        .append(client.phone()).append('|')
+                        .append(client.email()).append('|');
+            }
+            if (equipment != null) {
+                content.append(equipment.type()).append('|')
+                        .append(equipment.brand()).append('|')
+                        .append(equipment.model()).append('|')
+                        .append(equipment.serialNumber()).append('|');
+            }
+            for (BudgetInfo budget : budgets) {
+                content.append(budget.id()).append('|')
+                        .append(budget.serviceValue()).append('|')
+                        .append(budget.partsValue()).append('|')
+                        .append(budget.totalValue()).append('|')
+                        .append(budget.status()).append('|')
+                        .append(budget.rejectionReason()).append('|')
+                        .append(budget.createdAt()).append('|')
+                        .append(budget.approvedAt()).append('|');
+            }
+            return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        }
+
+        public record WorkOrderInfo(
+                UUID id,
+                OrderStatus status,
+                String reportedDefect,
+                Boolean returnOrder,
+                LocalDateTime deliveredAt,
+                LocalDateTime createdAt,
+                LocalDateTime updatedAt
+        ) {}
+
+        public record ClientInfo(
+                String name,
+                String phone,
+                String email
+        ) {}
+
+        public record EquipmentInfo(
+                String type,
+                String brand,
+                String model,
+                String serialNumber
+        ) {}
+
+        public record BudgetInfo(
+                UUID id,
+                BigDecimal serviceValue,
+                BigDecimal partsValue,
+                BigDecimal totalValue,
+                BudgetStatus status,
+                String rejectionReason,
+                LocalDateTime createdAt,
+                LocalDateTime approvedAt
+        ) {}
     }
 }
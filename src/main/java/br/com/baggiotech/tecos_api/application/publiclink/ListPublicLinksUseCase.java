@@ -3,6 +3,7 @@ package br.com.baggiotech.tecos_api.application.publiclink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +17,7 @@ public class ListPublicLinksUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public List<PublicLink> execute(UUID workOrderId) {
         if (workOrderId != null) {
             return repository.findByWorkOrderId(workOrderId);
@@ -0,0 +1,128 @@
+package br.com.baggiotech.tecos_api.application.publiclink;
+
+import br.com.baggiotech.tecos_api.application.publiclink.GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache em memória token → cópia imutável da página pública da OS (OS, cliente, equipamento,
+ * orçamentos ordenados e ETag). Casos de uso que alteram a OS, seus orçamentos ou o cliente e o
+ * equipamento exibidos devem chamar {@link #evictWorkOrder(UUID)} para cada OS afetada.
+ * Um índice OS → tokens permite remover só as entradas da OS; ele é atualizado dentro da mesma
+ * operação atômica do Caffeine que carrega ou remove o token, então nunca perde um token em cache.
+ */
+@Component
+public class PublicWorkOrderCache {
+
+    static final String CACHE_NAME = "tecos_public_work_order";
+
+    private final Cache<String, PublicWorkOrderData> cache;
+    private final Map<UUID, Set<String>> tokensByWorkOrder = new ConcurrentHashMap<>();
+
+    public PublicWorkOrderCache(MeterRegistry meterRegistry,
+                                @Value("${tecos.public.cache.max-size:10000}") long maxSize,
+                                @Value("${tecos.public.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                // Chamado de forma síncrona na remoção por tamanho ou TTL, ainda dentro do lock do token
+                .evictionListener((String token, PublicWorkOrderData data, RemovalCause cause) -> {
+                    if (token != null && data != null) {
+                        unindex(token, data);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Retorna a entrada do token, carregando-a com {@code loader} quando ausente.
+     * Exceções do loader são propagadas e nada é armazenado.
+     */
+    public PublicWorkOrderData get(String token, Function<String, PublicWorkOrderData> loader) {
+        return cache.get(token, key -> {
+            PublicWorkOrderData data = loader.apply(key);
+            if (data != null) {
+                index(key, data);
+            }
+            return data;
+        });
+    }
+
+    public void evictToken(String token) {
+        if (token != null) {
+            cache.asMap().computeIfPresent(token, (key, data) -> {
+                unindex(key, data);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Remove todas as entradas (tokens) da OS, consultando só os tokens dela no índice.
+     * Dentro de uma transação a remoção é repetida após o commit, para que uma leitura
+     * concorrente não deixe em cache o estado anterior.
+     */
+    public void evictWorkOrder(UUID workOrderId) {
+        if (workOrderId == null) {
+            return;
+        }
+        removeWorkOrder(workOrderId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeWorkOrder(workOrderId);
+                }
+            });
+        }
+    }
+
+    private void removeWorkOrder(UUID workOrderId) {
+        Set<String> tokens = tokensByWorkOrder.get(workOrderId);
+        if (tokens != null) {
+            List.copyOf(tokens).forEach(this::evictToken);
+        }
+    }
+
+    public void invalidateAll() {
+        List.copyOf(cache.asMap().keySet()).forEach(this::evictToken);
+    }
+
+    // Aplica as remoções pendentes antes de contar
+    int indexedWorkOrders() {
+        cache.cleanUp();
+        return tokensByWorkOrder.size();
+    }
+
+    private void index(String token, PublicWorkOrderData data) {
+        tokensByWorkOrder.compute(data.getWorkOrder().id(), (id, tokens) -> {
+            Set<String> indexed = tokens != null ? tokens : ConcurrentHashMap.newKeySet();
+            indexed.add(token);
+            return indexed;
+        });
+    }
+
+    private void unindex(String token, PublicWorkOrderData data) {
+        tokensByWorkOrder.computeIfPresent(data.getWorkOrder().id(), (id, tokens) -> {
+            tokens.remove(token);
+            return tokens.isEmpty() ? null : tokens;
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.application.publiclink;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -8,6 +9,7 @@ import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,13 +19,20 @@ public class RejectBudgetByTokenUseCase {
 
     private final PublicLinkRepository publicLinkRepository;
     private final BudgetRepository budgetRepository;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+    private final BudgetRollupRecorder rollupRecorder;
 
     public RejectBudgetByTokenUseCase(PublicLinkRepository publicLinkRepository,
-                                     BudgetRepository budgetRepository) {
+                                     BudgetRepository budgetRepository,
+                                     PublicWorkOrderCache publicWorkOrderCache,
+                                     BudgetRollupRecorder rollupRecorder) {
         this.publicLinkRepository = publicLinkRepository;
         this.budgetRepository = budgetRepository;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+        this.rollupRecorder = rollupRecorder;
     }
 
+    @Transactional
     public Budget execute(String token, UUID budgetId, String rejectionReason) {
         // Buscar link público
         PublicLink publicLink = publicLinkRepository.findByToken(token)
@@ -59,6 +68,9 @@ public class RejectBudgetByTokenUseCase {
         budget.setRejectionReason(rejectionReason.trim());
         budget.setUpdatedAt(LocalDateTime.now());
 
-        return budgetRepository.save(budget);
+        Budget saved = budgetRepository.save(budget);
+        rollupRecorder.rejected(saved, BudgetStatus.PENDENTE);
+        publicWorkOrderCache.evictWorkOrder(publicLink.getWorkOrder().getId());
+        return saved;
     }
 }
@@ -8,8 +8,8 @@ import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
 import br.com.baggiotech.tecos_api.infrastructure.security.PasswordEncoder;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -30,33 +30,29 @@ public class CreateUserUseCase {
         this.passwordEncoder = passwordEncoder;
     }
 
+    @Transactional
     public User execute(UUID companyId, String name, String email, String password, String type, Boolean isActive) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            Company company = companyRepository.findById(companyId)
-                    .orElseThrow(() -> new EntityNotFoundException("Company", companyId));
-
-            if (email != null && !email.isBlank() && repository.existsByEmailAndCompanyId(email, companyId)) {
-                throw new EntityAlreadyExistsException("User", "email", email);
-            }
-
-            if (type == null || (!type.equals("ADMIN") && !type.equals("TECNICO"))) {
-                throw new IllegalArgumentException("Tipo deve ser ADMIN ou TECNICO");
-            }
-
-            User user = new User();
-            user.setCompany(company);
-            user.setName(name);
-            user.setEmail(email);
-            user.setPassword(passwordEncoder.encode(password));
-            user.setType(type);
-            user.setIsActive(isActive != null ? isActive : true);
-            user.setCreatedAt(LocalDateTime.now());
-            user.setUpdatedAt(LocalDateTime.now());
-
-            return repository.save(user);
-        } finally {
-            metrics.recordTimer(sample, "create");
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new EntityNotFoundException("Company", companyId));
+
+        if (email != null && !email.isBlank() && repository.existsByEmailAndCompanyId(email, companyId)) {
+            throw new EntityAlreadyExistsException("User", "email", email);
+        }
+
+        if (type == null || (!type.equals("ADMIN") && !type.equals("TECNICO"))) {
+            throw new IllegalArgumentException("Tipo deve ser ADMIN ou TECNICO");
         }
+
+        User user = new User();
+        user.setCompany(company);
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode(password));
+        user.setType(type);
+        user.setIsActive(isActive != null ? isActive : true);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+
+        return repository.save(user);
     }
 }
@@ -3,8 +3,9 @@ package br.com.baggiotech.tecos_api.application.user;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -13,22 +14,21 @@ public class DeleteUserUseCase {
 
     private final UserRepository repository;
     private final CustomMetrics metrics;
+    private final UserTenantCache userTenantCache;
 
-    public DeleteUserUseCase(UserRepository repository, CustomMetrics metrics) {
+    public DeleteUserUseCase(UserRepository repository, CustomMetrics metrics, UserTenantCache userTenantCache) {
         this.repository = repository;
         this.metrics = metrics;
+        this.userTenantCache = userTenantCache;
     }
 
+    @Transactional
     public void execute(UUID id) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            if (!repository.existsById(id)) {
-                throw new EntityNotFoundException("User", id);
-            }
-
-            repository.deleteById(id);
-        } finally {
-            metrics.recordTimer(sample, "delete");
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("User", id);
         }
+
+        repository.deleteById(id);
+        userTenantCache.invalidate(id);
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +22,7 @@ public class ListUsersUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Page<User> execute(Integer page, Integer size, UUID companyId, Boolean isActive, String type, String search) {
         List<User> allUsers = repository.findAll();
 
@@ -4,7 +4,9 @@ import br.com.baggiotech.tecos_api.domain.exception.EntityAlreadyExistsException
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,11 +15,14 @@ import java.util.UUID;
 public class UpdateUserProfileUseCase {
 
     private final UserRepository repository;
+    private final UserTenantCache userTenantCache;
 
-    public UpdateUserProfileUseCase(UserRepository repository) {
+    public UpdateUserProfileUseCase(UserRepository repository, UserTenantCache userTenantCache) {
         this.repository = repository;
+        this.userTenantCache = userTenantCache;
     }
 
+    @Transactional
     public User execute(UUID userId, String name, String email) {
         User user = repository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User", userId));
@@ -37,6 +42,8 @@ public class UpdateUserProfileUseCase {
 
         user.setUpdatedAt(LocalDateTime.now());
 
-        return repository.save(user);
+        User saved = repository.save(user);
+        userTenantCache.invalidate(userId);
+        return saved;
     }
 }
@@ -0,0 +1,142 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.application.workorder.WorkOrderStatusChange.Outcome;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Troca o status de várias OS numa transação: uma consulta para os status atuais, um UPDATE condicional
+ * por status de origem e os históricos inseridos em lote. Cada OS tem seu resultado; OS inválidas ou
+ * alteradas concorrentemente não impedem as demais.
+ */
+@Service
+public class BatchUpdateWorkOrderStatusUseCase {
+
+    private final WorkOrderRepository repository;
+    private final WorkOrderHistoryRepository workOrderHistoryRepository;
+    private final UserRepository userRepository;
+    private final CompanyStatusCounterRepository counterRepository;
+    private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
+
+    public BatchUpdateWorkOrderStatusUseCase(WorkOrderRepository repository,
+                                             WorkOrderHistoryRepository workOrderHistoryRepository,
+                                             UserRepository userRepository,
+                                             CompanyStatusCounterRepository counterRepository,
+                                             CustomMetrics metrics,
+                                             PublicWorkOrderCache publicWorkOrderCache) {
+        this.repository = repository;
+        this.workOrderHistoryRepository = workOrderHistoryRepository;
+        this.userRepository = userRepository;
+        this.counterRepository = counterRepository;
+        this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
+    }
+
+    @Transactional
+    public List<WorkOrderStatusChange> execute(List<UUID> ids, OrderStatus newStatus, String observation, UUID userId) {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("Status é obrigatório.");
+        }
+        User user = userId != null
+                ? userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User", userId))
+                : null;
+
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, WorkOrderStatusView> current = repository.findStatusesByIdIn(requested).stream()
+                .collect(Collectors.toMap(WorkOrderStatusView::id, Function.identity()));
+
+        // Agrupa por status de origem: um UPDATE por grupo
+        Map<OrderStatus, List<UUID>> byStatusBefore = new EnumMap<>(OrderStatus.class);
+        for (UUID id : requested) {
+            WorkOrderStatusView view = current.get(id);
+            if (view != null && OrderStatus.isStatusTransitionAllowed(view.status(), newStatus)) {
+                byStatusBefore.computeIfAbsent(view.status(), status -> new ArrayList<>()).add(id);
+            }
+        }
+        Set<UUID> updated = new HashSet<>();
+        byStatusBefore.forEach((statusBefore, group) ->
+                updated.addAll(repository.compareAndSetStatuses(group, statusBefore, newStatus)));
+
+        // Contadores do dashboard: uma transferência por empresa e status de origem, em ordem fixa
+        // de empresa para que lotes concorrentes travem as linhas na mesma sequência
+        Map<UUID, Map<OrderStatus, Long>> moved = updated.stream()
+                .map(current::get)
+                .collect(Collectors.groupingBy(WorkOrderStatusView::companyId, TreeMap::new,
+                        Collectors.groupingBy(WorkOrderStatusView::status,
+                                () -> new EnumMap<>(OrderStatus.class), Collectors.counting())));
+        moved.forEach((companyId, byStatus) -> byStatus.forEach((statusBefore, count) ->
+                counterRepository.move(companyId, statusBefore, newStatus, count)));
+
+        List<WorkOrderStatusChange> results = new ArrayList<>(requested.size());
+        List<WorkOrderHistory> histories = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (UUID id : requested) {
+            WorkOrderStatusView view = current.get(id);
+            if (view == null) {
+                results.add(new WorkOrderStatusChange(id, Outcome.NOT_FOUND, null));
+            } else if (!OrderStatus.isStatusTransitionAllowed(view.status(), newStatus)) {
+                results.add(new WorkOrderStatusChange(id, Outcome.INVALID_TRANSITION, view.status()));
+            } else if (!updated.contains(id)) {
+                results.add(new WorkOrderStatusChange(id, Outcome.CONFLICT, view.status()));
+            } else {
+                results.add(new WorkOrderStatusChange(id, Outcome.UPDATED, view.status()));
+                publicWorkOrderCache.evictWorkOrder(id);
+                metrics.incrementWorkOrdersUpdated();
+                // Criar histórico (RB-03)
+                if (user != null) {
+                    histories.add(history(view, user, newStatus, observation, now));
+                }
+            }
+        }
+        if (!histories.isEmpty()) {
+            workOrderHistoryRepository.saveAll(histories);
+        }
+        return results;
+    }
+
+    private static WorkOrderHistory history(WorkOrderStatusView view, User user, OrderStatus newStatus,
+                                            String observation, LocalDateTime now) {
+        Company company = new Company();
+        company.setId(view.companyId());
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setId(view.id());
+        workOrder.setCompany(company);
+
+        WorkOrderHistory history = new WorkOrderHistory();
+        history.setWorkOrder(workOrder);
+        history.setUser(user);
+        history.setStatusBefore(view.status());
+        history.setStatusAfter(newStatus);
+        history.setObservation(observation);
+        history.setCreatedAt(now);
+        history.setUpdatedAt(now);
+        return history;
+    }
+}
@@ -1,16 +1,18 @@
 package br.com.baggiotech.tecos_api.application.workorder;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
-import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
-import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
-import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusConflictException;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryEvent;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryOutbox;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,59 +21,59 @@ import java.util.UUID;
 public class CancelWorkOrderUseCase {
 
     private final WorkOrderRepository repository;
-    private final WorkOrderHistoryRepository workOrderHistoryRepository;
+    private final WorkOrderHistoryOutbox historyOutbox;
     private final UserRepository userRepository;
+    private final CompanyStatusCounterRepository counterRepository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
 
     public CancelWorkOrderUseCase(WorkOrderRepository repository,
-                                 WorkOrderHistoryRepository workOrderHistoryRepository,
+                                 WorkOrderHistoryOutbox historyOutbox,
                                  UserRepository userRepository,
-                                 CustomMetrics metrics) {
+                                 CompanyStatusCounterRepository counterRepository,
+                                 CustomMetrics metrics,
+                                 PublicWorkOrderCache publicWorkOrderCache) {
         this.repository = repository;
-        this.workOrderHistoryRepository = workOrderHistoryRepository;
+        this.historyOutbox = historyOutbox;
         this.userRepository = userRepository;
+        this.counterRepository = counterRepository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
     }
 
+    // Mesmo esquema de UpdateWorkOrderStatusUseCase: UPDATE condicional ao status lido, 409 se perder a corrida
+    @Transactional
     public WorkOrder execute(UUID id, UUID userId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            WorkOrder workOrder = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
+        WorkOrder workOrder = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
 
-            // RB-03 e RB-04: Permite cancelar de qualquer status exceto ENTREGUE e CANCELADO
-            if (!OrderStatus.isStatusTransitionAllowed(workOrder.getStatus(), OrderStatus.CANCELADO)) {
-                throw new IllegalArgumentException(
-                        "Não é possível cancelar uma ordem de serviço com status " + workOrder.getStatus() + "."
-                );
-            }
+        // RB-03 e RB-04: Permite cancelar de qualquer status exceto ENTREGUE e CANCELADO
+        if (!OrderStatus.isStatusTransitionAllowed(workOrder.getStatus(), OrderStatus.CANCELADO)) {
+            throw new IllegalArgumentException(
+                    "Não é possível cancelar uma ordem de serviço com status " + workOrder.getStatus() + "."
+            );
+        }
+
+        // O histórico referencia o usuário só pelo id; basta saber que ele existe
+        if (userId != null && !userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User", userId);
+        }
 
-            OrderStatus statusBefore = workOrder.getStatus();
-            workOrder.transitionTo(OrderStatus.CANCELADO);
-            workOrder.setUpdatedAt(LocalDateTime.now());
+        OrderStatus statusBefore = workOrder.getStatus();
+        workOrder.transitionTo(OrderStatus.CANCELADO);
 
-            WorkOrder updated = repository.save(workOrder);
+        if (!repository.compareAndSetStatus(workOrder, statusBefore)) {
+            throw new WorkOrderStatusConflictException(id, statusBefore);
+        }
+        counterRepository.move(workOrder.getCompany().getId(), statusBefore, OrderStatus.CANCELADO, 1);
+        publicWorkOrderCache.evictWorkOrder(id);
 
-            // Criar histórico (RB-03)
-            if (userId != null) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new EntityNotFoundException("User", userId));
-                
-                WorkOrderHistory history = new WorkOrderHistory();
-                history.setId(UUID.randomUUID());
-                history.setWorkOrder(updated);
-                history.setUser(user);
-                history.setStatusBefore(statusBefore);
-                history.setStatusAfter(OrderStatus.CANCELADO);
-                history.setObservation("Ordem de serviço cancelada");
-                history.setCreatedAt(LocalDateTime.now());
-                history.setUpdatedAt(LocalDateTime.now());
-                workOrderHistoryRepository.save(history);
-            }
-            metrics.incrementWorkOrdersUpdated();
-            return updated;
-        } finally {
-            metrics.recordTimer(sample, "cancel");
+        // Criar histórico (RB-03), gravado em segundo plano a partir da fila na mesma transação
+        if (userId != null) {
+            historyOutbox.enqueue(new WorkOrderHistoryEvent(workOrder.getCompany().getId(), id, userId,
+                    statusBefore, OrderStatus.CANCELADO, "Ordem de serviço cancelada", LocalDateTime.now()));
         }
+        metrics.incrementWorkOrdersUpdated();
+        return workOrder;
     }
 }
@@ -1,11 +1,13 @@
 package br.com.baggiotech.tecos_api.application.workorder;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -13,23 +15,26 @@ import java.util.UUID;
 public class DeleteWorkOrderUseCase {
 
     private final WorkOrderRepository repository;
+    private final CompanyStatusCounterRepository counterRepository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
 
-    public DeleteWorkOrderUseCase(WorkOrderRepository repository, CustomMetrics metrics) {
+    public DeleteWorkOrderUseCase(WorkOrderRepository repository, CompanyStatusCounterRepository counterRepository,
+                                  CustomMetrics metrics, PublicWorkOrderCache publicWorkOrderCache) {
         this.repository = repository;
+        this.counterRepository = counterRepository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
     }
 
+    @Transactional
     public void execute(UUID id) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            WorkOrder workOrder = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
+        WorkOrder workOrder = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
 
-            repository.delete(workOrder);
-            metrics.incrementWorkOrdersDeleted();
-        } finally {
-            metrics.recordTimer(sample, "delete");
-        }
+        repository.delete(workOrder);
+        counterRepository.adjust(workOrder.getCompany().getId(), workOrder.getStatus(), -1);
+        metrics.incrementWorkOrdersDeleted();
+        publicWorkOrderCache.evictWorkOrder(id);
     }
 }
@@ -0,0 +1,44 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Exporta as ordens de serviço da empresa, em ordem de criação, entregando uma linha por vez
+ * ao {@code sink}. O período é inclusivo nas duas datas; sem datas, exporta tudo.
+ */
+@Service
+public class ExportWorkOrdersUseCase {
+
+    private final WorkOrderRepository repository;
+
+    public ExportWorkOrdersUseCase(WorkOrderRepository repository) {
+        this.repository = repository;
+    }
+
+    // O cursor do banco só existe dentro da transação; o stream é fechado ao final
+    @Transactional(readOnly = true)
+    public void execute(UUID companyId, OrderStatus status, LocalDate from, LocalDate to,
+                        Consumer<WorkOrderSummary> sink) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId é obrigatório para exportar ordens de serviço");
+        }
+        WorkOrderFilter filter = new WorkOrderFilter(companyId, null, null, null, status, null, null);
+        LocalDateTime createdFrom = from != null ? from.atStartOfDay() : null;
+        LocalDateTime createdBefore = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        try (Stream<WorkOrderSummary> summaries = repository.streamSummaries(filter, createdFrom, createdBefore)) {
+            summaries.forEach(sink);
+        }
+    }
+}
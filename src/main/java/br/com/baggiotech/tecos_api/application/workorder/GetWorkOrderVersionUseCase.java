@@ -0,0 +1,28 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Versão atual do recurso para GET condicional, sem carregar o grafo. Vazio quando o registro não existe:
+ * quem chama segue para {@link GetWorkOrderByIdUseCase}, que responde o 404.
+ */
+@Service
+public class GetWorkOrderVersionUseCase {
+
+    private final WorkOrderRepository repository;
+
+    public GetWorkOrderVersionUseCase(WorkOrderRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> execute(UUID id) {
+        return repository.findVersionById(id);
+    }
+}
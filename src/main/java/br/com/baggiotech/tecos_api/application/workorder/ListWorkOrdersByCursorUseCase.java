@@ -0,0 +1,33 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class ListWorkOrdersByCursorUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final WorkOrderRepository repository;
+
+    public ListWorkOrdersByCursorUseCase(WorkOrderRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderSummary> execute(UUID companyId, UUID clientId, UUID equipmentId, UUID technicianId,
+                                                OrderStatus status, Boolean returnOrder, String search,
+                                                String cursor, int limit) {
+        WorkOrderFilter filter = new WorkOrderFilter(
+                companyId, clientId, equipmentId, technicianId, status, returnOrder, search);
+        return repository.findSummariesAfter(filter, Cursor.decode(cursor), Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -1,16 +1,18 @@
 package br.com.baggiotech.tecos_api.application.workorder;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
-import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
-import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
-import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusConflictException;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryEvent;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryOutbox;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,68 +21,69 @@ import java.util.UUID;
 public class UpdateWorkOrderStatusUseCase {
 
     private final WorkOrderRepository repository;
-    private final WorkOrderHistoryRepository workOrderHistoryRepository;
+    private final WorkOrderHistoryOutbox historyOutbox;
     private final UserRepository userRepository;
+    private final CompanyStatusCounterRepository counterRepository;
     private final CustomMetrics metrics;
+    private final PublicWorkOrderCache publicWorkOrderCache;
 
     public UpdateWorkOrderStatusUseCase(WorkOrderRepository repository,
-                                       WorkOrderHistoryRepository workOrderHistoryRepository,
+                                       WorkOrderHistoryOutbox historyOutbox,
                                        UserRepository userRepository,
-                                       CustomMetrics metrics) {
+                                       CompanyStatusCounterRepository counterRepository,
+                                       CustomMetrics metrics,
+                                       PublicWorkOrderCache publicWorkOrderCache) {
         this.repository = repository;
-        this.workOrderHistoryRepository = workOrderHistoryRepository;
+        this.historyOutbox = historyOutbox;
         this.userRepository = userRepository;
+        this.counterRepository = counterRepository;
         this.metrics = metrics;
+        this.publicWorkOrderCache = publicWorkOrderCache;
     }
 
+    // Sem lock: o UPDATE condicional ao status lido e o histórico vão na mesma transação curta;
+    // se outra requisição mudou o status antes, nada é gravado e o cliente recebe 409.
+    @Transactional
     public WorkOrder execute(UUID id, OrderStatus newStatus, String observation, UUID userId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            WorkOrder workOrder = repository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
+        WorkOrder workOrder = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("WorkOrder", id));
 
-            // RB-03: Não pode editar OS CANCELADA ou ENTREGUE
-            if (workOrder.getStatus() == OrderStatus.CANCELADO || workOrder.getStatus() == OrderStatus.ENTREGUE) {
-                throw new IllegalArgumentException(
-                        "Não é possível alterar status de uma ordem de serviço com status " + workOrder.getStatus() + "."
-                );
-            }
+        // RB-03: Não pode editar OS CANCELADA ou ENTREGUE
+        if (workOrder.getStatus() == OrderStatus.CANCELADO || workOrder.getStatus() == OrderStatus.ENTREGUE) {
+            throw new IllegalArgumentException(
+                    "Não é possível alterar status de uma ordem de serviço com status " + workOrder.getStatus() + "."
+            );
+        }
+
+        // RB-05: Validar se há orçamento aprovado antes de permitir EM_CONSERTO
+        // TODO: Implementar quando Budget for criado
+        // if (newStatus == OrderStatus.EM_CONSERTO) {
+        //     Budget approvedBudget = budgetRepository.findApprovedByWorkOrderId(id);
+        //     if (approvedBudget == null) {
+        //         throw new IllegalArgumentException("Não é possível mudar para EM_CONSERTO sem um orçamento aprovado.");
+        //     }
+        // }
 
-            // RB-05: Validar se há orçamento aprovado antes de permitir EM_CONSERTO
-            // TODO: Implementar quando Budget for criado
-            // if (newStatus == OrderStatus.EM_CONSERTO) {
-            //     Budget approvedBudget = budgetRepository.findApprovedByWorkOrderId(id);
-            //     if (approvedBudget == null) {
-            //         throw new IllegalArgumentException("Não é possível mudar para EM_CONSERTO sem um orçamento aprovado.");
-            //     }
-            // }
+        // O histórico referencia o usuário só pelo id; basta saber que ele existe
+        if (userId != null && !userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User", userId);
+        }
 
-            OrderStatus statusBefore = workOrder.getStatus();
-            workOrder.transitionTo(newStatus);
-            workOrder.setUpdatedAt(LocalDateTime.now());
+        OrderStatus statusBefore = workOrder.getStatus();
+        workOrder.transitionTo(newStatus);
 
-            WorkOrder updated = repository.save(workOrder);
+        if (!repository.compareAndSetStatus(workOrder, statusBefore)) {
+            throw new WorkOrderStatusConflictException(id, statusBefore);
+        }
+        counterRepository.move(workOrder.getCompany().getId(), statusBefore, newStatus, 1);
+        publicWorkOrderCache.evictWorkOrder(id);
 
-            // Criar histórico (RB-03)
-            if (userId != null) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new EntityNotFoundException("User", userId));
-                
-                WorkOrderHistory history = new WorkOrderHistory();
-                history.setId(UUID.randomUUID());
-                history.setWorkOrder(updated);
-                history.setUser(user);
-                history.setStatusBefore(statusBefore);
-                history.setStatusAfter(newStatus);
-                history.setObservation(observation);
-                history.setCreatedAt(LocalDateTime.now());
-                history.setUpdatedAt(LocalDateTime.now());
-                workOrderHistoryRepository.save(history);
-            }
-            metrics.incrementWorkOrdersUpdated();
-            return updated;
-        } finally {
-            metrics.recordTimer(sample, "updateStatus");
+        // Criar histórico (RB-03), gravado em segundo plano a partir da fila na mesma transação
+        if (userId != null) {
+            historyOutbox.enqueue(new WorkOrderHistoryEvent(workOrder.getCompany().getId(), id, userId,
+                    statusBefore, newStatus, observation, LocalDateTime.now()));
         }
+        metrics.incrementWorkOrdersUpdated();
+        return workOrder;
     }
 }
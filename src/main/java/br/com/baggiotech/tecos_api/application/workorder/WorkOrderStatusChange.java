@@ -0,0 +1,23 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Resultado da troca de status de uma OS dentro de um lote.
+ * {@code statusBefore} é o status lido antes da alteração (nulo quando a OS não foi encontrada).
+ */
+public record WorkOrderStatusChange(
+        UUID workOrderId,
+        Outcome outcome,
+        OrderStatus statusBefore
+) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        INVALID_TRANSITION,
+        CONFLICT
+    }
+}
@@ -9,6 +9,7 @@ import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
 import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -28,6 +29,7 @@ public class CreateWorkOrderHistoryUseCase {
         this.userRepository = userRepository;
     }
 
+    @Transactional
     public WorkOrderHistory execute(UUID workOrderId, UUID userId, OrderStatus statusBefore,
                                    OrderStatus statusAfter, String observation) {
         // Buscar work order
@@ -40,7 +42,6 @@ public class CreateWorkOrderHistoryUseCase {
 
         // Criar histórico
         WorkOrderHistory history = new WorkOrderHistory();
-        history.setId(UUID.randomUUID());
         history.setWorkOrder(workOrder);
         history.setUser(user);
         history.setStatusBefore(statusBefore);
@@ -0,0 +1,28 @@
+package br.com.baggiotech.tecos_api.application.workorderhistory;
+
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class ListWorkOrderHistoriesByCursorUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final WorkOrderHistoryRepository repository;
+
+    public ListWorkOrderHistoriesByCursorUseCase(WorkOrderHistoryRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderHistory> execute(UUID workOrderId, UUID userId, String cursor, int limit) {
+        return repository.findAfter(workOrderId, userId, Cursor.decode(cursor),
+                Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +23,7 @@ public class ListWorkOrderHistoriesUseCase {
         this.repository = repository;
     }
 
+    @Transactional(readOnly = true)
     public Page<WorkOrderHistory> execute(UUID workOrderId, UUID userId, String sortBy,
                                          String sortOrder, int page, int size) {
         List<WorkOrderHistory> histories;
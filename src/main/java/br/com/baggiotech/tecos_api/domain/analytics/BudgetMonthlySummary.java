@@ -0,0 +1,51 @@
+package br.com.baggiotech.tecos_api.domain.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Totais de orçamentos de um mês, da empresa inteira ({@code technicianId} nulo) ou de um técnico.
+ * Faturamento é a soma dos orçamentos aprovados; as taxas consideram só orçamentos decididos.
+ */
+public record BudgetMonthlySummary(
+        YearMonth month,
+        UUID technicianId,
+        long createdCount,
+        BigDecimal createdValue,
+        long approvedCount,
+        BigDecimal revenue,
+        long rejectedCount,
+        BigDecimal rejectedValue
+) {
+    /** Retorna {@code null} quando não houve aprovação no mês. */
+    public BigDecimal averageTicket() {
+        return approvedCount > 0
+                ? revenue.divide(BigDecimal.valueOf(approvedCount), 2, RoundingMode.HALF_UP)
+                : null;
+    }
+
+    /** Aprovados sobre aprovados + rejeitados; {@code null} quando nenhum orçamento foi decidido. */
+    public BigDecimal approvalRate() {
+        return rate(approvedCount);
+    }
+
+    public BigDecimal rejectionRate() {
+        return rate(rejectedCount);
+    }
+
+    public BudgetMonthlySummary plus(BudgetMonthlySummary other) {
+        return new BudgetMonthlySummary(month, technicianId,
+                createdCount + other.createdCount, createdValue.add(other.createdValue),
+                approvedCount + other.approvedCount, revenue.add(other.revenue),
+                rejectedCount + other.rejectedCount, rejectedValue.add(other.rejectedValue));
+    }
+
+    private BigDecimal rate(long count) {
+        long decided = approvedCount + rejectedCount;
+        return decided > 0
+                ? BigDecimal.valueOf(count).divide(BigDecimal.valueOf(decided), 4, RoundingMode.HALF_UP)
+                : null;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.baggiotech.tecos_api.domain.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * Variação a somar na linha diária de orçamentos. Valores negativos desfazem uma aprovação
+ * (orçamento rejeitado depois de aprovado ou desaprovado pela aprovação de outro da mesma OS).
+ */
+public record BudgetRollupDelta(
+        long createdCount,
+        BigDecimal createdValue,
+        long approvedCount,
+        BigDecimal approvedValue,
+        long rejectedCount,
+        BigDecimal rejectedValue
+) {
+    public static BudgetRollupDelta created(BigDecimal value) {
+        return new BudgetRollupDelta(1, value, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+    }
+
+    public static BudgetRollupDelta approved(BigDecimal value) {
+        return new BudgetRollupDelta(0, BigDecimal.ZERO, 1, value, 0, BigDecimal.ZERO);
+    }
+
+    public static BudgetRollupDelta unapproved(BigDecimal value) {
+        return new BudgetRollupDelta(0, BigDecimal.ZERO, -1, value.negate(), 0, BigDecimal.ZERO);
+    }
+
+    public static BudgetRollupDelta rejected(BigDecimal value) {
+        return new BudgetRollupDelta(0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 1, value);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.baggiotech.tecos_api.domain.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface BudgetRollupRepository {
+    /** Soma {@code delta} na linha do dia da empresa e técnico; deve rodar na transação da escrita do orçamento. */
+    void add(UUID companyId, UUID technicianId, LocalDate date, BudgetRollupDelta delta);
+    /**
+     * Recalcula as linhas da empresa de {@code from} a {@code to} (inclusivos) a partir da tabela de
+     * orçamentos, com a mesma trava da empresa que {@link #add} usa para criar linhas.
+     */
+    void rebuild(UUID companyId, LocalDate from, LocalDate to);
+    /**
+     * Totais mensais de {@code from} a {@code to} (inclusivos), em ordem de mês. Com {@code byTechnician}
+     * há uma linha por técnico e mês; sem, uma por mês com {@code technicianId} nulo.
+     */
+    List<BudgetMonthlySummary> summarizeByMonth(UUID companyId, LocalDate from, LocalDate to, boolean byTechnician);
+}
@@ -0,0 +1,10 @@
+package br.com.baggiotech.tecos_api.domain.budget;
+
+import java.util.UUID;
+
+public class BudgetApprovalConflictException extends RuntimeException {
+    public BudgetApprovalConflictException(UUID workOrderId, Throwable cause) {
+        super(String.format("Outro orçamento da ordem de serviço %s foi aprovado ao mesmo tempo. "
+                + "Recarregue os orçamentos e tente novamente.", workOrderId), cause);
+    }
+}
@@ -1,14 +1,28 @@
 package br.com.baggiotech.tecos_api.domain.budget;
 
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BudgetRepository {
     Budget save(Budget budget);
+    /**
+     * RB-05: aprova o orçamento, se ainda PENDENTE, e devolve para PENDENTE o que estiver aprovado
+     * na mesma OS, com dois UPDATEs na transação corrente. Retorna {@code false} se o orçamento
+     * já tinha sido processado; nesse caso a transação deve ser desfeita.
+     *
+     * @throws BudgetApprovalConflictException se outro orçamento da OS foi aprovado concorrentemente
+     */
+    boolean approveExclusively(Budget budget);
     Optional<Budget> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     boolean existsById(UUID id);
     List<Budget> findAll();
+    CursorPage<Budget> findAfter(UUID companyId, UUID workOrderId, BudgetStatus status, Cursor cursor, int limit);
     List<Budget> findByCompanyId(UUID companyId);
     List<Budget> findByWorkOrderId(UUID workOrderId);
     List<Budget> findByStatus(BudgetStatus status);
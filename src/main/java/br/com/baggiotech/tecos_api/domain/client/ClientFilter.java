@@ -0,0 +1,13 @@
+package br.com.baggiotech.tecos_api.domain.client;
+
+import java.util.UUID;
+
+public record ClientFilter(
+        UUID companyId,
+        Boolean isActive,
+        String search
+) {
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+}
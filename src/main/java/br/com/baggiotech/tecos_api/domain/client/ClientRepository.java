@@ -1,5 +1,9 @@
 package br.com.baggiotech.tecos_api.domain.client;
 
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +11,11 @@ import java.util.UUID;
 public interface ClientRepository {
     Client save(Client client);
     Optional<Client> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     boolean existsById(UUID id);
     void delete(Client client);
     List<Client> findAll();
+    Page<Client> findAll(ClientFilter filter, Pageable pageable);
     List<Client> findByCompanyId(UUID companyId);
     List<Client> findByIsActive(Boolean isActive);
     List<Client> findByCompanyIdAndIsActive(UUID companyId, Boolean isActive);
@@ -0,0 +1,19 @@
+package br.com.baggiotech.tecos_api.domain.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Contagem de OS por empresa e status. As escritas devem ocorrer na mesma transação
+ * que altera as OS, para que os contadores nunca divirjam da tabela work_orders.
+ */
+public interface CompanyStatusCounterRepository {
+    /** Cria os contadores zerados de todos os status da empresa que ainda não existirem. */
+    void initialize(UUID companyId);
+    void adjust(UUID companyId, OrderStatus status, long delta);
+    /** Transfere {@code count} OS de {@code from} para {@code to}. */
+    void move(UUID companyId, OrderStatus from, OrderStatus to, long count);
+    Map<OrderStatus, Long> findByCompanyId(UUID companyId);
+}
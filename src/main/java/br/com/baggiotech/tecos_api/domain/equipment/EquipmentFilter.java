@@ -0,0 +1,13 @@
+package br.com.baggiotech.tecos_api.domain.equipment;
+
+import java.util.UUID;
+
+public record EquipmentFilter(
+        UUID companyId,
+        UUID clientId,
+        String search
+) {
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+}
@@ -1,5 +1,9 @@
 package br.com.baggiotech.tecos_api.domain.equipment;
 
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +11,11 @@ import java.util.UUID;
 public interface EquipmentRepository {
     Equipment save(Equipment equipment);
     Optional<Equipment> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     boolean existsById(UUID id);
     void delete(Equipment equipment);
     List<Equipment> findAll();
+    Page<Equipment> findAll(EquipmentFilter filter, Pageable pageable);
     List<Equipment> findByCompanyId(UUID companyId);
     List<Equipment> findByClientId(UUID clientId);
     List<Equipment> findByCompanyIdAndClientId(UUID companyId, UUID clientId);
@@ -0,0 +1,27 @@
+package br.com.baggiotech.tecos_api.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, Cursor nextCursor, int limit) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code limit + 1} registros:
+     * o registro excedente apenas indica que existe uma próxima página.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, Cursor> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null, limit);
+        }
+        List<T> content = fetched.subList(0, limit);
+        return new CursorPage<>(content, cursorOf.apply(content.get(limit - 1)), limit);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, limit);
+    }
+}
@@ -7,10 +7,19 @@ import java.util.UUID;
 public interface UserRepository {
     User save(User user);
     Optional<User> findById(UUID id);
+    /** Estado atual no banco, sem passar por caches: para decisões de acesso, como renovar um token. */
+    Optional<User> findCurrentById(UUID id);
     List<User> findAll();
     void deleteById(UUID id);
     boolean existsById(UUID id);
     Optional<User> findByEmail(String email);
+    /** Como {@link #findCurrentById}, mas por e-mail e sempre lido no primário: usado no login. */
+    Optional<User> findCurrentByEmail(String email);
+    /**
+     * Troca o hash da senha somente se o gravado ainda for {@code currentPassword}. Retorna {@code false}
+     * quando a senha foi alterada por outra requisição nesse meio-tempo.
+     */
+    boolean updatePasswordIfCurrent(UUID id, String currentPassword, String newPassword);
     boolean existsByEmail(String email);
     boolean existsByEmailAndIdNot(String email, UUID id);
     Optional<User> findByEmailAndCompanyId(String email, UUID companyId);
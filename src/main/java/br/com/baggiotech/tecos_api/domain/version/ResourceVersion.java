@@ -0,0 +1,12 @@
+package br.com.baggiotech.tecos_api.domain.version;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Versão de um recurso exposto pela API: o id e o updatedAt mais recente entre o registro e as
+ * associações cujos dados aparecem na resposta (ex.: nome do cliente na OS). Muda sempre que a
+ * representação muda, então serve de validador para GET condicional sem carregar o grafo.
+ */
+public record ResourceVersion(UUID id, LocalDateTime lastModified) {
+}
@@ -0,0 +1,17 @@
+package br.com.baggiotech.tecos_api.domain.workorder;
+
+import java.util.UUID;
+
+public record WorkOrderFilter(
+        UUID companyId,
+        UUID clientId,
+        UUID equipmentId,
+        UUID technicianId,
+        OrderStatus status,
+        Boolean returnOrder,
+        String search
+) {
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+}
@@ -1,18 +1,50 @@
 package br.com.baggiotech.tecos_api.domain.workorder;
 
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface WorkOrderRepository {
     WorkOrder save(WorkOrder workOrder);
+    /**
+     * Grava status, entrega e atualização do agregado somente se o status no banco ainda for
+     * {@code expectedStatus}. Retorna {@code false} quando outra requisição alterou a OS antes.
+     */
+    boolean compareAndSetStatus(WorkOrder workOrder, OrderStatus expectedStatus);
+    /**
+     * Status atuais das OS, travando as linhas até o fim da transação de escrita que chama: a troca
+     * decidida sobre eles não compete com outra troca concorrente.
+     */
+    List<WorkOrderStatusView> findStatusesByIdIn(Collection<UUID> ids);
+    /**
+     * Versão em lote de {@link #compareAndSetStatus}: um UPDATE para todas as OS que ainda estão em
+     * {@code expectedStatus}. Retorna os ids efetivamente alterados por esta chamada.
+     */
+    Set<UUID> compareAndSetStatuses(Collection<UUID> ids, OrderStatus expectedStatus, OrderStatus status);
     Optional<WorkOrder> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     boolean existsById(UUID id);
     void delete(WorkOrder workOrder);
     List<WorkOrder> findAll();
+    Page<WorkOrderSummary> findSummaries(WorkOrderFilter filter, Pageable pageable);
+    CursorPage<WorkOrderSummary> findSummariesAfter(WorkOrderFilter filter, Cursor cursor, int limit);
+    Stream<WorkOrderSummary> streamSummaries(WorkOrderFilter filter, LocalDateTime createdFrom, LocalDateTime createdBefore);
     List<WorkOrder> findByCompanyId(UUID companyId);
     List<WorkOrder> findByClientId(UUID clientId);
     List<WorkOrder> findByEquipmentId(UUID equipmentId);
+    /** Só os ids, sem carregar as OS: usado para invalidar a página pública quando o cliente muda. */
+    List<UUID> findIdsByClientId(UUID clientId);
+    List<UUID> findIdsByEquipmentId(UUID equipmentId);
     List<WorkOrder> findByTechnicianId(UUID technicianId);
     List<WorkOrder> findByStatus(OrderStatus status);
     List<WorkOrder> findByCompanyIdAndStatus(UUID companyId, OrderStatus status);
@@ -0,0 +1,10 @@
+package br.com.baggiotech.tecos_api.domain.workorder;
+
+import java.util.UUID;
+
+public class WorkOrderStatusConflictException extends RuntimeException {
+    public WorkOrderStatusConflictException(UUID workOrderId, OrderStatus expectedStatus) {
+        super(String.format("O status da ordem de serviço %s foi alterado por outra requisição (esperado: %s). "
+                + "Recarregue a ordem e tente novamente.", workOrderId, expectedStatus));
+    }
+}
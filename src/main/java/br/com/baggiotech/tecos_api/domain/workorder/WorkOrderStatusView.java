@@ -0,0 +1,13 @@
+package br.com.baggiotech.tecos_api.domain.workorder;
+
+import java.util.UUID;
+
+/**
+ * Apenas o necessário para validar transições em lote: id, empresa e status atual.
+ */
+public record WorkOrderStatusView(
+        UUID id,
+        UUID companyId,
+        OrderStatus status
+) {
+}
@@ -0,0 +1,29 @@
+package br.com.baggiotech.tecos_api.domain.workorder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Visão achatada da ordem de serviço para listagens: apenas ids e nomes das associações,
+ * sem carregar empresa, cliente, equipamento e técnico completos.
+ */
+public record WorkOrderSummary(
+        UUID id,
+        UUID companyId,
+        String companyName,
+        UUID clientId,
+        String clientName,
+        UUID equipmentId,
+        String equipmentType,
+        UUID technicianId,
+        String technicianName,
+        OrderStatus status,
+        String reportedDefect,
+        String internalObservations,
+        Boolean returnOrder,
+        UUID originWorkOrderId,
+        LocalDateTime deliveredAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
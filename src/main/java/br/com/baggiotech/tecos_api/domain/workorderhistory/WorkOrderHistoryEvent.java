@@ -0,0 +1,12 @@
+package br.com.baggiotech.tecos_api.domain.workorderhistory;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Troca de status a registrar no histórico; referencia OS, empresa e usuário apenas pelo id. */
+public record WorkOrderHistoryEvent(UUID companyId, UUID workOrderId, UUID userId,
+                                    OrderStatus statusBefore, OrderStatus statusAfter,
+                                    String observation, LocalDateTime occurredAt) {
+}
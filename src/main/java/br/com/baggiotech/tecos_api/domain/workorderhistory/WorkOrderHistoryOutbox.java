@@ -0,0 +1,9 @@
+package br.com.baggiotech.tecos_api.domain.workorderhistory;
+
+/**
+ * Fila durável de históricos: {@link #enqueue} grava na transação do chamador e o histórico aparece em
+ * work_order_histories pouco depois, escrito em segundo plano.
+ */
+public interface WorkOrderHistoryOutbox {
+    void enqueue(WorkOrderHistoryEvent event);
+}
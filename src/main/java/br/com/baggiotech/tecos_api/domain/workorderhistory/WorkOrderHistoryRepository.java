@@ -1,14 +1,19 @@
 package br.com.baggiotech.tecos_api.domain.workorderhistory;
 
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface WorkOrderHistoryRepository {
     WorkOrderHistory save(WorkOrderHistory workOrderHistory);
+    List<WorkOrderHistory> saveAll(List<WorkOrderHistory> histories);
     Optional<WorkOrderHistory> findById(UUID id);
     boolean existsById(UUID id);
     List<WorkOrderHistory> findAll();
+    CursorPage<WorkOrderHistory> findAfter(UUID workOrderId, UUID userId, Cursor cursor, int limit);
     List<WorkOrderHistory> findByWorkOrderId(UUID workOrderId);
     List<WorkOrderHistory> findByUserId(UUID userId);
     List<WorkOrderHistory> findByWorkOrderIdOrderByCreatedAtDesc(UUID workOrderId);
@@ -0,0 +1,31 @@
+package br.com.baggiotech.tecos_api.infrastructure.analytics;
+
+import br.com.baggiotech.tecos_api.application.analytics.RebuildBudgetRollupsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Recalcula à noite os agregados de orçamentos dos últimos dias. A janela cobre aprovações e rejeições
+ * recentes de orçamentos criados antes; o cron "-" desliga o job.
+ */
+@Component
+public class BudgetRollupBackfillJob {
+
+    private final RebuildBudgetRollupsUseCase rebuildBudgetRollupsUseCase;
+    private final int windowDays;
+
+    public BudgetRollupBackfillJob(RebuildBudgetRollupsUseCase rebuildBudgetRollupsUseCase,
+                                   @Value("${tecos.analytics.rollup.backfill-days:35}") int windowDays) {
+        this.rebuildBudgetRollupsUseCase = rebuildBudgetRollupsUseCase;
+        this.windowDays = windowDays;
+    }
+
+    @Scheduled(cron = "${tecos.analytics.rollup.backfill-cron:0 30 3 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        rebuildBudgetRollupsUseCase.execute(today.minusDays(windowDays), today);
+    }
+}
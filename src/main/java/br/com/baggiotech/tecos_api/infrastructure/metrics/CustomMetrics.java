@@ -2,7 +2,6 @@ package br.com.baggiotech.tecos_api.infrastructure.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -162,17 +161,4 @@ public class CustomMetrics {
     public void incrementBudgetsDeleted() {
         budgetsDeletedCounter.increment();
     }
-
-    public Timer.Sample startTimer() {
-        return Timer.start(meterRegistry);
-    }
-
-    public void recordTimer(Timer.Sample sample, String operation) {
-        Timer timer = Timer.builder("tecos_companies_operation_duration_seconds")
-                .description("Duration of company operations")
-                .tag("application", "tecos-api")
-                .tag("operation", operation)
-                .register(meterRegistry);
-        sample.stop(timer);
-    }
 }
@@ -0,0 +1,169 @@
+package br.com.baggiotech.tecos_api.infrastructure.metrics;
+
+import br.com.baggiotech.tecos_api.infrastructure.persistence.statistics.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conta os comandos SQL e o tempo de banco de cada requisição em /api/**. Sempre publica as distribuições
+ * {@value #STATEMENTS_METRIC} e {@value #TIME_METRIC} por método e rota; com tecos.sql.stats.response-headers
+ * (fora de produção) devolve também os cabeçalhos {@value #STATEMENTS_HEADER} e {@value #TIME_HEADER}.
+ * Registra um aviso quando o mesmo comando se repete além do limite de N+1.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    static final String STATEMENTS_METRIC = "tecos_http_sql_statements";
+    static final String TIME_METRIC = "tecos_http_sql_duration";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementStatsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+    private final int nPlusOneThreshold;
+    private final Map<String, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlStatementStatsFilter(MeterRegistry meterRegistry,
+                                   @Value("${tecos.sql.stats.response-headers:false}") boolean responseHeaders,
+                                   @Value("${tecos.sql.stats.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeaders = responseHeaders;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.open();
+        HeaderWritingResponse wrapped = responseHeaders ? new HeaderWritingResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, wrapped != null ? wrapped : response);
+            if (wrapped != null) {
+                wrapped.writeHeaders();
+            }
+        } finally {
+            stats.close();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        RouteMeters route = meters.computeIfAbsent(request.getMethod() + " " + uri,
+                key -> register(request.getMethod(), uri));
+        route.statements().record(stats.statements());
+        route.time().record(stats.time());
+
+        stats.mostRepeated()
+                .filter(entry -> entry.getValue() >= nPlusOneThreshold)
+                .ifPresent(entry -> log.warn("Possível N+1 em {} {}: {} comandos, repetido {} vezes: {}",
+                        request.getMethod(), uri, stats.statements(), entry.getValue(), entry.getKey()));
+    }
+
+    private RouteMeters register(String method, String uri) {
+        return new RouteMeters(
+                DistributionSummary.builder(STATEMENTS_METRIC)
+                        .description("SQL statements issued per HTTP request")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                        .register(meterRegistry),
+                Timer.builder(TIME_METRIC)
+                        .description("JDBC execution time per HTTP request")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry));
+    }
+
+    private record RouteMeters(DistributionSummary statements, Timer time) {
+    }
+
+    // Os cabeçalhos precisam sair antes do commit da resposta, que acontece no primeiro byte do corpo
+    private static class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean written;
+
+        HeaderWritingResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (!written && !isCommitted()) {
+                setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+                setHeader(TIME_HEADER, String.valueOf(stats.time().toMillis()));
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.baggiotech.tecos_api.infrastructure.metrics;
+
+import br.com.baggiotech.tecos_api.infrastructure.security.InvalidTokenException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ValidationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mede o {@code execute} de todos os casos de uso em {@value #METRIC}, com as tags entity (pacote do caso de uso),
+ * operation (classe sem o sufixo UseCase) e outcome. Os timers são registrados na subida, um por caso de uso
+ * e resultado, e a chamada só consulta um mapa. Envolve a transação, então o tempo inclui o commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect implements SmartInitializingSingleton {
+
+    static final String METRIC = "tecos_use_case_duration";
+
+    private static final String APPLICATION_PACKAGE = "br.com.baggiotech.tecos_api.application.";
+    private static final String DOMAIN_PACKAGE = "br.com.baggiotech.tecos_api.domain.";
+    private static final String SUFFIX = "UseCase";
+
+    private final MeterRegistry meterRegistry;
+    private final ListableBeanFactory beanFactory;
+    private final Duration[] slo;
+    private final Map<Class<?>, Map<Outcome, Timer>> timers = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry, ListableBeanFactory beanFactory,
+                                @Value("${tecos.metrics.use-case.slo:50ms,100ms,250ms,500ms,1s,2s}") Duration[] slo) {
+        this.meterRegistry = meterRegistry;
+        this.beanFactory = beanFactory;
+        this.slo = slo;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String name : beanFactory.getBeanNamesForAnnotation(Service.class)) {
+            Class<?> type = beanFactory.getType(name);
+            if (type != null && isUseCase(ClassUtils.getUserClass(type))) {
+                timers(ClassUtils.getUserClass(type));
+            }
+        }
+    }
+
+    @Around("execution(public * br.com.baggiotech.tecos_api.application..*UseCase.execute(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Map<Outcome, Timer> useCase = timers(joinPoint.getSignature().getDeclaringType());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Outcome outcome = Outcome.SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = Outcome.of(e);
+            throw e;
+        } finally {
+            sample.stop(useCase.get(outcome));
+        }
+    }
+
+    private Map<Outcome, Timer> timers(Class<?> type) {
+        return timers.computeIfAbsent(type, this::register);
+    }
+
+    private Map<Outcome, Timer> register(Class<?> type) {
+        String entity = type.getPackageName().substring(type.getPackageName().lastIndexOf('.') + 1);
+        String operation = type.getSimpleName().endsWith(SUFFIX)
+                ? type.getSimpleName().substring(0, type.getSimpleName().length() - SUFFIX.length())
+                : type.getSimpleName();
+
+        Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            byOutcome.put(outcome, Timer.builder(METRIC)
+                    .description("Duration of application use cases")
+                    .tag("entity", entity)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome.name())
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(slo)
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+        return byOutcome;
+    }
+
+    private static boolean isUseCase(Class<?> type) {
+        return type.getName().startsWith(APPLICATION_PACKAGE) && type.getSimpleName().endsWith(SUFFIX);
+    }
+
+    // Mesma divisão do GlobalExceptionHandler: validação e regras de domínio viram 4xx, o resto 500
+    enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR;
+
+        static Outcome of(Throwable e) {
+            return e instanceof IllegalArgumentException
+                    || e instanceof ValidationException
+                    || e instanceof InvalidTokenException
+                    || e.getClass().getName().startsWith(DOMAIN_PACKAGE)
+                    ? CLIENT_ERROR : SERVER_ERROR;
+        }
+    }
+}
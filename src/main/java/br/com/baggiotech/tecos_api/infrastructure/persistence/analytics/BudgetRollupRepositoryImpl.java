@@ -0,0 +1,88 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupDelta;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics.BudgetDailyRollupJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics.BudgetRollupMonthRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class BudgetRollupRepositoryImpl implements BudgetRollupRepository {
+
+    private final BudgetDailyRollupJpaRepository jpaRepository;
+
+    public BudgetRollupRepositoryImpl(BudgetDailyRollupJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    // Caminho comum: um UPDATE por chave. A primeira escrita do dia para a empresa e técnico trava a
+    // linha da empresa e repete o UPDATE, já que outra transação pode ter criado a linha enquanto esperava.
+    @Override
+    @Transactional
+    public void add(UUID companyId, UUID technicianId, LocalDate date, BudgetRollupDelta delta) {
+        if (increment(companyId, technicianId, date, delta) > 0) {
+            return;
+        }
+        jpaRepository.lockCompany(companyId);
+        if (increment(companyId, technicianId, date, delta) == 0) {
+            jpaRepository.insert(companyId, technicianId, date,
+                    delta.createdCount(), delta.createdValue(),
+                    delta.approvedCount(), delta.approvedValue(),
+                    delta.rejectedCount(), delta.rejectedValue());
+        }
+    }
+
+    // Sem a trava, um add concorrente não acharia a linha recém-apagada e a inseriria junto com o
+    // recálculo, violando a chave primária. Com ela, o add espera o commit e soma na linha recalculada.
+    @Override
+    @Transactional
+    public void rebuild(UUID companyId, LocalDate from, LocalDate to) {
+        jpaRepository.lockCompany(companyId);
+        jpaRepository.deleteBetween(companyId, from, to);
+        jpaRepository.insertAggregatedBetween(companyId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetMonthlySummary> summarizeByMonth(UUID companyId, LocalDate from, LocalDate to,
+                                                       boolean byTechnician) {
+        List<BudgetMonthlySummary> rows = jpaRepository.sumByMonthAndTechnician(companyId, from, to).stream()
+                .map(BudgetRollupRepositoryImpl::toDomain)
+                .toList();
+        if (byTechnician) {
+            return rows;
+        }
+        // As linhas já vêm em ordem de mês: basta somar os técnicos de cada mês
+        Map<YearMonth, BudgetMonthlySummary> byMonth = new LinkedHashMap<>();
+        for (BudgetMonthlySummary row : rows) {
+            BudgetMonthlySummary companyRow = new BudgetMonthlySummary(row.month(), null,
+                    row.createdCount(), row.createdValue(), row.approvedCount(), row.revenue(),
+                    row.rejectedCount(), row.rejectedValue());
+            byMonth.merge(row.month(), companyRow, BudgetMonthlySummary::plus);
+        }
+        return new ArrayList<>(byMonth.values());
+    }
+
+    private int increment(UUID companyId, UUID technicianId, LocalDate date, BudgetRollupDelta delta) {
+        return jpaRepository.increment(companyId, technicianId, date,
+                delta.createdCount(), delta.createdValue(),
+                delta.approvedCount(), delta.approvedValue(),
+                delta.rejectedCount(), delta.rejectedValue());
+    }
+
+    private static BudgetMonthlySummary toDomain(BudgetRollupMonthRow row) {
+        return new BudgetMonthlySummary(YearMonth.of(row.year(), row.month()), row.technicianId(),
+                row.createdCount(), row.createdValue(), row.approvedCount(), row.approvedValue(),
+                row.rejectedCount(), row.rejectedValue());
+    }
+}
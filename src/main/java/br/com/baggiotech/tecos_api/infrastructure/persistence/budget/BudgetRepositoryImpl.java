@@ -1,19 +1,30 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.budget;
 
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetApprovalConflictException;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
 import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.KeysetSpecifications;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetSpecifications;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,22 +33,52 @@ import java.util.stream.Collectors;
 @Component
 public class BudgetRepositoryImpl implements BudgetRepository {
 
+    // O fluent query não aceita grafo nomeado: mesmos caminhos de BudgetJpaEntity.DETAIL_GRAPH
+    private static final List<String> DETAIL_PATHS = List.of("company", "workOrder.company", "workOrder.client",
+            "workOrder.equipment", "workOrder.technician", "createdBy", "approvedBy");
+
     private final BudgetJpaRepository jpaRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final EntityWriter<BudgetJpaEntity> writer;
 
-    public BudgetRepositoryImpl(BudgetJpaRepository jpaRepository, WorkOrderRepository workOrderRepository) {
+    public BudgetRepositoryImpl(BudgetJpaRepository jpaRepository, WorkOrderRepository workOrderRepository,
+                                EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.workOrderRepository = workOrderRepository;
+        this.writer = new EntityWriter<>(entityManager, BudgetJpaEntity.class, BudgetJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public Budget save(Budget budget) {
-        BudgetJpaEntity entity = toJpaEntity(budget);
-        if (budget.getId() != null && !jpaRepository.existsById(budget.getId())) {
-            entity.setId(null);
+        BudgetJpaEntity entity = writer.write(budget.getId(), target -> copyToEntity(budget, target));
+        budget.setId(entity.getId());
+        budget.setCreatedAt(entity.getCreatedAt());
+        budget.setUpdatedAt(entity.getUpdatedAt());
+        return budget;
+    }
+
+    // Rebaixa antes de aprovar: o índice único parcial (um APROVADO por OS) é verificado a cada comando.
+    // Numa aprovação concorrente na mesma OS, o UPDATE daqui espera a outra transação e falha no índice.
+    @Override
+    @Transactional
+    public boolean approveExclusively(Budget budget) {
+        UUID workOrderId = budget.getWorkOrder().getId();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        try {
+            jpaRepository.demoteApprovedExcept(workOrderId, budget.getId(), updatedAt);
+            int approved = jpaRepository.approveIfPending(budget.getId(), budget.getApprovedAt(),
+                    budget.getApprovalMethod(),
+                    budget.getApprovedBy() != null ? budget.getApprovedBy().getId() : null,
+                    updatedAt);
+            if (approved == 0) {
+                return false;
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new BudgetApprovalConflictException(workOrderId, e);
         }
-        BudgetJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        budget.setUpdatedAt(updatedAt);
+        return true;
     }
 
     @Override
@@ -46,6 +87,11 @@ public class BudgetRepositoryImpl implements BudgetRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -58,6 +104,16 @@ public class BudgetRepositoryImpl implements BudgetRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<Budget> findAfter(UUID companyId, UUID workOrderId, BudgetStatus status,
+                                        Cursor cursor, int limit) {
+        List<BudgetJpaEntity> fetched = jpaRepository.findBy(
+                BudgetSpecifications.matching(companyId, workOrderId, status).and(KeysetSpecifications.after(cursor)),
+                query -> query.project(DETAIL_PATHS).sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(fetched, limit, entity -> new Cursor(entity.getCreatedAt(), entity.getId()))
+                .map(this::toDomain);
+    }
+
     @Override
     public List<Budget> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -100,49 +156,27 @@ public class BudgetRepositoryImpl implements BudgetRepository {
                 .collect(Collectors.toList());
     }
 
-    private BudgetJpaEntity toJpaEntity(Budget budget) {
-        BudgetJpaEntity entity = new BudgetJpaEntity();
-        entity.setId(budget.getId());
-        
-        if (budget.getCompany() != null) {
-            CompanyJpaEntity companyEntity = new CompanyJpaEntity();
-            companyEntity.setId(budget.getCompany().getId());
-            entity.setCompany(companyEntity);
-        }
-        
-        if (budget.getWorkOrder() != null) {
-            WorkOrderJpaEntity workOrderEntity = new WorkOrderJpaEntity();
-            workOrderEntity.setId(budget.getWorkOrder().getId());
-            entity.setWorkOrder(workOrderEntity);
-        }
-        
+    private void copyToEntity(Budget budget, BudgetJpaEntity entity) {
+        entity.setCompany(budget.getCompany() != null
+                ? writer.reference(CompanyJpaEntity.class, budget.getCompany().getId()) : null);
+        entity.setWorkOrder(budget.getWorkOrder() != null
+                ? writer.reference(WorkOrderJpaEntity.class, budget.getWorkOrder().getId()) : null);
         entity.setServiceValue(budget.getServiceValue());
         entity.setPartsValue(budget.getPartsValue());
         entity.setTotalValue(budget.getTotalValue());
         entity.setStatus(budget.getStatus());
         entity.setRejectionReason(budget.getRejectionReason());
-        
-        if (budget.getCreatedBy() != null) {
-            UserJpaEntity createdByEntity = new UserJpaEntity();
-            createdByEntity.setId(budget.getCreatedBy().getId());
-            entity.setCreatedBy(createdByEntity);
-        }
-        
+        entity.setCreatedBy(budget.getCreatedBy() != null
+                ? writer.reference(UserJpaEntity.class, budget.getCreatedBy().getId()) : null);
         entity.setApprovedAt(budget.getApprovedAt());
         entity.setApprovalMethod(budget.getApprovalMethod());
-        
-        if (budget.getApprovedBy() != null) {
-            UserJpaEntity approvedByEntity = new UserJpaEntity();
-            approvedByEntity.setId(budget.getApprovedBy().getId());
-            entity.setApprovedBy(approvedByEntity);
-        }
-        
+        entity.setApprovedBy(budget.getApprovedBy() != null
+                ? writer.reference(UserJpaEntity.class, budget.getApprovedBy().getId()) : null);
         entity.setCreatedAt(budget.getCreatedAt());
         entity.setUpdatedAt(budget.getUpdatedAt());
-        return entity;
     }
 
-    private Budget toDomain(BudgetJpaEntity entity) {
+    Budget toDomain(BudgetJpaEntity entity) {
         Company company = null;
         if (entity.getCompany() != null) {
             company = new Company(
@@ -1,12 +1,21 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.client;
 
 import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.client.ClientFilter;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
 import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientSpecifications;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,19 +26,21 @@ import java.util.stream.Collectors;
 public class ClientRepositoryImpl implements ClientRepository {
 
     private final ClientJpaRepository jpaRepository;
+    private final EntityWriter<ClientJpaEntity> writer;
 
-    public ClientRepositoryImpl(ClientJpaRepository jpaRepository) {
+    public ClientRepositoryImpl(ClientJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.writer = new EntityWriter<>(entityManager, ClientJpaEntity.class, ClientJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public Client save(Client client) {
-        ClientJpaEntity entity = toJpaEntity(client);
-        if (client.getId() != null && !jpaRepository.existsById(client.getId())) {
-            entity.setId(null);
-        }
-        ClientJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        ClientJpaEntity entity = writer.write(client.getId(), target -> copyToEntity(client, target));
+        client.setId(entity.getId());
+        client.setCreatedAt(entity.getCreatedAt());
+        client.setUpdatedAt(entity.getUpdatedAt());
+        return client;
     }
 
     @Override
@@ -38,6 +49,11 @@ public class ClientRepositoryImpl implements ClientRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -56,6 +72,15 @@ public class ClientRepositoryImpl implements ClientRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<Client> findAll(ClientFilter filter, Pageable pageable) {
+        Specification<ClientJpaEntity> spec = ClientSpecifications.matching(filter);
+        if (filter.hasSearch() && pageable.getSort().isUnsorted()) {
+            spec = spec.and(ClientSpecifications.orderByRelevance(filter.search()));
+        }
+        return jpaRepository.findAll(spec, pageable).map(this::toDomain);
+    }
+
     @Override
     public List<Client> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -94,13 +119,13 @@ public class ClientRepositoryImpl implements ClientRepository {
     private ClientJpaEntity toJpaEntity(Client client) {
         ClientJpaEntity entity = new ClientJpaEntity();
         entity.setId(client.getId());
-        
-        if (client.getCompany() != null) {
-            CompanyJpaEntity companyEntity = new CompanyJpaEntity();
-            companyEntity.setId(client.getCompany().getId());
-            entity.setCompany(companyEntity);
-        }
-        
+        copyToEntity(client, entity);
+        return entity;
+    }
+
+    private void copyToEntity(Client client, ClientJpaEntity entity) {
+        entity.setCompany(client.getCompany() != null
+                ? writer.reference(CompanyJpaEntity.class, client.getCompany().getId()) : null);
         entity.setName(client.getName());
         entity.setPhone(client.getPhone());
         entity.setEmail(client.getEmail());
@@ -110,7 +135,6 @@ public class ClientRepositoryImpl implements ClientRepository {
         entity.setCreatedAt(client.getCreatedAt());
         entity.setUpdatedAt(client.getUpdatedAt());
         entity.setDeletedAt(client.getDeletedAt());
-        return entity;
     }
 
     private Client toDomain(ClientJpaEntity entity) {
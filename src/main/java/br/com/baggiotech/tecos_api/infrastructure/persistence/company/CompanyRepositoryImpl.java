@@ -2,9 +2,12 @@ package br.com.baggiotech.tecos_api.infrastructure.persistence.company;
 
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,19 +18,21 @@ import java.util.stream.Collectors;
 public class CompanyRepositoryImpl implements CompanyRepository {
 
     private final CompanyJpaRepository jpaRepository;
+    private final EntityWriter<CompanyJpaEntity> writer;
 
-    public CompanyRepositoryImpl(CompanyJpaRepository jpaRepository) {
+    public CompanyRepositoryImpl(CompanyJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.writer = new EntityWriter<>(entityManager, CompanyJpaEntity.class, CompanyJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public Company save(Company company) {
-        CompanyJpaEntity entity = toJpaEntity(company);
-        if (company.getId() != null && !jpaRepository.existsById(company.getId())) {
-            entity.setId(null);
-        }
-        CompanyJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        CompanyJpaEntity entity = writer.write(company.getId(), target -> copyToEntity(company, target));
+        company.setId(entity.getId());
+        company.setCreatedAt(entity.getCreatedAt());
+        company.setUpdatedAt(entity.getUpdatedAt());
+        return company;
     }
 
     @Override
@@ -83,9 +88,7 @@ public class CompanyRepositoryImpl implements CompanyRepository {
                 .collect(Collectors.toList());
     }
 
-    private CompanyJpaEntity toJpaEntity(Company company) {
-        CompanyJpaEntity entity = new CompanyJpaEntity();
-        entity.setId(company.getId());
+    private void copyToEntity(Company company, CompanyJpaEntity entity) {
         entity.setName(company.getName());
         entity.setEmail(company.getEmail());
         entity.setWhatsapp(company.getWhatsapp());
@@ -93,7 +96,6 @@ public class CompanyRepositoryImpl implements CompanyRepository {
         entity.setIsActive(company.getIsActive());
         entity.setCreatedAt(company.getCreatedAt());
         entity.setUpdatedAt(company.getUpdatedAt());
-        return entity;
     }
 
     private Company toDomain(CompanyJpaEntity entity) {
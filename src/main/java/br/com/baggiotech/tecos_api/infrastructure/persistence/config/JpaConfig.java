@@ -1,7 +1,31 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
 
+import br.com.baggiotech.tecos_api.infrastructure.persistence.filter.CompanyFilterHelper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
 
 @Configuration
 public class JpaConfig {
+
+    /**
+     * Habilita o filtro de tenant uma vez na criação de cada EntityManager (por transação,
+     * ou por requisição com open-in-view), em vez de a cada entidade carregada.
+     */
+    @Bean
+    public static BeanPostProcessor companyFilterEntityManagerInitializer(
+            ObjectProvider<CompanyFilterHelper> companyFilterHelper) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setEntityManagerInitializer(entityManager ->
+                            companyFilterHelper.ifAvailable(helper -> helper.enableCompanyFilters(entityManager)));
+                }
+                return bean;
+            }
+        };
+    }
 }
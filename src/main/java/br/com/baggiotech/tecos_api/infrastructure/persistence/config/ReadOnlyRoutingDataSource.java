@@ -0,0 +1,31 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Escolhe a origem de cada conexão pela transação corrente: {@code readOnly} vai para as réplicas, o resto
+ * (inclusive fora de transação) para o primário. Só decide no momento em que a conexão física é aberta, por
+ * isso depende de a conexão ser devolvida ao fim de cada transação (ver {@link ReadReplicaConfig}).
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {
+        PRIMARY, REPLICA
+    }
+
+    public ReadOnlyRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
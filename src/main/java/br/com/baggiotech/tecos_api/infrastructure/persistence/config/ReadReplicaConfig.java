@@ -0,0 +1,121 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Réplicas de leitura, ligadas quando {@code tecos.datasource.replica.urls} é informado. Transações
+ * {@code readOnly} (consultas dos casos de uso e os finds do Spring Data) vão para {@link ReplicaDataSource};
+ * as demais e tudo fora de transação ficam no primário. A escolha é por transação: com open-in-view a sessão
+ * dura a requisição inteira, então a conexão é devolvida ao fim de cada transação e a seguinte abre outra.
+ * Sem isso, um caso de uso que lê (find readOnly, na réplica) e depois grava reaproveitaria a conexão da réplica.
+ */
+@Configuration
+@ConditionalOnExpression("!'${tecos.datasource.replica.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${tecos.datasource.replica.urls}") List<String> urls,
+            @Value("${tecos.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${tecos.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${tecos.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${tecos.datasource.replica.lag-query}") String lagQuery,
+            @Value("${tecos.datasource.replica.max-lag:5s}") Duration maxLag) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primaryDataSource, replicas, lagQuery, maxLag);
+        replicaDataSource.refreshLag();
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        // O proxy adia a abertura até o primeiro comando, quando a transação já foi marcada como readOnly
+        return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // Sem preparar a conexão no início da transação o Spring não abre a conexão antes da hora nem a segura
+    // até o fim da sessão (o HibernateJpaVendorAdapter usaria DELAYED_ACQUISITION_AND_HOLD)
+    @Bean
+    public static BeanPostProcessor jpaVendorAdapterWithoutPreparedConnection() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HibernateJpaVendorAdapter adapter) {
+                    adapter.setPrepareConnection(false);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSource replicaDataSource) {
+        return new ReplicaLagMonitor(replicaDataSource);
+    }
+
+    public static class ReplicaLagMonitor {
+
+        private final ReplicaDataSource replicaDataSource;
+
+        public ReplicaLagMonitor(ReplicaDataSource replicaDataSource) {
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${tecos.datasource.replica.lag-check-ms:5000}")
+        public void refresh() {
+            replicaDataSource.refreshLag();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Origem das conexões de transações somente-leitura: alterna entre as réplicas disponíveis e usa o
+ * primário quando nenhuma está. Uma réplica sai de rotação quando o atraso medido por {@link #refreshLag}
+ * passa de {@code maxLag}, quando a consulta de atraso falha ou quando uma conexão não abre; volta na
+ * próxima medição boa. Começa fora de rotação até a primeira medição.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(DataSource primary, Map<String, DataSource> replicas, String lagQuery, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionFactory factory) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                try {
+                    return factory.open(replica.dataSource);
+                } catch (SQLException e) {
+                    replica.available = false;
+                }
+            }
+        }
+        return factory.open(primary);
+    }
+
+    /** Mede o atraso de cada réplica (em segundos, pela {@code lagQuery}) e atualiza a rotação. */
+    public void refreshLag() {
+        for (Replica replica : replicas) {
+            replica.available = lagWithinLimit(replica.dataSource);
+        }
+    }
+
+    public boolean isAvailable(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.available);
+    }
+
+    private boolean lagWithinLimit(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return false;
+            }
+            double lagSeconds = resultSet.getDouble(1);
+            return !resultSet.wasNull() && lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
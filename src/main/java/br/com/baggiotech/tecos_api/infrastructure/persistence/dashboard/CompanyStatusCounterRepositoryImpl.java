@@ -0,0 +1,84 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.dashboard.CompanyStatusCounterJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.dashboard.CompanyStatusCounterJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class CompanyStatusCounterRepositoryImpl implements CompanyStatusCounterRepository {
+
+    private final CompanyStatusCounterJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public CompanyStatusCounterRepositoryImpl(CompanyStatusCounterJpaRepository jpaRepository,
+                                              EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void initialize(UUID companyId) {
+        Set<OrderStatus> missing = EnumSet.allOf(OrderStatus.class);
+        jpaRepository.findByCompanyId(companyId).forEach(counter -> missing.remove(counter.getId().getStatus()));
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (OrderStatus status : missing) {
+            entityManager.persist(new CompanyStatusCounterJpaEntity(
+                    new CompanyStatusCounterJpaEntity.Key(companyId, status), 0));
+        }
+        entityManager.flush();
+    }
+
+    // Cada UPDATE trava a linha (empresa, status) até o commit; é o que serializa os ajustes concorrentes.
+    // As linhas são criadas junto com a empresa (e pela migração V6); o initialize aqui só cobre
+    // empresas gravadas por fora do caso de uso.
+    @Override
+    @Transactional
+    public void adjust(UUID companyId, OrderStatus status, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (jpaRepository.increment(companyId, status, delta) == 0) {
+            initialize(companyId);
+            jpaRepository.increment(companyId, status, delta);
+        }
+    }
+
+    // Atualiza sempre na ordem dos status, para que transferências opostas na mesma empresa
+    // (A -> B e B -> A) travem as linhas na mesma ordem e não entrem em deadlock.
+    @Override
+    @Transactional
+    public void move(UUID companyId, OrderStatus from, OrderStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        if (from.ordinal() < to.ordinal()) {
+            adjust(companyId, from, -count);
+            adjust(companyId, to, count);
+        } else {
+            adjust(companyId, to, count);
+            adjust(companyId, from, -count);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<OrderStatus, Long> findByCompanyId(UUID companyId) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        jpaRepository.findByCompanyId(companyId)
+                .forEach(counter -> counts.put(counter.getId().getStatus(), counter.getOrderCount()));
+        return counts;
+    }
+}
@@ -3,12 +3,21 @@ package br.com.baggiotech.tecos_api.infrastructure.persistence.equipment;
 import br.com.baggiotech.tecos_api.domain.client.Client;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
+import br.com.baggiotech.tecos_api.domain.equipment.EquipmentFilter;
 import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentSpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,19 +28,21 @@ import java.util.stream.Collectors;
 public class EquipmentRepositoryImpl implements EquipmentRepository {
 
     private final EquipmentJpaRepository jpaRepository;
+    private final EntityWriter<EquipmentJpaEntity> writer;
 
-    public EquipmentRepositoryImpl(EquipmentJpaRepository jpaRepository) {
+    public EquipmentRepositoryImpl(EquipmentJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.writer = new EntityWriter<>(entityManager, EquipmentJpaEntity.class, EquipmentJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public Equipment save(Equipment equipment) {
-        EquipmentJpaEntity entity = toJpaEntity(equipment);
-        if (equipment.getId() != null && !jpaRepository.existsById(equipment.getId())) {
-            entity.setId(null);
-        }
-        EquipmentJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        EquipmentJpaEntity entity = writer.write(equipment.getId(), target -> copyToEntity(equipment, target));
+        equipment.setId(entity.getId());
+        equipment.setCreatedAt(entity.getCreatedAt());
+        equipment.setUpdatedAt(entity.getUpdatedAt());
+        return equipment;
     }
 
     @Override
@@ -40,6 +51,11 @@ public class EquipmentRepositoryImpl implements EquipmentRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -58,6 +74,15 @@ public class EquipmentRepositoryImpl implements EquipmentRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<Equipment> findAll(EquipmentFilter filter, Pageable pageable) {
+        Specification<EquipmentJpaEntity> spec = EquipmentSpecifications.matching(filter);
+        if (filter.hasSearch() && pageable.getSort().isUnsorted()) {
+            spec = spec.and(EquipmentSpecifications.orderByRelevance(filter.search()));
+        }
+        return jpaRepository.findAll(spec, pageable).map(this::toDomain);
+    }
+
     @Override
     public List<Equipment> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -108,19 +133,15 @@ public class EquipmentRepositoryImpl implements EquipmentRepository {
     private EquipmentJpaEntity toJpaEntity(Equipment equipment) {
         EquipmentJpaEntity entity = new EquipmentJpaEntity();
         entity.setId(equipment.getId());
-        
-        if (equipment.getCompany() != null) {
-            CompanyJpaEntity companyEntity = new CompanyJpaEntity();
-            companyEntity.setId(equipment.getCompany().getId());
-            entity.setCompany(companyEntity);
-        }
-        
-        if (equipment.getClient() != null) {
-            ClientJpaEntity clientEntity = new ClientJpaEntity();
-            clientEntity.setId(equipment.getClient().getId());
-            entity.setClient(clientEntity);
-        }
-        
+        copyToEntity(equipment, entity);
+        return entity;
+    }
+
+    private void copyToEntity(Equipment equipment, EquipmentJpaEntity entity) {
+        entity.setCompany(equipment.getCompany() != null
+                ? writer.reference(CompanyJpaEntity.class, equipment.getCompany().getId()) : null);
+        entity.setClient(equipment.getClient() != null
+                ? writer.reference(ClientJpaEntity.class, equipment.getClient().getId()) : null);
         entity.setType(equipment.getType());
         entity.setBrand(equipment.getBrand());
         entity.setModel(equipment.getModel());
@@ -129,7 +150,6 @@ public class EquipmentRepositoryImpl implements EquipmentRepository {
         entity.setCreatedAt(equipment.getCreatedAt());
         entity.setUpdatedAt(equipment.getUpdatedAt());
         entity.setDeletedAt(equipment.getDeletedAt());
-        return entity;
     }
 
     private Equipment toDomain(EquipmentJpaEntity entity) {
@@ -149,18 +169,11 @@ public class EquipmentRepositoryImpl implements EquipmentRepository {
         
         Client client = null;
         if (entity.getClient() != null) {
+            // A empresa do cliente não faz parte do grafo carregado: apenas o id é copiado.
             Company clientCompany = null;
             if (entity.getClient().getCompany() != null) {
-                clientCompany = new Company(
-                        entity.getClient().getCompany().getId(),
-                        entity.getClient().getCompany().getName(),
-                        entity.getClient().getCompany().getEmail(),
-                        entity.getClient().getCompany().getWhatsapp(),
-                        entity.getClient().getCompany().getLogoUrl(),
-                        entity.getClient().getCompany().getIsActive(),
-                        entity.getClient().getCompany().getCreatedAt(),
-                        entity.getClient().getCompany().getUpdatedAt()
-                );
+                clientCompany = new Company();
+                clientCompany.setId(entity.getClient().getCompany().getId());
             }
             
             client = new Client(
@@ -1,15 +1,21 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.filter;
 
 import jakarta.persistence.EntityManager;
-import org.hibernate.Filter;
 import org.hibernate.Session;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
+/**
+ * Habilita o filtro de tenant ({@value #COMPANY_FILTER}) na sessão Hibernate.
+ * Chamado uma única vez por EntityManager, na sua criação (ver JpaConfig); todas as
+ * entidades filtradas possuem company_id próprio, então o filtro é uma igualdade simples.
+ */
 @Component
 public class CompanyFilterHelper {
 
+    public static final String COMPANY_FILTER = "companyFilter";
+
     private final CompanyFilterService companyFilterService;
 
     public CompanyFilterHelper(CompanyFilterService companyFilterService) {
@@ -18,15 +24,11 @@ public class CompanyFilterHelper {
 
     public void enableCompanyFilters(EntityManager entityManager) {
         UUID companyId = companyFilterService.getCurrentCompanyId();
-        
+
         if (companyId != null) {
-            Session session = entityManager.unwrap(Session.class);
-            
-            Filter companyFilter = session.enableFilter("companyFilter");
-            companyFilter.setParameter("companyId", companyId);
-            
-            Filter workOrderFilter = session.enableFilter("companyThroughWorkOrderFilter");
-            workOrderFilter.setParameter("companyId", companyId);
+            entityManager.unwrap(Session.class)
+                    .enableFilter(COMPANY_FILTER)
+                    .setParameter("companyId", companyId);
         }
     }
 }
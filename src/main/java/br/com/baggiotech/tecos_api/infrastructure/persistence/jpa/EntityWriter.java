@@ -0,0 +1,56 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Caminho de escrita dos repositórios: id nulo no domínio indica registro novo (persist, um INSERT);
+ * caso contrário os campos são copiados para a entidade gerenciada e o dirty checking emite um UPDATE
+ * no flush. Chaves estrangeiras usam {@link #reference}, que não carrega a associação.
+ * Deve ser chamado dentro de uma transação.
+ */
+public class EntityWriter<E> {
+
+    private final EntityManager entityManager;
+    private final Class<E> type;
+    private final Supplier<E> factory;
+
+    public EntityWriter(EntityManager entityManager, Class<E> type, Supplier<E> factory) {
+        this.entityManager = entityManager;
+        this.type = type;
+        this.factory = factory;
+    }
+
+    public E write(UUID id, Consumer<E> copy) {
+        E entity = id != null ? managed(id) : null;
+        if (entity == null) {
+            entity = factory.get();
+            copy.accept(entity);
+            entityManager.persist(entity);
+        } else {
+            copy.accept(entity);
+        }
+        return entity;
+    }
+
+    public <T> T reference(Class<T> associationType, UUID id) {
+        return id != null ? entityManager.getReference(associationType, id) : null;
+    }
+
+    // Nos casos de uso a entidade já foi lida no mesmo EntityManager (open-in-view) e o find não vai ao banco.
+    // A leitura em transação readOnly a deixa somente-leitura, o que desligaria o dirty checking.
+    private E managed(UUID id) {
+        E entity = entityManager.find(type, id);
+        if (entity != null) {
+            Session session = entityManager.unwrap(Session.class);
+            if (session.isReadOnly(entity)) {
+                session.setReadOnly(entity, false);
+            }
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa;
+
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Paginação por keyset sobre (created_at, id), do mais recente para o mais antigo.
+ * O predicado de seek usa as mesmas colunas da ordenação, permitindo que o banco
+ * percorra o índice a partir da posição do cursor em vez de descartar OFFSET linhas.
+ */
+public final class KeysetSpecifications {
+
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private KeysetSpecifications() {
+    }
+
+    public static <T> Specification<T> after(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())
+                )
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Busca textual por substring, sem diferenciar maiúsculas, sobre colunas com peso.
+ * No PostgreSQL os predicados {@code LOWER(coluna) LIKE '%termo%'} usam os índices trigram
+ * (pg_trgm) de db/vendor/postgresql; no H2 dos testes o resultado é o mesmo, sem índice.
+ * A relevância soma o peso das colunas que contêm o termo, em dobro quando a coluna começa com ele.
+ */
+public final class SearchSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private SearchSpecifications() {
+    }
+
+    public record SearchField<T>(Function<Root<T>, Expression<String>> path, int weight) {
+    }
+
+    public static <T> SearchField<T> field(Function<Root<T>, Expression<String>> path, int weight) {
+        return new SearchField<>(path, weight);
+    }
+
+    public static <T> Specification<T> matches(String search, List<SearchField<T>> fields) {
+        String contains = "%" + escape(normalize(search)) + "%";
+        return (root, query, cb) -> cb.or(fields.stream()
+                .map(field -> cb.like(cb.lower(field.path().apply(root)), contains, ESCAPE))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * Ordena por relevância decrescente e, no empate, por {@code tieBreak}. Não altera a
+     * consulta de contagem da paginação, que não aceita ORDER BY.
+     */
+    public static <T> Specification<T> orderByRelevance(String search, List<SearchField<T>> fields, Sort tieBreak) {
+        String term = escape(normalize(search));
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                List<Order> orders = new ArrayList<>();
+                orders.add(cb.desc(relevance(term, fields, root, cb)));
+                orders.addAll(QueryUtils.toOrders(tieBreak, root, cb));
+                query.orderBy(orders);
+            }
+            return null;
+        };
+    }
+
+    private static <T> Expression<Integer> relevance(String term, List<SearchField<T>> fields,
+                                                     Root<T> root, CriteriaBuilder cb) {
+        Expression<Integer> total = cb.literal(0);
+        for (SearchField<T> field : fields) {
+            Expression<String> value = cb.lower(field.path().apply(root));
+            Expression<Integer> score = cb.<Integer>selectCase()
+                    .when(cb.like(value, term + "%", ESCAPE), cb.literal(field.weight() * 2))
+                    .when(cb.like(value, "%" + term + "%", ESCAPE), cb.literal(field.weight()))
+                    .otherwise(cb.literal(0));
+            total = cb.sum(total, score);
+        }
+        return total;
+    }
+
+    static String normalize(String search) {
+        return search.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Curingas digitados pelo usuário são tratados como texto
+    static String escape(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Escrita só por SQL nativo (BudgetDailyRollupJpaRepository); a entidade serve às consultas dos relatórios
+@Entity
+@Table(name = "budget_daily_rollups")
+@Filter(name = "companyFilter", condition = "company_id = :companyId")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetDailyRollupJpaEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "created_value", nullable = false, precision = 14, scale = 2)
+    private BigDecimal createdValue;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "approved_value", nullable = false, precision = 14, scale = 2)
+    private BigDecimal approvedValue;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    @Column(name = "rejected_value", nullable = false, precision = 14, scale = 2)
+    private BigDecimal rejectedValue;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "company_id", nullable = false)
+        private UUID companyId;
+
+        @Column(name = "technician_id", nullable = false)
+        private UUID technicianId;
+
+        @Column(name = "rollup_date", nullable = false)
+        private LocalDate rollupDate;
+    }
+}
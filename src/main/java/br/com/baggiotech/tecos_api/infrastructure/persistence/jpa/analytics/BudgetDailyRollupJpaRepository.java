@@ -0,0 +1,108 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics;
+
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BudgetDailyRollupJpaRepository
+        extends JpaRepository<BudgetDailyRollupJpaEntity, BudgetDailyRollupJpaEntity.Key> {
+
+    @Query("SELECT new br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics.BudgetRollupMonthRow("
+            + "YEAR(r.id.rollupDate), MONTH(r.id.rollupDate), r.id.technicianId, "
+            + "SUM(r.createdCount), SUM(r.createdValue), SUM(r.approvedCount), SUM(r.approvedValue), "
+            + "SUM(r.rejectedCount), SUM(r.rejectedValue)) "
+            + "FROM BudgetDailyRollupJpaEntity r "
+            + "WHERE r.id.companyId = :companyId AND r.id.rollupDate BETWEEN :from AND :to "
+            + "GROUP BY YEAR(r.id.rollupDate), MONTH(r.id.rollupDate), r.id.technicianId "
+            + "ORDER BY YEAR(r.id.rollupDate), MONTH(r.id.rollupDate), r.id.technicianId")
+    List<BudgetRollupMonthRow> sumByMonthAndTechnician(@Param("companyId") UUID companyId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+
+    // Query space declarado: sem ele, DML nativo esvazia todas as regiões do cache de segundo nível
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budget_daily_rollups"))
+    @Query(value = "UPDATE budget_daily_rollups SET "
+            + "created_count = created_count + :createdCount, created_value = created_value + :createdValue, "
+            + "approved_count = approved_count + :approvedCount, approved_value = approved_value + :approvedValue, "
+            + "rejected_count = rejected_count + :rejectedCount, rejected_value = rejected_value + :rejectedValue "
+            + "WHERE company_id = :companyId AND technician_id = :technicianId AND rollup_date = :rollupDate",
+            nativeQuery = true)
+    int increment(@Param("companyId") UUID companyId,
+                  @Param("technicianId") UUID technicianId,
+                  @Param("rollupDate") LocalDate rollupDate,
+                  @Param("createdCount") long createdCount,
+                  @Param("createdValue") BigDecimal createdValue,
+                  @Param("approvedCount") long approvedCount,
+                  @Param("approvedValue") BigDecimal approvedValue,
+                  @Param("rejectedCount") long rejectedCount,
+                  @Param("rejectedValue") BigDecimal rejectedValue);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budget_daily_rollups"))
+    @Query(value = "INSERT INTO budget_daily_rollups (company_id, technician_id, rollup_date, "
+            + "created_count, created_value, approved_count, approved_value, rejected_count, rejected_value) "
+            + "VALUES (:companyId, :technicianId, :rollupDate, :createdCount, :createdValue, "
+            + ":approvedCount, :approvedValue, :rejectedCount, :rejectedValue)",
+            nativeQuery = true)
+    int insert(@Param("companyId") UUID companyId,
+               @Param("technicianId") UUID technicianId,
+               @Param("rollupDate") LocalDate rollupDate,
+               @Param("createdCount") long createdCount,
+               @Param("createdValue") BigDecimal createdValue,
+               @Param("approvedCount") long approvedCount,
+               @Param("approvedValue") BigDecimal approvedValue,
+               @Param("rejectedCount") long rejectedCount,
+               @Param("rejectedValue") BigDecimal rejectedValue);
+
+    // Trava a linha da empresa: serializa a criação da primeira linha do dia entre transações concorrentes
+    @Query(value = "SELECT 1 FROM companies WHERE id = :companyId FOR UPDATE", nativeQuery = true)
+    List<Integer> lockCompany(@Param("companyId") UUID companyId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budget_daily_rollups"))
+    @Query(value = "DELETE FROM budget_daily_rollups WHERE company_id = :companyId AND rollup_date BETWEEN :from AND :to",
+            nativeQuery = true)
+    int deleteBetween(@Param("companyId") UUID companyId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Mesmo agregado da migração V7, restrito à empresa e ao período [start, end)
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budget_daily_rollups"))
+    @Query(value = "INSERT INTO budget_daily_rollups (company_id, technician_id, rollup_date, created_count, "
+            + "created_value, approved_count, approved_value, rejected_count, rejected_value) "
+            + "SELECT e.company_id, e.technician_id, e.rollup_date, SUM(e.created_count), SUM(e.created_value), "
+            + "SUM(e.approved_count), SUM(e.approved_value), SUM(e.rejected_count), SUM(e.rejected_value) "
+            + "FROM ("
+            + "SELECT b.company_id, wo.technician_id, CAST(b.created_at AS DATE) AS rollup_date, "
+            + "1 AS created_count, b.total_value AS created_value, 0 AS approved_count, 0 AS approved_value, "
+            + "0 AS rejected_count, 0 AS rejected_value "
+            + "FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id "
+            + "WHERE b.company_id = :companyId AND b.created_at >= :start AND b.created_at < :end "
+            + "UNION ALL "
+            + "SELECT b.company_id, wo.technician_id, CAST(b.approved_at AS DATE), 0, 0, 1, b.total_value, 0, 0 "
+            + "FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id "
+            + "WHERE b.company_id = :companyId AND b.status = 'APROVADO' "
+            + "AND b.approved_at >= :start AND b.approved_at < :end "
+            + "UNION ALL "
+            + "SELECT b.company_id, wo.technician_id, CAST(b.updated_at AS DATE), 0, 0, 0, 0, 1, b.total_value "
+            + "FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id "
+            + "WHERE b.company_id = :companyId AND b.status = 'REJEITADO' "
+            + "AND b.updated_at >= :start AND b.updated_at < :end"
+            + ") e "
+            + "GROUP BY e.company_id, e.technician_id, e.rollup_date",
+            nativeQuery = true)
+    int insertAggregatedBetween(@Param("companyId") UUID companyId,
+                                @Param("start") LocalDateTime start,
+                                @Param("end") LocalDateTime end);
+}
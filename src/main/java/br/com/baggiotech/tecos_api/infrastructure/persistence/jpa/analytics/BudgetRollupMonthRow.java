@@ -0,0 +1,17 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BudgetRollupMonthRow(
+        Integer year,
+        Integer month,
+        UUID technicianId,
+        Long createdCount,
+        BigDecimal createdValue,
+        Long approvedCount,
+        BigDecimal approvedValue,
+        Long rejectedCount,
+        BigDecimal rejectedValue
+) {
+}
@@ -10,8 +10,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -20,7 +18,17 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "budgets")
-@FilterDef(name = "companyFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
+@NamedEntityGraph(name = BudgetJpaEntity.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode(value = "workOrder", subgraph = "workOrder"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("approvedBy")
+}, subgraphs = @NamedSubgraph(name = "workOrder", attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("equipment"),
+        @NamedAttributeNode("technician")
+}))
 @Filter(name = "companyFilter", condition = "company_id = :companyId")
 @Getter
 @Setter
@@ -28,6 +36,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class BudgetJpaEntity {
     
+    public static final String DETAIL_GRAPH = "Budget.detail";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
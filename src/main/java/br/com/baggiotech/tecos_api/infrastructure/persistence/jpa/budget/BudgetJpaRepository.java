@@ -1,31 +1,86 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget;
 
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface BudgetJpaRepository extends JpaRepository<BudgetJpaEntity, UUID> {
+public interface BudgetJpaRepository extends JpaRepository<BudgetJpaEntity, UUID>,
+        JpaSpecificationExecutor<BudgetJpaEntity> {
     
+    @Override
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
+    Optional<BudgetJpaEntity> findById(UUID id);
+    
+    @Override
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
+    List<BudgetJpaEntity> findAll();
+    
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     @Query("SELECT b FROM BudgetJpaEntity b WHERE b.company.id = :companyId")
     List<BudgetJpaEntity> findByCompanyId(@Param("companyId") UUID companyId);
     
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     @Query("SELECT b FROM BudgetJpaEntity b WHERE b.workOrder.id = :workOrderId")
     List<BudgetJpaEntity> findByWorkOrderId(@Param("workOrderId") UUID workOrderId);
     
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     List<BudgetJpaEntity> findByStatus(BudgetStatus status);
     
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     @Query("SELECT b FROM BudgetJpaEntity b WHERE b.workOrder.id = :workOrderId AND b.status = :status")
     List<BudgetJpaEntity> findByWorkOrderIdAndStatus(@Param("workOrderId") UUID workOrderId, @Param("status") BudgetStatus status);
     
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     @Query("SELECT b FROM BudgetJpaEntity b WHERE b.company.id = :companyId AND b.workOrder.id = :workOrderId")
     List<BudgetJpaEntity> findByCompanyIdAndWorkOrderId(@Param("companyId") UUID companyId, @Param("workOrderId") UUID workOrderId);
     
+    @EntityGraph(BudgetJpaEntity.DETAIL_GRAPH)
     @Query("SELECT b FROM BudgetJpaEntity b WHERE b.company.id = :companyId AND b.status = :status")
     List<BudgetJpaEntity> findByCompanyIdAndStatus(@Param("companyId") UUID companyId, @Param("status") BudgetStatus status);
+    
+    // SQL nativo: em UPDATE, caminhos como b.workOrder.id e b.approvedBy viram joins (as entidades associadas
+    // têm restrição de soft delete), e aqui só interessam as colunas de chave estrangeira.
+    // A tabela é declarada como query space: sem ela o Hibernate esvazia todas as regiões do cache de segundo nível
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budgets"))
+    @Query(value = "UPDATE budgets SET status = 'PENDENTE', approved_at = NULL, approval_method = NULL, " +
+                   "approved_by_user_id = NULL, updated_at = :updatedAt " +
+                   "WHERE work_order_id = :workOrderId AND id <> :budgetId AND status = 'APROVADO'",
+           nativeQuery = true)
+    int demoteApprovedExcept(@Param("workOrderId") UUID workOrderId,
+                             @Param("budgetId") UUID budgetId,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "budgets"))
+    @Query(value = "UPDATE budgets SET status = 'APROVADO', approved_at = :approvedAt, approval_method = :approvalMethod, " +
+                   "approved_by_user_id = CAST(:approvedById AS UUID), updated_at = :updatedAt " +
+                   "WHERE id = :budgetId AND status = 'PENDENTE'",
+           nativeQuery = true)
+    int approveIfPending(@Param("budgetId") UUID budgetId,
+                         @Param("approvedAt") LocalDateTime approvedAt,
+                         @Param("approvalMethod") String approvalMethod,
+                         @Param("approvedById") UUID approvedById,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Query("SELECT new br.com.baggiotech.tecos_api.domain.version.ResourceVersion(b.id, " +
+           "greatest(b.updatedAt, coalesce(co.updatedAt, b.updatedAt), coalesce(cb.updatedAt, b.updatedAt), " +
+           "coalesce(ab.updatedAt, b.updatedAt))) " +
+           "FROM BudgetJpaEntity b LEFT JOIN b.company co LEFT JOIN b.createdBy cb LEFT JOIN b.approvedBy ab " +
+           "WHERE b.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,33 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget;
+
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class BudgetSpecifications {
+
+    private BudgetSpecifications() {
+    }
+
+    public static Specification<BudgetJpaEntity> matching(UUID companyId, UUID workOrderId, BudgetStatus status) {
+        return Specification.where(hasCompanyId(companyId))
+                .and(hasWorkOrderId(workOrderId))
+                .and(hasStatus(status));
+    }
+
+    public static Specification<BudgetJpaEntity> hasCompanyId(UUID companyId) {
+        return companyId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<BudgetJpaEntity> hasWorkOrderId(UUID workOrderId) {
+        return workOrderId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("workOrder").get("id"), workOrderId);
+    }
+
+    public static Specification<BudgetJpaEntity> hasStatus(BudgetStatus status) {
+        return status == null ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -1,15 +1,19 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client;
 
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ClientJpaRepository extends JpaRepository<ClientJpaEntity, UUID> {
+public interface ClientJpaRepository extends JpaRepository<ClientJpaEntity, UUID>,
+        JpaSpecificationExecutor<ClientJpaEntity> {
     List<ClientJpaEntity> findByCompanyId(UUID companyId);
     List<ClientJpaEntity> findByIsActive(Boolean isActive);
     
@@ -29,4 +33,10 @@ public interface ClientJpaRepository extends JpaRepository<ClientJpaEntity, UUID
     
     @Query("SELECT c FROM ClientJpaEntity c WHERE c.company.id = :companyId AND c.isActive = :isActive")
     List<ClientJpaEntity> findByCompanyIdAndIsActive(@Param("companyId") UUID companyId, @Param("isActive") Boolean isActive);
+    
+    @Query("SELECT new br.com.baggiotech.tecos_api.domain.version.ResourceVersion(c.id, " +
+           "greatest(c.updatedAt, coalesce(co.updatedAt, c.updatedAt))) " +
+           "FROM ClientJpaEntity c LEFT JOIN c.company co " +
+           "WHERE c.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,51 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client;
+
+import br.com.baggiotech.tecos_api.domain.client.ClientFilter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.SearchField;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.field;
+
+public final class ClientSpecifications {
+
+    static final List<SearchField<ClientJpaEntity>> SEARCH_FIELDS = List.of(
+            field(root -> root.get("name"), 3),
+            field(root -> root.get("cpf"), 2),
+            field(root -> root.get("phone"), 2),
+            field(root -> root.get("email"), 1)
+    );
+
+    static final Sort RELEVANCE_TIE_BREAK = Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id"));
+
+    private ClientSpecifications() {
+    }
+
+    public static Specification<ClientJpaEntity> matching(ClientFilter filter) {
+        return Specification.where(hasCompanyId(filter.companyId()))
+                .and(hasIsActive(filter.isActive()))
+                .and(filter.hasSearch() ? matchesSearch(filter.search()) : null);
+    }
+
+    public static Specification<ClientJpaEntity> hasCompanyId(UUID companyId) {
+        return companyId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<ClientJpaEntity> hasIsActive(Boolean isActive) {
+        return isActive == null ? null
+                : (root, query, cb) -> cb.equal(root.get("isActive"), isActive);
+    }
+
+    public static Specification<ClientJpaEntity> matchesSearch(String search) {
+        return SearchSpecifications.matches(search, SEARCH_FIELDS);
+    }
+
+    public static Specification<ClientJpaEntity> orderByRelevance(String search) {
+        return SearchSpecifications.orderByRelevance(search, SEARCH_FIELDS, RELEVANCE_TIE_BREAK);
+    }
+}
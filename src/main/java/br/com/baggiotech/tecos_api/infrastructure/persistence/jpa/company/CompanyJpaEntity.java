@@ -5,19 +5,29 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Dado de referência lido em quase toda consulta (associações company das demais entidades):
+ * fica no cache de segundo nível, região {@value #CACHE_REGION} (ver hibernate-jcache.conf).
+ */
 @Entity
 @Table(name = "companies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CompanyJpaEntity.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CompanyJpaEntity {
+
+    public static final String CACHE_REGION = "tecos-company";
     
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -0,0 +1,46 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(name = "company_status_counters")
+@Filter(name = "companyFilter", condition = "company_id = :companyId")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyStatusCounterJpaEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // company_id como coluna simples: os incrementos são UPDATEs por chave, sem join com companies
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "company_id", nullable = false)
+        private UUID companyId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false)
+        private OrderStatus status;
+    }
+}
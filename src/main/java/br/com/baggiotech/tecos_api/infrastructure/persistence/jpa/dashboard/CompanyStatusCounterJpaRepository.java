@@ -0,0 +1,26 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CompanyStatusCounterJpaRepository
+        extends JpaRepository<CompanyStatusCounterJpaEntity, CompanyStatusCounterJpaEntity.Key> {
+
+    @Query("SELECT c FROM CompanyStatusCounterJpaEntity c WHERE c.id.companyId = :companyId")
+    List<CompanyStatusCounterJpaEntity> findByCompanyId(@Param("companyId") UUID companyId);
+
+    @Modifying
+    @Query("UPDATE CompanyStatusCounterJpaEntity c SET c.orderCount = c.orderCount + :delta "
+            + "WHERE c.id.companyId = :companyId AND c.id.status = :status")
+    int increment(@Param("companyId") UUID companyId,
+                  @Param("status") OrderStatus status,
+                  @Param("delta") long delta);
+}
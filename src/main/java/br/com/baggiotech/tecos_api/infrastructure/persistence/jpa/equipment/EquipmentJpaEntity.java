@@ -9,8 +9,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SoftDelete;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,7 +17,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "equipments")
-@FilterDef(name = "companyFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
+@NamedEntityGraph(name = EquipmentJpaEntity.OWNER_GRAPH, attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("client")
+})
 @Filter(name = "companyFilter", condition = "company_id = :companyId")
 @Getter
 @Setter
@@ -28,11 +29,13 @@ import java.util.UUID;
 @SoftDelete
 public class EquipmentJpaEntity {
     
+    public static final String OWNER_GRAPH = "Equipment.owner";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     private CompanyJpaEntity company;
     
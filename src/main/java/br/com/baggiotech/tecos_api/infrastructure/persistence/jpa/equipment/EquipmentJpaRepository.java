@@ -1,21 +1,47 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment;
 
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EquipmentJpaRepository extends JpaRepository<EquipmentJpaEntity, UUID> {
+public interface EquipmentJpaRepository extends JpaRepository<EquipmentJpaEntity, UUID>,
+        JpaSpecificationExecutor<EquipmentJpaEntity> {
+    
+    @Override
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
+    Optional<EquipmentJpaEntity> findById(UUID id);
+    
+    @Override
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
+    List<EquipmentJpaEntity> findAll();
+    
+    @Override
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
+    Page<EquipmentJpaEntity> findAll(Specification<EquipmentJpaEntity> spec, Pageable pageable);
+    
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     List<EquipmentJpaEntity> findByCompanyId(UUID companyId);
+    
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     List<EquipmentJpaEntity> findByClientId(UUID clientId);
     
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     @Query("SELECT e FROM EquipmentJpaEntity e WHERE e.company.id = :companyId AND e.client.id = :clientId")
     List<EquipmentJpaEntity> findByCompanyIdAndClientId(@Param("companyId") UUID companyId, @Param("clientId") UUID clientId);
     
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     @Query("SELECT e FROM EquipmentJpaEntity e WHERE " +
            "LOWER(e.type) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(e.brand) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -23,6 +49,7 @@ public interface EquipmentJpaRepository extends JpaRepository<EquipmentJpaEntity
            "LOWER(e.serialNumber) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<EquipmentJpaEntity> searchByTypeOrBrandOrModelOrSerialNumber(@Param("search") String search);
     
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     @Query("SELECT e FROM EquipmentJpaEntity e WHERE e.company.id = :companyId AND " +
            "(LOWER(e.type) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(e.brand) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -30,6 +57,7 @@ public interface EquipmentJpaRepository extends JpaRepository<EquipmentJpaEntity
            "LOWER(e.serialNumber) LIKE LOWER(CONCAT('%', :search, '%')))")
     List<EquipmentJpaEntity> findByCompanyIdAndSearch(@Param("companyId") UUID companyId, @Param("search") String search);
     
+    @EntityGraph(EquipmentJpaEntity.OWNER_GRAPH)
     @Query("SELECT e FROM EquipmentJpaEntity e WHERE e.client.id = :clientId AND " +
            "(LOWER(e.type) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(e.brand) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -39,4 +67,10 @@ public interface EquipmentJpaRepository extends JpaRepository<EquipmentJpaEntity
     
     @Query("SELECT COUNT(w) FROM WorkOrderJpaEntity w WHERE w.equipment.id = :equipmentId")
     long countByEquipmentId(@Param("equipmentId") UUID equipmentId);
+    
+    @Query("SELECT new br.com.baggiotech.tecos_api.domain.version.ResourceVersion(e.id, " +
+           "greatest(e.updatedAt, coalesce(co.updatedAt, e.updatedAt), coalesce(cl.updatedAt, e.updatedAt))) " +
+           "FROM EquipmentJpaEntity e LEFT JOIN e.company co LEFT JOIN e.client cl " +
+           "WHERE e.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
 }
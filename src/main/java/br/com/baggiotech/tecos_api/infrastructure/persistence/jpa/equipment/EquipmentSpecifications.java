@@ -0,0 +1,51 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment;
+
+import br.com.baggiotech.tecos_api.domain.equipment.EquipmentFilter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.SearchField;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.field;
+
+public final class EquipmentSpecifications {
+
+    static final List<SearchField<EquipmentJpaEntity>> SEARCH_FIELDS = List.of(
+            field(root -> root.get("serialNumber"), 3),
+            field(root -> root.get("model"), 2),
+            field(root -> root.get("brand"), 2),
+            field(root -> root.get("type"), 1)
+    );
+
+    static final Sort RELEVANCE_TIE_BREAK = Sort.by(Sort.Order.asc("type").ignoreCase(), Sort.Order.asc("id"));
+
+    private EquipmentSpecifications() {
+    }
+
+    public static Specification<EquipmentJpaEntity> matching(EquipmentFilter filter) {
+        return Specification.where(hasCompanyId(filter.companyId()))
+                .and(hasClientId(filter.clientId()))
+                .and(filter.hasSearch() ? matchesSearch(filter.search()) : null);
+    }
+
+    public static Specification<EquipmentJpaEntity> hasCompanyId(UUID companyId) {
+        return companyId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<EquipmentJpaEntity> hasClientId(UUID clientId) {
+        return clientId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("client").get("id"), clientId);
+    }
+
+    public static Specification<EquipmentJpaEntity> matchesSearch(String search) {
+        return SearchSpecifications.matches(search, SEARCH_FIELDS);
+    }
+
+    public static Specification<EquipmentJpaEntity> orderByRelevance(String search) {
+        return SearchSpecifications.orderByRelevance(search, SEARCH_FIELDS, RELEVANCE_TIE_BREAK);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.publiclink;
 
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -8,8 +9,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -19,8 +18,7 @@ import java.util.UUID;
 @Table(name = "public_links", uniqueConstraints = {
     @UniqueConstraint(columnNames = "token")
 })
-@FilterDef(name = "companyThroughWorkOrderFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
-@Filter(name = "companyThroughWorkOrderFilter", condition = "EXISTS (SELECT 1 FROM work_orders wo WHERE wo.id = work_order_id AND wo.company_id = :companyId)")
+@Filter(name = "companyFilter", condition = "company_id = :companyId")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +33,11 @@ public class PublicLinkJpaEntity {
     @JoinColumn(name = "work_order_id", nullable = false)
     private WorkOrderJpaEntity workOrder;
     
+    // Denormalizado da OS para que o filtro de tenant seja uma igualdade indexada
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private CompanyJpaEntity company;
+    
     @Column(nullable = false, unique = true)
     private String token;
     
@@ -6,28 +6,35 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SoftDelete;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Em cache de segundo nível (região {@value #CACHE_REGION}), chaveado pelo id. O filtro de tenant
+ * só se aplica a consultas, que continuam indo ao banco; o cache atende apenas carregamentos por id.
+ */
 @Entity
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(name = "uk_users_email_company", columnNames = {"email", "company_id"})
 })
-@FilterDef(name = "companyFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
 @Filter(name = "companyFilter", condition = "company_id = :companyId")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserJpaEntity.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @SoftDelete
 public class UserJpaEntity {
+
+    public static final String CACHE_REGION = "tecos-user";
     
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
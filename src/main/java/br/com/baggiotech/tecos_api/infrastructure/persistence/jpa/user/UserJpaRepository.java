@@ -1,7 +1,10 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,28 @@ import java.util.UUID;
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
     Optional<UserJpaEntity> findByEmail(String email);
+
+    // Ignora a entrada do cache de segundo nível, que pode estar desatualizada em outra instância, e a renova
+    @Query("SELECT u FROM UserJpaEntity u WHERE u.id = :id")
+    @QueryHints({
+            @QueryHint(name = "jakarta.persistence.cache.retrieveMode", value = "BYPASS"),
+            @QueryHint(name = "jakarta.persistence.cache.storeMode", value = "REFRESH")
+    })
+    Optional<UserJpaEntity> findCurrentById(@Param("id") UUID id);
+
+    @Query("SELECT u FROM UserJpaEntity u WHERE u.email = :email")
+    @QueryHints({
+            @QueryHint(name = "jakarta.persistence.cache.retrieveMode", value = "BYPASS"),
+            @QueryHint(name = "jakarta.persistence.cache.storeMode", value = "REFRESH")
+    })
+    Optional<UserJpaEntity> findCurrentByEmail(@Param("email") String email);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserJpaEntity u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordIfCurrent(@Param("id") UUID id,
+                                @Param("currentPassword") String currentPassword,
+                                @Param("newPassword") String newPassword);
+
     boolean existsByEmail(String email);
     boolean existsByEmailAndIdNot(String email, UUID id);
     List<UserJpaEntity> findByCompanyId(UUID companyId);
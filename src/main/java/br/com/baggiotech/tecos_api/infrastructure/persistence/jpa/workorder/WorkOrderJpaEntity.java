@@ -21,6 +21,12 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "work_orders")
+@NamedEntityGraph(name = WorkOrderJpaEntity.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("equipment"),
+        @NamedAttributeNode("technician")
+})
 @FilterDef(name = "companyFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
 @Filter(name = "companyFilter", condition = "company_id = :companyId")
 @Getter
@@ -30,14 +36,18 @@ import java.util.UUID;
 @SoftDelete
 public class WorkOrderJpaEntity {
     
+    public static final String DETAIL_GRAPH = "WorkOrder.detail";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     private CompanyJpaEntity company;
     
+    // Cliente, equipamento e técnico usam @SoftDelete, o que impede o mapeamento LAZY no Hibernate;
+    // as consultas usam o grafo DETAIL_GRAPH para buscá-los no mesmo SELECT.
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "client_id", nullable = false)
     private ClientJpaEntity client;
@@ -50,7 +60,9 @@ public class WorkOrderJpaEntity {
     @JoinColumn(name = "technician_id", nullable = false)
     private UserJpaEntity technician;
     
-    @Column(nullable = false)
+    // Fora do UPDATE gerado pelo dirty checking: depois do INSERT o status só muda pelos UPDATE condicionais
+    // de WorkOrderJpaRepository, que não são revertidos por quem salvou a OS lida antes da transição
+    @Column(nullable = false, updatable = false)
     @Enumerated(EnumType.STRING)
     private br.com.baggiotech.tecos_api.domain.workorder.OrderStatus status;
     
@@ -66,7 +78,7 @@ public class WorkOrderJpaEntity {
     @Column(name = "origin_work_order_id")
     private UUID originWorkOrderId;
     
-    @Column(name = "delivered_at")
+    @Column(name = "delivered_at", updatable = false)
     private LocalDateTime deliveredAt;
     
     @CreationTimestamp
@@ -1,33 +1,114 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder;
 
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface WorkOrderJpaRepository extends JpaRepository<WorkOrderJpaEntity, UUID> {
+public interface WorkOrderJpaRepository extends JpaRepository<WorkOrderJpaEntity, UUID>,
+        JpaSpecificationExecutor<WorkOrderJpaEntity>, WorkOrderSummaryRepository {
+    
+    @Override
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
+    Optional<WorkOrderJpaEntity> findById(UUID id);
+    
+    @Override
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
+    List<WorkOrderJpaEntity> findAll();
+    
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByCompanyId(UUID companyId);
+    
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByClientId(UUID clientId);
+    
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByEquipmentId(UUID equipmentId);
+    
+    @Query("SELECT w.id FROM WorkOrderJpaEntity w WHERE w.client.id = :clientId")
+    List<UUID> findIdsByClientId(@Param("clientId") UUID clientId);
+
+    @Query("SELECT w.id FROM WorkOrderJpaEntity w WHERE w.equipment.id = :equipmentId")
+    List<UUID> findIdsByEquipmentId(@Param("equipmentId") UUID equipmentId);
+
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByTechnicianId(UUID technicianId);
+    
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByStatus(OrderStatus status);
     
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     @Query("SELECT w FROM WorkOrderJpaEntity w WHERE w.company.id = :companyId AND w.status = :status")
     List<WorkOrderJpaEntity> findByCompanyIdAndStatus(@Param("companyId") UUID companyId, @Param("status") OrderStatus status);
     
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     @Query("SELECT w FROM WorkOrderJpaEntity w WHERE w.client.id = :clientId AND w.status = :status")
     List<WorkOrderJpaEntity> findByClientIdAndStatus(@Param("clientId") UUID clientId, @Param("status") OrderStatus status);
     
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     List<WorkOrderJpaEntity> findByReturnOrder(Boolean returnOrder);
     
+    @EntityGraph(WorkOrderJpaEntity.DETAIL_GRAPH)
     @Query("SELECT w FROM WorkOrderJpaEntity w WHERE " +
            "LOWER(w.reportedDefect) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(w.internalObservations) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(w.client.name) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<WorkOrderJpaEntity> searchByReportedDefectOrInternalObservationsOrClientName(@Param("search") String search);
+    
+    @Query("SELECT w.company.id FROM WorkOrderJpaEntity w WHERE w.id = :id")
+    Optional<UUID> findCompanyIdById(@Param("id") UUID id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrderJpaEntity w SET w.status = :status, w.deliveredAt = :deliveredAt, w.updatedAt = :updatedAt " +
+           "WHERE w.id = :id AND w.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") UUID id,
+                              @Param("expectedStatus") OrderStatus expectedStatus,
+                              @Param("status") OrderStatus status,
+                              @Param("deliveredAt") LocalDateTime deliveredAt,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // SELECT ... FOR UPDATE em ordem de id: lotes concorrentes travam as mesmas OS na mesma sequência
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView(w.id, w.company.id, w.status) " +
+           "FROM WorkOrderJpaEntity w WHERE w.id IN :ids ORDER BY w.id")
+    List<WorkOrderStatusView> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.id FROM WorkOrderJpaEntity w WHERE w.id IN :ids AND w.status = :status ORDER BY w.id")
+    List<UUID> lockIdsByStatus(@Param("ids") Collection<UUID> ids, @Param("status") OrderStatus status);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrderJpaEntity w SET w.status = :status, w.deliveredAt = COALESCE(:deliveredAt, w.deliveredAt), " +
+           "w.updatedAt = :updatedAt WHERE w.id IN :ids AND w.status = :expectedStatus")
+    int updateStatusesIfCurrent(@Param("ids") Collection<UUID> ids,
+                                @Param("expectedStatus") OrderStatus expectedStatus,
+                                @Param("status") OrderStatus status,
+                                @Param("deliveredAt") LocalDateTime deliveredAt,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    
+    // Versão para GET condicional: uma leitura por chave, sem o grafo EAGER; inclui as associações
+    // cujos nomes aparecem na resposta, para que renomeá-las também mude o ETag
+    @Query("SELECT new br.com.baggiotech.tecos_api.domain.version.ResourceVersion(w.id, " +
+           "greatest(w.updatedAt, coalesce(co.updatedAt, w.updatedAt), coalesce(cl.updatedAt, w.updatedAt), " +
+           "coalesce(eq.updatedAt, w.updatedAt), coalesce(te.updatedAt, w.updatedAt))) " +
+           "FROM WorkOrderJpaEntity w LEFT JOIN w.company co LEFT JOIN w.client cl " +
+           "LEFT JOIN w.equipment eq LEFT JOIN w.technician te " +
+           "WHERE w.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
 }
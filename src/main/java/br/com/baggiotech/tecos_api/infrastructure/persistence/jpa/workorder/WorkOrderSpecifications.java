@@ -0,0 +1,86 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.SearchField;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.SearchSpecifications.field;
+
+public final class WorkOrderSpecifications {
+
+    static final List<SearchField<WorkOrderJpaEntity>> SEARCH_FIELDS = List.of(
+            field(root -> root.get("reportedDefect"), 3),
+            field(root -> root.get("client").get("name"), 2),
+            field(root -> root.get("internalObservations"), 1)
+    );
+
+    static final Sort RELEVANCE_TIE_BREAK = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private WorkOrderSpecifications() {
+    }
+
+    public static Specification<WorkOrderJpaEntity> matching(WorkOrderFilter filter) {
+        return Specification.where(hasCompanyId(filter.companyId()))
+                .and(hasClientId(filter.clientId()))
+                .and(hasEquipmentId(filter.equipmentId()))
+                .and(hasTechnicianId(filter.technicianId()))
+                .and(hasStatus(filter.status()))
+                .and(hasReturnOrder(filter.returnOrder()))
+                .and(filter.hasSearch() ? matchesSearch(filter.search()) : null);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasCompanyId(UUID companyId) {
+        return companyId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasClientId(UUID clientId) {
+        return clientId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("client").get("id"), clientId);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasEquipmentId(UUID equipmentId) {
+        return equipmentId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("equipment").get("id"), equipmentId);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasTechnicianId(UUID technicianId) {
+        return technicianId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("technician").get("id"), technicianId);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasStatus(OrderStatus status) {
+        return status == null ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<WorkOrderJpaEntity> hasReturnOrder(Boolean returnOrder) {
+        return returnOrder == null ? null
+                : (root, query, cb) -> cb.equal(root.get("returnOrder"), returnOrder);
+    }
+
+    public static Specification<WorkOrderJpaEntity> createdFrom(LocalDateTime from) {
+        return from == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<WorkOrderJpaEntity> createdBefore(LocalDateTime before) {
+        return before == null ? null
+                : (root, query, cb) -> cb.lessThan(root.get("createdAt"), before);
+    }
+
+    public static Specification<WorkOrderJpaEntity> matchesSearch(String search) {
+        return SearchSpecifications.matches(search, SEARCH_FIELDS);
+    }
+
+    public static Specification<WorkOrderJpaEntity> orderByRelevance(String search) {
+        return SearchSpecifications.orderByRelevance(search, SEARCH_FIELDS, RELEVANCE_TIE_BREAK);
+    }
+}
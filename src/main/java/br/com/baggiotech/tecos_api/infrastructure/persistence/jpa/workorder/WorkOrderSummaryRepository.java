@@ -0,0 +1,21 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface WorkOrderSummaryRepository {
+    Page<WorkOrderSummary> findSummaries(Specification<WorkOrderJpaEntity> spec, Pageable pageable);
+    List<WorkOrderSummary> findSummaries(Specification<WorkOrderJpaEntity> spec, Sort sort, int limit);
+
+    /**
+     * Percorre o resultado com um cursor do banco, lendo {@code fetchSize} linhas por vez.
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<WorkOrderSummary> streamSummaries(Specification<WorkOrderJpaEntity> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,113 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Consulta de listagem que seleciona apenas as colunas de {@link WorkOrderSummary},
+ * em vez de hidratar a entidade e suas associações.
+ */
+class WorkOrderSummaryRepositoryImpl implements WorkOrderSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<WorkOrderSummary> findSummaries(Specification<WorkOrderJpaEntity> spec, Pageable pageable) {
+        TypedQuery<WorkOrderSummary> query = entityManager.createQuery(summaryQuery(spec, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<WorkOrderSummary> findSummaries(Specification<WorkOrderJpaEntity> spec, Sort sort, int limit) {
+        return entityManager.createQuery(summaryQuery(spec, sort))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Projeção em DTO: nada entra no contexto de persistência, então a memória não cresce com o volume
+    @Override
+    public Stream<WorkOrderSummary> streamSummaries(Specification<WorkOrderJpaEntity> spec, Sort sort, int fetchSize) {
+        return entityManager.createQuery(summaryQuery(spec, sort))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<WorkOrderSummary> summaryQuery(Specification<WorkOrderJpaEntity> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<WorkOrderSummary> query = cb.createQuery(WorkOrderSummary.class);
+        Root<WorkOrderJpaEntity> root = query.from(WorkOrderJpaEntity.class);
+        Join<Object, Object> company = root.join("company", JoinType.LEFT);
+        Join<Object, Object> client = root.join("client", JoinType.LEFT);
+        Join<Object, Object> equipment = root.join("equipment", JoinType.LEFT);
+        Join<Object, Object> technician = root.join("technician", JoinType.LEFT);
+
+        query.select(cb.construct(WorkOrderSummary.class,
+                root.get("id"),
+                company.get("id"),
+                company.get("name"),
+                client.get("id"),
+                client.get("name"),
+                equipment.get("id"),
+                equipment.get("type"),
+                technician.get("id"),
+                technician.get("name"),
+                root.get("status"),
+                root.get("reportedDefect"),
+                root.get("internalObservations"),
+                root.get("returnOrder"),
+                root.get("originWorkOrderId"),
+                root.get("deliveredAt"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+        applySpecification(spec, root, query, cb);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<WorkOrderJpaEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<WorkOrderJpaEntity> root = query.from(WorkOrderJpaEntity.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpecification(Specification<WorkOrderJpaEntity> spec, Root<WorkOrderJpaEntity> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
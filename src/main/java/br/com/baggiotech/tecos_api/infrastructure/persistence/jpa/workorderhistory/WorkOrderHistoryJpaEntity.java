@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory;
 
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
 import jakarta.persistence.*;
@@ -9,8 +10,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -18,8 +17,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "work_order_histories")
-@FilterDef(name = "companyThroughWorkOrderFilter", parameters = @ParamDef(name = "companyId", type = java.util.UUID.class))
-@Filter(name = "companyThroughWorkOrderFilter", condition = "EXISTS (SELECT 1 FROM work_orders wo WHERE wo.id = work_order_id AND wo.company_id = :companyId)")
+@Filter(name = "companyFilter", condition = "company_id = :companyId")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +32,11 @@ public class WorkOrderHistoryJpaEntity {
     @JoinColumn(name = "work_order_id", nullable = false)
     private WorkOrderJpaEntity workOrder;
     
+    // Denormalizado da OS para que o filtro de tenant seja uma igualdade indexada
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private CompanyJpaEntity company;
+    
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", nullable = false)
     private UserJpaEntity user;
@@ -1,6 +1,7 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,7 +10,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface WorkOrderHistoryJpaRepository extends JpaRepository<WorkOrderHistoryJpaEntity, UUID> {
+public interface WorkOrderHistoryJpaRepository extends JpaRepository<WorkOrderHistoryJpaEntity, UUID>,
+        JpaSpecificationExecutor<WorkOrderHistoryJpaEntity> {
     
     @Query("SELECT h FROM WorkOrderHistoryJpaEntity h WHERE h.workOrder.id = :workOrderId")
     List<WorkOrderHistoryJpaEntity> findByWorkOrderId(@Param("workOrderId") UUID workOrderId);
@@ -0,0 +1,48 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Chaves estrangeiras mapeadas só como id: a escrita não carrega nem referencia as entidades
+@Entity
+@Table(name = "work_order_history_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkOrderHistoryOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "work_order_id", nullable = false)
+    private UUID workOrderId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "status_before")
+    @Enumerated(EnumType.STRING)
+    private OrderStatus statusBefore;
+
+    @Column(name = "status_after", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus statusAfter;
+
+    @Column(columnDefinition = "TEXT")
+    private String observation;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WorkOrderHistoryOutboxJpaRepository extends JpaRepository<WorkOrderHistoryOutboxJpaEntity, UUID> {
+
+    // Timeout -2 = SKIP LOCKED onde o dialeto suporta: instâncias concorrentes pegam lotes diferentes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o.id FROM WorkOrderHistoryOutboxJpaEntity o ORDER BY o.createdAt, o.id")
+    List<UUID> claimOldest(Pageable pageable);
+
+    // Invalida só o que está em work_order_histories, não as regiões de empresas e usuários
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "work_order_histories"))
+    @Query(value = "INSERT INTO work_order_histories "
+            + "(id, company_id, work_order_id, user_id, status_before, status_after, observation, created_at, updated_at) "
+            + "SELECT id, company_id, work_order_id, user_id, status_before, status_after, observation, created_at, created_at "
+            + "FROM work_order_history_outbox WHERE id IN (:ids)", nativeQuery = true)
+    int copyToHistory(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM WorkOrderHistoryOutboxJpaEntity o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") List<UUID> ids);
+}
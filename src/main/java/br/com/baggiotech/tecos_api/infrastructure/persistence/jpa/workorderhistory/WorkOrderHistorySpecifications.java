@@ -0,0 +1,26 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class WorkOrderHistorySpecifications {
+
+    private WorkOrderHistorySpecifications() {
+    }
+
+    public static Specification<WorkOrderHistoryJpaEntity> matching(UUID workOrderId, UUID userId) {
+        return Specification.where(hasWorkOrderId(workOrderId))
+                .and(hasUserId(userId));
+    }
+
+    public static Specification<WorkOrderHistoryJpaEntity> hasWorkOrderId(UUID workOrderId) {
+        return workOrderId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("workOrder").get("id"), workOrderId);
+    }
+
+    public static Specification<WorkOrderHistoryJpaEntity> hasUserId(UUID userId) {
+        return userId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+}
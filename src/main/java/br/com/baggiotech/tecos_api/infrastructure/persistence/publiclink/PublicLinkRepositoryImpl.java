@@ -4,10 +4,15 @@ import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.publiclink.PublicLinkJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.publiclink.PublicLinkJpaRepository;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,21 +24,27 @@ public class PublicLinkRepositoryImpl implements PublicLinkRepository {
 
     private final PublicLinkJpaRepository jpaRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderJpaRepository workOrderJpaRepository;
+    private final EntityWriter<PublicLinkJpaEntity> writer;
 
     public PublicLinkRepositoryImpl(PublicLinkJpaRepository jpaRepository,
-                                   WorkOrderRepository workOrderRepository) {
+                                   WorkOrderRepository workOrderRepository,
+                                   WorkOrderJpaRepository workOrderJpaRepository,
+                                   EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.workOrderRepository = workOrderRepository;
+        this.workOrderJpaRepository = workOrderJpaRepository;
+        this.writer = new EntityWriter<>(entityManager, PublicLinkJpaEntity.class, PublicLinkJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public PublicLink save(PublicLink publicLink) {
-        PublicLinkJpaEntity entity = toJpaEntity(publicLink);
-        if (publicLink.getId() != null && !jpaRepository.existsById(publicLink.getId())) {
-            entity.setId(null);
-        }
-        PublicLinkJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        PublicLinkJpaEntity entity = writer.write(publicLink.getId(), target -> copyToEntity(publicLink, target));
+        publicLink.setId(entity.getId());
+        publicLink.setCreatedAt(entity.getCreatedAt());
+        publicLink.setUpdatedAt(entity.getUpdatedAt());
+        return publicLink;
     }
 
     @Override
@@ -81,17 +92,17 @@ public class PublicLinkRepositoryImpl implements PublicLinkRepository {
     private PublicLinkJpaEntity toJpaEntity(PublicLink publicLink) {
         PublicLinkJpaEntity entity = new PublicLinkJpaEntity();
         entity.setId(publicLink.getId());
-        
-        if (publicLink.getWorkOrder() != null) {
-            WorkOrderJpaEntity workOrderEntity = new WorkOrderJpaEntity();
-            workOrderEntity.setId(publicLink.getWorkOrder().getId());
-            entity.setWorkOrder(workOrderEntity);
-        }
-        
+        copyToEntity(publicLink, entity);
+        return entity;
+    }
+
+    private void copyToEntity(PublicLink publicLink, PublicLinkJpaEntity entity) {
+        entity.setWorkOrder(publicLink.getWorkOrder() != null
+                ? writer.reference(WorkOrderJpaEntity.class, publicLink.getWorkOrder().getId()) : null);
+        entity.setCompany(publicLink.getWorkOrder() != null ? companyOf(publicLink.getWorkOrder()) : null);
         entity.setToken(publicLink.getToken());
         entity.setCreatedAt(publicLink.getCreatedAt());
         entity.setUpdatedAt(publicLink.getUpdatedAt());
-        return entity;
     }
 
     private PublicLink toDomain(PublicLinkJpaEntity entity) {
@@ -115,4 +126,11 @@ public class PublicLinkRepositoryImpl implements PublicLinkRepository {
                 entity.getUpdatedAt()
         );
     }
+
+    private CompanyJpaEntity companyOf(WorkOrder workOrder) {
+        UUID companyId = workOrder.getCompany() != null
+                ? workOrder.getCompany().getId()
+                : workOrderJpaRepository.findCompanyIdById(workOrder.getId()).orElse(null);
+        return writer.reference(CompanyJpaEntity.class, companyId);
+    }
 }
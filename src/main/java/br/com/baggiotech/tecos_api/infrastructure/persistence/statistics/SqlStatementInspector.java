@@ -0,0 +1,19 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.statistics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta cada comando preparado pelo Hibernate no {@link SqlStatementStats} da thread.
+ * Registrado em hibernate.session_factory.statement_inspector; o SQL segue inalterado.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+        return sql;
+    }
+}
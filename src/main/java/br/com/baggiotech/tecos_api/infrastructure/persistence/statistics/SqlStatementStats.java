@@ -0,0 +1,69 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.statistics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Comandos SQL e tempo de banco acumulados em um escopo (uma requisição, um teste), alimentados por
+ * {@link SqlStatementInspector} e {@link SqlStatementTimingListener} na thread que abriu o escopo.
+ * Escopos aninhados somam no escopo externo ao fechar. Sem escopo aberto (jobs, streams assíncronos), nada é contado.
+ */
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> current = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long nanos;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatementStats open() {
+        SqlStatementStats stats = new SqlStatementStats(current.get());
+        current.set(stats);
+        return stats;
+    }
+
+    static SqlStatementStats current() {
+        return current.get();
+    }
+
+    /** Encerra o escopo, devolvendo a thread ao escopo externo (se houver) e somando nele o que foi contado. */
+    public void close() {
+        if (parent != null) {
+            parent.statements += statements;
+            parent.nanos += nanos;
+            executions.forEach((sql, count) -> parent.executions.merge(sql, count, Integer::sum));
+            current.set(parent);
+        } else {
+            current.remove();
+        }
+    }
+
+    void statement(String sql) {
+        statements++;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void time(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /** O comando repetido mais vezes no escopo; muitas repetições do mesmo SELECT indicam N+1. */
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return executions.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
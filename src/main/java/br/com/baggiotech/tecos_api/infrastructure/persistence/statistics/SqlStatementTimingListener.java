@@ -0,0 +1,39 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.statistics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Soma o tempo de execução JDBC (comandos e lotes) no {@link SqlStatementStats} da thread.
+ * Uma instância por sessão (hibernate.session.events.auto), então o início pode ficar em um campo.
+ */
+public class SqlStatementTimingListener implements SessionEventListener {
+
+    private long start;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.time(System.nanoTime() - start);
+        }
+    }
+}
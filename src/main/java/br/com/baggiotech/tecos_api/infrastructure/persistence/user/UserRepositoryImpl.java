@@ -3,10 +3,13 @@ package br.com.baggiotech.tecos_api.infrastructure.persistence.user;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,19 +20,21 @@ import java.util.stream.Collectors;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
+    private final EntityWriter<UserJpaEntity> writer;
 
-    public UserRepositoryImpl(UserJpaRepository jpaRepository) {
+    public UserRepositoryImpl(UserJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.writer = new EntityWriter<>(entityManager, UserJpaEntity.class, UserJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public User save(User user) {
-        UserJpaEntity entity = toJpaEntity(user);
-        if (user.getId() != null && !jpaRepository.existsById(user.getId())) {
-            entity.setId(null);
-        }
-        UserJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        UserJpaEntity entity = writer.write(user.getId(), target -> copyToEntity(user, target));
+        user.setId(entity.getId());
+        user.setCreatedAt(entity.getCreatedAt());
+        user.setUpdatedAt(entity.getUpdatedAt());
+        return user;
     }
 
     @Override
@@ -38,6 +43,12 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<User> findCurrentById(UUID id) {
+        return jpaRepository.findCurrentById(id)
+                .map(this::toDomain);
+    }
+
     @Override
     public List<User> findAll() {
         return jpaRepository.findAll().stream()
@@ -61,6 +72,20 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(this::toDomain);
     }
 
+    // Transação de escrita curta só para a leitura ir ao primário, e não à réplica atrasada
+    @Override
+    @Transactional
+    public Optional<User> findCurrentByEmail(String email) {
+        return jpaRepository.findCurrentByEmail(email)
+                .map(this::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean updatePasswordIfCurrent(UUID id, String currentPassword, String newPassword) {
+        return jpaRepository.updatePasswordIfCurrent(id, currentPassword, newPassword) > 0;
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
@@ -115,16 +140,9 @@ public class UserRepositoryImpl implements UserRepository {
                 .collect(Collectors.toList());
     }
 
-    private UserJpaEntity toJpaEntity(User user) {
-        UserJpaEntity entity = new UserJpaEntity();
-        entity.setId(user.getId());
-        
-        if (user.getCompany() != null) {
-            CompanyJpaEntity companyEntity = new CompanyJpaEntity();
-            companyEntity.setId(user.getCompany().getId());
-            entity.setCompany(companyEntity);
-        }
-        
+    private void copyToEntity(User user, UserJpaEntity entity) {
+        entity.setCompany(user.getCompany() != null
+                ? writer.reference(CompanyJpaEntity.class, user.getCompany().getId()) : null);
         entity.setName(user.getName());
         entity.setEmail(user.getEmail());
         entity.setPassword(user.getPassword());
@@ -133,7 +151,6 @@ public class UserRepositoryImpl implements UserRepository {
         entity.setCreatedAt(user.getCreatedAt());
         entity.setUpdatedAt(user.getUpdatedAt());
         entity.setDeletedAt(user.getDeletedAt());
-        return entity;
     }
 
     private User toDomain(UserJpaEntity entity) {
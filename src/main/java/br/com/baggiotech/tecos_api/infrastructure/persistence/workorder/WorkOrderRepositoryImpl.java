@@ -3,40 +3,103 @@ package br.com.baggiotech.tecos_api.infrastructure.persistence.workorder;
 import br.com.baggiotech.tecos_api.domain.client.Client;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.KeysetSpecifications;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderSpecifications;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class WorkOrderRepositoryImpl implements WorkOrderRepository {
 
+    static final int STREAM_FETCH_SIZE = 500;
+    private static final Sort EXPORT_SORT = Sort.by("createdAt", "id");
+
     private final WorkOrderJpaRepository jpaRepository;
+    private final EntityWriter<WorkOrderJpaEntity> writer;
 
-    public WorkOrderRepositoryImpl(WorkOrderJpaRepository jpaRepository) {
+    public WorkOrderRepositoryImpl(WorkOrderJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.writer = new EntityWriter<>(entityManager, WorkOrderJpaEntity.class, WorkOrderJpaEntity::new);
     }
 
+    // O agregado recebido já está completo; apenas id e datas geradas voltam da entidade
     @Override
+    @Transactional
     public WorkOrder save(WorkOrder workOrder) {
-        WorkOrderJpaEntity entity = toJpaEntity(workOrder);
-        if (workOrder.getId() != null && !jpaRepository.existsById(workOrder.getId())) {
-            entity.setId(null);
+        WorkOrderJpaEntity entity = writer.write(workOrder.getId(), target -> copyToEntity(workOrder, target));
+        workOrder.setId(entity.getId());
+        workOrder.setCreatedAt(entity.getCreatedAt());
+        workOrder.setUpdatedAt(entity.getUpdatedAt());
+        return workOrder;
+    }
+
+    @Override
+    @Transactional
+    public boolean compareAndSetStatus(WorkOrder workOrder, OrderStatus expectedStatus) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int updated = jpaRepository.updateStatusIfCurrent(workOrder.getId(), expectedStatus,
+                workOrder.getStatus(), workOrder.getDeliveredAt(), updatedAt);
+        if (updated == 0) {
+            return false;
         }
-        WorkOrderJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        workOrder.setUpdatedAt(updatedAt);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<WorkOrderStatusView> findStatusesByIdIn(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : jpaRepository.findStatusesByIdIn(ids);
+    }
+
+    // As OS ainda em expectedStatus são travadas antes do UPDATE: até o commit nenhuma outra transação
+    // muda o status delas, então as travadas são exatamente as alteradas por esta chamada
+    @Override
+    @Transactional
+    public Set<UUID> compareAndSetStatuses(Collection<UUID> ids, OrderStatus expectedStatus, OrderStatus status) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> locked = jpaRepository.lockIdsByStatus(ids, expectedStatus);
+        if (locked.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        LocalDateTime deliveredAt = status == OrderStatus.ENTREGUE ? updatedAt : null;
+        jpaRepository.updateStatusesIfCurrent(locked, expectedStatus, status, deliveredAt, updatedAt);
+        return new HashSet<>(locked);
     }
 
     @Override
@@ -45,6 +108,11 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -63,6 +131,32 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<WorkOrderSummary> findSummaries(WorkOrderFilter filter, Pageable pageable) {
+        Specification<WorkOrderJpaEntity> spec = WorkOrderSpecifications.matching(filter);
+        if (filter.hasSearch() && pageable.getSort().isUnsorted()) {
+            spec = spec.and(WorkOrderSpecifications.orderByRelevance(filter.search()));
+        }
+        return jpaRepository.findSummaries(spec, pageable);
+    }
+
+    @Override
+    public CursorPage<WorkOrderSummary> findSummariesAfter(WorkOrderFilter filter, Cursor cursor, int limit) {
+        List<WorkOrderSummary> fetched = jpaRepository.findSummaries(
+                WorkOrderSpecifications.matching(filter).and(KeysetSpecifications.after(cursor)),
+                KeysetSpecifications.KEYSET_SORT, limit + 1);
+        return CursorPage.of(fetched, limit, summary -> new Cursor(summary.createdAt(), summary.id()));
+    }
+
+    @Override
+    public Stream<WorkOrderSummary> streamSummaries(WorkOrderFilter filter, LocalDateTime createdFrom,
+                                                   LocalDateTime createdBefore) {
+        Specification<WorkOrderJpaEntity> spec = WorkOrderSpecifications.matching(filter)
+                .and(WorkOrderSpecifications.createdFrom(createdFrom))
+                .and(WorkOrderSpecifications.createdBefore(createdBefore));
+        return jpaRepository.streamSummaries(spec, EXPORT_SORT, STREAM_FETCH_SIZE);
+    }
+
     @Override
     public List<WorkOrder> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -84,6 +178,16 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UUID> findIdsByClientId(UUID clientId) {
+        return jpaRepository.findIdsByClientId(clientId);
+    }
+
+    @Override
+    public List<UUID> findIdsByEquipmentId(UUID equipmentId) {
+        return jpaRepository.findIdsByEquipmentId(equipmentId);
+    }
+
     @Override
     public List<WorkOrder> findByTechnicianId(UUID technicianId) {
         return jpaRepository.findByTechnicianId(technicianId).stream()
@@ -129,77 +233,46 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
     private WorkOrderJpaEntity toJpaEntity(WorkOrder workOrder) {
         WorkOrderJpaEntity entity = new WorkOrderJpaEntity();
         entity.setId(workOrder.getId());
-        
-        if (workOrder.getCompany() != null) {
-            CompanyJpaEntity companyEntity = new CompanyJpaEntity();
-            companyEntity.setId(workOrder.getCompany().getId());
-            entity.setCompany(companyEntity);
-        }
-        
-        if (workOrder.getClient() != null) {
-            ClientJpaEntity clientEntity = new ClientJpaEntity();
-            clientEntity.setId(workOrder.getClient().getId());
-            entity.setClient(clientEntity);
-        }
-        
-        if (workOrder.getEquipment() != null) {
-            EquipmentJpaEntity equipmentEntity = new EquipmentJpaEntity();
-            equipmentEntity.setId(workOrder.getEquipment().getId());
-            entity.setEquipment(equipmentEntity);
-        }
-        
-        if (workOrder.getTechnician() != null) {
-            UserJpaEntity technicianEntity = new UserJpaEntity();
-            technicianEntity.setId(workOrder.getTechnician().getId());
-            entity.setTechnician(technicianEntity);
+        copyToEntity(workOrder, entity);
+        return entity;
+    }
+
+    private void copyToEntity(WorkOrder workOrder, WorkOrderJpaEntity entity) {
+        entity.setCompany(workOrder.getCompany() != null
+                ? writer.reference(CompanyJpaEntity.class, workOrder.getCompany().getId()) : null);
+        entity.setClient(workOrder.getClient() != null
+                ? writer.reference(ClientJpaEntity.class, workOrder.getClient().getId()) : null);
+        entity.setEquipment(workOrder.getEquipment() != null
+                ? writer.reference(EquipmentJpaEntity.class, workOrder.getEquipment().getId()) : null);
+        entity.setTechnician(workOrder.getTechnician() != null
+                ? writer.reference(UserJpaEntity.class, workOrder.getTechnician().getId()) : null);
+        // Status e entrega só no INSERT; em OS existentes mudam por compareAndSetStatus(es)
+        if (entity.getStatus() == null) {
+            entity.setStatus(workOrder.getStatus());
+            entity.setDeliveredAt(workOrder.getDeliveredAt());
         }
-        
-        entity.setStatus(workOrder.getStatus());
         entity.setReportedDefect(workOrder.getReportedDefect());
         entity.setInternalObservations(workOrder.getInternalObservations());
         entity.setReturnOrder(workOrder.getReturnOrder());
         entity.setOriginWorkOrderId(workOrder.getOriginWorkOrderId());
-        entity.setDeliveredAt(workOrder.getDeliveredAt());
         entity.setCreatedAt(workOrder.getCreatedAt());
         entity.setUpdatedAt(workOrder.getUpdatedAt());
         entity.setDeletedAt(workOrder.getDeletedAt());
-        return entity;
     }
 
-    private WorkOrder toDomain(WorkOrderJpaEntity entity) {
+    WorkOrder toDomain(WorkOrderJpaEntity entity) {
         Company company = null;
         if (entity.getCompany() != null) {
-            company = new Company(
-                    entity.getCompany().getId(),
-                    entity.getCompany().getName(),
-                    entity.getCompany().getEmail(),
-                    entity.getCompany().getWhatsapp(),
-                    entity.getCompany().getLogoUrl(),
-                    entity.getCompany().getIsActive(),
-                    entity.getCompany().getCreatedAt(),
-                    entity.getCompany().getUpdatedAt()
-            );
+            company = toCompany(entity.getCompany());
         }
         
+        // Associações de segundo nível não fazem parte do grafo: apenas o id é copiado,
+        // sem inicializar o proxy.
         Client client = null;
         if (entity.getClient() != null) {
-            Company clientCompany = null;
-            if (entity.getClient().getCompany() != null) {
-                clientCompany = new Company(
-                        entity.getClient().getCompany().getId(),
-                        entity.getClient().getCompany().getName(),
-                        entity.getClient().getCompany().getEmail(),
-                        entity.getClient().getCompany().getWhatsapp(),
-                        entity.getClient().getCompany().getLogoUrl(),
-                        entity.getClient().getCompany().getIsActive(),
-                        entity.getClient().getCompany().getCreatedAt(),
-                        entity.getClient().getCompany().getUpdatedAt()
-                );
-            }
-            
             client = new Client(
                     entity.getClient().getId(),
-                    clientCompany,
+                    companyReference(entity.getClient().getCompany()),
                     entity.getClient().getName(),
                     entity.getClient().getPhone(),
                     entity.getClient().getEmail(),
@@ -214,54 +287,15 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
         
         Equipment equipment = null;
         if (entity.getEquipment() != null) {
-            Company equipmentCompany = null;
-            if (entity.getEquipment().getCompany() != null) {
-                equipmentCompany = new Company(
-                        entity.getEquipment().getCompany().getId(),
-                        entity.getEquipment().getCompany().getName(),
-                        entity.getEquipment().getCompany().getEmail(),
-                        entity.getEquipment().getCompany().getWhatsapp(),
-                        entity.getEquipment().getCompany().getLogoUrl(),
-                        entity.getEquipment().getCompany().getIsActive(),
-                        entity.getEquipment().getCompany().getCreatedAt(),
-                        entity.getEquipment().getCompany().getUpdatedAt()
-                );
-            }
-            
             Client equipmentClient = null;
             if (entity.getEquipment().getClient() != null) {
-                Company equipmentClientCompany = null;
-                if (entity.getEquipment().getClient().getCompany() != null) {
-                    equipmentClientCompany = new Company(
-                            entity.getEquipment().getClient().getCompany().getId(),
-                            entity.getEquipment().getClient().getCompany().getName(),
-                            entity.getEquipment().getClient().getCompany().getEmail(),
-                            entity.getEquipment().getClient().getCompany().getWhatsapp(),
-                            entity.getEquipment().getClient().getCompany().getLogoUrl(),
-                            entity.getEquipment().getClient().getCompany().getIsActive(),
-                            entity.getEquipment().getClient().getCompany().getCreatedAt(),
-                            entity.getEquipment().getClient().getCompany().getUpdatedAt()
-                    );
-                }
-                
-                equipmentClient = new Client(
-                        entity.getEquipment().getClient().getId(),
-                        equipmentClientCompany,
-                        entity.getEquipment().getClient().getName(),
-                        entity.getEquipment().getClient().getPhone(),
-                        entity.getEquipment().getClient().getEmail(),
-                        entity.getEquipment().getClient().getCpf(),
-                        entity.getEquipment().getClient().getObservations(),
-                        entity.getEquipment().getClient().getIsActive(),
-                        entity.getEquipment().getClient().getCreatedAt(),
-                        entity.getEquipment().getClient().getUpdatedAt(),
-                        entity.getEquipment().getClient().getDeletedAt()
-                );
+                equipmentClient = new Client();
+                equipmentClient.setId(entity.getEquipment().getClient().getId());
             }
             
             equipment = new Equipment(
                     entity.getEquipment().getId(),
-                    equipmentCompany,
+                    companyReference(entity.getEquipment().getCompany()),
                     equipmentClient,
                     entity.getEquipment().getType(),
                     entity.getEquipment().getBrand(),
@@ -274,28 +308,15 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
             );
         }
         
+        // O hash de senha do técnico nunca é copiado para a ordem de serviço.
         User technician = null;
         if (entity.getTechnician() != null) {
-            Company technicianCompany = null;
-            if (entity.getTechnician().getCompany() != null) {
-                technicianCompany = new Company(
-                        entity.getTechnician().getCompany().getId(),
-                        entity.getTechnician().getCompany().getName(),
-                        entity.getTechnician().getCompany().getEmail(),
-                        entity.getTechnician().getCompany().getWhatsapp(),
-                        entity.getTechnician().getCompany().getLogoUrl(),
-                        entity.getTechnician().getCompany().getIsActive(),
-                        entity.getTechnician().getCompany().getCreatedAt(),
-                        entity.getTechnician().getCompany().getUpdatedAt()
-                );
-            }
-            
             technician = new User(
                     entity.getTechnician().getId(),
-                    technicianCompany,
+                    companyReference(entity.getTechnician().getCompany()),
                     entity.getTechnician().getName(),
                     entity.getTechnician().getEmail(),
-                    entity.getTechnician().getPassword(),
+                    null,
                     entity.getTechnician().getType(),
                     entity.getTechnician().getIsActive(),
                     entity.getTechnician().getCreatedAt(),
@@ -321,4 +342,26 @@ public class WorkOrderRepositoryImpl implements WorkOrderRepository {
                 entity.getDeletedAt()
         );
     }
+
+    private Company toCompany(CompanyJpaEntity entity) {
+        return new Company(
+                entity.getId(),
+                entity.getName(),
+                entity.getEmail(),
+                entity.getWhatsapp(),
+                entity.getLogoUrl(),
+                entity.getIsActive(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    private Company companyReference(CompanyJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        Company company = new Company();
+        company.setId(entity.getId());
+        return company;
+    }
 }
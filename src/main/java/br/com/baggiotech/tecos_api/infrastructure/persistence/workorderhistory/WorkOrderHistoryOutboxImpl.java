@@ -0,0 +1,53 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.workorderhistory;
+
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryEvent;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryOutbox;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryOutboxJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryOutboxJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class WorkOrderHistoryOutboxImpl implements WorkOrderHistoryOutbox {
+
+    private final WorkOrderHistoryOutboxJpaRepository jpaRepository;
+
+    public WorkOrderHistoryOutboxImpl(WorkOrderHistoryOutboxJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    // MANDATORY: a pendência só é durável se for confirmada junto com a troca de status
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(WorkOrderHistoryEvent event) {
+        WorkOrderHistoryOutboxJpaEntity entity = new WorkOrderHistoryOutboxJpaEntity();
+        entity.setCompanyId(event.companyId());
+        entity.setWorkOrderId(event.workOrderId());
+        entity.setUserId(event.userId());
+        entity.setStatusBefore(event.statusBefore());
+        entity.setStatusAfter(event.statusAfter());
+        entity.setObservation(event.observation());
+        entity.setCreatedAt(event.occurredAt());
+        jpaRepository.save(entity);
+    }
+
+    /**
+     * Move até {@code limit} pendências, das mais antigas, para work_order_histories: um INSERT ... SELECT
+     * e um DELETE por lote, na mesma transação. Retorna quantas foram movidas.
+     */
+    @Transactional
+    public int relay(int limit) {
+        List<UUID> ids = jpaRepository.claimOldest(PageRequest.ofSize(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jpaRepository.copyToHistory(ids);
+        jpaRepository.deleteByIds(ids);
+        return ids.size();
+    }
+}
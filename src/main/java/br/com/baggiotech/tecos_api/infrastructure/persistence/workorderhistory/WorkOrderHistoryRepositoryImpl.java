@@ -1,16 +1,25 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.workorderhistory;
 
 import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
 import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.EntityWriter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.KeysetSpecifications;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistorySpecifications;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,21 +31,36 @@ public class WorkOrderHistoryRepositoryImpl implements WorkOrderHistoryRepositor
 
     private final WorkOrderHistoryJpaRepository jpaRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderJpaRepository workOrderJpaRepository;
+    private final EntityWriter<WorkOrderHistoryJpaEntity> writer;
 
     public WorkOrderHistoryRepositoryImpl(WorkOrderHistoryJpaRepository jpaRepository,
-                                         WorkOrderRepository workOrderRepository) {
+                                         WorkOrderRepository workOrderRepository,
+                                         WorkOrderJpaRepository workOrderJpaRepository,
+                                         EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.workOrderRepository = workOrderRepository;
+        this.workOrderJpaRepository = workOrderJpaRepository;
+        this.writer = new EntityWriter<>(entityManager, WorkOrderHistoryJpaEntity.class, WorkOrderHistoryJpaEntity::new);
     }
 
     @Override
+    @Transactional
     public WorkOrderHistory save(WorkOrderHistory workOrderHistory) {
-        WorkOrderHistoryJpaEntity entity = toJpaEntity(workOrderHistory);
-        if (workOrderHistory.getId() != null && !jpaRepository.existsById(workOrderHistory.getId())) {
-            entity.setId(null);
-        }
-        WorkOrderHistoryJpaEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        WorkOrderHistoryJpaEntity entity = writer.write(workOrderHistory.getId(),
+                target -> copyToEntity(workOrderHistory, target));
+        workOrderHistory.setId(entity.getId());
+        workOrderHistory.setCreatedAt(entity.getCreatedAt());
+        workOrderHistory.setUpdatedAt(entity.getUpdatedAt());
+        return workOrderHistory;
+    }
+
+    // Os INSERTs vão para o banco em lotes no flush (hibernate.jdbc.batch_size)
+    @Override
+    @Transactional
+    public List<WorkOrderHistory> saveAll(List<WorkOrderHistory> histories) {
+        histories.forEach(this::save);
+        return histories;
     }
 
     @Override
@@ -57,6 +81,15 @@ public class WorkOrderHistoryRepositoryImpl implements WorkOrderHistoryRepositor
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<WorkOrderHistory> findAfter(UUID workOrderId, UUID userId, Cursor cursor, int limit) {
+        List<WorkOrderHistoryJpaEntity> fetched = jpaRepository.findBy(
+                WorkOrderHistorySpecifications.matching(workOrderId, userId).and(KeysetSpecifications.after(cursor)),
+                query -> query.sortBy(KeysetSpecifications.KEYSET_SORT).limit(limit + 1).all());
+        return CursorPage.of(fetched, limit, entity -> new Cursor(entity.getCreatedAt(), entity.getId()))
+                .map(this::toDomain);
+    }
+
     @Override
     public List<WorkOrderHistory> findByWorkOrderId(UUID workOrderId) {
         return jpaRepository.findByWorkOrderId(workOrderId).stream()
@@ -78,28 +111,17 @@ public class WorkOrderHistoryRepositoryImpl implements WorkOrderHistoryRepositor
                 .collect(Collectors.toList());
     }
 
-    private WorkOrderHistoryJpaEntity toJpaEntity(WorkOrderHistory workOrderHistory) {
-        WorkOrderHistoryJpaEntity entity = new WorkOrderHistoryJpaEntity();
-        entity.setId(workOrderHistory.getId());
-        
-        if (workOrderHistory.getWorkOrder() != null) {
-            WorkOrderJpaEntity workOrderEntity = new WorkOrderJpaEntity();
-            workOrderEntity.setId(workOrderHistory.getWorkOrder().getId());
-            entity.setWorkOrder(workOrderEntity);
-        }
-        
-        if (workOrderHistory.getUser() != null) {
-            UserJpaEntity userEntity = new UserJpaEntity();
-            userEntity.setId(workOrderHistory.getUser().getId());
-            entity.setUser(userEntity);
-        }
-        
+    private void copyToEntity(WorkOrderHistory workOrderHistory, WorkOrderHistoryJpaEntity entity) {
+        entity.setWorkOrder(workOrderHistory.getWorkOrder() != null
+                ? writer.reference(WorkOrderJpaEntity.class, workOrderHistory.getWorkOrder().getId()) : null);
+        entity.setCompany(workOrderHistory.getWorkOrder() != null ? companyOf(workOrderHistory.getWorkOrder()) : null);
+        entity.setUser(workOrderHistory.getUser() != null
+                ? writer.reference(UserJpaEntity.class, workOrderHistory.getUser().getId()) : null);
         entity.setStatusBefore(workOrderHistory.getStatusBefore());
         entity.setStatusAfter(workOrderHistory.getStatusAfter());
         entity.setObservation(workOrderHistory.getObservation());
         entity.setCreatedAt(workOrderHistory.getCreatedAt());
         entity.setUpdatedAt(workOrderHistory.getUpdatedAt());
-        return entity;
     }
 
     private WorkOrderHistory toDomain(WorkOrderHistoryJpaEntity entity) {
@@ -156,4 +178,11 @@ public class WorkOrderHistoryRepositoryImpl implements WorkOrderHistoryRepositor
                 entity.getUpdatedAt()
         );
     }
+
+    private CompanyJpaEntity companyOf(WorkOrder workOrder) {
+        UUID companyId = workOrder.getCompany() != null
+                ? workOrder.getCompany().getId()
+                : workOrderJpaRepository.findCompanyIdById(workOrder.getId()).orElse(null);
+        return writer.reference(CompanyJpaEntity.class, companyId);
+    }
 }
@@ -0,0 +1,7 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+/**
+ * Par emitido no login e na renovação; {@code expiresIn} é a validade do token de acesso, em segundos.
+ */
+public record AuthTokens(String accessToken, String refreshToken, long expiresIn) {
+}
@@ -0,0 +1,11 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+/**
+ * Token ausente, malformado, com assinatura inválida, expirado ou de uso diferente do esperado. Vira 401.
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,22 +1,168 @@
 package br.com.baggiotech.tecos_api.infrastructure.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt em um pool próprio e limitado, fora das threads do Tomcat: um pico de logins ocupa no máximo
+ * tecos.security.password.threads núcleos e o resto da API segue respondendo. Com a fila cheia, ou se o
+ * hash não sair em tecos.security.password.max-wait, a chamada falha na hora com
+ * {@link PasswordHashingRejectedException} (503) em vez de empilhar requisições.
+ * O custo é tecos.security.password.bcrypt-cost; com bcrypt-target, sobe na subida até o hash levar
+ * perto desse tempo nesta máquina. Hashes gravados com outro custo são refeitos no login ({@link #needsRehash}).
+ */
 @Component
 public class PasswordEncoder {
 
+    static final String EXECUTOR_NAME = "tecos_password_hash";
+    static final String REJECTED_METRIC = "tecos_password_hash_rejected_total";
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoder.class);
+    private static final int MAX_COST = 16;
+
     private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration maxWait;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    @Autowired
+    public PasswordEncoder(MeterRegistry meterRegistry,
+                           @Value("${tecos.security.password.bcrypt-cost:10}") int cost,
+                           @Value("${tecos.security.password.bcrypt-target:0s}") Duration target,
+                           @Value("${tecos.security.password.threads:0}") int threads,
+                           @Value("${tecos.security.password.queue-capacity:64}") int queueCapacity,
+                           @Value("${tecos.security.password.max-wait:2s}") Duration maxWait) {
+        this(meterRegistry, calibrate(cost, target), newPool(threads, queueCapacity), maxWait);
+    }
 
-    public PasswordEncoder() {
-        this.encoder = new BCryptPasswordEncoder();
+    PasswordEncoder(MeterRegistry meterRegistry, int cost, ThreadPoolExecutor pool, Duration maxWait) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.cost = cost;
+        this.pool = pool;
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, EXECUTOR_NAME);
+        this.maxWait = maxWait;
+        this.queueFull = Counter.builder(REJECTED_METRIC)
+                .description("Password hashing requests rejected because the executor was saturated")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder(REJECTED_METRIC)
+                .description("Password hashing requests rejected because the executor was saturated")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
     }
 
     public String encode(String rawPassword) {
-        return encoder.encode(rawPassword);
+        return submit(() -> encoder.encode(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        return encoder.matches(rawPassword, encodedPassword);
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Indica se o hash gravado usa um custo diferente do atual e deve ser refeito com a senha em claro,
+     * o que só acontece logo após um {@link #matches} bem-sucedido.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != cost;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw new PasswordHashingRejectedException();
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Tira da fila o hash que ninguém mais espera, liberando a vaga para a próxima requisição
+            future.cancel(true);
+            pool.purge();
+            timedOut.increment();
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Formato $2a$10$...: o custo são os dois dígitos após o segundo '$'
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Cada ponto de custo dobra o tempo: mede o custo mínimo e sobe enquanto couber no alvo
+    private static int calibrate(int minimumCost, Duration target) {
+        if (target.isZero() || target.isNegative()) {
+            return minimumCost;
+        }
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minimumCost);
+        probe.encode("calibracao");
+        long start = System.nanoTime();
+        probe.encode("calibracao");
+        long elapsed = System.nanoTime() - start;
+
+        int cost = minimumCost;
+        while (cost < MAX_COST && elapsed * 2 <= target.toNanos()) {
+            elapsed *= 2;
+            cost++;
+        }
+        log.info("Custo do BCrypt calibrado em {} (~{} ms por hash, alvo {} ms)",
+                cost, TimeUnit.NANOSECONDS.toMillis(elapsed), target.toMillis());
+        return cost;
+    }
+
+    private static ThreadPoolExecutor newPool(int threads, int queueCapacity) {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
     }
 }
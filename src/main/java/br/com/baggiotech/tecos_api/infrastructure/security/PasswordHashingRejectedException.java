@@ -0,0 +1,11 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+/**
+ * O pool de hash de senhas está saturado (fila cheia ou espera acima de max-wait). Vira 503 com Retry-After.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("Serviço temporariamente sobrecarregado. Tente novamente em instantes.");
+    }
+}
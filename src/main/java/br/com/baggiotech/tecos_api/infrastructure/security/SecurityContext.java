@@ -2,29 +2,58 @@ package br.com.baggiotech.tecos_api.infrastructure.security;
 
 import java.util.UUID;
 
+/**
+ * Contexto de tenant da thread atual, guardado como um único {@link TenantContext}.
+ * {@link #runWith} e {@link #wrap} delimitam o contexto a um bloco e o restauram na saída, no mesmo
+ * formato de {@code ScopedValue.where(...).run(...)}: quando o projeto passar a compilar para um JDK com
+ * ScopedValue estável, só esta classe muda. Os setters continuam para o interceptor da requisição.
+ */
 public class SecurityContext {
     
-    private static final ThreadLocal<UUID> currentCompanyId = new ThreadLocal<>();
-    private static final ThreadLocal<UUID> currentUserId = new ThreadLocal<>();
+    private static final ThreadLocal<TenantContext> current = new ThreadLocal<>();
+    
+    public static TenantContext current() {
+        TenantContext context = current.get();
+        return context != null ? context : TenantContext.EMPTY;
+    }
     
     public static void setCurrentCompanyId(UUID companyId) {
-        currentCompanyId.set(companyId);
+        current.set(current().withCompanyId(companyId));
     }
     
     public static UUID getCurrentCompanyId() {
-        return currentCompanyId.get();
+        return current().companyId();
     }
     
     public static void setCurrentUserId(UUID userId) {
-        currentUserId.set(userId);
+        current.set(current().withUserId(userId));
     }
     
     public static UUID getCurrentUserId() {
-        return currentUserId.get();
+        return current().userId();
     }
     
     public static void clear() {
-        currentCompanyId.remove();
-        currentUserId.remove();
+        current.remove();
+    }
+    
+    public static void runWith(TenantContext context, Runnable task) {
+        TenantContext previous = current.get();
+        current.set(context);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                current.set(previous);
+            } else {
+                current.remove();
+            }
+        }
+    }
+    
+    /** Captura o contexto da thread atual para rodar {@code task} em outra thread com o mesmo tenant. */
+    public static Runnable wrap(Runnable task) {
+        TenantContext captured = current();
+        return () -> runWith(captured, task);
     }
 }
@@ -1,43 +1,86 @@
 package br.com.baggiotech.tecos_api.infrastructure.security;
 
-import br.com.baggiotech.tecos_api.application.user.GetUserByIdUseCase;
-import br.com.baggiotech.tecos_api.domain.user.User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import java.util.UUID;
 
+/**
+ * Monta o {@link SecurityContext} da requisição a partir do token de acesso em Authorization: Bearer,
+ * validando só a assinatura, sem ir ao banco. Token ausente, inválido ou expirado vira 401: sem usuário
+ * não há tenant, e sem tenant o filtro de empresa não é ligado. As rotas públicas ficam fora do interceptor
+ * ({@link WebConfig}).
+ * Só com tecos.security.legacy-user-header=true, ligado explicitamente durante a migração dos clientes,
+ * requisições sem token ainda aceitam o X-User-Id antigo (consultado no {@link UserTenantCache}).
+ * Esse cabeçalho não é assinado: qualquer um que conheça um id de usuário age em nome dele.
+ */
 @Component
-public class SecurityContextInterceptor implements HandlerInterceptor {
-    
-    private final GetUserByIdUseCase getUserByIdUseCase;
+public class SecurityContextInterceptor implements AsyncHandlerInterceptor {
+
+    static final String BEARER_PREFIX = "Bearer ";
+    static final String LEGACY_USER_HEADER = "X-User-Id";
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityContextInterceptor.class);
+
+    private final TokenService tokenService;
+    private final UserTenantCache userTenantCache;
+    private final boolean legacyUserHeader;
     
-    public SecurityContextInterceptor(GetUserByIdUseCase getUserByIdUseCase) {
-        this.getUserByIdUseCase = getUserByIdUseCase;
+    public SecurityContextInterceptor(TokenService tokenService, UserTenantCache userTenantCache,
+                                      @Value("${tecos.security.legacy-user-header:false}") boolean legacyUserHeader) {
+        this.tokenService = tokenService;
+        this.userTenantCache = userTenantCache;
+        this.legacyUserHeader = legacyUserHeader;
+        if (legacyUserHeader) {
+            log.warn("tecos.security.legacy-user-header ativo: requisições sem token são autenticadas pelo "
+                    + "cabeçalho {} sem assinatura; desligue assim que os clientes migrarem", LEGACY_USER_HEADER);
+        }
     }
     
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String userIdHeader = request.getHeader("X-User-Id");
-        
-        if (userIdHeader != null) {
+        SecurityContext.clear();
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            TokenClaims claims = tokenService.verifyAccess(authorization.substring(BEARER_PREFIX.length()).trim());
+            if (claims.companyId() != null) {
+                SecurityContext.setCurrentCompanyId(claims.companyId());
+            }
+            SecurityContext.setCurrentUserId(claims.userId());
+            return true;
+        }
+
+        String userIdHeader = request.getHeader(LEGACY_USER_HEADER);
+        if (legacyUserHeader && userIdHeader != null) {
             try {
                 UUID userId = UUID.fromString(userIdHeader);
-                User user = getUserByIdUseCase.execute(userId);
+                UserTenant tenant = userTenantCache.get(userId).orElse(null);
                 
-                if (user.getCompany() != null) {
-                    SecurityContext.setCurrentCompanyId(user.getCompany().getId());
-                    SecurityContext.setCurrentUserId(user.getId());
+                if (tenant != null) {
+                    if (tenant.companyId() != null) {
+                        SecurityContext.setCurrentCompanyId(tenant.companyId());
+                    }
+                    SecurityContext.setCurrentUserId(tenant.userId());
                 }
             } catch (Exception e) {
                 SecurityContext.clear();
             }
-        } else {
-            SecurityContext.clear();
         }
-        
+
+        if (SecurityContext.getCurrentUserId() == null) {
+            throw new InvalidTokenException("Token de acesso ausente");
+        }
         return true;
     }
     
@@ -46,4 +89,11 @@ public class SecurityContextInterceptor implements HandlerInterceptor {
                                 Object handler, Exception ex) {
         SecurityContext.clear();
     }
+    
+    // Resposta assíncrona: a thread do Tomcat volta ao pool sem passar por afterCompletion
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        SecurityContext.clear();
+    }
 }
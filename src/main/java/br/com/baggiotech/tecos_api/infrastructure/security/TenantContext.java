@@ -0,0 +1,20 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import java.util.UUID;
+
+/**
+ * Tenant e usuário de uma requisição. Imutável: é o valor repassado inteiro para outras threads
+ * (trabalho assíncrono, threads virtuais) em vez de copiar campo a campo.
+ */
+public record TenantContext(UUID companyId, UUID userId) {
+
+    public static final TenantContext EMPTY = new TenantContext(null, null);
+
+    public TenantContext withCompanyId(UUID companyId) {
+        return new TenantContext(companyId, userId);
+    }
+
+    public TenantContext withUserId(UUID userId) {
+        return new TenantContext(companyId, userId);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repassa o tenant da requisição para as tarefas do executor da aplicação (respostas assíncronas do MVC,
+ * como as exportações). O Spring Boot aplica o decorator tanto ao pool de threads de plataforma quanto ao
+ * executor de threads virtuais ({@code spring.threads.virtual.enabled}).
+ */
+@Component
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return SecurityContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identidade carregada por um token assinado pelo {@link TokenService}. É tudo o que a requisição precisa
+ * para montar o {@link TenantContext}, sem consultar o banco.
+ */
+public record TokenClaims(UUID userId, UUID companyId, String type, Instant expiresAt) {
+}
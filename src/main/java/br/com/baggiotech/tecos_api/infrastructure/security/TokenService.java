@@ -0,0 +1,173 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import br.com.baggiotech.tecos_api.domain.user.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emite e valida tokens assinados com HMAC-SHA256 no formato JWT (header.payload.assinatura em base64url).
+ * O token de acesso carrega userId, companyId e tipo do usuário: a validação é só CPU, sem banco nem cache.
+ * O token de renovação tem vida longa e só é aceito em /api/auth/refresh, que revalida o usuário.
+ * Sem tecos.security.token.secret a chave é aleatória por instância e os tokens não sobrevivem a um restart.
+ */
+@Component
+public class TokenService {
+
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8)) + ".";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Mac prototype;
+    private final SecretKeySpec key;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(@Value("${tecos.security.token.secret:}") String secret,
+                        @Value("${tecos.security.token.access-ttl:15m}") Duration accessTtl,
+                        @Value("${tecos.security.token.refresh-ttl:7d}") Duration refreshTtl) {
+        this(secret, accessTtl, refreshTtl, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration accessTtl, Duration refreshTtl, Clock clock) {
+        this.key = new SecretKeySpec(keyBytes(secret), ALGORITHM);
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.clock = clock;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+
+    public AuthTokens issue(User user) {
+        return issue(user.getId(), user.getCompany() != null ? user.getCompany().getId() : null, user.getType());
+    }
+
+    public AuthTokens issue(UUID userId, UUID companyId, String type) {
+        Instant now = clock.instant();
+        String access = sign(new Payload(userId, companyId, type, ACCESS,
+                now.getEpochSecond(), now.plus(accessTtl).getEpochSecond()));
+        String refresh = sign(new Payload(userId, null, null, REFRESH,
+                now.getEpochSecond(), now.plus(refreshTtl).getEpochSecond()));
+        return new AuthTokens(access, refresh, accessTtl.toSeconds());
+    }
+
+    public TokenClaims verifyAccess(String token) {
+        return verify(token, ACCESS);
+    }
+
+    public TokenClaims verifyRefresh(String token) {
+        return verify(token, REFRESH);
+    }
+
+    private TokenClaims verify(String token, String use) {
+        if (token == null || !token.startsWith(HEADER)) {
+            throw new InvalidTokenException("Token inválido");
+        }
+        int dot = token.lastIndexOf('.');
+        if (dot <= HEADER.length()) {
+            throw new InvalidTokenException("Token inválido");
+        }
+        byte[] signature;
+        try {
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Token inválido");
+        }
+        if (!MessageDigest.isEqual(signature, mac(token.substring(0, dot)))) {
+            throw new InvalidTokenException("Assinatura do token inválida");
+        }
+
+        Payload payload;
+        try {
+            payload = MAPPER.readValue(DECODER.decode(token.substring(HEADER.length(), dot)), Payload.class);
+        } catch (Exception e) {
+            throw new InvalidTokenException("Token inválido");
+        }
+        if (!use.equals(payload.use()) || payload.sub() == null) {
+            throw new InvalidTokenException("Token inválido para esta operação");
+        }
+        Instant expiresAt = Instant.ofEpochSecond(payload.exp());
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new InvalidTokenException("Token expirado");
+        }
+        return new TokenClaims(payload.sub(), payload.cid(), payload.rol(), expiresAt);
+    }
+
+    private String sign(Payload payload) {
+        try {
+            String content = HEADER + ENCODER.encodeToString(MAPPER.writeValueAsBytes(payload));
+            return content + "." + ENCODER.encodeToString(mac(content));
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao assinar o token", e);
+        }
+    }
+
+    // Mac não é thread-safe: clonar o protótipo já inicializado evita refazer o key schedule a cada token
+    private byte[] mac(String content) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA256 indisponível", ex);
+            }
+        }
+        return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] keyBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("tecos.security.token.secret não definido: usando chave aleatória, "
+                    + "tokens não valem entre instâncias nem após reinício");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "tecos.security.token.secret deve ter pelo menos " + MIN_SECRET_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    // Claims curtas no estilo JWT: sub (usuário), cid (empresa), rol (tipo), use (access/refresh), iat e exp
+    private record Payload(UUID sub, UUID cid, String rol, String use, long iat, long exp) {
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import java.util.UUID;
+
+/**
+ * Dados mínimos do usuário necessários para montar o {@link SecurityContext} de uma requisição.
+ */
+public record UserTenant(UUID userId, UUID companyId, boolean active, String type) {
+}
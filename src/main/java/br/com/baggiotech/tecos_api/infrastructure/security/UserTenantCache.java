@@ -0,0 +1,61 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache em memória de userId → (companyId, isActive, type) usado pelo {@link SecurityContextInterceptor}.
+ * Limitado em tamanho e com expiração por TTL; alterações de usuário devem chamar {@link #invalidate(UUID)}.
+ * Usuários inexistentes não são armazenados.
+ */
+@Component
+public class UserTenantCache {
+
+    static final String CACHE_NAME = "tecos_user_tenant";
+
+    private final LoadingCache<UUID, UserTenant> cache;
+
+    public UserTenantCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                           @Value("${tecos.security.user-cache.max-size:10000}") long maxSize,
+                           @Value("${tecos.security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userId -> userRepository.findById(userId).map(UserTenantCache::toTenant).orElse(null));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<UserTenant> get(UUID userId) {
+        return Optional.ofNullable(cache.get(userId));
+    }
+
+    public void invalidate(UUID userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static UserTenant toTenant(User user) {
+        return new UserTenant(
+                user.getId(),
+                user.getCompany() != null ? user.getCompany().getId() : null,
+                Boolean.TRUE.equals(user.getIsActive()),
+                user.getType()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.baggiotech.tecos_api.infrastructure.security;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,11 +16,14 @@ public class WebConfig implements WebMvcConfigurer {
     
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // Antes do open-in-view: o EntityManager da requisição já nasce com o filtro de tenant
         registry.addInterceptor(securityContextInterceptor)
+                .order(Ordered.HIGHEST_PRECEDENCE)
                 .addPathPatterns("/api/**")
                 .excludePathPatterns(
                         "/api/public/**",
                         "/api/auth/login",
+                        "/api/auth/refresh",
                         "/api/auth/forgot-password",
                         "/api/auth/reset-password"
                 );
@@ -0,0 +1,31 @@
+package br.com.baggiotech.tecos_api.infrastructure.workorderhistory;
+
+import br.com.baggiotech.tecos_api.infrastructure.persistence.workorderhistory.WorkOrderHistoryOutboxImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Esvazia a fila de históricos em segundo plano, um lote por transação, até não sobrar lote cheio.
+ * Uma falha (ex.: banco indisponível) mantém as pendências para a próxima execução.
+ */
+@Component
+public class WorkOrderHistoryRelayJob {
+
+    private final WorkOrderHistoryOutboxImpl outbox;
+    private final int batchSize;
+
+    public WorkOrderHistoryRelayJob(WorkOrderHistoryOutboxImpl outbox,
+                                    @Value("${tecos.history.relay.batch-size:200}") int batchSize) {
+        this.outbox = outbox;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tecos.history.relay.delay-ms:500}")
+    public void run() {
+        int relayed;
+        do {
+            relayed = outbox.relay(batchSize);
+        } while (relayed == batchSize);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.application.analytics.GetBudgetAnalyticsUseCase;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+import br.com.baggiotech.tecos_api.presentation.dto.analytics.BudgetAnalyticsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final GetBudgetAnalyticsUseCase getBudgetAnalyticsUseCase;
+
+    public AnalyticsController(GetBudgetAnalyticsUseCase getBudgetAnalyticsUseCase) {
+        this.getBudgetAnalyticsUseCase = getBudgetAnalyticsUseCase;
+    }
+
+    /**
+     * Totais mensais de orçamentos da empresa ({@code groupBy=company}) ou por técnico
+     * ({@code groupBy=technician}). Meses no formato {@code AAAA-MM}, inclusivos.
+     */
+    @GetMapping("/budgets")
+    public ResponseEntity<BudgetAnalyticsResponse> budgets(
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestParam(required = false, defaultValue = "company") String groupBy) {
+
+        boolean byTechnician;
+        if ("technician".equalsIgnoreCase(groupBy)) {
+            byTechnician = true;
+        } else if ("company".equalsIgnoreCase(groupBy)) {
+            byTechnician = false;
+        } else {
+            throw new IllegalArgumentException("groupBy deve ser 'company' ou 'technician'.");
+        }
+
+        List<BudgetMonthlySummary> summaries = getBudgetAnalyticsUseCase.execute(companyId, from, to, byTechnician);
+        return ResponseEntity.ok(BudgetAnalyticsResponse.from(companyId, groupBy.toLowerCase(), summaries));
+    }
+}
@@ -2,15 +2,20 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.auth.ChangePasswordUseCase;
 import br.com.baggiotech.tecos_api.application.auth.LoginUseCase;
+import br.com.baggiotech.tecos_api.application.auth.RefreshTokenUseCase;
 import br.com.baggiotech.tecos_api.application.user.GetUserByIdUseCase;
 import br.com.baggiotech.tecos_api.application.user.UpdateUserProfileUseCase;
 import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.infrastructure.security.AuthTokens;
 import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContext;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
 import br.com.baggiotech.tecos_api.presentation.dto.auth.ChangePasswordRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.auth.ForgotPasswordRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.auth.LoginRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.auth.LoginResponse;
+import br.com.baggiotech.tecos_api.presentation.dto.auth.RefreshTokenRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.auth.ResetPasswordRequest;
+import br.com.baggiotech.tecos_api.presentation.dto.auth.TokenResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.user.UserResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.user.UserMapper;
 import jakarta.validation.Valid;
@@ -29,13 +34,19 @@ public class AuthController {
     private final GetUserByIdUseCase getUserByIdUseCase;
     private final ChangePasswordUseCase changePasswordUseCase;
     private final UpdateUserProfileUseCase updateUserProfileUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final TokenService tokenService;
     private final UserMapper userMapper;
 
     public AuthController(LoginUseCase loginUseCase, GetUserByIdUseCase getUserByIdUseCase,
                          ChangePasswordUseCase changePasswordUseCase, 
                          UpdateUserProfileUseCase updateUserProfileUseCase,
+                         RefreshTokenUseCase refreshTokenUseCase,
+                         TokenService tokenService,
                          UserMapper userMapper) {
         this.loginUseCase = loginUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
+        this.tokenService = tokenService;
         this.getUserByIdUseCase = getUserByIdUseCase;
         this.changePasswordUseCase = changePasswordUseCase;
         this.updateUserProfileUseCase = updateUserProfileUseCase;
@@ -45,35 +56,36 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         User user = loginUseCase.execute(request.email(), request.password());
-        
-        // Definir o contexto de segurança para habilitar os filtros de company_id
-        if (user.getCompany() != null) {
-            SecurityContext.setCurrentCompanyId(user.getCompany().getId());
-            SecurityContext.setCurrentUserId(user.getId());
-        }
+        AuthTokens tokens = tokenService.issue(user);
         
         UserResponse userResponse = userMapper.toResponse(user);
-        String token = "mock-token-" + user.getId();
-        
-        LoginResponse response = new LoginResponse(userResponse, token, "Bearer");
+        LoginResponse response = new LoginResponse(userResponse, tokens.accessToken(), tokens.refreshToken(),
+                "Bearer", tokens.expiresIn());
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthTokens tokens = refreshTokenUseCase.execute(request.refreshToken());
+        return ResponseEntity.ok(new TokenResponse(tokens.accessToken(), tokens.refreshToken(), "Bearer",
+                tokens.expiresIn()));
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<Map<String, String>> logout() {
-        // Limpar o contexto de segurança
+        // Tokens são stateless: o cliente descarta o par; o de acesso expira sozinho em access-ttl
         SecurityContext.clear();
         return ResponseEntity.ok(Map.of("message", "Logout realizado com sucesso."));
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> me(@RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
-        if (userIdHeader == null) {
+    public ResponseEntity<UserResponse> me() {
+        UUID userId = SecurityContext.getCurrentUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            UUID userId = UUID.fromString(userIdHeader);
             User user = getUserByIdUseCase.execute(userId);
             UserResponse response = userMapper.toResponse(user);
             return ResponseEntity.ok(response);
@@ -101,15 +113,14 @@ public class AuthController {
 
     @PutMapping("/profile")
     public ResponseEntity<UserResponse> updateProfile(
-            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
             @Valid @RequestBody Map<String, String> request) {
         
-        if (userIdHeader == null) {
+        UUID userId = SecurityContext.getCurrentUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            UUID userId = UUID.fromString(userIdHeader);
             User user = updateUserProfileUseCase.execute(
                     userId,
                     request.get("name"),
@@ -125,10 +136,10 @@ public class AuthController {
 
     @PutMapping("/change-password")
     public ResponseEntity<Map<String, String>> changePassword(
-            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
             @Valid @RequestBody ChangePasswordRequest request) {
         
-        if (userIdHeader == null) {
+        UUID userId = SecurityContext.getCurrentUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
@@ -137,7 +148,6 @@ public class AuthController {
         }
         
         try {
-            UUID userId = UUID.fromString(userIdHeader);
             changePasswordUseCase.execute(userId, request.currentPassword(), request.password());
             return ResponseEntity.ok(Map.of("message", "Senha alterada com sucesso."));
         } catch (Exception e) {
@@ -3,16 +3,20 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 import br.com.baggiotech.tecos_api.application.budget.*;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.presentation.dto.budget.ApproveBudgetRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.budget.BudgetRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.budget.BudgetResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.budget.RejectBudgetRequest;
+import br.com.baggiotech.tecos_api.presentation.dto.pagination.CursorPageResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.budget.BudgetMapper;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 import java.util.UUID;
@@ -22,22 +26,28 @@ import java.util.UUID;
 public class BudgetController {
 
     private final ListBudgetsUseCase listBudgetsUseCase;
+    private final ListBudgetsByCursorUseCase listBudgetsByCursorUseCase;
     private final CreateBudgetUseCase createBudgetUseCase;
     private final GetBudgetByIdUseCase getBudgetByIdUseCase;
+    private final GetBudgetVersionUseCase getBudgetVersionUseCase;
     private final ApproveBudgetUseCase approveBudgetUseCase;
     private final RejectBudgetUseCase rejectBudgetUseCase;
     private final BudgetMapper mapper;
 
     public BudgetController(
             ListBudgetsUseCase listBudgetsUseCase,
+            ListBudgetsByCursorUseCase listBudgetsByCursorUseCase,
             CreateBudgetUseCase createBudgetUseCase,
             GetBudgetByIdUseCase getBudgetByIdUseCase,
+            GetBudgetVersionUseCase getBudgetVersionUseCase,
             ApproveBudgetUseCase approveBudgetUseCase,
             RejectBudgetUseCase rejectBudgetUseCase,
             BudgetMapper mapper) {
         this.listBudgetsUseCase = listBudgetsUseCase;
+        this.listBudgetsByCursorUseCase = listBudgetsByCursorUseCase;
         this.createBudgetUseCase = createBudgetUseCase;
         this.getBudgetByIdUseCase = getBudgetByIdUseCase;
+        this.getBudgetVersionUseCase = getBudgetVersionUseCase;
         this.approveBudgetUseCase = approveBudgetUseCase;
         this.rejectBudgetUseCase = rejectBudgetUseCase;
         this.mapper = mapper;
@@ -63,6 +73,23 @@ public class BudgetController {
         return ResponseEntity.ok(responsePage);
     }
 
+    /**
+     * Paginação por cursor (keyset em created_at, id), ativada ao informar {@code limit}.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<BudgetResponse>> indexByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false) UUID workOrderId,
+            @RequestParam(required = false) BudgetStatus status) {
+
+        CursorPage<Budget> budgets = listBudgetsByCursorUseCase.execute(
+                companyId, workOrderId, status, cursor, limit);
+
+        return ResponseEntity.ok(CursorPageResponse.from(budgets, mapper::toResponse));
+    }
+
     @PostMapping
     public ResponseEntity<BudgetResponse> store(@Valid @RequestBody BudgetRequest request) {
         Budget budget = createBudgetUseCase.execute(
@@ -79,10 +106,13 @@ public class BudgetController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BudgetResponse> show(@PathVariable UUID id) {
+    public ResponseEntity<BudgetResponse> show(@PathVariable UUID id, WebRequest request) {
+        if (ConditionalGet.isNotModified(request, getBudgetVersionUseCase.execute(id))) {
+            return null;
+        }
         Budget budget = getBudgetByIdUseCase.execute(id);
         BudgetResponse response = mapper.toResponse(budget);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PutMapping("/{id}")
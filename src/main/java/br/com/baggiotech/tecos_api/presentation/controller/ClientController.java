@@ -7,9 +7,11 @@ import br.com.baggiotech.tecos_api.presentation.dto.client.ClientResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.client.ClientMapper;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +23,7 @@ public class ClientController {
     private final ListClientsUseCase listClientsUseCase;
     private final CreateClientUseCase createClientUseCase;
     private final GetClientByIdUseCase getClientByIdUseCase;
+    private final GetClientVersionUseCase getClientVersionUseCase;
     private final UpdateClientUseCase updateClientUseCase;
     private final DeleteClientUseCase deleteClientUseCase;
     private final ClientMapper mapper;
@@ -29,12 +32,14 @@ public class ClientController {
             ListClientsUseCase listClientsUseCase,
             CreateClientUseCase createClientUseCase,
             GetClientByIdUseCase getClientByIdUseCase,
+            GetClientVersionUseCase getClientVersionUseCase,
             UpdateClientUseCase updateClientUseCase,
             DeleteClientUseCase deleteClientUseCase,
             ClientMapper mapper) {
         this.listClientsUseCase = listClientsUseCase;
         this.createClientUseCase = createClientUseCase;
         this.getClientByIdUseCase = getClientByIdUseCase;
+        this.getClientVersionUseCase = getClientVersionUseCase;
         this.updateClientUseCase = updateClientUseCase;
         this.deleteClientUseCase = deleteClientUseCase;
         this.mapper = mapper;
@@ -47,7 +52,7 @@ public class ClientController {
             @RequestParam(required = false) UUID companyId,
             @RequestParam(required = false) Boolean isActive,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false, defaultValue = "name") String sortBy,
+            @RequestParam(required = false) String sortBy,
             @RequestParam(required = false, defaultValue = "asc") String sortOrder) {
         
         int pageNumber = page != null && page >= 0 ? page : 0;
@@ -77,10 +82,13 @@ public class ClientController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ClientResponse> show(@PathVariable UUID id) {
+    public ResponseEntity<ClientResponse> show(@PathVariable UUID id, WebRequest request) {
+        if (ConditionalGet.isNotModified(request, getClientVersionUseCase.execute(id))) {
+            return null;
+        }
         Client client = getClientByIdUseCase.execute(id);
         ClientResponse response = mapper.toResponse(client);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PutMapping("/{id}")
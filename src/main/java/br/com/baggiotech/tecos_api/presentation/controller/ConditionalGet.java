@@ -0,0 +1,39 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * GET condicional dos endpoints de detalhe a partir de {@link ResourceVersion}: ETag forte sobre
+ * (id, lastModified) e Last-Modified. A versão deve ser lida antes do recurso; se ele mudar entre as
+ * duas leituras, o ETag sai mais antigo que o corpo e a próxima requisição recebe 200, nunca um 304 indevido.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Avalia If-None-Match / If-Modified-Since e grava ETag e Last-Modified na resposta. Retorna {@code true}
+     * quando o status 304 já foi definido e o handler deve devolver {@code null}.
+     */
+    static boolean isNotModified(WebRequest request, Optional<ResourceVersion> version) {
+        return version
+                .map(current -> request.checkNotModified(etag(current), lastModified(current)))
+                .orElse(false);
+    }
+
+    static String etag(ResourceVersion version) {
+        String content = version.id() + "|" + version.lastModified();
+        return "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static long lastModified(ResourceVersion version) {
+        return version.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
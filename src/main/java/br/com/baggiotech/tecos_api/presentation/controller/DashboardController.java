@@ -0,0 +1,25 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.application.dashboard.GetDashboardSummaryUseCase;
+import br.com.baggiotech.tecos_api.presentation.dto.dashboard.DashboardSummaryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final GetDashboardSummaryUseCase getDashboardSummaryUseCase;
+
+    public DashboardController(GetDashboardSummaryUseCase getDashboardSummaryUseCase) {
+        this.getDashboardSummaryUseCase = getDashboardSummaryUseCase;
+    }
+
+    // companyId ausente chega ao caso de uso, que responde 400 com a mensagem de validação
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> summary(@RequestParam(required = false) UUID companyId) {
+        return ResponseEntity.ok(DashboardSummaryResponse.from(companyId, getDashboardSummaryUseCase.execute(companyId)));
+    }
+}
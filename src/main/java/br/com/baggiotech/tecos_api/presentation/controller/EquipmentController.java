@@ -7,9 +7,11 @@ import br.com.baggiotech.tecos_api.presentation.dto.equipment.EquipmentResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.equipment.EquipmentMapper;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +23,7 @@ public class EquipmentController {
     private final ListEquipmentsUseCase listEquipmentsUseCase;
     private final CreateEquipmentUseCase createEquipmentUseCase;
     private final GetEquipmentByIdUseCase getEquipmentByIdUseCase;
+    private final GetEquipmentVersionUseCase getEquipmentVersionUseCase;
     private final UpdateEquipmentUseCase updateEquipmentUseCase;
     private final DeleteEquipmentUseCase deleteEquipmentUseCase;
     private final EquipmentMapper mapper;
@@ -29,12 +32,14 @@ public class EquipmentController {
             ListEquipmentsUseCase listEquipmentsUseCase,
             CreateEquipmentUseCase createEquipmentUseCase,
             GetEquipmentByIdUseCase getEquipmentByIdUseCase,
+            GetEquipmentVersionUseCase getEquipmentVersionUseCase,
             UpdateEquipmentUseCase updateEquipmentUseCase,
             DeleteEquipmentUseCase deleteEquipmentUseCase,
             EquipmentMapper mapper) {
         this.listEquipmentsUseCase = listEquipmentsUseCase;
         this.createEquipmentUseCase = createEquipmentUseCase;
         this.getEquipmentByIdUseCase = getEquipmentByIdUseCase;
+        this.getEquipmentVersionUseCase = getEquipmentVersionUseCase;
         this.updateEquipmentUseCase = updateEquipmentUseCase;
         this.deleteEquipmentUseCase = deleteEquipmentUseCase;
         this.mapper = mapper;
@@ -47,7 +52,7 @@ public class EquipmentController {
             @RequestParam(required = false) UUID companyId,
             @RequestParam(required = false) UUID clientId,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false, defaultValue = "type") String sortBy,
+            @RequestParam(required = false) String sortBy,
             @RequestParam(required = false, defaultValue = "asc") String sortOrder) {
         
         int pageNumber = page != null && page >= 0 ? page : 0;
@@ -77,10 +82,13 @@ public class EquipmentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EquipmentResponse> show(@PathVariable UUID id) {
+    public ResponseEntity<EquipmentResponse> show(@PathVariable UUID id, WebRequest request) {
+        if (ConditionalGet.isNotModified(request, getEquipmentVersionUseCase.execute(id))) {
+            return null;
+        }
         Equipment equipment = getEquipmentByIdUseCase.execute(id);
         EquipmentResponse response = mapper.toResponse(equipment);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PutMapping("/{id}")
@@ -2,15 +2,14 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.publiclink.*;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
-import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.presentation.dto.publiclink.PublicWorkOrderResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.publiclink.RejectBudgetByTokenRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,50 +34,53 @@ public class PublicController {
     /**
      * Public route - Get work order info by token.
      * RB-06: Leitura pública sem autenticação, apenas leitura
+     * Responde com ETag; requisições com If-None-Match correspondente recebem 304 sem corpo.
      */
     @GetMapping("/{token}")
     public ResponseEntity<PublicWorkOrderResponse> showByToken(@PathVariable String token) {
         GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData data = 
             getPublicWorkOrderByTokenUseCase.execute(token);
         
-        WorkOrder workOrder = data.getWorkOrder();
-        List<Budget> budgets = data.getBudgets();
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData.WorkOrderInfo workOrder = data.getWorkOrder();
 
         // Retornar apenas dados necessários para o cliente (sem dados sensíveis - RB-06)
         PublicWorkOrderResponse response = new PublicWorkOrderResponse(
                 new PublicWorkOrderResponse.PublicWorkOrderInfo(
-                        workOrder.getId(),
-                        workOrder.getStatus(),
-                        workOrder.getReportedDefect(),
-                        workOrder.getReturnOrder(),
-                        workOrder.getDeliveredAt(),
-                        workOrder.getCreatedAt(),
-                        workOrder.getUpdatedAt()
+                        workOrder.id(),
+                        workOrder.status(),
+                        workOrder.reportedDefect(),
+                        workOrder.returnOrder(),
+                        workOrder.deliveredAt(),
+                        workOrder.createdAt(),
+                        workOrder.updatedAt()
                 ),
-                workOrder.getClient() != null ? new PublicWorkOrderResponse.PublicClientInfo(
-                        workOrder.getClient().getName(),
-                        workOrder.getClient().getPhone(),
-                        workOrder.getClient().getEmail()
+                data.getClient() != null ? new PublicWorkOrderResponse.PublicClientInfo(
+                        data.getClient().name(),
+                        data.getClient().phone(),
+                        data.getClient().email()
                 ) : null,
-                workOrder.getEquipment() != null ? new PublicWorkOrderResponse.PublicEquipmentInfo(
-                        workOrder.getEquipment().getType(),
-                        workOrder.getEquipment().getBrand(),
-                        workOrder.getEquipment().getModel(),
-                        workOrder.getEquipment().getSerialNumber()
+                data.getEquipment() != null ? new PublicWorkOrderResponse.PublicEquipmentInfo(
+                        data.getEquipment().type(),
+                        data.getEquipment().brand(),
+                        data.getEquipment().model(),
+                        data.getEquipment().serialNumber()
                 ) : null,
-                budgets.stream().map(budget -> new PublicWorkOrderResponse.PublicBudgetInfo(
-                        budget.getId(),
-                        budget.getServiceValue(),
-                        budget.getPartsValue(),
-                        budget.getTotalValue(),
-                        budget.getStatus(),
-                        budget.getRejectionReason(),
-                        budget.getCreatedAt(),
-                        budget.getApprovedAt()
+                data.getBudgets().stream().map(budget -> new PublicWorkOrderResponse.PublicBudgetInfo(
+                        budget.id(),
+                        budget.serviceValue(),
+                        budget.partsValue(),
+                        budget.totalValue(),
+                        budget.status(),
+                        budget.rejectionReason(),
+                        budget.createdAt(),
+                        budget.approvedAt()
                 )).collect(Collectors.toList())
         );
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(data.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     /**
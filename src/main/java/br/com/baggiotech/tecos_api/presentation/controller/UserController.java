@@ -2,6 +2,7 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.user.*;
 import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContext;
 import br.com.baggiotech.tecos_api.presentation.dto.user.UserRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.user.UserResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.user.UserMapper;
@@ -98,14 +99,10 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, String>> destroy(
-            @PathVariable UUID id,
-            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
+            @PathVariable UUID id) {
         
-        if (userIdHeader != null) {
-            UUID currentUserId = UUID.fromString(userIdHeader);
-            if (currentUserId.equals(id)) {
-                throw new IllegalArgumentException("Não é possível excluir seu próprio usuário.");
-            }
+        if (id.equals(SecurityContext.getCurrentUserId())) {
+            throw new IllegalArgumentException("Não é possível excluir seu próprio usuário.");
         }
         
         deleteUserUseCase.execute(id);
@@ -1,18 +1,38 @@
 package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.workorder.*;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.presentation.dto.pagination.CursorPageResponse;
+import br.com.baggiotech.tecos_api.presentation.dto.workorder.BatchUpdateWorkOrderStatusRequest;
+import br.com.baggiotech.tecos_api.presentation.dto.workorder.BatchUpdateWorkOrderStatusResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.workorder.UpdateWorkOrderStatusRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.workorder.WorkOrderRequest;
 import br.com.baggiotech.tecos_api.presentation.dto.workorder.WorkOrderResponse;
+import br.com.baggiotech.tecos_api.presentation.export.ExportFormat;
+import br.com.baggiotech.tecos_api.presentation.export.WorkOrderExportWriter;
 import br.com.baggiotech.tecos_api.presentation.mapper.workorder.WorkOrderMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -21,28 +41,43 @@ import java.util.UUID;
 public class WorkOrderController {
 
     private final ListWorkOrdersUseCase listWorkOrdersUseCase;
+    private final ListWorkOrdersByCursorUseCase listWorkOrdersByCursorUseCase;
     private final CreateWorkOrderUseCase createWorkOrderUseCase;
     private final GetWorkOrderByIdUseCase getWorkOrderByIdUseCase;
+    private final GetWorkOrderVersionUseCase getWorkOrderVersionUseCase;
     private final UpdateWorkOrderUseCase updateWorkOrderUseCase;
     private final UpdateWorkOrderStatusUseCase updateWorkOrderStatusUseCase;
     private final CancelWorkOrderUseCase cancelWorkOrderUseCase;
+    private final BatchUpdateWorkOrderStatusUseCase batchUpdateWorkOrderStatusUseCase;
+    private final ExportWorkOrdersUseCase exportWorkOrdersUseCase;
     private final WorkOrderMapper mapper;
+    private final ObjectMapper objectMapper;
 
     public WorkOrderController(
             ListWorkOrdersUseCase listWorkOrdersUseCase,
+            ListWorkOrdersByCursorUseCase listWorkOrdersByCursorUseCase,
             CreateWorkOrderUseCase createWorkOrderUseCase,
             GetWorkOrderByIdUseCase getWorkOrderByIdUseCase,
+            GetWorkOrderVersionUseCase getWorkOrderVersionUseCase,
             UpdateWorkOrderUseCase updateWorkOrderUseCase,
             UpdateWorkOrderStatusUseCase updateWorkOrderStatusUseCase,
             CancelWorkOrderUseCase cancelWorkOrderUseCase,
-            WorkOrderMapper mapper) {
+            BatchUpdateWorkOrderStatusUseCase batchUpdateWorkOrderStatusUseCase,
+            ExportWorkOrdersUseCase exportWorkOrdersUseCase,
+            WorkOrderMapper mapper,
+            ObjectMapper objectMapper) {
         this.listWorkOrdersUseCase = listWorkOrdersUseCase;
+        this.listWorkOrdersByCursorUseCase = listWorkOrdersByCursorUseCase;
         this.createWorkOrderUseCase = createWorkOrderUseCase;
         this.getWorkOrderByIdUseCase = getWorkOrderByIdUseCase;
+        this.getWorkOrderVersionUseCase = getWorkOrderVersionUseCase;
         this.updateWorkOrderUseCase = updateWorkOrderUseCase;
         this.updateWorkOrderStatusUseCase = updateWorkOrderStatusUseCase;
         this.cancelWorkOrderUseCase = cancelWorkOrderUseCase;
+        this.batchUpdateWorkOrderStatusUseCase = batchUpdateWorkOrderStatusUseCase;
+        this.exportWorkOrdersUseCase = exportWorkOrdersUseCase;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -56,13 +91,13 @@ public class WorkOrderController {
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) Boolean returnOrder,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false, defaultValue = "created_at") String sortBy,
+            @RequestParam(required = false) String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortOrder) {
         
         int pageNumber = page != null && page >= 0 ? page : 0;
         int pageSize = size != null && size > 0 ? size : 15;
         
-        Page<WorkOrder> workOrdersPage = listWorkOrdersUseCase.execute(
+        Page<WorkOrderSummary> workOrdersPage = listWorkOrdersUseCase.execute(
                 companyId, clientId, equipmentId, technicianId, status, returnOrder, search,
                 sortBy, sortOrder, pageNumber, pageSize);
         Page<WorkOrderResponse> responsePage = workOrdersPage.map(mapper::toResponse);
@@ -70,6 +105,57 @@ public class WorkOrderController {
         return ResponseEntity.ok(responsePage);
     }
 
+    /**
+     * Paginação por cursor (keyset em created_at, id), ativada ao informar {@code limit}.
+     * Não executa a consulta de contagem; use {@code nextCursor} para buscar a próxima página.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<WorkOrderResponse>> indexByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false) UUID clientId,
+            @RequestParam(required = false) UUID equipmentId,
+            @RequestParam(required = false) UUID technicianId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Boolean returnOrder,
+            @RequestParam(required = false) String search) {
+
+        CursorPage<WorkOrderSummary> workOrders = listWorkOrdersByCursorUseCase.execute(
+                companyId, clientId, equipmentId, technicianId, status, returnOrder, search, cursor, limit);
+
+        return ResponseEntity.ok(CursorPageResponse.from(workOrders, mapper::toResponse));
+    }
+
+    /**
+     * Exporta as ordens de serviço da empresa em CSV ou NDJSON. As linhas são escritas na resposta
+     * conforme são lidas do cursor do banco, sem montar a lista em memória.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam UUID companyId,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        // O corpo é escrito no executor da aplicação, que recebe o tenant da requisição (TenantContextTaskDecorator)
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            WorkOrderExportWriter exportWriter = new WorkOrderExportWriter(exportFormat, writer, objectMapper, mapper);
+            exportWriter.writeHeader();
+            exportWorkOrdersUseCase.execute(companyId, status, from, to, exportWriter);
+            writer.flush();
+        };
+
+        String filename = "ordens-de-servico." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @PostMapping
     public ResponseEntity<WorkOrderResponse> store(
             @Valid @RequestBody WorkOrderRequest request,
@@ -91,10 +177,13 @@ public class WorkOrderController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<WorkOrderResponse> show(@PathVariable UUID id) {
+    public ResponseEntity<WorkOrderResponse> show(@PathVariable UUID id, WebRequest request) {
+        if (ConditionalGet.isNotModified(request, getWorkOrderVersionUseCase.execute(id))) {
+            return null;
+        }
         WorkOrder workOrder = getWorkOrderByIdUseCase.execute(id);
         WorkOrderResponse response = mapper.toResponse(workOrder);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PutMapping("/{id}")
@@ -130,6 +219,16 @@ public class WorkOrderController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/status:batch")
+    public ResponseEntity<BatchUpdateWorkOrderStatusResponse> updateStatusBatch(
+            @Valid @RequestBody BatchUpdateWorkOrderStatusRequest request,
+            @RequestParam(required = false) UUID userId) {
+        
+        List<WorkOrderStatusChange> changes = batchUpdateWorkOrderStatusUseCase.execute(
+                request.workOrderIds(), request.status(), request.observation(), userId);
+        return ResponseEntity.ok(mapper.toBatchResponse(changes, request.status()));
+    }
+
     @PostMapping("/{id}/cancel")
     public ResponseEntity<WorkOrderResponse> cancel(
             @PathVariable UUID id,
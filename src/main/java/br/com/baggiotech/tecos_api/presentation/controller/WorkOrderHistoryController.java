@@ -1,7 +1,9 @@
 package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.workorderhistory.*;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
+import br.com.baggiotech.tecos_api.presentation.dto.pagination.CursorPageResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.workorderhistory.WorkOrderHistoryResponse;
 import br.com.baggiotech.tecos_api.presentation.mapper.workorderhistory.WorkOrderHistoryMapper;
 import org.springframework.data.domain.Page;
@@ -15,14 +17,17 @@ import java.util.UUID;
 public class WorkOrderHistoryController {
 
     private final ListWorkOrderHistoriesUseCase listWorkOrderHistoriesUseCase;
+    private final ListWorkOrderHistoriesByCursorUseCase listWorkOrderHistoriesByCursorUseCase;
     private final GetWorkOrderHistoryByIdUseCase getWorkOrderHistoryByIdUseCase;
     private final WorkOrderHistoryMapper mapper;
 
     public WorkOrderHistoryController(
             ListWorkOrderHistoriesUseCase listWorkOrderHistoriesUseCase,
+            ListWorkOrderHistoriesByCursorUseCase listWorkOrderHistoriesByCursorUseCase,
             GetWorkOrderHistoryByIdUseCase getWorkOrderHistoryByIdUseCase,
             WorkOrderHistoryMapper mapper) {
         this.listWorkOrderHistoriesUseCase = listWorkOrderHistoriesUseCase;
+        this.listWorkOrderHistoriesByCursorUseCase = listWorkOrderHistoriesByCursorUseCase;
         this.getWorkOrderHistoryByIdUseCase = getWorkOrderHistoryByIdUseCase;
         this.mapper = mapper;
     }
@@ -46,6 +51,22 @@ public class WorkOrderHistoryController {
         return ResponseEntity.ok(responsePage);
     }
 
+    /**
+     * Paginação por cursor (keyset em created_at, id), ativada ao informar {@code limit}.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<WorkOrderHistoryResponse>> indexByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(required = false) UUID workOrderId,
+            @RequestParam(required = false) UUID userId) {
+
+        CursorPage<WorkOrderHistory> histories = listWorkOrderHistoriesByCursorUseCase.execute(
+                workOrderId, userId, cursor, limit);
+
+        return ResponseEntity.ok(CursorPageResponse.from(histories, mapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<WorkOrderHistoryResponse> show(@PathVariable UUID id) {
         WorkOrderHistory history = getWorkOrderHistoryByIdUseCase.execute(id);
@@ -0,0 +1,38 @@
+package br.com.baggiotech.tecos_api.presentation.dto.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record BudgetAnalyticsResponse(
+        UUID companyId,
+        String groupBy,
+        List<Item> items
+) {
+    public record Item(
+            String month,
+            UUID technicianId,
+            long budgetsCreated,
+            BigDecimal budgetsCreatedValue,
+            long approved,
+            long rejected,
+            BigDecimal revenue,
+            BigDecimal averageTicket,
+            BigDecimal approvalRate,
+            BigDecimal rejectionRate
+    ) {
+        public static Item from(BudgetMonthlySummary summary) {
+            return new Item(summary.month().toString(), summary.technicianId(),
+                    summary.createdCount(), summary.createdValue(),
+                    summary.approvedCount(), summary.rejectedCount(),
+                    summary.revenue(), summary.averageTicket(),
+                    summary.approvalRate(), summary.rejectionRate());
+        }
+    }
+
+    public static BudgetAnalyticsResponse from(UUID companyId, String groupBy, List<BudgetMonthlySummary> summaries) {
+        return new BudgetAnalyticsResponse(companyId, groupBy, summaries.stream().map(Item::from).toList());
+    }
+}
@@ -5,6 +5,8 @@ import br.com.baggiotech.tecos_api.presentation.dto.user.UserResponse;
 public record LoginResponse(
         UserResponse user,
         String token,
-        String tokenType
+        String refreshToken,
+        String tokenType,
+        long expiresIn
 ) {
 }
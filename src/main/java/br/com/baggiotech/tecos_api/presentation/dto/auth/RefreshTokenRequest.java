@@ -0,0 +1,9 @@
+package br.com.baggiotech.tecos_api.presentation.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank(message = "Token de renovação é obrigatório")
+        String refreshToken
+) {
+}
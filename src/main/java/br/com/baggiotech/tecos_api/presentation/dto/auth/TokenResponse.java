@@ -0,0 +1,9 @@
+package br.com.baggiotech.tecos_api.presentation.dto.auth;
+
+public record TokenResponse(
+        String token,
+        String refreshToken,
+        String tokenType,
+        long expiresIn
+) {
+}
@@ -0,0 +1,17 @@
+package br.com.baggiotech.tecos_api.presentation.dto.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record DashboardSummaryResponse(
+        UUID companyId,
+        Map<OrderStatus, Long> workOrdersByStatus,
+        long totalWorkOrders
+) {
+    public static DashboardSummaryResponse from(UUID companyId, Map<OrderStatus, Long> workOrdersByStatus) {
+        long total = workOrdersByStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new DashboardSummaryResponse(companyId, workOrdersByStatus, total);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.baggiotech.tecos_api.presentation.dto.pagination;
+
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int limit
+) {
+    public static <D, T> CursorPageResponse<T> from(CursorPage<D> page, Function<D, T> mapper) {
+        return new CursorPageResponse<>(
+                page.content().stream().map(mapper).toList(),
+                page.hasNext() ? page.nextCursor().encode() : null,
+                page.hasNext(),
+                page.limit()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.baggiotech.tecos_api.presentation.dto.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchUpdateWorkOrderStatusRequest(
+        @NotEmpty(message = "Informe ao menos uma ordem de serviço")
+        @Size(max = 100, message = "Máximo de 100 ordens de serviço por requisição")
+        List<@NotNull(message = "Id da ordem de serviço é obrigatório") UUID> workOrderIds,
+
+        @NotNull(message = "Status é obrigatório")
+        OrderStatus status,
+
+        String observation
+) {
+}
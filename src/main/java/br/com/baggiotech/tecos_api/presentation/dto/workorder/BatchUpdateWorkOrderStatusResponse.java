@@ -0,0 +1,22 @@
+package br.com.baggiotech.tecos_api.presentation.dto.workorder;
+
+import br.com.baggiotech.tecos_api.application.workorder.WorkOrderStatusChange;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchUpdateWorkOrderStatusResponse(
+        int requested,
+        int updated,
+        List<Item> items
+) {
+
+    public record Item(
+            UUID workOrderId,
+            WorkOrderStatusChange.Outcome result,
+            OrderStatus statusBefore,
+            String message
+    ) {
+    }
+}
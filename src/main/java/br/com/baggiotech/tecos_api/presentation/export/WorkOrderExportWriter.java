@@ -0,0 +1,83 @@
+package br.com.baggiotech.tecos_api.presentation.export;
+
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.presentation.mapper.workorder.WorkOrderMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Escreve cada ordem de serviço assim que é lida do banco: uma linha CSV ou um objeto JSON por linha
+ * (NDJSON, no mesmo formato de {@code WorkOrderResponse}). Nada é acumulado além do buffer do {@link Writer}.
+ */
+public class WorkOrderExportWriter implements Consumer<WorkOrderSummary> {
+
+    static final List<String> CSV_HEADER = List.of(
+            "id", "company_id", "company_name", "client_id", "client_name", "equipment_id", "equipment_type",
+            "technician_id", "technician_name", "status", "reported_defect", "internal_observations",
+            "return_order", "origin_work_order_id", "delivered_at", "created_at", "updated_at");
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+    private final WorkOrderMapper mapper;
+
+    public WorkOrderExportWriter(ExportFormat format, Writer writer, ObjectMapper objectMapper, WorkOrderMapper mapper) {
+        this.format = format;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(CSV_HEADER);
+        }
+    }
+
+    @Override
+    public void accept(WorkOrderSummary summary) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(csvValues(summary));
+            } else {
+                writer.write(objectMapper.writeValueAsString(mapper.toResponse(summary)));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Object> csvValues(WorkOrderSummary summary) {
+        return Arrays.asList(
+                summary.id(), summary.companyId(), summary.companyName(), summary.clientId(), summary.clientName(),
+                summary.equipmentId(), summary.equipmentType(), summary.technicianId(), summary.technicianName(),
+                summary.status(), summary.reportedDefect(), summary.internalObservations(), summary.returnOrder(),
+                summary.originWorkOrderId(), summary.deliveredAt(), summary.createdAt(), summary.updatedAt());
+    }
+
+    private void writeCsvLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(Objects.toString(values.get(i), "")));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: campos com separador, aspas ou quebra de linha vão entre aspas, com aspas duplicadas
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,9 +1,15 @@
 package br.com.baggiotech.tecos_api.presentation.mapper.workorder;
 
+import br.com.baggiotech.tecos_api.application.workorder.WorkOrderStatusChange;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.presentation.dto.workorder.BatchUpdateWorkOrderStatusResponse;
 import br.com.baggiotech.tecos_api.presentation.dto.workorder.WorkOrderResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class WorkOrderMapper {
     
@@ -28,4 +34,47 @@ public class WorkOrderMapper {
                 workOrder.getUpdatedAt()
         );
     }
+    
+    public WorkOrderResponse toResponse(WorkOrderSummary summary) {
+        return new WorkOrderResponse(
+                summary.id(),
+                summary.companyId(),
+                summary.companyName(),
+                summary.clientId(),
+                summary.clientName(),
+                summary.equipmentId(),
+                summary.equipmentType(),
+                summary.technicianId(),
+                summary.technicianName(),
+                summary.status(),
+                summary.reportedDefect(),
+                summary.internalObservations(),
+                summary.returnOrder(),
+                summary.originWorkOrderId(),
+                summary.deliveredAt(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+
+    public BatchUpdateWorkOrderStatusResponse toBatchResponse(List<WorkOrderStatusChange> changes, OrderStatus status) {
+        List<BatchUpdateWorkOrderStatusResponse.Item> items = changes.stream()
+                .map(change -> new BatchUpdateWorkOrderStatusResponse.Item(
+                        change.workOrderId(), change.outcome(), change.statusBefore(), message(change, status)))
+                .toList();
+        int updated = (int) changes.stream()
+                .filter(change -> change.outcome() == WorkOrderStatusChange.Outcome.UPDATED)
+                .count();
+        return new BatchUpdateWorkOrderStatusResponse(changes.size(), updated, items);
+    }
+
+    private static String message(WorkOrderStatusChange change, OrderStatus status) {
+        return switch (change.outcome()) {
+            case UPDATED -> null;
+            case NOT_FOUND -> "Ordem de serviço não encontrada.";
+            case INVALID_TRANSITION -> String.format("Transição de status de %s para %s não é permitida.",
+                    change.statusBefore(), status);
+            case CONFLICT -> "O status foi alterado por outra requisição. Recarregue a ordem e tente novamente.";
+        };
+    }
 }
@@ -0,0 +1,146 @@
+-- Esquema inicial, equivalente ao gerado pelo Hibernate (ddl-auto=update) antes da adoção do Flyway.
+-- Bancos já existentes são marcados nesta versão via baseline-on-migrate e não executam este script.
+
+CREATE TABLE companies (
+    id         UUID         NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255),
+    whatsapp   VARCHAR(255),
+    logo_url   TEXT,
+    is_active  BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    id         UUID         NOT NULL,
+    company_id UUID         NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    is_active  BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted    BOOLEAN      NOT NULL,
+    deleted_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email_company UNIQUE (email, company_id),
+    CONSTRAINT fk_users_company FOREIGN KEY (company_id) REFERENCES companies (id)
+);
+
+CREATE TABLE clients (
+    id           UUID         NOT NULL,
+    company_id   UUID         NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    cpf          VARCHAR(14),
+    phone        VARCHAR(20)  NOT NULL,
+    email        VARCHAR(255),
+    observations TEXT,
+    is_active    BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    deleted      BOOLEAN      NOT NULL,
+    deleted_at   TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_clients_company FOREIGN KEY (company_id) REFERENCES companies (id)
+);
+
+CREATE TABLE equipments (
+    id            UUID         NOT NULL,
+    company_id    UUID         NOT NULL,
+    client_id     UUID         NOT NULL,
+    type          VARCHAR(255) NOT NULL,
+    brand         VARCHAR(255),
+    model         VARCHAR(255),
+    serial_number VARCHAR(255),
+    observations  TEXT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    deleted       BOOLEAN      NOT NULL,
+    deleted_at    TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_equipments_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_equipments_client FOREIGN KEY (client_id) REFERENCES clients (id)
+);
+
+CREATE TABLE work_orders (
+    id                    UUID         NOT NULL,
+    company_id            UUID         NOT NULL,
+    client_id             UUID         NOT NULL,
+    equipment_id          UUID         NOT NULL,
+    technician_id         UUID         NOT NULL,
+    status                VARCHAR(255) NOT NULL
+        CHECK (status IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    reported_defect       TEXT         NOT NULL,
+    internal_observations TEXT,
+    return                BOOLEAN      NOT NULL,
+    origin_work_order_id  UUID,
+    delivered_at          TIMESTAMP(6),
+    created_at            TIMESTAMP(6) NOT NULL,
+    updated_at            TIMESTAMP(6) NOT NULL,
+    deleted               BOOLEAN      NOT NULL,
+    deleted_at            TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_work_orders_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_work_orders_client FOREIGN KEY (client_id) REFERENCES clients (id),
+    CONSTRAINT fk_work_orders_equipment FOREIGN KEY (equipment_id) REFERENCES equipments (id),
+    CONSTRAINT fk_work_orders_technician FOREIGN KEY (technician_id) REFERENCES users (id)
+);
+
+CREATE TABLE budgets (
+    id                  UUID          NOT NULL,
+    company_id          UUID          NOT NULL,
+    work_order_id       UUID          NOT NULL,
+    service_value       NUMERIC(10, 2) NOT NULL,
+    parts_value         NUMERIC(10, 2) NOT NULL,
+    total_value         NUMERIC(10, 2) NOT NULL,
+    status              VARCHAR(255)  NOT NULL CHECK (status IN ('PENDENTE', 'APROVADO', 'REJEITADO')),
+    rejection_reason    TEXT,
+    created_by          UUID          NOT NULL,
+    approved_at         TIMESTAMP(6),
+    approval_method     VARCHAR(255),
+    approved_by_user_id UUID,
+    created_at          TIMESTAMP(6)  NOT NULL,
+    updated_at          TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_budgets_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_budgets_work_order FOREIGN KEY (work_order_id) REFERENCES work_orders (id),
+    CONSTRAINT fk_budgets_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_budgets_approved_by FOREIGN KEY (approved_by_user_id) REFERENCES users (id)
+);
+
+CREATE TABLE work_order_histories (
+    id            UUID         NOT NULL,
+    work_order_id UUID         NOT NULL,
+    user_id       UUID         NOT NULL,
+    status_before VARCHAR(255)
+        CHECK (status_before IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    status_after  VARCHAR(255) NOT NULL
+        CHECK (status_after IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    observation   TEXT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_work_order_histories_work_order FOREIGN KEY (work_order_id) REFERENCES work_orders (id),
+    CONSTRAINT fk_work_order_histories_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE public_links (
+    id            UUID         NOT NULL,
+    work_order_id UUID         NOT NULL,
+    token         VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_public_links_token UNIQUE (token),
+    CONSTRAINT fk_public_links_work_order FOREIGN KEY (work_order_id) REFERENCES work_orders (id)
+);
+
+CREATE TABLE password_reset_tokens (
+    email      VARCHAR(255) NOT NULL,
+    token      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (email)
+);
@@ -0,0 +1,24 @@
+-- company_id denormalizado da OS em históricos e links públicos: o filtro de tenant
+-- passa a ser uma igualdade simples em vez de um EXISTS correlacionado por linha.
+
+ALTER TABLE work_order_histories ADD COLUMN IF NOT EXISTS company_id UUID;
+
+UPDATE work_order_histories h
+SET company_id = (SELECT wo.company_id FROM work_orders wo WHERE wo.id = h.work_order_id)
+WHERE h.company_id IS NULL;
+
+ALTER TABLE work_order_histories ALTER COLUMN company_id SET NOT NULL;
+
+ALTER TABLE work_order_histories
+    ADD CONSTRAINT fk_work_order_histories_company FOREIGN KEY (company_id) REFERENCES companies (id);
+
+ALTER TABLE public_links ADD COLUMN IF NOT EXISTS company_id UUID;
+
+UPDATE public_links p
+SET company_id = (SELECT wo.company_id FROM work_orders wo WHERE wo.id = p.work_order_id)
+WHERE p.company_id IS NULL;
+
+ALTER TABLE public_links ALTER COLUMN company_id SET NOT NULL;
+
+ALTER TABLE public_links
+    ADD CONSTRAINT fk_public_links_company FOREIGN KEY (company_id) REFERENCES companies (id);
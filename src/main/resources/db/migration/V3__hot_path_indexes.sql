@@ -0,0 +1,22 @@
+-- Índices compostos para os caminhos de listagem: igualdade nas colunas de filtro seguida
+-- de created_at, que é a coluna de ordenação e do predicado de seek da paginação por cursor.
+-- IF NOT EXISTS mantém o script idempotente em bancos criados via ddl-auto.
+
+-- Ordens de serviço: filtro por empresa (com ou sem status) e por cliente, equipamento ou técnico.
+-- O id no fim do índice por empresa cobre o desempate do cursor (created_at, id).
+CREATE INDEX IF NOT EXISTS idx_work_orders_company_status_created ON work_orders (company_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_work_orders_company_created ON work_orders (company_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_work_orders_client_created ON work_orders (client_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_work_orders_equipment_created ON work_orders (equipment_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_work_orders_technician_created ON work_orders (technician_id, created_at);
+
+-- Orçamentos: por OS e status (aprovação/rejeição) e por empresa e status.
+CREATE INDEX IF NOT EXISTS idx_budgets_work_order_status ON budgets (work_order_id, status);
+CREATE INDEX IF NOT EXISTS idx_budgets_company_status_created ON budgets (company_id, status, created_at);
+
+-- Histórico: linha do tempo da OS e listagem por tenant.
+CREATE INDEX IF NOT EXISTS idx_work_order_histories_work_order_created ON work_order_histories (work_order_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_work_order_histories_company_created ON work_order_histories (company_id, created_at);
+
+-- Clientes ativos da empresa.
+CREATE INDEX IF NOT EXISTS idx_clients_company_active ON clients (company_id, is_active);
@@ -0,0 +1,20 @@
+-- Contagem de OS por empresa e status mantida pelos casos de uso na mesma transação da escrita:
+-- o resumo do dashboard lê no máximo sete linhas em vez de agregar work_orders a cada chamada.
+-- ON DELETE CASCADE: os contadores não impedem a exclusão de uma empresa sem OS.
+
+CREATE TABLE IF NOT EXISTS company_status_counters (
+    company_id  UUID         NOT NULL,
+    status      VARCHAR(255) NOT NULL
+        CHECK (status IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    order_count BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (company_id, status),
+    CONSTRAINT fk_company_status_counters_company FOREIGN KEY (company_id) REFERENCES companies (id) ON DELETE CASCADE
+);
+
+-- Uma linha por empresa e status, já com as contagens atuais (OS excluídas logicamente não entram).
+INSERT INTO company_status_counters (company_id, status, order_count)
+SELECT c.id, s.status,
+       (SELECT COUNT(*) FROM work_orders wo WHERE wo.company_id = c.id AND wo.status = s.status AND wo.deleted = FALSE)
+FROM companies c
+CROSS JOIN (VALUES ('RECEBIDO'), ('EM_ANALISE'), ('AGUARDANDO_APROVACAO'), ('EM_CONSERTO'),
+                   ('PRONTO'), ('ENTREGUE'), ('CANCELADO')) AS s (status);
@@ -0,0 +1,45 @@
+-- Agregados diários de orçamentos por empresa e técnico (técnico da OS), base dos relatórios de
+-- faturamento, ticket médio e taxas de aprovação. Os casos de uso de orçamento ajustam a linha do dia
+-- na mesma transação; o job noturno recalcula uma janela recente com GROUP BY sobre budgets.
+-- Datas de referência: criação (created_at), aprovação (approved_at, só orçamentos APROVADO) e
+-- rejeição (updated_at, só REJEITADO, que é estado final).
+
+CREATE TABLE IF NOT EXISTS budget_daily_rollups (
+    company_id     UUID           NOT NULL,
+    technician_id  UUID           NOT NULL,
+    rollup_date    DATE           NOT NULL,
+    created_count  BIGINT         NOT NULL DEFAULT 0,
+    created_value  NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    approved_count BIGINT         NOT NULL DEFAULT 0,
+    approved_value NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    rejected_count BIGINT         NOT NULL DEFAULT 0,
+    rejected_value NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (company_id, technician_id, rollup_date),
+    CONSTRAINT fk_budget_daily_rollups_company FOREIGN KEY (company_id) REFERENCES companies (id) ON DELETE CASCADE,
+    CONSTRAINT fk_budget_daily_rollups_technician FOREIGN KEY (technician_id) REFERENCES users (id)
+);
+
+-- Relatórios filtram por empresa e período
+CREATE INDEX IF NOT EXISTS idx_budget_daily_rollups_company_date ON budget_daily_rollups (company_id, rollup_date);
+
+INSERT INTO budget_daily_rollups (company_id, technician_id, rollup_date, created_count, created_value,
+                                  approved_count, approved_value, rejected_count, rejected_value)
+SELECT e.company_id, e.technician_id, e.rollup_date,
+       SUM(e.created_count), SUM(e.created_value),
+       SUM(e.approved_count), SUM(e.approved_value),
+       SUM(e.rejected_count), SUM(e.rejected_value)
+FROM (
+    SELECT b.company_id, wo.technician_id, CAST(b.created_at AS DATE) AS rollup_date,
+           1 AS created_count, b.total_value AS created_value,
+           0 AS approved_count, 0 AS approved_value, 0 AS rejected_count, 0 AS rejected_value
+    FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id
+    UNION ALL
+    SELECT b.company_id, wo.technician_id, CAST(b.approved_at AS DATE), 0, 0, 1, b.total_value, 0, 0
+    FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id
+    WHERE b.status = 'APROVADO' AND b.approved_at IS NOT NULL
+    UNION ALL
+    SELECT b.company_id, wo.technician_id, CAST(b.updated_at AS DATE), 0, 0, 0, 0, 1, b.total_value
+    FROM budgets b JOIN work_orders wo ON wo.id = b.work_order_id
+    WHERE b.status = 'REJEITADO'
+) e
+GROUP BY e.company_id, e.technician_id, e.rollup_date;
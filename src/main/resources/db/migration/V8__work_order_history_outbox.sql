@@ -0,0 +1,22 @@
+-- Históricos de status pendentes: gravados na transação da troca de status e movidos em lote para
+-- work_order_histories por um job em segundo plano (WorkOrderHistoryRelayJob). O id da linha vira o id
+-- do histórico, e a inserção e a exclusão da pendência acontecem na mesma transação.
+
+CREATE TABLE IF NOT EXISTS work_order_history_outbox (
+    id            UUID         NOT NULL,
+    company_id    UUID         NOT NULL,
+    work_order_id UUID         NOT NULL,
+    user_id       UUID         NOT NULL,
+    status_before VARCHAR(255)
+        CHECK (status_before IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    status_after  VARCHAR(255) NOT NULL
+        CHECK (status_after IN ('RECEBIDO', 'EM_ANALISE', 'AGUARDANDO_APROVACAO', 'EM_CONSERTO', 'PRONTO', 'ENTREGUE', 'CANCELADO')),
+    observation   TEXT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_work_order_history_outbox_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_work_order_history_outbox_work_order FOREIGN KEY (work_order_id) REFERENCES work_orders (id),
+    CONSTRAINT fk_work_order_history_outbox_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_work_order_history_outbox_created ON work_order_history_outbox (created_at);
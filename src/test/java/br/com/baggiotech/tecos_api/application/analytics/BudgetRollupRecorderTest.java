@@ -0,0 +1,118 @@
+package br.com.baggiotech.tecos_api.application.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupDelta;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetRollupRecorder Tests")
+class BudgetRollupRecorderTest {
+
+    @Mock
+    private BudgetRollupRepository repository;
+
+    @InjectMocks
+    private BudgetRollupRecorder recorder;
+
+    private Company company;
+    private User technician;
+    private WorkOrder workOrder;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setId(UUID.randomUUID());
+        technician = new User();
+        technician.setId(UUID.randomUUID());
+        workOrder = new WorkOrder();
+        workOrder.setId(UUID.randomUUID());
+        workOrder.setTechnician(technician);
+    }
+
+    private Budget budget(String total) {
+        Budget budget = new Budget();
+        budget.setId(UUID.randomUUID());
+        budget.setCompany(company);
+        budget.setWorkOrder(workOrder);
+        budget.setTotalValue(new BigDecimal(total));
+        budget.setCreatedAt(LocalDateTime.of(2024, 1, 10, 9, 0));
+        return budget;
+    }
+
+    @Test
+    @DisplayName("Deve registrar a criação no dia de criação do orçamento")
+    void shouldRecordCreationOnCreatedDay() {
+        Budget budget = budget("100.00");
+
+        recorder.created(budget);
+
+        verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 10),
+                BudgetRollupDelta.created(new BigDecimal("100.00")));
+    }
+
+    @Test
+    @DisplayName("Deve estornar a aprovação anterior no dia em que ela ocorreu")
+    void shouldReverseDemotedApprovalOnItsOwnDay() {
+        Budget previous = budget("80.00");
+        previous.setApprovedAt(LocalDateTime.of(2024, 1, 12, 10, 0));
+        Budget budget = budget("120.00");
+        budget.setApprovedAt(LocalDateTime.of(2024, 2, 3, 15, 0));
+
+        recorder.approved(budget, List.of(previous, budget));
+
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 12),
+                BudgetRollupDelta.unapproved(new BigDecimal("80.00")));
+        inOrder.verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 2, 3),
+                BudgetRollupDelta.approved(new BigDecimal("120.00")));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve estornar a aprovação ao rejeitar orçamento aprovado")
+    void shouldReverseApprovalWhenRejectingApprovedBudget() {
+        Budget budget = budget("150.00");
+        budget.setApprovedAt(LocalDateTime.of(2024, 1, 11, 10, 0));
+        budget.setUpdatedAt(LocalDateTime.of(2024, 1, 20, 10, 0));
+
+        recorder.rejected(budget, BudgetStatus.APROVADO);
+
+        verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 11),
+                BudgetRollupDelta.unapproved(new BigDecimal("150.00")));
+        verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 20),
+                BudgetRollupDelta.rejected(new BigDecimal("150.00")));
+    }
+
+    @Test
+    @DisplayName("Deve registrar apenas a rejeição de orçamento pendente")
+    void shouldRecordOnlyRejectionForPendingBudget() {
+        Budget budget = budget("150.00");
+        budget.setUpdatedAt(LocalDateTime.of(2024, 1, 20, 10, 0));
+
+        recorder.rejected(budget, BudgetStatus.PENDENTE);
+
+        verify(repository).add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 20),
+                BudgetRollupDelta.rejected(new BigDecimal("150.00")));
+        verifyNoMoreInteractions(repository);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.baggiotech.tecos_api.application.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBudgetAnalyticsUseCase Tests")
+class GetBudgetAnalyticsUseCaseTest {
+
+    @Mock
+    private BudgetRollupRepository repository;
+
+    @InjectMocks
+    private GetBudgetAnalyticsUseCase useCase;
+
+    @Test
+    @DisplayName("Deve consultar do primeiro dia do mês inicial ao último do mês final")
+    void shouldQueryWholeMonths() {
+        UUID companyId = UUID.randomUUID();
+
+        useCase.execute(companyId, YearMonth.of(2024, 1), YearMonth.of(2024, 2), true);
+
+        verify(repository).summarizeByMonth(companyId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), true);
+    }
+
+    @Test
+    @DisplayName("Deve usar os últimos 12 meses quando não houver período")
+    void shouldDefaultToLastTwelveMonths() {
+        UUID companyId = UUID.randomUUID();
+        YearMonth current = YearMonth.now();
+
+        useCase.execute(companyId, null, null, false);
+
+        verify(repository).summarizeByMonth(companyId, current.minusMonths(11).atDay(1),
+                current.atEndOfMonth(), false);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período invertido, longo demais ou sem empresa")
+    void shouldRejectInvalidRequests() {
+        UUID companyId = UUID.randomUUID();
+        YearMonth start = YearMonth.of(2022, 1);
+
+        assertThatThrownBy(() -> useCase.execute(null, null, null, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(companyId, YearMonth.of(2024, 3), YearMonth.of(2024, 2), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(companyId, start,
+                start.plusMonths(GetBudgetAnalyticsUseCase.MAX_MONTHS), false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        useCase.execute(companyId, start, start.plusMonths(GetBudgetAnalyticsUseCase.MAX_MONTHS - 1), false);
+        verify(repository).summarizeByMonth(eq(companyId), any(), any(), eq(false));
+    }
+}
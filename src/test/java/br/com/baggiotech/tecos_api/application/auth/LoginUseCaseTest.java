@@ -51,41 +51,84 @@ class LoginUseCaseTest {
     @Test
     @DisplayName("Deve fazer login com sucesso")
     void shouldLoginSuccessfully() {
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
 
         User result = useCase.execute("user@example.com", "password123");
 
         assertThat(result).isNotNull();
         assertThat(result.getEmail()).isEqualTo("user@example.com");
-        verify(userRepository).findByEmail("user@example.com");
+        verify(userRepository).findCurrentByEmail("user@example.com");
         verify(passwordEncoder).matches("password123", "$2a$10$encodedPassword");
     }
 
+    @Test
+    @DisplayName("Deve refazer o hash da senha quando o custo gravado difere do atual")
+    void shouldRehashPasswordWhenCostDiffers() {
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("$2a$10$encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$12$rehashedPassword");
+        when(userRepository.updatePasswordIfCurrent(user.getId(), "$2a$10$encodedPassword", "$2a$12$rehashedPassword"))
+                .thenReturn(true);
+
+        User result = useCase.execute("user@example.com", "password123");
+
+        assertThat(result.getPassword()).isEqualTo("$2a$12$rehashedPassword");
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve manter o hash lido quando a senha mudou durante o login")
+    void shouldKeepPasswordWhenChangedConcurrently() {
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("$2a$10$encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$12$rehashedPassword");
+        when(userRepository.updatePasswordIfCurrent(user.getId(), "$2a$10$encodedPassword", "$2a$12$rehashedPassword"))
+                .thenReturn(false);
+
+        User result = useCase.execute("user@example.com", "password123");
+
+        assertThat(result.getPassword()).isEqualTo("$2a$10$encodedPassword");
+    }
+
+    @Test
+    @DisplayName("Não deve gravar o usuário quando o hash já usa o custo atual")
+    void shouldNotRehashPasswordWhenCostMatches() {
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
+
+        useCase.execute("user@example.com", "password123");
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).updatePasswordIfCurrent(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando usuário não encontrado")
     void shouldThrowExceptionWhenUserNotFound() {
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findCurrentByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> useCase.execute("nonexistent@example.com", "password123"))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Credenciais inválidas");
 
-        verify(userRepository).findByEmail("nonexistent@example.com");
+        verify(userRepository).findCurrentByEmail("nonexistent@example.com");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando senha está incorreta")
     void shouldThrowExceptionWhenPasswordIsIncorrect() {
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("wrongPassword", "$2a$10$encodedPassword")).thenReturn(false);
 
         assertThatThrownBy(() -> useCase.execute("user@example.com", "wrongPassword"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Credenciais inválidas");
 
-        verify(userRepository).findByEmail("user@example.com");
+        verify(userRepository).findCurrentByEmail("user@example.com");
         verify(passwordEncoder).matches("wrongPassword", "$2a$10$encodedPassword");
     }
 
@@ -93,14 +136,14 @@ class LoginUseCaseTest {
     @DisplayName("Deve lançar exceção quando usuário está inativo")
     void shouldThrowExceptionWhenUserIsInactive() {
         user.setIsActive(false);
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
 
         assertThatThrownBy(() -> useCase.execute("user@example.com", "password123"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("desativada");
 
-        verify(userRepository).findByEmail("user@example.com");
+        verify(userRepository).findCurrentByEmail("user@example.com");
         verify(passwordEncoder).matches("password123", "$2a$10$encodedPassword");
     }
 
@@ -108,13 +151,13 @@ class LoginUseCaseTest {
     @DisplayName("Deve lançar exceção quando isActive é null")
     void shouldThrowExceptionWhenIsActiveIsNull() {
         user.setIsActive(null);
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("user@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("password123", "$2a$10$encodedPassword")).thenReturn(true);
 
         assertThatThrownBy(() -> useCase.execute("user@example.com", "password123"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("desativada");
 
-        verify(userRepository).findByEmail("user@example.com");
+        verify(userRepository).findCurrentByEmail("user@example.com");
     }
 }
@@ -0,0 +1,93 @@
+package br.com.baggiotech.tecos_api.application.auth;
+
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.infrastructure.security.AuthTokens;
+import br.com.baggiotech.tecos_api.infrastructure.security.InvalidTokenException;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenClaims;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenUseCase Tests")
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenService tokenService;
+    private RefreshTokenUseCase useCase;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret-with-at-least-32-bytes!!", Duration.ofMinutes(15), Duration.ofDays(7));
+        useCase = new RefreshTokenUseCase(tokenService, userRepository);
+
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setCompany(company);
+        user.setType("TECNICO");
+        user.setIsActive(true);
+    }
+
+    @Test
+    @DisplayName("Deve emitir novo par com os dados atuais do usuário")
+    void shouldIssueNewTokensFromCurrentUser() {
+        String refreshToken = tokenService.issue(user.getId(), user.getCompany().getId(), "TECNICO").refreshToken();
+        user.setType("ADMIN");
+        when(userRepository.findCurrentById(user.getId())).thenReturn(Optional.of(user));
+
+        AuthTokens tokens = useCase.execute(refreshToken);
+
+        TokenClaims claims = tokenService.verifyAccess(tokens.accessToken());
+        assertThat(claims.userId()).isEqualTo(user.getId());
+        assertThat(claims.companyId()).isEqualTo(user.getCompany().getId());
+        assertThat(claims.type()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("Deve recusar renovação para usuário desativado")
+    void shouldRejectInactiveUser() {
+        String refreshToken = tokenService.issue(user).refreshToken();
+        user.setIsActive(false);
+        when(userRepository.findCurrentById(user.getId())).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> useCase.execute(refreshToken)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar renovação para usuário inexistente")
+    void shouldRejectMissingUser() {
+        String refreshToken = tokenService.issue(user).refreshToken();
+        when(userRepository.findCurrentById(user.getId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(refreshToken)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar token de acesso no lugar do de renovação sem consultar o banco")
+    void shouldRejectAccessToken() {
+        String accessToken = tokenService.issue(user).accessToken();
+
+        assertThatThrownBy(() -> useCase.execute(accessToken)).isInstanceOf(InvalidTokenException.class);
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -17,7 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -39,6 +41,12 @@ class ApproveBudgetUseCaseTest {
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @Mock
+    private BudgetRollupRecorder rollupRecorder;
+
     @InjectMocks
     private ApproveBudgetUseCase useCase;
 
@@ -46,7 +54,6 @@ class ApproveBudgetUseCaseTest {
     private User approvedBy;
     private WorkOrder workOrder;
     private Budget budget;
-    private Budget otherApprovedBudget;
 
     @BeforeEach
     void setUp() {
@@ -65,21 +72,13 @@ class ApproveBudgetUseCaseTest {
         budget.setCompany(company);
         budget.setWorkOrder(workOrder);
         budget.setStatus(BudgetStatus.PENDENTE);
-
-        otherApprovedBudget = new Budget();
-        otherApprovedBudget.setId(UUID.randomUUID());
-        otherApprovedBudget.setCompany(company);
-        otherApprovedBudget.setWorkOrder(workOrder);
-        otherApprovedBudget.setStatus(BudgetStatus.APROVADO);
     }
 
     @Test
     @DisplayName("Deve aprovar orçamento com sucesso (método presential)")
     void shouldApproveBudgetSuccessfullyPresential() {
         when(repository.findById(budget.getId())).thenReturn(Optional.of(budget));
-        when(repository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList());
-        when(repository.save(any(Budget.class))).thenReturn(budget);
+        when(repository.approveExclusively(budget)).thenReturn(true);
 
         Budget result = useCase.execute(budget.getId(), company.getId(), "presential", approvedBy.getId());
 
@@ -89,7 +88,7 @@ class ApproveBudgetUseCaseTest {
         assertThat(result.getApprovedAt()).isNotNull();
         assertThat(result.getApprovedBy()).isNull(); // Presential não salva approvedBy
 
-        verify(repository).save(budget);
+        verify(repository).approveExclusively(budget);
         verify(metrics).incrementBudgetsUpdated();
     }
 
@@ -97,10 +96,8 @@ class ApproveBudgetUseCaseTest {
     @DisplayName("Deve aprovar orçamento com sucesso (método link)")
     void shouldApproveBudgetSuccessfullyLink() {
         when(repository.findById(budget.getId())).thenReturn(Optional.of(budget));
-        when(repository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList());
         when(userRepository.findById(approvedBy.getId())).thenReturn(Optional.of(approvedBy));
-        when(repository.save(any(Budget.class))).thenReturn(budget);
+        when(repository.approveExclusively(budget)).thenReturn(true);
 
         Budget result = useCase.execute(budget.getId(), company.getId(), "link", approvedBy.getId());
 
@@ -111,7 +108,7 @@ class ApproveBudgetUseCaseTest {
         assertThat(result.getApprovedBy()).isNotNull();
 
         verify(userRepository).findById(approvedBy.getId());
-        verify(repository).save(budget);
+        verify(repository).approveExclusively(budget);
         verify(metrics).incrementBudgetsUpdated();
     }
 
@@ -119,18 +116,33 @@ class ApproveBudgetUseCaseTest {
     @DisplayName("Deve desaprovar outros orçamentos aprovados da mesma OS (RB-05)")
     void shouldUnapproveOtherApprovedBudgetsFromSameWorkOrder() {
         when(repository.findById(budget.getId())).thenReturn(Optional.of(budget));
+        Budget previouslyApproved = new Budget();
+        previouslyApproved.setId(UUID.randomUUID());
+        previouslyApproved.setStatus(BudgetStatus.APROVADO);
         when(repository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList(otherApprovedBudget));
-        when(repository.save(any(Budget.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                .thenReturn(List.of(previouslyApproved));
+        when(repository.approveExclusively(budget)).thenReturn(true);
 
         useCase.execute(budget.getId(), company.getId(), "presential", approvedBy.getId());
 
-        // Verificar que o outro orçamento foi desaprovado
-        verify(repository, atLeast(2)).save(any(Budget.class));
-        verify(repository).save(argThat(b -> 
-            b.getId().equals(otherApprovedBudget.getId()) && 
-            b.getStatus() == BudgetStatus.PENDENTE
-        ));
+        // A desaprovação dos demais é feita pelo repositório, no mesmo passo da aprovação;
+        // o aprovado anterior só é lido para descontar dos agregados
+        verify(repository).approveExclusively(argThat(b -> b.getStatus() == BudgetStatus.APROVADO));
+        verify(repository, never()).save(any(Budget.class));
+        verify(rollupRecorder).approved(budget, List.of(previouslyApproved));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o orçamento deixou de estar pendente antes da aprovação")
+    void shouldThrowExceptionWhenBudgetProcessedConcurrently() {
+        when(repository.findById(budget.getId())).thenReturn(Optional.of(budget));
+        when(repository.approveExclusively(budget)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(budget.getId(), company.getId(), "presential", approvedBy.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
+        verifyNoInteractions(rollupRecorder);
     }
 
     @Test
@@ -143,7 +155,7 @@ class ApproveBudgetUseCaseTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Budget");
 
-        verify(repository, never()).save(any(Budget.class));
+        verify(repository, never()).approveExclusively(any());
     }
 
     @Test
@@ -159,7 +171,7 @@ class ApproveBudgetUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Acesso negado");
 
-        verify(repository, never()).save(any(Budget.class));
+        verify(repository, never()).approveExclusively(any());
     }
 
     @Test
@@ -173,7 +185,7 @@ class ApproveBudgetUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("pendentes");
 
-        verify(repository, never()).save(any(Budget.class));
+        verify(repository, never()).approveExclusively(any());
     }
 
     @Test
@@ -185,7 +197,7 @@ class ApproveBudgetUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Método de aprovação");
 
-        verify(repository, never()).save(any(Budget.class));
+        verify(repository, never()).approveExclusively(any());
     }
 
     @Test
@@ -199,6 +211,6 @@ class ApproveBudgetUseCaseTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("User");
 
-        verify(repository, never()).save(any(Budget.class));
+        verify(repository, never()).approveExclusively(any());
     }
 }
@@ -1,5 +1,7 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -46,6 +48,12 @@ class CreateBudgetUseCaseTest {
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @Mock
+    private BudgetRollupRecorder rollupRecorder;
+
     @InjectMocks
     private CreateBudgetUseCase useCase;
 
@@ -104,15 +112,9 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve criar um orçamento com sucesso")
     void shouldCreateBudgetSuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(creator));
         when(repository.save(any(Budget.class))).thenReturn(savedBudget);
-        when(metrics.startTimer()).thenReturn(sample);
 
         Budget result = useCase.execute(
                 company.getId(),
@@ -133,16 +135,13 @@ class CreateBudgetUseCaseTest {
         verify(userRepository).findById(creator.getId());
         verify(repository).save(any(Budget.class));
         verify(metrics).incrementBudgetsCreated();
+        verify(publicWorkOrderCache).evictWorkOrder(workOrder.getId());
+        verify(rollupRecorder).created(result);
     }
 
     @Test
     @DisplayName("Deve calcular total_value automaticamente quando não fornecido")
     void shouldCalculateTotalValueAutomatically() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(creator));
         when(repository.save(any(Budget.class))).thenAnswer(invocation -> {
@@ -150,7 +149,6 @@ class CreateBudgetUseCaseTest {
             assertThat(budget.getTotalValue()).isEqualByComparingTo(new BigDecimal("150.00"));
             return savedBudget;
         });
-        when(metrics.startTimer()).thenReturn(sample);
 
         useCase.execute(
                 company.getId(),
@@ -167,11 +165,6 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve usar partsValue como zero quando não fornecido")
     void shouldUseZeroForPartsValueWhenNotProvided() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(creator));
         when(repository.save(any(Budget.class))).thenAnswer(invocation -> {
@@ -180,7 +173,6 @@ class CreateBudgetUseCaseTest {
             assertThat(budget.getTotalValue()).isEqualByComparingTo(new BigDecimal("100.00"));
             return savedBudget;
         });
-        when(metrics.startTimer()).thenReturn(sample);
 
         useCase.execute(
                 company.getId(),
@@ -197,14 +189,8 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando work order não existe")
     void shouldThrowExceptionWhenWorkOrderNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         UUID nonExistentWorkOrderId = UUID.randomUUID();
         when(workOrderRepository.findById(nonExistentWorkOrderId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -224,17 +210,11 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando work order não pertence à company")
     void shouldThrowExceptionWhenWorkOrderDoesNotBelongToCompany() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         Company otherCompany = new Company();
         otherCompany.setId(UUID.randomUUID());
         workOrder.setCompany(otherCompany);
 
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -253,15 +233,9 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando work order está CANCELADA")
     void shouldThrowExceptionWhenWorkOrderIsCancelled() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         workOrder.setStatus(OrderStatus.CANCELADO);
 
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -280,15 +254,9 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando work order está ENTREGUE")
     void shouldThrowExceptionWhenWorkOrderIsDelivered() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         workOrder.setStatus(OrderStatus.ENTREGUE);
 
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -307,14 +275,8 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando total_value não corresponde à soma")
     void shouldThrowExceptionWhenTotalValueDoesNotMatch() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(creator));
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -333,15 +295,9 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando usuário criador não existe")
     void shouldThrowExceptionWhenCreatorNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         UUID nonExistentUserId = UUID.randomUUID();
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
@@ -360,18 +316,12 @@ class CreateBudgetUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando usuário criador não pertence à company")
     void shouldThrowExceptionWhenCreatorDoesNotBelongToCompany() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = 
-            io.micrometer.core.instrument.Timer.start(meterRegistry);
-
         Company otherCompany = new Company();
         otherCompany.setId(UUID.randomUUID());
         creator.setCompany(otherCompany);
 
         when(workOrderRepository.findById(any(UUID.class))).thenReturn(Optional.of(workOrder));
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(creator));
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 company.getId(),
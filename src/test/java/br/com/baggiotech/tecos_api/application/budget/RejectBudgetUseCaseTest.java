@@ -1,5 +1,7 @@
 package br.com.baggiotech.tecos_api.application.budget;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -32,6 +34,12 @@ class RejectBudgetUseCaseTest {
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @Mock
+    private BudgetRollupRecorder rollupRecorder;
+
     @InjectMocks
     private RejectBudgetUseCase useCase;
 
@@ -83,6 +91,7 @@ class RejectBudgetUseCaseTest {
 
         verify(repository).save(budget);
         verify(metrics).incrementBudgetsUpdated();
+        verify(rollupRecorder).rejected(budget, BudgetStatus.APROVADO);
     }
 
     @Test
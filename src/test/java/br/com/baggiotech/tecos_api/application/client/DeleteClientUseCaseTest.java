@@ -47,11 +47,7 @@ class DeleteClientUseCaseTest {
     @Test
     @DisplayName("Deve deletar cliente com sucesso")
     void shouldDeleteClientSuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(client.getId())).thenReturn(Optional.of(client));
-        when(metrics.startTimer()).thenReturn(sample);
         doNothing().when(repository).delete(any(Client.class));
         
         useCase.execute(client.getId());
@@ -64,12 +60,8 @@ class DeleteClientUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando cliente não encontrado")
     void shouldThrowExceptionWhenClientNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID nonExistentId = UUID.randomUUID();
         when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
         
         assertThatThrownBy(() -> useCase.execute(nonExistentId))
                 .isInstanceOf(EntityNotFoundException.class)
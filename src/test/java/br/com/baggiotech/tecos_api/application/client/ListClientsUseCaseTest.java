@@ -1,23 +1,26 @@
 package br.com.baggiotech.tecos_api.application.client;
 
 import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.client.ClientFilter;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
-import br.com.baggiotech.tecos_api.domain.company.Company;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,118 +33,96 @@ class ListClientsUseCaseTest {
     @InjectMocks
     private ListClientsUseCase useCase;
 
-    private Company company1;
-    private Company company2;
-    private List<Client> clients;
+    private Client client1;
+    private Client client2;
+    private UUID companyId;
 
     @BeforeEach
     void setUp() {
-        company1 = new Company();
-        company1.setId(UUID.randomUUID());
-        company1.setName("Company 1");
-
-        company2 = new Company();
-        company2.setId(UUID.randomUUID());
-        company2.setName("Company 2");
-
-        clients = new ArrayList<>();
-        for (int i = 1; i <= 5; i++) {
-            Client client = new Client();
-            client.setId(UUID.randomUUID());
-            client.setCompany(i <= 3 ? company1 : company2);
-            client.setName("Client " + i);
-            client.setPhone("1199999999" + i);
-            client.setIsActive(i <= 3);
-            client.setCreatedAt(LocalDateTime.now());
-            client.setUpdatedAt(LocalDateTime.now());
-            clients.add(client);
-        }
+        companyId = UUID.randomUUID();
+
+        client1 = new Client();
+        client1.setId(UUID.randomUUID());
+        client1.setName("Client 1");
+
+        client2 = new Client();
+        client2.setId(UUID.randomUUID());
+        client2.setName("Client 2");
+    }
+
+    private void stubPage(List<Client> content, long total) {
+        when(repository.findAll(any(ClientFilter.class), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(content, invocation.getArgument(1), total));
+    }
+
+    private ClientFilter captureFilter() {
+        ArgumentCaptor<ClientFilter> captor = ArgumentCaptor.forClass(ClientFilter.class);
+        verify(repository).findAll(captor.capture(), any(Pageable.class));
+        return captor.getValue();
+    }
+
+    private Pageable capturePageable() {
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findAll(any(ClientFilter.class), captor.capture());
+        return captor.getValue();
     }
 
     @Test
     @DisplayName("Deve listar todos os clientes")
     void shouldListAllClients() {
-        when(repository.findAll()).thenReturn(clients);
-        
+        stubPage(List.of(client1, client2), 2);
+
         Page<Client> result = useCase.execute(null, null, null, "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(5);
-        verify(repository).findAll();
-    }
 
-    @Test
-    @DisplayName("Deve filtrar por companyId")
-    void shouldFilterByCompanyId() {
-        List<Client> company1Clients = clients.subList(0, 3);
-        when(repository.findByCompanyId(company1.getId())).thenReturn(company1Clients);
-        
-        Page<Client> result = useCase.execute(company1.getId(), null, null, "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(3);
-        assertThat(result.getContent()).allMatch(c -> c.getCompany().getId().equals(company1.getId()));
-        verify(repository).findByCompanyId(company1.getId());
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(captureFilter()).isEqualTo(new ClientFilter(null, null, null));
     }
 
     @Test
-    @DisplayName("Deve filtrar por isActive")
-    void shouldFilterByIsActive() {
-        List<Client> activeClients = clients.subList(0, 3);
-        when(repository.findByIsActive(true)).thenReturn(activeClients);
-        
-        Page<Client> result = useCase.execute(null, true, null, "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(3);
-        assertThat(result.getContent()).allMatch(Client::getIsActive);
-        verify(repository).findByIsActive(true);
-    }
+    @DisplayName("Deve combinar companyId, isActive e search em uma única consulta")
+    void shouldCombineFiltersInSingleQuery() {
+        stubPage(List.of(client1), 1);
 
-    @Test
-    @DisplayName("Deve filtrar por companyId e isActive")
-    void shouldFilterByCompanyIdAndIsActive() {
-        List<Client> filteredClients = clients.subList(0, 3);
-        when(repository.findByCompanyIdAndIsActive(company1.getId(), true)).thenReturn(filteredClients);
-        
-        Page<Client> result = useCase.execute(company1.getId(), true, null, "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(3);
-        verify(repository).findByCompanyIdAndIsActive(company1.getId(), true);
+        useCase.execute(companyId, true, "silva", "name", "asc", 0, 15);
+
+        assertThat(captureFilter()).isEqualTo(new ClientFilter(companyId, true, "silva"));
+        verify(repository, never()).findByCompanyIdAndIsActive(any(), any());
+        verify(repository, never()).findByCompanyIdAndSearch(any(), any());
+        verify(repository, never()).searchByNameOrEmailOrCpfOrPhone(any());
     }
 
     @Test
-    @DisplayName("Deve buscar por search")
-    void shouldSearchClients() {
-        List<Client> searchedClients = List.of(clients.get(0));
-        when(repository.searchByNameOrEmailOrCpfOrPhone("Client 1")).thenReturn(searchedClients);
-        
-        Page<Client> result = useCase.execute(null, null, "Client 1", "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).searchByNameOrEmailOrCpfOrPhone("Client 1");
+    @DisplayName("Deve delegar paginação e ordenação ao repositório")
+    void shouldDelegatePaginationAndSortToRepository() {
+        stubPage(List.of(client2), 2);
+
+        Page<Client> result = useCase.execute(companyId, null, null, "email", "desc", 1, 1);
+
+        Pageable pageable = capturePageable();
+        assertThat(pageable.getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getPageSize()).isEqualTo(1);
+        Sort.Order order = pageable.getSort().getOrderFor("email");
+        assertThat(order.getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(order.isIgnoreCase()).isTrue();
+        assertThat(pageable.getSort().getOrderFor("id")).isNotNull();
+        assertThat(result.getTotalElements()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("Deve buscar por companyId e search")
-    void shouldSearchClientsByCompanyId() {
-        List<Client> searchedClients = List.of(clients.get(0));
-        when(repository.findByCompanyIdAndSearch(company1.getId(), "Client 1")).thenReturn(searchedClients);
-        
-        Page<Client> result = useCase.execute(company1.getId(), null, "Client 1", "name", "asc", 0, 15);
-        
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByCompanyIdAndSearch(company1.getId(), "Client 1");
+    @DisplayName("Deve deixar a busca sem ordenação explícita para ordenar por relevância")
+    void shouldLeaveSearchUnsortedForRelevance() {
+        stubPage(List.of(client1), 1);
+
+        useCase.execute(companyId, null, "silva", null, null, 0, 15);
+
+        assertThat(capturePageable().getSort().isUnsorted()).isTrue();
     }
 
     @Test
-    @DisplayName("Deve paginar resultados")
-    void shouldPaginateResults() {
-        when(repository.findAll()).thenReturn(clients);
-        
-        Page<Client> page1 = useCase.execute(null, null, null, "name", "asc", 0, 2);
-        Page<Client> page2 = useCase.execute(null, null, null, "name", "asc", 1, 2);
-        
-        assertThat(page1.getContent()).hasSize(2);
-        assertThat(page2.getContent()).hasSize(2);
-        assertThat(page1.getTotalElements()).isEqualTo(5);
-        assertThat(page2.getTotalElements()).isEqualTo(5);
+    @DisplayName("Deve usar name como ordenação padrão")
+    void shouldDefaultToNameSort() {
+        assertThat(ListClientsUseCase.resolveSortProperty(null)).isEqualTo("name");
+        assertThat(ListClientsUseCase.resolveSortProperty("unknown")).isEqualTo("name");
+        assertThat(ListClientsUseCase.resolveSortProperty("CPF")).isEqualTo("cpf");
     }
 }
@@ -1,8 +1,10 @@
 package br.com.baggiotech.tecos_api.application.client;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
 import br.com.baggiotech.tecos_api.domain.client.Client;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +34,12 @@ class UpdateClientUseCaseTest {
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
     @InjectMocks
     private UpdateClientUseCase useCase;
 
@@ -52,12 +61,8 @@ class UpdateClientUseCaseTest {
     @Test
     @DisplayName("Deve atualizar cliente com sucesso")
     void shouldUpdateClientSuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(client.getId())).thenReturn(Optional.of(client));
         when(repository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(metrics.startTimer()).thenReturn(sample);
         
         Client result = useCase.execute(
                 client.getId(),
@@ -83,12 +88,8 @@ class UpdateClientUseCaseTest {
     @Test
     @DisplayName("Deve atualizar apenas campos fornecidos")
     void shouldUpdateOnlyProvidedFields() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(client.getId())).thenReturn(Optional.of(client));
         when(repository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(metrics.startTimer()).thenReturn(sample);
         
         Client result = useCase.execute(
                 client.getId(),
@@ -107,15 +108,26 @@ class UpdateClientUseCaseTest {
         verify(repository).save(any(Client.class));
     }
 
+    @Test
+    @DisplayName("Deve remover do cache público as páginas das OS do cliente")
+    void shouldEvictPublicPagesOfClientWorkOrders() {
+        UUID firstWorkOrderId = UUID.randomUUID();
+        UUID secondWorkOrderId = UUID.randomUUID();
+        when(repository.findById(client.getId())).thenReturn(Optional.of(client));
+        when(repository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workOrderRepository.findIdsByClientId(client.getId())).thenReturn(List.of(firstWorkOrderId, secondWorkOrderId));
+
+        useCase.execute(client.getId(), null, "11888888888", null, null, null, null);
+
+        verify(publicWorkOrderCache).evictWorkOrder(firstWorkOrderId);
+        verify(publicWorkOrderCache).evictWorkOrder(secondWorkOrderId);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando cliente não encontrado")
     void shouldThrowExceptionWhenClientNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID nonExistentId = UUID.randomUUID();
         when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
         
         assertThatThrownBy(() -> useCase.execute(
                 nonExistentId,
@@ -131,5 +143,6 @@ class UpdateClientUseCaseTest {
 
         verify(repository).findById(nonExistentId);
         verify(repository, never()).save(any(Client.class));
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
     }
 }
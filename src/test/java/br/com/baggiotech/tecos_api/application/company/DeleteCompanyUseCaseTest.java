@@ -31,13 +31,9 @@ class DeleteCompanyUseCaseTest {
     @Test
     @DisplayName("Deve deletar empresa com sucesso")
     void shouldDeleteCompanySuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID companyId = UUID.randomUUID();
         when(repository.existsById(companyId)).thenReturn(true);
         doNothing().when(repository).deleteById(companyId);
-        when(metrics.startTimer()).thenReturn(sample);
         
         useCase.execute(companyId);
         verify(repository).existsById(companyId);
@@ -47,12 +43,8 @@ class DeleteCompanyUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando empresa não encontrada")
     void shouldThrowExceptionWhenCompanyNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID nonExistentId = UUID.randomUUID();
         when(repository.existsById(nonExistentId)).thenReturn(false);
-        when(metrics.startTimer()).thenReturn(sample);
         
         assertThatThrownBy(() -> useCase.execute(nonExistentId))
                 .isInstanceOf(EntityNotFoundException.class)
@@ -55,13 +55,9 @@ class UpdateCompanyUseCaseTest {
     @Test
     @DisplayName("Deve atualizar empresa com sucesso")
     void shouldUpdateCompanySuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(companyId)).thenReturn(Optional.of(existingCompany));
         when(repository.existsByEmailAndIdNot(anyString(), any(UUID.class))).thenReturn(false);
         when(repository.save(any(Company.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(metrics.startTimer()).thenReturn(sample);
         
         Company result = useCase.execute(
                 companyId,
@@ -87,12 +83,8 @@ class UpdateCompanyUseCaseTest {
     @Test
     @DisplayName("Deve atualizar apenas campos fornecidos")
     void shouldUpdateOnlyProvidedFields() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(companyId)).thenReturn(Optional.of(existingCompany));
         when(repository.save(any(Company.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(metrics.startTimer()).thenReturn(sample);
         
         Company result = useCase.execute(
                 companyId,
@@ -114,12 +106,8 @@ class UpdateCompanyUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando empresa não encontrada")
     void shouldThrowExceptionWhenCompanyNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID nonExistentId = UUID.randomUUID();
         when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
         
         assertThatThrownBy(() -> useCase.execute(
                 nonExistentId,
@@ -137,12 +125,8 @@ class UpdateCompanyUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando email já existe em outra empresa")
     void shouldThrowExceptionWhenEmailExistsInAnotherCompany() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(companyId)).thenReturn(Optional.of(existingCompany));
         when(repository.existsByEmailAndIdNot("existing@example.com", companyId)).thenReturn(true);
-        when(metrics.startTimer()).thenReturn(sample);
         
         assertThatThrownBy(() -> useCase.execute(
                 companyId,
@@ -161,12 +145,8 @@ class UpdateCompanyUseCaseTest {
     @Test
     @DisplayName("Não deve validar email quando é o mesmo da empresa")
     void shouldNotValidateEmailWhenSameAsExisting() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(repository.findById(companyId)).thenReturn(Optional.of(existingCompany));
         when(repository.save(any(Company.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(metrics.startTimer()).thenReturn(sample);
         
         useCase.execute(
                 companyId,
@@ -0,0 +1,52 @@
+package br.com.baggiotech.tecos_api.application.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetDashboardSummaryUseCase Tests")
+class GetDashboardSummaryUseCaseTest {
+
+    @Mock
+    private CompanyStatusCounterRepository counterRepository;
+
+    @InjectMocks
+    private GetDashboardSummaryUseCase useCase;
+
+    @Test
+    @DisplayName("Deve retornar todos os status, com zero para os que não têm contador")
+    void shouldFillMissingStatusesWithZero() {
+        UUID companyId = UUID.randomUUID();
+        when(counterRepository.findByCompanyId(companyId))
+                .thenReturn(Map.of(OrderStatus.RECEBIDO, 4L, OrderStatus.ENTREGUE, 2L));
+
+        Map<OrderStatus, Long> result = useCase.execute(companyId);
+
+        assertThat(result).containsOnlyKeys(OrderStatus.values());
+        assertThat(result.get(OrderStatus.RECEBIDO)).isEqualTo(4L);
+        assertThat(result.get(OrderStatus.ENTREGUE)).isEqualTo(2L);
+        assertThat(result.get(OrderStatus.CANCELADO)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve exigir a empresa")
+    void shouldRequireCompany() {
+        assertThatThrownBy(() -> useCase.execute(null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(counterRepository);
+    }
+}
@@ -1,21 +1,27 @@
 package br.com.baggiotech.tecos_api.application.equipment;
 
 import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
+import br.com.baggiotech.tecos_api.domain.equipment.EquipmentFilter;
 import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,68 +53,76 @@ class ListEquipmentsUseCaseTest {
         equipment2.setType("Desktop");
     }
 
+    private void stubPage(List<Equipment> content, long total) {
+        when(repository.findAll(any(EquipmentFilter.class), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(content, invocation.getArgument(1), total));
+    }
+
+    private EquipmentFilter captureFilter() {
+        ArgumentCaptor<EquipmentFilter> captor = ArgumentCaptor.forClass(EquipmentFilter.class);
+        verify(repository).findAll(captor.capture(), any(Pageable.class));
+        return captor.getValue();
+    }
+
+    private Pageable capturePageable() {
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findAll(any(EquipmentFilter.class), captor.capture());
+        return captor.getValue();
+    }
+
     @Test
     @DisplayName("Deve listar todos os equipments")
     void shouldListAllEquipments() {
-        List<Equipment> equipments = Arrays.asList(equipment1, equipment2);
-        when(repository.findAll()).thenReturn(equipments);
+        stubPage(Arrays.asList(equipment1, equipment2), 2);
 
         Page<Equipment> result = useCase.execute(null, null, null, "type", "asc", 0, 10);
 
-        assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
-        verify(repository).findAll();
+        assertThat(captureFilter()).isEqualTo(new EquipmentFilter(null, null, null));
     }
 
     @Test
-    @DisplayName("Deve filtrar por companyId")
-    void shouldFilterByCompanyId() {
-        List<Equipment> equipments = Arrays.asList(equipment1);
-        when(repository.findByCompanyId(companyId)).thenReturn(equipments);
+    @DisplayName("Deve combinar companyId, clientId e search em uma única consulta")
+    void shouldCombineFiltersInSingleQuery() {
+        stubPage(List.of(equipment1), 1);
 
-        Page<Equipment> result = useCase.execute(companyId, null, null, "type", "asc", 0, 10);
+        useCase.execute(companyId, clientId, "dell", "type", "asc", 0, 10);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByCompanyId(companyId);
+        assertThat(captureFilter()).isEqualTo(new EquipmentFilter(companyId, clientId, "dell"));
+        verify(repository, never()).findByCompanyIdAndClientId(any(), any());
+        verify(repository, never()).findByClientIdAndSearch(any(), any());
     }
 
     @Test
-    @DisplayName("Deve filtrar por clientId")
-    void shouldFilterByClientId() {
-        List<Equipment> equipments = Arrays.asList(equipment1);
-        when(repository.findByClientId(clientId)).thenReturn(equipments);
+    @DisplayName("Deve delegar paginação e ordenação ao repositório")
+    void shouldDelegatePaginationAndSortToRepository() {
+        stubPage(List.of(equipment2), 2);
 
-        Page<Equipment> result = useCase.execute(null, clientId, null, "type", "asc", 0, 10);
+        Page<Equipment> result = useCase.execute(null, clientId, null, "serial_number", "desc", 1, 1);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByClientId(clientId);
+        Pageable pageable = capturePageable();
+        assertThat(pageable.getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getPageSize()).isEqualTo(1);
+        assertThat(pageable.getSort().getOrderFor("serialNumber").getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(pageable.getSort().getOrderFor("id")).isNotNull();
+        assertThat(result.getTotalElements()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("Deve filtrar por companyId e clientId")
-    void shouldFilterByCompanyIdAndClientId() {
-        List<Equipment> equipments = Arrays.asList(equipment1);
-        when(repository.findByCompanyIdAndClientId(companyId, clientId)).thenReturn(equipments);
+    @DisplayName("Deve deixar a busca sem ordenação explícita para ordenar por relevância")
+    void shouldLeaveSearchUnsortedForRelevance() {
+        stubPage(List.of(equipment1), 1);
 
-        Page<Equipment> result = useCase.execute(companyId, clientId, null, "type", "asc", 0, 10);
+        useCase.execute(companyId, null, "dell", null, null, 0, 10);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByCompanyIdAndClientId(companyId, clientId);
+        assertThat(capturePageable().getSort().isUnsorted()).isTrue();
     }
 
     @Test
-    @DisplayName("Deve aplicar paginação")
-    void shouldApplyPagination() {
-        List<Equipment> equipments = Arrays.asList(equipment1, equipment2);
-        when(repository.findAll()).thenReturn(equipments);
-
-        Page<Equipment> result = useCase.execute(null, null, null, "type", "asc", 0, 1);
-
-        assertThat(result).isNotNull();
-        assertThat(result.getSize()).isEqualTo(1);
-        assertThat(result.getTotalElements()).isEqualTo(2);
+    @DisplayName("Deve usar type como ordenação padrão")
+    void shouldDefaultToTypeSort() {
+        assertThat(ListEquipmentsUseCase.resolveSortProperty(null)).isEqualTo("type");
+        assertThat(ListEquipmentsUseCase.resolveSortProperty("unknown")).isEqualTo("type");
+        assertThat(ListEquipmentsUseCase.resolveSortProperty("brand")).isEqualTo("brand");
     }
 }
@@ -0,0 +1,92 @@
+package br.com.baggiotech.tecos_api.application.equipment;
+
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
+import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
+import br.com.baggiotech.tecos_api.domain.equipment.EquipmentRepository;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateEquipmentUseCase Tests")
+class UpdateEquipmentUseCaseTest {
+
+    @Mock
+    private EquipmentRepository repository;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private CustomMetrics metrics;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @InjectMocks
+    private UpdateEquipmentUseCase useCase;
+
+    private Equipment equipment;
+    private UUID equipmentId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = UUID.randomUUID();
+        Client client = new Client();
+        client.setId(UUID.randomUUID());
+        equipment = new Equipment();
+        equipment.setId(equipmentId);
+        equipment.setClient(client);
+        equipment.setType("Notebook");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o equipamento e remover do cache público as páginas das OS dele")
+    void shouldUpdateEquipmentAndEvictPublicPages() {
+        UUID workOrderId = UUID.randomUUID();
+        when(repository.findById(equipmentId)).thenReturn(Optional.of(equipment));
+        when(repository.save(any(Equipment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workOrderRepository.findIdsByEquipmentId(equipmentId)).thenReturn(List.of(workOrderId));
+
+        Equipment result = useCase.execute(equipmentId, null, null, null, "Dell", "Inspiron", null, null);
+
+        assertThat(result.getBrand()).isEqualTo("Dell");
+        assertThat(result.getModel()).isEqualTo("Inspiron");
+        verify(metrics).incrementEquipmentsUpdated();
+        verify(publicWorkOrderCache).evictWorkOrder(workOrderId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando equipment não encontrado")
+    void shouldThrowExceptionWhenEquipmentNotFound() {
+        when(repository.findById(equipmentId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(equipmentId, null, null, null, "Dell", null, null, null))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Equipment");
+
+        verify(repository, never()).save(any());
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
+    }
+}
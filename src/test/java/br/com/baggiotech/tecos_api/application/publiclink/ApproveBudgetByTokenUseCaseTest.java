@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.application.publiclink;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -20,7 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,6 +43,12 @@ class ApproveBudgetByTokenUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @Mock
+    private BudgetRollupRecorder rollupRecorder;
+
     @InjectMocks
     private ApproveBudgetByTokenUseCase useCase;
 
@@ -49,7 +56,6 @@ class ApproveBudgetByTokenUseCaseTest {
     private WorkOrder workOrder;
     private PublicLink publicLink;
     private Budget budget;
-    private Budget otherApprovedBudget;
     private String token;
     private UUID budgetId;
 
@@ -76,11 +82,6 @@ class ApproveBudgetByTokenUseCaseTest {
         budget.setWorkOrder(workOrder);
         budget.setStatus(BudgetStatus.PENDENTE);
         budget.setTotalValue(new BigDecimal("150.00"));
-
-        otherApprovedBudget = new Budget();
-        otherApprovedBudget.setId(UUID.randomUUID());
-        otherApprovedBudget.setWorkOrder(workOrder);
-        otherApprovedBudget.setStatus(BudgetStatus.APROVADO);
     }
 
     @Test
@@ -88,9 +89,7 @@ class ApproveBudgetByTokenUseCaseTest {
     void shouldApproveBudgetByTokenSuccessfullyWithoutUser() {
         when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
         when(budgetRepository.findById(budgetId)).thenReturn(Optional.of(budget));
-        when(budgetRepository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList());
-        when(budgetRepository.save(any(Budget.class))).thenReturn(budget);
+        when(budgetRepository.approveExclusively(budget)).thenReturn(true);
 
         Budget result = useCase.execute(token, budgetId, null);
 
@@ -99,7 +98,8 @@ class ApproveBudgetByTokenUseCaseTest {
         assertThat(result.getApprovalMethod()).isEqualTo("link");
         assertThat(result.getApprovedBy()).isNull(); // Cliente aprova = null
 
-        verify(budgetRepository).save(budget);
+        verify(budgetRepository).approveExclusively(budget);
+        verify(publicWorkOrderCache).evictWorkOrder(workOrder.getId());
     }
 
     @Test
@@ -111,10 +111,8 @@ class ApproveBudgetByTokenUseCaseTest {
 
         when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
         when(budgetRepository.findById(budgetId)).thenReturn(Optional.of(budget));
-        when(budgetRepository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList());
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(budgetRepository.save(any(Budget.class))).thenReturn(budget);
+        when(budgetRepository.approveExclusively(budget)).thenReturn(true);
 
         Budget result = useCase.execute(token, budgetId, user.getId());
 
@@ -124,7 +122,7 @@ class ApproveBudgetByTokenUseCaseTest {
         assertThat(result.getApprovedBy()).isNotNull(); // Operador aprova = ID salvo
 
         verify(userRepository).findById(user.getId());
-        verify(budgetRepository).save(budget);
+        verify(budgetRepository).approveExclusively(budget);
     }
 
     @Test
@@ -132,18 +130,27 @@ class ApproveBudgetByTokenUseCaseTest {
     void shouldUnapproveOtherApprovedBudgets() {
         when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
         when(budgetRepository.findById(budgetId)).thenReturn(Optional.of(budget));
-        when(budgetRepository.findByWorkOrderIdAndStatus(workOrder.getId(), BudgetStatus.APROVADO))
-                .thenReturn(Arrays.asList(otherApprovedBudget));
-        when(budgetRepository.save(any(Budget.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(budgetRepository.approveExclusively(budget)).thenReturn(true);
 
         useCase.execute(token, budgetId, null);
 
-        // Verificar que o outro orçamento foi desaprovado
-        verify(budgetRepository, atLeast(2)).save(any(Budget.class));
-        verify(budgetRepository).save(argThat(b -> 
-            b.getId().equals(otherApprovedBudget.getId()) && 
-            b.getStatus() == BudgetStatus.PENDENTE
-        ));
+        // A desaprovação dos demais é feita pelo repositório, no mesmo passo da aprovação
+        verify(budgetRepository).approveExclusively(argThat(b -> b.getStatus() == BudgetStatus.APROVADO));
+        verify(budgetRepository, never()).save(any(Budget.class));
+        verify(rollupRecorder).approved(budget, List.of());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o orçamento deixou de estar pendente antes da aprovação")
+    void shouldThrowExceptionWhenBudgetProcessedConcurrently() {
+        when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
+        when(budgetRepository.findById(budgetId)).thenReturn(Optional.of(budget));
+        when(budgetRepository.approveExclusively(budget)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(token, budgetId, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
     }
 
     @Test
@@ -156,7 +163,7 @@ class ApproveBudgetByTokenUseCaseTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("PublicLink");
 
-        verify(budgetRepository, never()).save(any(Budget.class));
+        verify(budgetRepository, never()).approveExclusively(any());
     }
 
     @Test
@@ -173,7 +180,7 @@ class ApproveBudgetByTokenUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("não pertence à ordem de serviço");
 
-        verify(budgetRepository, never()).save(any(Budget.class));
+        verify(budgetRepository, never()).approveExclusively(any());
     }
 
     @Test
@@ -188,7 +195,7 @@ class ApproveBudgetByTokenUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("já foi processado");
 
-        verify(budgetRepository, never()).save(any(Budget.class));
+        verify(budgetRepository, never()).approveExclusively(any());
     }
 
     @Test
@@ -203,6 +210,6 @@ class ApproveBudgetByTokenUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("não está aguardando aprovação");
 
-        verify(budgetRepository, never()).save(any(Budget.class));
+        verify(budgetRepository, never()).approveExclusively(any());
     }
 }
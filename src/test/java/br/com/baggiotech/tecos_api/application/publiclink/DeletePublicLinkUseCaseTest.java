@@ -26,6 +26,9 @@ class DeletePublicLinkUseCaseTest {
     @Mock
     private PublicLinkRepository repository;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
     @InjectMocks
     private DeletePublicLinkUseCase useCase;
 
@@ -60,6 +63,7 @@ class DeletePublicLinkUseCaseTest {
 
         verify(repository).findById(linkId);
         verify(repository).delete(publicLink);
+        verify(publicWorkOrderCache).evictToken("test-token");
     }
 
     @Test
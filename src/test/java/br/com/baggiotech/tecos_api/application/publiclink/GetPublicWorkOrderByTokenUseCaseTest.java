@@ -9,15 +9,16 @@ import br.com.baggiotech.tecos_api.domain.publiclink.PublicLink;
 import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -38,7 +39,7 @@ class GetPublicWorkOrderByTokenUseCaseTest {
     @Mock
     private BudgetRepository budgetRepository;
 
-    @InjectMocks
+    private PublicWorkOrderCache cache;
     private GetPublicWorkOrderByTokenUseCase useCase;
 
     private Company company;
@@ -50,6 +51,8 @@ class GetPublicWorkOrderByTokenUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        cache = new PublicWorkOrderCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        useCase = new GetPublicWorkOrderByTokenUseCase(publicLinkRepository, budgetRepository, cache);
         token = "test-token-123";
         
         company = new Company();
@@ -96,17 +99,57 @@ class GetPublicWorkOrderByTokenUseCaseTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getWorkOrder()).isNotNull();
-        assertThat(result.getWorkOrder().getId()).isEqualTo(workOrder.getId());
+        assertThat(result.getWorkOrder().id()).isEqualTo(workOrder.getId());
         assertThat(result.getBudgets()).hasSize(2);
         
         // Verificar que budgets estão ordenados por created_at desc (mais recente primeiro)
-        assertThat(result.getBudgets().get(0).getId()).isEqualTo(budget2.getId());
-        assertThat(result.getBudgets().get(1).getId()).isEqualTo(budget1.getId());
+        assertThat(result.getBudgets().get(0).id()).isEqualTo(budget2.getId());
+        assertThat(result.getBudgets().get(1).id()).isEqualTo(budget1.getId());
 
         verify(publicLinkRepository).findByToken(token);
         verify(budgetRepository).findByWorkOrderId(workOrder.getId());
     }
 
+    @Test
+    @DisplayName("Deve servir leituras repetidas do cache até a OS ser alterada")
+    void shouldServeRepeatedReadsFromCacheUntilEvicted() {
+        when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
+        when(budgetRepository.findByWorkOrderId(workOrder.getId())).thenReturn(List.of(budget1));
+
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData first = useCase.execute(token);
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData second = useCase.execute(token);
+
+        assertThat(second).isSameAs(first);
+        verify(publicLinkRepository, times(1)).findByToken(token);
+        verify(budgetRepository, times(1)).findByWorkOrderId(workOrder.getId());
+
+        budget1.setStatus(BudgetStatus.REJEITADO);
+        cache.evictWorkOrder(workOrder.getId());
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData reloaded = useCase.execute(token);
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.getEtag()).isNotEqualTo(first.getEtag());
+        verify(publicLinkRepository, times(2)).findByToken(token);
+    }
+
+    @Test
+    @DisplayName("Não deve expor no cache alterações feitas depois nos objetos carregados")
+    void shouldCacheImmutableSnapshot() {
+        when(publicLinkRepository.findByToken(token)).thenReturn(Optional.of(publicLink));
+        when(budgetRepository.findByWorkOrderId(workOrder.getId())).thenReturn(List.of(budget1));
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData first = useCase.execute(token);
+        BudgetStatus status = first.getBudgets().get(0).status();
+        String defect = first.getWorkOrder().reportedDefect();
+
+        budget1.setStatus(BudgetStatus.REJEITADO);
+        workOrder.setReportedDefect("Alterado fora do cache");
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData cached = useCase.execute(token);
+
+        assertThat(cached.getBudgets().get(0).status()).isEqualTo(status).isNotEqualTo(BudgetStatus.REJEITADO);
+        assertThat(cached.getWorkOrder().reportedDefect()).isEqualTo(defect);
+        assertThat(cached.getEtag()).isEqualTo(first.getEtag());
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando não há orçamentos")
     void shouldReturnEmptyListWhenNoBudgets() {
@@ -132,6 +175,18 @@ class GetPublicWorkOrderByTokenUseCaseTest {
         verify(budgetRepository, never()).findByWorkOrderId(any(UUID.class));
     }
 
+    @Test
+    @DisplayName("Não deve armazenar token inexistente no cache")
+    void shouldNotCacheMissingToken() {
+        String nonExistentToken = "non-existent-token";
+        when(publicLinkRepository.findByToken(nonExistentToken)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(nonExistentToken)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> useCase.execute(nonExistentToken)).isInstanceOf(EntityNotFoundException.class);
+
+        verify(publicLinkRepository, times(2)).findByToken(nonExistentToken);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando work order não encontrado no link")
     void shouldThrowExceptionWhenWorkOrderNotFound() {
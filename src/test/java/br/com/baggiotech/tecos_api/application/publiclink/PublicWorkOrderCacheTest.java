@@ -0,0 +1,156 @@
+package br.com.baggiotech.tecos_api.application.publiclink;
+
+import br.com.baggiotech.tecos_api.application.publiclink.GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData;
+import br.com.baggiotech.tecos_api.domain.budget.Budget;
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PublicWorkOrderCache Tests")
+class PublicWorkOrderCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublicWorkOrderCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PublicWorkOrderCache(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static WorkOrder workOrder(UUID id) {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setId(id);
+        workOrder.setStatus(OrderStatus.AGUARDANDO_APROVACAO);
+        workOrder.setUpdatedAt(LocalDateTime.of(2024, 1, 10, 12, 0));
+        return workOrder;
+    }
+
+    private static Budget budget(BudgetStatus status) {
+        Budget budget = new Budget();
+        budget.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        budget.setTotalValue(new BigDecimal("150.00"));
+        budget.setStatus(status);
+        return budget;
+    }
+
+    private PublicWorkOrderData load(WorkOrder workOrder) {
+        return cache.get(workOrder.getId() + "-token", token -> {
+            loads.incrementAndGet();
+            return new PublicWorkOrderData(workOrder, List.of());
+        });
+    }
+
+    @Test
+    @DisplayName("Deve carregar o token apenas uma vez e publicar métricas")
+    void shouldLoadTokenOnlyOnce() {
+        WorkOrder workOrder = workOrder(UUID.randomUUID());
+
+        load(workOrder);
+        load(workOrder);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PublicWorkOrderCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as entradas da OS informada")
+    void shouldEvictOnlyEntriesOfWorkOrder() {
+        WorkOrder changed = workOrder(UUID.randomUUID());
+        WorkOrder untouched = workOrder(UUID.randomUUID());
+        load(changed);
+        load(untouched);
+
+        cache.evictWorkOrder(changed.getId());
+        load(changed);
+        load(untouched);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Deve remover todos os tokens da OS e limpar o índice")
+    void shouldEvictEveryTokenOfWorkOrder() {
+        WorkOrder workOrder = workOrder(UUID.randomUUID());
+        load(workOrder);
+        cache.get("second-token", token -> {
+            loads.incrementAndGet();
+            return new PublicWorkOrderData(workOrder, List.of());
+        });
+
+        cache.evictWorkOrder(workOrder.getId());
+        load(workOrder);
+
+        assertThat(loads).hasValue(3);
+        cache.invalidateAll();
+        assertThat(cache.indexedWorkOrders()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve manter no índice entradas removidas por tamanho")
+    void shouldUnindexEntriesEvictedBySize() {
+        cache = new PublicWorkOrderCache(meterRegistry, 1, Duration.ofMinutes(5));
+        WorkOrder first = workOrder(UUID.randomUUID());
+        WorkOrder second = workOrder(UUID.randomUUID());
+
+        load(first);
+        load(second);
+
+        assertThat(cache.indexedWorkOrders()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve repetir a remoção após o commit da transação")
+    void shouldEvictAgainAfterCommit() {
+        WorkOrder workOrder = workOrder(UUID.randomUUID());
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictWorkOrder(workOrder.getId());
+        // Leitura concorrente antes do commit repovoa o cache com o estado antigo
+        load(workOrder);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        load(workOrder);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETag estável que muda quando os dados públicos mudam")
+    void shouldComputeEtagFromPublicFields() {
+        WorkOrder workOrder = workOrder(UUID.randomUUID());
+
+        String pending = new PublicWorkOrderData(workOrder, List.of(budget(BudgetStatus.PENDENTE))).getEtag();
+        String pendingAgain = new PublicWorkOrderData(workOrder, List.of(budget(BudgetStatus.PENDENTE))).getEtag();
+        String approved = new PublicWorkOrderData(workOrder, List.of(budget(BudgetStatus.APROVADO))).getEtag();
+
+        assertThat(pending).startsWith("\"").endsWith("\"");
+        assertThat(pending).isEqualTo(pendingAgain);
+        assertThat(approved).isNotEqualTo(pending);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.baggiotech.tecos_api.application.publiclink;
 
+import br.com.baggiotech.tecos_api.application.analytics.BudgetRollupRecorder;
 import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetRepository;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
@@ -36,6 +37,12 @@ class RejectBudgetByTokenUseCaseTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @Mock
+    private BudgetRollupRecorder rollupRecorder;
+
     @InjectMocks
     private RejectBudgetByTokenUseCase useCase;
 
@@ -87,6 +94,8 @@ class RejectBudgetByTokenUseCaseTest {
         assertThat(result.getRejectionReason()).isEqualTo(rejectionReason.trim());
 
         verify(budgetRepository).save(budget);
+        verify(publicWorkOrderCache).evictWorkOrder(workOrder.getId());
+        verify(rollupRecorder).rejected(budget, BudgetStatus.PENDENTE);
     }
 
     @Test
@@ -78,9 +78,6 @@ class CreateUserUseCaseTest {
         when(repository.existsByEmailAndCompanyId(anyString(), any(UUID.class))).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$encodedPassword");
         when(repository.save(any(User.class))).thenReturn(savedUser);
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        when(metrics.startTimer()).thenReturn(sample);
 
         User result = useCase.execute(
                 companyId,
@@ -107,9 +104,6 @@ class CreateUserUseCaseTest {
     @Test
     @DisplayName("Deve criar usuário com isActive padrão como true quando não informado")
     void shouldCreateUserWithDefaultIsActive() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(repository.existsByEmailAndCompanyId(anyString(), any(UUID.class))).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$encodedPassword");
@@ -118,7 +112,6 @@ class CreateUserUseCaseTest {
             assertThat(user.getIsActive()).isTrue();
             return savedUser;
         });
-        when(metrics.startTimer()).thenReturn(sample);
 
         useCase.execute(companyId, "Test User", "user@example.com", "password123", "TECNICO", null);
 
@@ -128,11 +121,7 @@ class CreateUserUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando company não existe")
     void shouldThrowExceptionWhenCompanyNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(companyRepository.findById(companyId)).thenReturn(Optional.empty());
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 companyId,
@@ -152,12 +141,8 @@ class CreateUserUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando email já existe na company")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(repository.existsByEmailAndCompanyId("existing@example.com", companyId)).thenReturn(true);
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 companyId,
@@ -179,12 +164,8 @@ class CreateUserUseCaseTest {
     @Test
     @DisplayName("Deve lançar exceção quando tipo é inválido")
     void shouldThrowExceptionWhenTypeIsInvalid() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(repository.existsByEmailAndCompanyId(anyString(), any(UUID.class))).thenReturn(false);
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(
                 companyId,
@@ -203,15 +184,11 @@ class CreateUserUseCaseTest {
     @Test
     @DisplayName("Deve criar usuário do tipo ADMIN")
     void shouldCreateAdminUser() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
         when(repository.existsByEmailAndCompanyId(anyString(), any(UUID.class))).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$encodedPassword");
         savedUser.setType("ADMIN");
         when(repository.save(any(User.class))).thenReturn(savedUser);
-        when(metrics.startTimer()).thenReturn(sample);
 
         User result = useCase.execute(
                 companyId,
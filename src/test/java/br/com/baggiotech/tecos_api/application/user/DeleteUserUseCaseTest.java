@@ -3,6 +3,7 @@ package br.com.baggiotech.tecos_api.application.user;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,35 +26,31 @@ class DeleteUserUseCaseTest {
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private UserTenantCache userTenantCache;
+
     @InjectMocks
     private DeleteUserUseCase useCase;
 
     @Test
     @DisplayName("Deve deletar usuário com sucesso")
     void shouldDeleteUserSuccessfully() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID userId = UUID.randomUUID();
         when(repository.existsById(userId)).thenReturn(true);
         doNothing().when(repository).deleteById(userId);
-        when(metrics.startTimer()).thenReturn(sample);
 
         useCase.execute(userId);
 
         verify(repository).existsById(userId);
         verify(repository).deleteById(userId);
+        verify(userTenantCache).invalidate(userId);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando usuário não encontrado")
     void shouldThrowExceptionWhenUserNotFound() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        io.micrometer.core.instrument.Timer.Sample sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
-        
         UUID nonExistentId = UUID.randomUUID();
         when(repository.existsById(nonExistentId)).thenReturn(false);
-        when(metrics.startTimer()).thenReturn(sample);
 
         assertThatThrownBy(() -> useCase.execute(nonExistentId))
                 .isInstanceOf(EntityNotFoundException.class)
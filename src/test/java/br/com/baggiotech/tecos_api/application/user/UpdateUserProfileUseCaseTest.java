@@ -5,6 +5,7 @@ import br.com.baggiotech.tecos_api.domain.exception.EntityAlreadyExistsException
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class UpdateUserProfileUseCaseTest {
     @Mock
     private UserRepository repository;
 
+    @Mock
+    private UserTenantCache userTenantCache;
+
     @InjectMocks
     private UpdateUserProfileUseCase useCase;
 
@@ -75,6 +79,7 @@ class UpdateUserProfileUseCaseTest {
         verify(repository).findById(userId);
         verify(repository).existsByEmailAndCompanyIdAndIdNot("updated@example.com", companyId, userId);
         verify(repository).save(any(User.class));
+        verify(userTenantCache).invalidate(userId);
     }
 
     @Test
@@ -0,0 +1,146 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.application.workorder.WorkOrderStatusChange.Outcome;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchUpdateWorkOrderStatusUseCase Tests")
+class BatchUpdateWorkOrderStatusUseCaseTest {
+
+    @Mock
+    private WorkOrderRepository repository;
+
+    @Mock
+    private WorkOrderHistoryRepository workOrderHistoryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CompanyStatusCounterRepository counterRepository;
+
+    @Mock
+    private CustomMetrics metrics;
+
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @InjectMocks
+    private BatchUpdateWorkOrderStatusUseCase useCase;
+
+    private UUID companyId;
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        companyId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        user = new User();
+        user.setId(userId);
+
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Deve aplicar as transições válidas e informar o resultado de cada OS")
+    void shouldApplyValidTransitionsAndReportEachItem() {
+        UUID delivered = UUID.randomUUID();
+        UUID conflicting = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(delivered, conflicting, cancelled, missing, delivered);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(repository.findStatusesByIdIn(any())).thenReturn(List.of(
+                new WorkOrderStatusView(delivered, companyId, OrderStatus.PRONTO),
+                new WorkOrderStatusView(conflicting, companyId, OrderStatus.PRONTO),
+                new WorkOrderStatusView(cancelled, companyId, OrderStatus.CANCELADO)));
+        when(repository.compareAndSetStatuses(List.of(delivered, conflicting), OrderStatus.PRONTO, OrderStatus.ENTREGUE))
+                .thenReturn(Set.of(delivered));
+
+        List<WorkOrderStatusChange> result = useCase.execute(ids, OrderStatus.ENTREGUE, "Fechamento do dia", userId);
+
+        assertThat(result).containsExactly(
+                new WorkOrderStatusChange(delivered, Outcome.UPDATED, OrderStatus.PRONTO),
+                new WorkOrderStatusChange(conflicting, Outcome.CONFLICT, OrderStatus.PRONTO),
+                new WorkOrderStatusChange(cancelled, Outcome.INVALID_TRANSITION, OrderStatus.CANCELADO),
+                new WorkOrderStatusChange(missing, Outcome.NOT_FOUND, null));
+
+        ArgumentCaptor<List<WorkOrderHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(workOrderHistoryRepository).saveAll(histories.capture());
+        assertThat(histories.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getWorkOrder().getId()).isEqualTo(delivered);
+            assertThat(history.getWorkOrder().getCompany().getId()).isEqualTo(companyId);
+            assertThat(history.getStatusBefore()).isEqualTo(OrderStatus.PRONTO);
+            assertThat(history.getStatusAfter()).isEqualTo(OrderStatus.ENTREGUE);
+            assertThat(history.getObservation()).isEqualTo("Fechamento do dia");
+        });
+        verify(publicWorkOrderCache).evictWorkOrder(delivered);
+        verify(publicWorkOrderCache, never()).evictWorkOrder(conflicting);
+        verify(metrics, times(1)).incrementWorkOrdersUpdated();
+        verify(counterRepository).move(companyId, OrderStatus.PRONTO, OrderStatus.ENTREGUE, 1L);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("Deve emitir um UPDATE por status de origem")
+    void shouldIssueOneUpdatePerSourceStatus() {
+        UUID received = UUID.randomUUID();
+        UUID analysing = UUID.randomUUID();
+        when(repository.findStatusesByIdIn(any())).thenReturn(List.of(
+                new WorkOrderStatusView(received, companyId, OrderStatus.RECEBIDO),
+                new WorkOrderStatusView(analysing, companyId, OrderStatus.EM_ANALISE)));
+        when(repository.compareAndSetStatuses(List.of(received), OrderStatus.RECEBIDO, OrderStatus.CANCELADO))
+                .thenReturn(Set.of(received));
+        when(repository.compareAndSetStatuses(List.of(analysing), OrderStatus.EM_ANALISE, OrderStatus.CANCELADO))
+                .thenReturn(Set.of(analysing));
+
+        List<WorkOrderStatusChange> result = useCase.execute(List.of(received, analysing), OrderStatus.CANCELADO, null, null);
+
+        assertThat(result).extracting(WorkOrderStatusChange::outcome).containsOnly(Outcome.UPDATED);
+        verify(workOrderHistoryRepository, never()).saveAll(any());
+        verify(counterRepository).move(companyId, OrderStatus.RECEBIDO, OrderStatus.CANCELADO, 1L);
+        verify(counterRepository).move(companyId, OrderStatus.EM_ANALISE, OrderStatus.CANCELADO, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando usuário não encontrado, sem alterar nada")
+    void shouldThrowWhenUserNotFound() {
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(List.of(UUID.randomUUID()), OrderStatus.ENTREGUE, null, userId))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(repository, never()).compareAndSetStatuses(any(), any(), any());
+    }
+}
@@ -1,18 +1,22 @@
 package br.com.baggiotech.tecos_api.application.workorder;
 
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
-import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.user.UserRepository;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
-import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusConflictException;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryEvent;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryOutbox;
 import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
-import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,7 +27,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.*;
 
@@ -35,19 +38,24 @@ class CancelWorkOrderUseCaseTest {
     private WorkOrderRepository repository;
 
     @Mock
-    private WorkOrderHistoryRepository workOrderHistoryRepository;
+    private WorkOrderHistoryOutbox historyOutbox;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CompanyStatusCounterRepository counterRepository;
+
     @Mock
     private CustomMetrics metrics;
 
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
     @InjectMocks
     private CancelWorkOrderUseCase useCase;
 
     private WorkOrder workOrder;
-    private User user;
     private UUID workOrderId;
     private UUID userId;
 
@@ -59,18 +67,14 @@ class CancelWorkOrderUseCaseTest {
         workOrder = new WorkOrder();
         workOrder.setId(workOrderId);
         workOrder.setStatus(OrderStatus.RECEBIDO);
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        workOrder.setCompany(company);
 
-        user = new User();
-        user.setId(userId);
     }
 
     private void setupMetrics() {
-        io.micrometer.core.instrument.simple.SimpleMeterRegistry meterRegistry = 
-            new io.micrometer.core.instrument.simple.SimpleMeterRegistry();
-        Timer.Sample sample = Timer.start(meterRegistry);
-        lenient().when(metrics.startTimer()).thenReturn(sample);
         lenient().doNothing().when(metrics).incrementWorkOrdersUpdated();
-        lenient().doNothing().when(metrics).recordTimer(any(Timer.Sample.class), anyString());
     }
 
     @Test
@@ -78,16 +82,22 @@ class CancelWorkOrderUseCaseTest {
     void shouldCancelWorkOrderSuccessfully() {
         setupMetrics();
         when(repository.findById(workOrderId)).thenReturn(Optional.of(workOrder));
-        when(repository.save(any(WorkOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(workOrderHistoryRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.compareAndSetStatus(workOrder, OrderStatus.RECEBIDO)).thenReturn(true);
+        when(userRepository.existsById(userId)).thenReturn(true);
 
         WorkOrder result = useCase.execute(workOrderId, userId);
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELADO);
-        verify(repository).save(any(WorkOrder.class));
-        verify(workOrderHistoryRepository).save(any());
+        verify(repository).compareAndSetStatus(workOrder, OrderStatus.RECEBIDO);
+        ArgumentCaptor<WorkOrderHistoryEvent> event = ArgumentCaptor.forClass(WorkOrderHistoryEvent.class);
+        verify(historyOutbox).enqueue(event.capture());
+        assertThat(event.getValue().userId()).isEqualTo(userId);
+        assertThat(event.getValue().statusBefore()).isEqualTo(OrderStatus.RECEBIDO);
+        assertThat(event.getValue().statusAfter()).isEqualTo(OrderStatus.CANCELADO);
+        verify(userRepository, never()).findById(any());
+        verify(publicWorkOrderCache).evictWorkOrder(workOrderId);
+        verify(counterRepository).move(workOrder.getCompany().getId(), OrderStatus.RECEBIDO, OrderStatus.CANCELADO, 1);
     }
 
     @Test
@@ -101,7 +111,7 @@ class CancelWorkOrderUseCaseTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("WorkOrder");
 
-        verify(repository, never()).save(any(WorkOrder.class));
+        verify(repository, never()).compareAndSetStatus(any(), any());
     }
 
     @Test
@@ -115,7 +125,7 @@ class CancelWorkOrderUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Não é possível cancelar");
 
-        verify(repository, never()).save(any(WorkOrder.class));
+        verify(repository, never()).compareAndSetStatus(any(), any());
     }
 
     @Test
@@ -123,13 +133,44 @@ class CancelWorkOrderUseCaseTest {
     void shouldCancelWithoutHistoryWhenUserIdIsNull() {
         setupMetrics();
         when(repository.findById(workOrderId)).thenReturn(Optional.of(workOrder));
-        when(repository.save(any(WorkOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.compareAndSetStatus(workOrder, OrderStatus.RECEBIDO)).thenReturn(true);
 
         WorkOrder result = useCase.execute(workOrderId, null);
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELADO);
-        verify(repository).save(any(WorkOrder.class));
-        verify(workOrderHistoryRepository, never()).save(any());
+        verify(repository).compareAndSetStatus(workOrder, OrderStatus.RECEBIDO);
+        verify(historyOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar conflito sem gravar histórico quando o status mudou concorrentemente")
+    void shouldThrowConflictWhenStatusChangedConcurrently() {
+        setupMetrics();
+        when(repository.findById(workOrderId)).thenReturn(Optional.of(workOrder));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(repository.compareAndSetStatus(workOrder, OrderStatus.RECEBIDO)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(workOrderId, userId))
+                .isInstanceOf(WorkOrderStatusConflictException.class);
+
+        verify(historyOutbox, never()).enqueue(any());
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
+        verify(metrics, never()).incrementWorkOrdersUpdated();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o usuário não existe")
+    void shouldThrowExceptionWhenUserNotFound() {
+        setupMetrics();
+        when(repository.findById(workOrderId)).thenReturn(Optional.of(workOrder));
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(workOrderId, userId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("User");
+
+        verify(repository, never()).compareAndSetStatus(any(), any());
+        verifyNoInteractions(historyOutbox);
     }
 }
@@ -0,0 +1,84 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.application.publiclink.PublicWorkOrderCache;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.infrastructure.metrics.CustomMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteWorkOrderUseCase Tests")
+class DeleteWorkOrderUseCaseTest {
+
+    @Mock
+    private WorkOrderRepository repository;
+
+    @Mock
+    private CompanyStatusCounterRepository counterRepository;
+
+    @Mock
+    private CustomMetrics metrics;
+
+    @Mock
+    private PublicWorkOrderCache publicWorkOrderCache;
+
+    @InjectMocks
+    private DeleteWorkOrderUseCase useCase;
+
+    private WorkOrder workOrder;
+    private UUID workOrderId;
+
+    @BeforeEach
+    void setUp() {
+        workOrderId = UUID.randomUUID();
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        workOrder = new WorkOrder();
+        workOrder.setId(workOrderId);
+        workOrder.setCompany(company);
+        workOrder.setStatus(OrderStatus.RECEBIDO);
+    }
+
+    @Test
+    @DisplayName("Deve excluir a OS e remover sua página pública do cache")
+    void shouldDeleteWorkOrderAndEvictPublicPage() {
+        when(repository.findById(workOrderId)).thenReturn(Optional.of(workOrder));
+
+        useCase.execute(workOrderId);
+
+        verify(repository).delete(workOrder);
+        verify(counterRepository).adjust(workOrder.getCompany().getId(), OrderStatus.RECEBIDO, -1);
+        verify(metrics).incrementWorkOrdersDeleted();
+        verify(publicWorkOrderCache).evictWorkOrder(workOrderId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a OS não existe")
+    void shouldThrowExceptionWhenWorkOrderNotFound() {
+        when(repository.findById(workOrderId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(workOrderId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("WorkOrder");
+
+        verify(repository, never()).delete(any());
+        verify(publicWorkOrderCache, never()).evictWorkOrder(any());
+    }
+}
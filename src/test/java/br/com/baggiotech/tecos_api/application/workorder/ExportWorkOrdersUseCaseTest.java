@@ -0,0 +1,82 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportWorkOrdersUseCase Tests")
+class ExportWorkOrdersUseCaseTest {
+
+    @Mock
+    private WorkOrderRepository repository;
+
+    @InjectMocks
+    private ExportWorkOrdersUseCase useCase;
+
+    private WorkOrderSummary summary(String reportedDefect) {
+        LocalDateTime now = LocalDateTime.now();
+        return new WorkOrderSummary(UUID.randomUUID(), UUID.randomUUID(), "Company", UUID.randomUUID(), "Cliente",
+                UUID.randomUUID(), "Notebook", UUID.randomUUID(), "Técnico", OrderStatus.RECEBIDO, reportedDefect,
+                null, false, null, null, now, now);
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada linha ao consumidor e fechar o stream")
+    void shouldForwardEachRowAndCloseStream() {
+        UUID companyId = UUID.randomUUID();
+        AtomicBoolean closed = new AtomicBoolean();
+        WorkOrderFilter expectedFilter = new WorkOrderFilter(
+                companyId, null, null, null, OrderStatus.PRONTO, null, null);
+
+        when(repository.streamSummaries(expectedFilter,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)))
+                .thenReturn(Stream.of(summary("Defeito 1"), summary("Defeito 2")).onClose(() -> closed.set(true)));
+
+        List<String> exported = new ArrayList<>();
+        useCase.execute(companyId, OrderStatus.PRONTO, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31),
+                summary -> exported.add(summary.reportedDefect()));
+
+        assertThat(exported).containsExactly("Defeito 1", "Defeito 2");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve exportar todo o histórico quando não houver período")
+    void shouldExportEverythingWithoutPeriod() {
+        when(repository.streamSummaries(any(), isNull(), isNull())).thenReturn(Stream.empty());
+
+        useCase.execute(UUID.randomUUID(), null, null, null, summary -> { });
+
+        verify(repository).streamSummaries(any(), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve exigir a empresa")
+    void shouldRequireCompany() {
+        assertThatThrownBy(() -> useCase.execute(null, null, null, null, summary -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.baggiotech.tecos_api.application.workorder;
+
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListWorkOrdersByCursorUseCase Tests")
+class ListWorkOrdersByCursorUseCaseTest {
+
+    @Mock
+    private WorkOrderRepository repository;
+
+    @InjectMocks
+    private ListWorkOrdersByCursorUseCase useCase;
+
+    @Test
+    @DisplayName("Deve decodificar o cursor e repassar os filtros ao repositório")
+    void shouldDecodeCursorAndDelegate() {
+        UUID companyId = UUID.randomUUID();
+        Cursor cursor = new Cursor(LocalDateTime.of(2024, 1, 10, 12, 0), UUID.randomUUID());
+        CursorPage<WorkOrderSummary> page = new CursorPage<>(List.of(), null, 20);
+        WorkOrderFilter expectedFilter = new WorkOrderFilter(
+                companyId, null, null, null, OrderStatus.RECEBIDO, null, "tela");
+
+        when(repository.findSummariesAfter(expectedFilter, cursor, 20)).thenReturn(page);
+
+        CursorPage<WorkOrderSummary> result = useCase.execute(companyId, null, null, null, OrderStatus.RECEBIDO, null,
+                "tela", cursor.encode(), 20);
+
+        assertThat(result).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("Deve iniciar do começo quando não houver cursor")
+    void shouldStartFromBeginningWithoutCursor() {
+        when(repository.findSummariesAfter(any(), isNull(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(), null, 10));
+
+        useCase.execute(null, null, null, null, null, null, null, null, 10);
+
+        verify(repository).findSummariesAfter(any(), isNull(), eq(10));
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página")
+    void shouldClampLimit() {
+        when(repository.findSummariesAfter(any(), any(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(), null, 1));
+
+        useCase.execute(null, null, null, null, null, null, null, null, 0);
+        useCase.execute(null, null, null, null, null, null, null, null, 10_000);
+
+        verify(repository).findSummariesAfter(any(), any(), eq(1));
+        verify(repository).findSummariesAfter(any(), any(), eq(ListWorkOrdersByCursorUseCase.MAX_LIMIT));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor inválido")
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> useCase.execute(null, null, null, null, null, null, null, "não-é-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido.");
+
+        verifyNoInteractions(repository);
+    }
+}
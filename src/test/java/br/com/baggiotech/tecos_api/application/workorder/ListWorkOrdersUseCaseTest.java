@@ -1,22 +1,28 @@
 package br.com.baggiotech.tecos_api.application.workorder;
 
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
-import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,8 +35,8 @@ class ListWorkOrdersUseCaseTest {
     @InjectMocks
     private ListWorkOrdersUseCase useCase;
 
-    private WorkOrder workOrder1;
-    private WorkOrder workOrder2;
+    private WorkOrderSummary workOrder1;
+    private WorkOrderSummary workOrder2;
     private UUID companyId;
     private UUID clientId;
 
@@ -39,90 +45,135 @@ class ListWorkOrdersUseCaseTest {
         companyId = UUID.randomUUID();
         clientId = UUID.randomUUID();
 
-        workOrder1 = new WorkOrder();
-        workOrder1.setId(UUID.randomUUID());
-        workOrder1.setStatus(OrderStatus.RECEBIDO);
+        workOrder1 = summary(OrderStatus.RECEBIDO);
+        workOrder2 = summary(OrderStatus.EM_ANALISE);
+    }
+
+    private WorkOrderSummary summary(OrderStatus status) {
+        return new WorkOrderSummary(UUID.randomUUID(), companyId, null, clientId, null, null, null, null, null,
+                status, "Defeito", null, false, null, null, null, null);
+    }
+
+    private void stubPage(List<WorkOrderSummary> content, long total) {
+        when(repository.findSummaries(any(WorkOrderFilter.class), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(content, invocation.getArgument(1), total));
+    }
+
+    private WorkOrderFilter captureFilter() {
+        ArgumentCaptor<WorkOrderFilter> captor = ArgumentCaptor.forClass(WorkOrderFilter.class);
+        verify(repository).findSummaries(captor.capture(), any(Pageable.class));
+        return captor.getValue();
+    }
 
-        workOrder2 = new WorkOrder();
-        workOrder2.setId(UUID.randomUUID());
-        workOrder2.setStatus(OrderStatus.EM_ANALISE);
+    private Pageable capturePageable() {
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findSummaries(any(WorkOrderFilter.class), captor.capture());
+        return captor.getValue();
     }
 
     @Test
     @DisplayName("Deve listar todas as work orders")
     void shouldListAllWorkOrders() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1, workOrder2);
-        when(repository.findAll()).thenReturn(workOrders);
+        stubPage(Arrays.asList(workOrder1, workOrder2), 2);
 
-        Page<WorkOrder> result = useCase.execute(null, null, null, null, null, null, null, "createdAt", "desc", 0, 10);
+        Page<WorkOrderSummary> result = useCase.execute(null, null, null, null, null, null, null, "createdAt", "desc", 0, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
-        verify(repository).findAll();
+        assertThat(captureFilter()).isEqualTo(new WorkOrderFilter(null, null, null, null, null, null, null));
     }
 
     @Test
     @DisplayName("Deve filtrar por companyId")
     void shouldFilterByCompanyId() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1);
-        when(repository.findByCompanyId(companyId)).thenReturn(workOrders);
+        stubPage(List.of(workOrder1), 1);
 
-        Page<WorkOrder> result = useCase.execute(companyId, null, null, null, null, null, null, "createdAt", "desc", 0, 10);
+        Page<WorkOrderSummary> result = useCase.execute(companyId, null, null, null, null, null, null, "createdAt", "desc", 0, 10);
 
-        assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByCompanyId(companyId);
+        assertThat(captureFilter().companyId()).isEqualTo(companyId);
     }
 
     @Test
     @DisplayName("Deve filtrar por clientId")
     void shouldFilterByClientId() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1);
-        when(repository.findByClientId(clientId)).thenReturn(workOrders);
+        stubPage(List.of(workOrder1), 1);
 
-        Page<WorkOrder> result = useCase.execute(null, clientId, null, null, null, null, null, "createdAt", "desc", 0, 10);
+        Page<WorkOrderSummary> result = useCase.execute(null, clientId, null, null, null, null, null, "createdAt", "desc", 0, 10);
 
-        assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByClientId(clientId);
+        assertThat(captureFilter().clientId()).isEqualTo(clientId);
     }
 
     @Test
     @DisplayName("Deve filtrar por status")
     void shouldFilterByStatus() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1);
-        when(repository.findByStatus(OrderStatus.RECEBIDO)).thenReturn(workOrders);
+        stubPage(List.of(workOrder1), 1);
 
-        Page<WorkOrder> result = useCase.execute(null, null, null, null, OrderStatus.RECEBIDO, null, null, "createdAt", "desc", 0, 10);
+        Page<WorkOrderSummary> result = useCase.execute(null, null, null, null, OrderStatus.RECEBIDO, null, null, "createdAt", "desc", 0, 10);
 
-        assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByStatus(OrderStatus.RECEBIDO);
+        assertThat(captureFilter().status()).isEqualTo(OrderStatus.RECEBIDO);
     }
 
     @Test
-    @DisplayName("Deve filtrar por companyId e status")
-    void shouldFilterByCompanyIdAndStatus() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1);
-        when(repository.findByCompanyIdAndStatus(companyId, OrderStatus.RECEBIDO)).thenReturn(workOrders);
+    @DisplayName("Deve combinar todos os filtros em uma única consulta")
+    void shouldCombineAllFiltersInSingleQuery() {
+        UUID equipmentId = UUID.randomUUID();
+        UUID technicianId = UUID.randomUUID();
+        stubPage(List.of(workOrder1), 1);
+
+        useCase.execute(companyId, clientId, equipmentId, technicianId, OrderStatus.RECEBIDO, true, "tela",
+                "createdAt", "desc", 0, 10);
+
+        assertThat(captureFilter()).isEqualTo(new WorkOrderFilter(
+                companyId, clientId, equipmentId, technicianId, OrderStatus.RECEBIDO, true, "tela"));
+        verify(repository, never()).findAll();
+        verify(repository, never()).findByReturnOrder(any());
+        verify(repository, never()).searchByReportedDefectOrInternalObservationsOrClientName(any());
+    }
 
-        Page<WorkOrder> result = useCase.execute(companyId, null, null, null, OrderStatus.RECEBIDO, null, null, "createdAt", "desc", 0, 10);
+    @Test
+    @DisplayName("Deve delegar paginação e ordenação ao repositório")
+    void shouldDelegatePaginationAndSortToRepository() {
+        stubPage(List.of(workOrder1), 2);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        verify(repository).findByCompanyIdAndStatus(companyId, OrderStatus.RECEBIDO);
+        Page<WorkOrderSummary> result = useCase.execute(null, null, null, null, null, null, null, "updated_at", "asc", 1, 1);
+
+        Pageable pageable = capturePageable();
+        assertThat(pageable.getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getPageSize()).isEqualTo(1);
+        assertThat(pageable.getSort().getOrderFor("updatedAt").getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(pageable.getSort().getOrderFor("id")).isNotNull();
+        assertThat(result.getTotalElements()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("Deve aplicar paginação")
-    void shouldApplyPagination() {
-        List<WorkOrder> workOrders = Arrays.asList(workOrder1, workOrder2);
-        when(repository.findAll()).thenReturn(workOrders);
+    @DisplayName("Deve deixar a busca sem ordenação explícita para ordenar por relevância")
+    void shouldLeaveSearchUnsortedForRelevance() {
+        stubPage(List.of(workOrder1), 1);
 
-        Page<WorkOrder> result = useCase.execute(null, null, null, null, null, null, null, "createdAt", "desc", 0, 1);
+        useCase.execute(companyId, null, null, null, null, null, "tela", null, "desc", 0, 10);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getSize()).isEqualTo(1);
-        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(capturePageable().getSort().isUnsorted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por created_at quando não houver busca")
+    void shouldSortByCreatedAtWithoutSearch() {
+        stubPage(List.of(workOrder1), 1);
+
+        useCase.execute(companyId, null, null, null, null, null, null, null, "desc", 0, 10);
+
+        assertThat(capturePageable().getSort().getOrderFor("createdAt")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve usar created_at como ordenação padrão")
+    void shouldDefaultToCreatedAtSort() {
+        assertThat(ListWorkOrdersUseCase.resolveSortProperty(null)).isEqualTo("createdAt");
+        assertThat(ListWorkOrdersUseCase.resolveSortProperty("unknown")).isEqualTo("createdAt");
+        assertThat(ListWorkOrdersUseCase.resolveSortProperty("status")).isEqualTo("status");
+        assertThat(ListWorkOrdersUseCase.resolveSortProperty("updatedAt")).isEqualTo("updatedAt");
     }
 }
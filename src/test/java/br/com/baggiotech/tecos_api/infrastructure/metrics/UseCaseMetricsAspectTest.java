@@ -0,0 +1,114 @@
+package br.com.baggiotech.tecos_api.infrastructure.metrics;
+
+import br.com.baggiotech.tecos_api.application.company.DeleteCompanyUseCase;
+import br.com.baggiotech.tecos_api.application.company.GetCompanyByIdUseCase;
+import br.com.baggiotech.tecos_api.domain.company.CompanyRepository;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UseCaseMetricsAspect Tests")
+class UseCaseMetricsAspectTest {
+
+    @Mock
+    private CompanyRepository repository;
+
+    @Mock
+    private CustomMetrics metrics;
+
+    @Mock
+    private ListableBeanFactory beanFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UseCaseMetricsAspect aspect;
+    private DeleteCompanyUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new UseCaseMetricsAspect(meterRegistry, beanFactory,
+                new Duration[]{Duration.ofMillis(100), Duration.ofMillis(500)});
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new DeleteCompanyUseCase(repository, metrics));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        useCase = factory.getProxy();
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.get(UseCaseMetricsAspect.METRIC)
+                .tag("entity", "company").tag("operation", operation).tag("outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("Deve medir a execução com sucesso nas tags do caso de uso")
+    void shouldTimeSuccessfulExecution() {
+        when(repository.existsById(any())).thenReturn(true);
+
+        useCase.execute(UUID.randomUUID());
+
+        assertThat(timer("DeleteCompany", "SUCCESS").count()).isEqualTo(1);
+        assertThat(timer("DeleteCompany", "CLIENT_ERROR").count()).isZero();
+        assertThat(timer("DeleteCompany", "SERVER_ERROR").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve classificar exceções de domínio como erro do cliente e repassá-las")
+    void shouldClassifyDomainExceptionsAsClientError() {
+        when(repository.existsById(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(UUID.randomUUID()))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(timer("DeleteCompany", "CLIENT_ERROR").count()).isEqualTo(1);
+        assertThat(timer("DeleteCompany", "SUCCESS").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve classificar falhas inesperadas como erro do servidor")
+    void shouldClassifyUnexpectedFailuresAsServerError() {
+        when(repository.existsById(any())).thenThrow(new IllegalStateException("conexão perdida"));
+
+        assertThatThrownBy(() -> useCase.execute(UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("DeleteCompany", "SERVER_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar os timers dos casos de uso na subida, com buckets de SLO")
+    void shouldPreRegisterUseCaseTimers() {
+        when(beanFactory.getBeanNamesForAnnotation(Service.class))
+                .thenReturn(new String[]{"getCompanyByIdUseCase", "customMetrics"});
+        doReturn(GetCompanyByIdUseCase.class).when(beanFactory).getType("getCompanyByIdUseCase");
+        doReturn(CustomMetrics.class).when(beanFactory).getType("customMetrics");
+
+        aspect.afterSingletonsInstantiated();
+
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.METRIC).timers()).hasSize(3);
+        Timer timer = timer("GetCompanyById", "SUCCESS");
+        assertThat(timer.count()).isZero();
+        assertThat(Arrays.stream(timer.takeSnapshot().histogramCounts()).map(CountAtBucket::bucket))
+                .contains((double) Duration.ofMillis(100).toNanos(), (double) Duration.ofMillis(500).toNanos());
+    }
+}
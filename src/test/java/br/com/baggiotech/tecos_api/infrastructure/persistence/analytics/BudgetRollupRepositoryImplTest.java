@@ -0,0 +1,295 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.analytics;
+
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupDelta;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetRollupRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(BudgetRollupRepositoryImpl.class)
+@DisplayName("BudgetRollupRepositoryImpl Integration Tests")
+class BudgetRollupRepositoryImplTest {
+
+    private static final LocalDate JANUARY_FIRST = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEBRUARY_LAST = LocalDate.of(2024, 2, 29);
+
+    @Autowired
+    private BudgetRollupRepository repository;
+
+    @Autowired
+    private CompanyJpaRepository companyJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private ClientJpaRepository clientJpaRepository;
+
+    @Autowired
+    private EquipmentJpaRepository equipmentJpaRepository;
+
+    @Autowired
+    private WorkOrderJpaRepository workOrderJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyJpaEntity company;
+    private UserJpaEntity technician;
+    private UserJpaEntity otherTechnician;
+
+    @BeforeEach
+    void setUp() {
+        company = new CompanyJpaEntity();
+        company.setName("Empresa");
+        company.setIsActive(true);
+        company.setCreatedAt(LocalDateTime.now());
+        company.setUpdatedAt(LocalDateTime.now());
+        company = companyJpaRepository.save(company);
+        technician = createTechnician("tecnico1@example.com");
+        otherTechnician = createTechnician("tecnico2@example.com");
+    }
+
+    private UserJpaEntity createTechnician(String email) {
+        UserJpaEntity user = new UserJpaEntity();
+        user.setCompany(company);
+        user.setName("Técnico");
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setType("TECNICO");
+        user.setIsActive(true);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return userJpaRepository.save(user);
+    }
+
+    private UUID createWorkOrder(UserJpaEntity workOrderTechnician) {
+        ClientJpaEntity client = new ClientJpaEntity();
+        client.setCompany(company);
+        client.setName("Cliente");
+        client.setPhone("11999999999");
+        client.setIsActive(true);
+        client.setCreatedAt(LocalDateTime.now());
+        client.setUpdatedAt(LocalDateTime.now());
+        client = clientJpaRepository.save(client);
+
+        EquipmentJpaEntity equipment = new EquipmentJpaEntity();
+        equipment.setCompany(company);
+        equipment.setClient(client);
+        equipment.setType("Notebook");
+        equipment.setCreatedAt(LocalDateTime.now());
+        equipment.setUpdatedAt(LocalDateTime.now());
+        equipment = equipmentJpaRepository.save(equipment);
+
+        WorkOrderJpaEntity workOrder = new WorkOrderJpaEntity();
+        workOrder.setCompany(company);
+        workOrder.setClient(client);
+        workOrder.setEquipment(equipment);
+        workOrder.setTechnician(workOrderTechnician);
+        workOrder.setStatus(OrderStatus.AGUARDANDO_APROVACAO);
+        workOrder.setReportedDefect("Não liga");
+        workOrder.setReturnOrder(false);
+        workOrder.setCreatedAt(LocalDateTime.now());
+        workOrder.setUpdatedAt(LocalDateTime.now());
+        return workOrderJpaRepository.saveAndFlush(workOrder).getId();
+    }
+
+    // Datas explícitas: o INSERT direto evita o @CreationTimestamp da entidade
+    private void insertBudget(UUID workOrderId, String status, String total, LocalDateTime createdAt,
+                              LocalDateTime approvedAt, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO budgets (id, company_id, work_order_id, service_value, parts_value, "
+                        + "total_value, status, created_by, approved_at, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?)",
+                UUID.randomUUID(), company.getId(), workOrderId, new BigDecimal(total), new BigDecimal(total),
+                status, technician.getId(), approvedAt, createdAt, updatedAt);
+    }
+
+    private List<BudgetMonthlySummary> summarize(boolean byTechnician) {
+        entityManager.clear();
+        return repository.summarizeByMonth(company.getId(), JANUARY_FIRST, FEBRUARY_LAST, byTechnician);
+    }
+
+    @Test
+    @DisplayName("Deve criar a linha do dia no primeiro ajuste e somar os seguintes")
+    void shouldCreateRowOnFirstAdjustAndAccumulate() {
+        LocalDate day = LocalDate.of(2024, 1, 10);
+
+        repository.add(company.getId(), technician.getId(), day, BudgetRollupDelta.created(new BigDecimal("100.00")));
+        repository.add(company.getId(), technician.getId(), day, BudgetRollupDelta.created(new BigDecimal("50.00")));
+        repository.add(company.getId(), technician.getId(), day, BudgetRollupDelta.approved(new BigDecimal("100.00")));
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM budget_daily_rollups WHERE company_id = ?", Integer.class, company.getId());
+        assertThat(rows).isEqualTo(1);
+        assertThat(summarize(false)).singleElement().satisfies(january -> {
+            assertThat(january.month()).isEqualTo(YearMonth.of(2024, 1));
+            assertThat(january.createdCount()).isEqualTo(2);
+            assertThat(january.createdValue()).isEqualByComparingTo("150.00");
+            assertThat(january.approvedCount()).isEqualTo(1);
+            assertThat(january.revenue()).isEqualByComparingTo("100.00");
+            assertThat(january.approvalRate()).isEqualByComparingTo("1");
+        });
+    }
+
+    @Test
+    @DisplayName("Deve chegar pelo recálculo aos mesmos totais dos ajustes incrementais")
+    void shouldRebuildSameTotalsAsIncrementalAdjustments() {
+        UUID approvedWorkOrder = createWorkOrder(technician);
+        UUID rejectedWorkOrder = createWorkOrder(otherTechnician);
+        LocalDateTime pendingCreated = LocalDateTime.of(2024, 1, 10, 9, 0);
+        LocalDateTime approvedCreated = LocalDateTime.of(2024, 1, 15, 9, 0);
+        LocalDateTime approvedAt = LocalDateTime.of(2024, 2, 1, 14, 0);
+        LocalDateTime rejectedCreated = LocalDateTime.of(2024, 1, 20, 9, 0);
+        LocalDateTime rejectedAt = LocalDateTime.of(2024, 1, 25, 16, 0);
+        insertBudget(approvedWorkOrder, "PENDENTE", "100.00", pendingCreated, null, pendingCreated);
+        insertBudget(approvedWorkOrder, "APROVADO", "200.00", approvedCreated, approvedAt, approvedAt);
+        insertBudget(rejectedWorkOrder, "REJEITADO", "50.00", rejectedCreated, null, rejectedAt);
+
+        // Os mesmos eventos, como os casos de uso os registram
+        repository.add(company.getId(), technician.getId(), pendingCreated.toLocalDate(),
+                BudgetRollupDelta.created(new BigDecimal("100.00")));
+        repository.add(company.getId(), technician.getId(), approvedCreated.toLocalDate(),
+                BudgetRollupDelta.created(new BigDecimal("200.00")));
+        repository.add(company.getId(), otherTechnician.getId(), rejectedCreated.toLocalDate(),
+                BudgetRollupDelta.created(new BigDecimal("50.00")));
+        repository.add(company.getId(), otherTechnician.getId(), rejectedAt.toLocalDate(),
+                BudgetRollupDelta.rejected(new BigDecimal("50.00")));
+        repository.add(company.getId(), technician.getId(), approvedAt.toLocalDate(),
+                BudgetRollupDelta.approved(new BigDecimal("200.00")));
+        List<BudgetMonthlySummary> incremental = summarize(true);
+
+        repository.rebuild(company.getId(), JANUARY_FIRST, FEBRUARY_LAST);
+
+        assertThat(summarize(true)).isEqualTo(incremental);
+        List<BudgetMonthlySummary> byMonth = summarize(false);
+        assertThat(byMonth).extracting(BudgetMonthlySummary::month)
+                .containsExactly(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+        assertThat(byMonth.get(0).createdCount()).isEqualTo(3);
+        assertThat(byMonth.get(0).createdValue()).isEqualByComparingTo("350.00");
+        assertThat(byMonth.get(0).rejectedCount()).isEqualTo(1);
+        assertThat(byMonth.get(1).approvedCount()).isEqualTo(1);
+        assertThat(byMonth.get(1).revenue()).isEqualByComparingTo("200.00");
+        assertThat(byMonth.get(1).averageTicket()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    @DisplayName("Deve descartar ajustes divergentes somente dentro do período recalculado")
+    void shouldRebuildOnlyInsideWindow() {
+        repository.add(company.getId(), technician.getId(), LocalDate.of(2024, 1, 5),
+                BudgetRollupDelta.created(new BigDecimal("999.00")));
+        repository.add(company.getId(), technician.getId(), LocalDate.of(2023, 12, 31),
+                BudgetRollupDelta.created(new BigDecimal("10.00")));
+
+        repository.rebuild(company.getId(), JANUARY_FIRST, FEBRUARY_LAST);
+
+        assertThat(summarize(false)).isEmpty();
+        entityManager.clear();
+        assertThat(repository.summarizeByMonth(company.getId(), LocalDate.of(2023, 12, 1),
+                LocalDate.of(2023, 12, 31), false))
+                .singleElement()
+                .satisfies(december -> assertThat(december.createdValue()).isEqualByComparingTo("10.00"));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular só a empresa informada, esperando a trava que o ajuste incremental usa")
+    void shouldRebuildCompanyUnderAddLock() throws Exception {
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        UUID lockedCompany = UUID.randomUUID();
+        UUID otherCompany = UUID.randomUUID();
+        UUID committedTechnician = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2024, 1, 10);
+        committed.executeWithoutResult(status -> {
+            for (UUID id : List.of(lockedCompany, otherCompany)) {
+                jdbcTemplate.update("INSERT INTO companies (id, name, is_active, created_at, updated_at) "
+                        + "VALUES (?, 'Empresa', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id);
+            }
+            jdbcTemplate.update("INSERT INTO users (id, company_id, name, email, password, type, is_active, "
+                    + "created_at, updated_at, deleted) VALUES (?, ?, 'Técnico', ?, 'x', 'TECNICO', TRUE, "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE)",
+                    committedTechnician, lockedCompany, committedTechnician + "@example.com");
+            repository.add(otherCompany, committedTechnician, day, BudgetRollupDelta.created(new BigDecimal("10.00")));
+        });
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // Um ajuste concorrente criando a primeira linha do dia, ainda sem commit
+            CompletableFuture<Void> add = CompletableFuture.runAsync(() -> committed.executeWithoutResult(status -> {
+                repository.add(lockedCompany, committedTechnician, day, BudgetRollupDelta.created(new BigDecimal("99.00")));
+                locked.countDown();
+                await(release);
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> committed.executeWithoutResult(status ->
+                    repository.rebuild(lockedCompany, JANUARY_FIRST, FEBRUARY_LAST)));
+            Thread.sleep(300);
+            assertThat(rebuild).isNotDone();
+            release.countDown();
+            add.get(5, TimeUnit.SECONDS);
+            rebuild.get(5, TimeUnit.SECONDS);
+
+            // Sem orçamentos, o recálculo apaga a linha do ajuste; a outra empresa fica como estava
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM budget_daily_rollups WHERE company_id = ?",
+                    Integer.class, lockedCompany)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM budget_daily_rollups WHERE company_id = ?",
+                    Integer.class, otherCompany)).isEqualTo(1);
+        } finally {
+            release.countDown();
+            TestTransaction.end();
+            jdbcTemplate.update("DELETE FROM budget_daily_rollups WHERE company_id IN (?, ?)", lockedCompany, otherCompany);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", committedTechnician);
+            jdbcTemplate.update("DELETE FROM companies WHERE id IN (?, ?)", lockedCompany, otherCompany);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -32,6 +34,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -65,6 +68,13 @@ class BudgetRepositoryImplTest {
     @Autowired
     private BudgetRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String statusOf(Budget budget) {
+        return jdbcTemplate.queryForObject("SELECT status FROM budgets WHERE id = ?", String.class, budget.getId());
+    }
+
     private Company createCompany(String name, String email) {
         CompanyJpaEntity companyEntity = new CompanyJpaEntity();
         companyEntity.setName(name);
@@ -412,4 +422,64 @@ class BudgetRepositoryImplTest {
         assertThat(updated.getStatus()).isEqualTo(BudgetStatus.APROVADO);
         assertThat(updated.getApprovalMethod()).isEqualTo("presential");
     }
+
+    @Test
+    @DisplayName("Deve aprovar orçamento e desaprovar o aprovado anterior da mesma OS")
+    void shouldApproveExclusively() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User creator = createUser(company, "Creator", "creator@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        WorkOrder workOrder = createWorkOrder(company, client, equipment, creator);
+        WorkOrder otherWorkOrder = createWorkOrder(company, client, equipment, creator);
+        Budget previous = createBudget(company, workOrder, creator, BudgetStatus.APROVADO);
+        Budget otherWorkOrderApproved = createBudget(company, otherWorkOrder, creator, BudgetStatus.APROVADO);
+        Budget budget = createBudget(company, workOrder, creator, BudgetStatus.PENDENTE);
+
+        budget.setApprovedAt(LocalDateTime.now());
+        budget.setApprovalMethod("link");
+        budget.setApprovedBy(creator);
+
+        assertThat(repository.approveExclusively(budget)).isTrue();
+        assertThat(statusOf(budget)).isEqualTo("APROVADO");
+        assertThat(statusOf(previous)).isEqualTo("PENDENTE");
+        assertThat(statusOf(otherWorkOrderApproved)).isEqualTo("APROVADO");
+        Budget approved = repository.findById(budget.getId()).orElseThrow();
+        assertThat(approved.getApprovalMethod()).isEqualTo("link");
+        assertThat(approved.getApprovedBy().getId()).isEqualTo(creator.getId());
+    }
+
+    @Test
+    @DisplayName("Não deve aprovar orçamento que não está mais pendente")
+    void shouldNotApproveBudgetAlreadyProcessed() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User creator = createUser(company, "Creator", "creator@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        WorkOrder workOrder = createWorkOrder(company, client, equipment, creator);
+        Budget budget = createBudget(company, workOrder, creator, BudgetStatus.REJEITADO);
+
+        budget.setApprovedAt(LocalDateTime.now());
+        budget.setApprovalMethod("presential");
+
+        assertThat(repository.approveExclusively(budget)).isFalse();
+        assertThat(statusOf(budget)).isEqualTo("REJEITADO");
+    }
+
+    @Test
+    @DisplayName("Banco deve rejeitar dois orçamentos aprovados na mesma OS")
+    void shouldRejectSecondApprovedBudgetForSameWorkOrder() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User creator = createUser(company, "Creator", "creator@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        WorkOrder workOrder = createWorkOrder(company, client, equipment, creator);
+        createBudget(company, workOrder, creator, BudgetStatus.APROVADO);
+        Budget pending = createBudget(company, workOrder, creator, BudgetStatus.PENDENTE);
+        budgetJpaRepository.flush();
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE budgets SET status = 'APROVADO' WHERE id = ?", pending.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.baggiotech.tecos_api.infrastructure.persistence.client;
 
 import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.client.ClientFilter;
 import br.com.baggiotech.tecos_api.domain.client.ClientRepository;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -231,6 +235,56 @@ class ClientRepositoryImplTest {
         assertThat(clients.get(0).getName()).contains("Alpha");
     }
 
+    @Test
+    @DisplayName("Deve aplicar filtros e busca na mesma consulta paginada")
+    void shouldApplyFiltersAndSearchInSinglePagedQuery() {
+        Company company1 = createCompany("Company 1", "company1@example.com");
+        Company company2 = createCompany("Company 2", "company2@example.com");
+        createClient(company1, "Ana Silva", "11999999999", "ana@example.com", null, true);
+        createClient(company1, "Bruno Silva", "11888888888", "bruno@example.com", null, true);
+        createClient(company1, "Carla Silva", "11777777777", "carla@example.com", null, false);
+        createClient(company1, "Daniel Souza", "11666666666", "daniel@example.com", null, true);
+        createClient(company2, "Eva Silva", "11555555555", "eva@example.com", null, true);
+
+        Page<Client> firstPage = repository.findAll(new ClientFilter(company1.getId(), true, "SILVA"),
+                PageRequest.of(0, 1, Sort.by("name")));
+        Page<Client> secondPage = repository.findAll(new ClientFilter(company1.getId(), true, "SILVA"),
+                PageRequest.of(1, 1, Sort.by("name")));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).extracting(Client::getName).containsExactly("Ana Silva");
+        assertThat(secondPage.getContent()).extracting(Client::getName).containsExactly("Bruno Silva");
+    }
+
+    @Test
+    @DisplayName("Deve ordenar a busca por relevância quando não houver ordenação explícita")
+    void shouldRankSearchResultsWhenUnsorted() {
+        Company company = createCompany("Test Company", "company@example.com");
+        createClient(company, "Zeca", "11999999999", "contato.maria@example.com", null, true);
+        createClient(company, "Ana Maria", "11888888888", "ana@example.com", null, true);
+        createClient(company, "Maria Souza", "11777777777", "souza@example.com", null, true);
+
+        Page<Client> result = repository.findAll(new ClientFilter(company.getId(), null, "maria"),
+                PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(Client::getName)
+                .containsExactly("Maria Souza", "Ana Maria", "Zeca");
+    }
+
+    @Test
+    @DisplayName("Deve tratar curingas digitados na busca como texto")
+    void shouldTreatWildcardsInSearchAsText() {
+        Company company = createCompany("Test Company", "company@example.com");
+        createClient(company, "Cliente 100% satisfeito", "11999999999", null, null, true);
+        createClient(company, "Cliente comum", "11888888888", null, null, true);
+
+        Page<Client> percent = repository.findAll(new ClientFilter(company.getId(), null, "%"), PageRequest.of(0, 10));
+        Page<Client> underscore = repository.findAll(new ClientFilter(company.getId(), null, "_"), PageRequest.of(0, 10));
+
+        assertThat(percent.getContent()).extracting(Client::getName).containsExactly("Cliente 100% satisfeito");
+        assertThat(underscore.getContent()).isEmpty();
+    }
+
     @Test
     @DisplayName("Deve atualizar cliente existente")
     void shouldUpdateExistingClient() {
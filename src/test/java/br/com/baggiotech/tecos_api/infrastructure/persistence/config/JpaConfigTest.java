@@ -0,0 +1,65 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import br.com.baggiotech.tecos_api.infrastructure.persistence.filter.CompanyFilterHelper;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.filter.CompanyFilterServiceImpl;
+import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.hibernate.internal.FilterImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, CompanyFilterHelper.class, CompanyFilterServiceImpl.class})
+@DisplayName("JpaConfig Integration Tests")
+class JpaConfigTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContext.clear();
+    }
+
+    private Filter companyFilterOfNewEntityManager() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.unwrap(Session.class).getEnabledFilter(CompanyFilterHelper.COMPANY_FILTER);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve habilitar o filtro de tenant na criação do EntityManager")
+    void shouldEnableCompanyFilterOnEntityManagerCreation() {
+        UUID companyId = UUID.randomUUID();
+        SecurityContext.setCurrentCompanyId(companyId);
+
+        Filter filter = companyFilterOfNewEntityManager();
+
+        assertThat(filter).isNotNull();
+        assertThat(((FilterImpl) filter).getParameter("companyId")).isEqualTo(companyId);
+    }
+
+    @Test
+    @DisplayName("Não deve habilitar o filtro sem tenant no contexto")
+    void shouldNotEnableCompanyFilterWithoutTenant() {
+        assertThat(companyFilterOfNewEntityManager()).isNull();
+    }
+}
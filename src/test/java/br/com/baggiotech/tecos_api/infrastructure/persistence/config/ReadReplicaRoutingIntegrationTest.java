@@ -0,0 +1,142 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Escritas pela API com uma réplica configurada. A "réplica" é o mesmo banco H2 acessado por um usuário
+ * só com SELECT, como um hot standby: enxerga os dados do primário e falha em qualquer escrita. Os casos de
+ * uso de alteração e exclusão leem antes de gravar, então a leitura não pode prender a conexão da réplica.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.URL,
+        "tecos.datasource.replica.urls=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "tecos.datasource.replica.username=replica",
+        "tecos.datasource.replica.password=replica",
+        "tecos.datasource.replica.lag-query=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    // Sem as opções do banco, que exigem direito de administrador ao abrir a sessão
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private UUID companyId;
+    private UUID clientId;
+    private String authorization;
+
+    // O usuário somente-leitura precisa existir antes de o contexto medir o atraso da réplica
+    @BeforeAll
+    static void createReadOnlyUser() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE USER IF NOT EXISTS replica PASSWORD 'replica'");
+            statement.execute("GRANT SELECT ON SCHEMA PUBLIC TO replica");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSource.refreshLag();
+        assertThat(replicaDataSource.isAvailable("replica-0")).isTrue();
+
+        companyId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JdbcTemplate primary = primary();
+        primary.update("INSERT INTO companies (id, name, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                companyId, "Empresa", true, now, now);
+        primary.update("INSERT INTO clients (id, company_id, name, phone, is_active, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", clientId, companyId, "Cliente", "11999999999", true, now, now, false);
+        authorization = "Bearer " + tokenService.issue(UUID.randomUUID(), companyId, "ADMIN").accessToken();
+    }
+
+    private JdbcTemplate primary() {
+        return new JdbcTemplate(primaryDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary().update("DELETE FROM clients WHERE id = ?", clientId);
+        primary().update("DELETE FROM companies WHERE id = ?", companyId);
+    }
+
+    @Test
+    @DisplayName("A réplica deve enxergar os dados do primário e recusar escritas")
+    void shouldReadFromReplicaAndRejectWritesThere() {
+        assertThat(new JdbcTemplate(replicaDataSource)
+                .queryForObject("SELECT name FROM clients WHERE id = ?", String.class, clientId))
+                .isEqualTo("Cliente");
+        assertThatThrownBy(() -> new JdbcTemplate(replicaDataSource)
+                        .update("UPDATE clients SET name = 'x' WHERE id = ?", clientId))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("PUT deve gravar no primário mesmo com a leitura inicial na réplica")
+    void shouldUpdateThroughPrimary() throws Exception {
+        mockMvc.perform(put("/api/clients/{id}", clientId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"companyId": "%s", "name": "Cliente Alterado", "phone": "11988888888"}
+                                """.formatted(companyId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Cliente Alterado"));
+
+        assertThat(primary().queryForObject("SELECT name FROM clients WHERE id = ?", String.class, clientId))
+                .isEqualTo("Cliente Alterado");
+    }
+
+    @Test
+    @DisplayName("DELETE deve gravar no primário mesmo com a leitura inicial na réplica")
+    void shouldDeleteThroughPrimary() throws Exception {
+        mockMvc.perform(delete("/api/clients/{id}", clientId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        assertThat(primary().queryForObject("SELECT deleted FROM clients WHERE id = ?", Boolean.class, clientId))
+                .isTrue();
+    }
+}
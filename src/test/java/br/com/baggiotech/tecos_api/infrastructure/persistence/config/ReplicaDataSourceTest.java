@@ -0,0 +1,137 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaDataSource Tests")
+class ReplicaDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private final DataSource primary = h2("replica-test-primary");
+    private final DataSource replica = h2("replica-test-replica");
+    private ReplicaDataSource replicaDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    private static DataSource h2(String name) {
+        return new SimpleDriverDataSource(new org.h2.Driver(), "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Cada banco responde quem ele é; a réplica também informa o próprio atraso
+        new JdbcTemplate(primary).execute("CREATE TABLE origin (name VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO origin VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE origin (name VARCHAR(20))");
+        new JdbcTemplate(replica).update("INSERT INTO origin VALUES ('replica')");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+        use(Map.of("replica-0", replica));
+    }
+
+    private void use(Map<String, DataSource> replicas) {
+        replicaDataSource = new ReplicaDataSource(primary, replicas, LAG_QUERY, Duration.ofSeconds(5));
+        replicaDataSource.refreshLag();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primary, replicaDataSource));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    private String origin(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM origin", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente-leitura para a réplica e o restante para o primário")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(origin(readOnly)).isEqualTo("replica");
+        assertThat(origin(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM origin", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Deve abrir conexões com credenciais explícitas na réplica e, sem réplica disponível, no primário")
+    void shouldOpenConnectionsWithExplicitCredentials() throws SQLException {
+        assertThat(originOf(replicaDataSource.getConnection("sa", ""))).isEqualTo("replica");
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        replicaDataSource.refreshLag();
+
+        assertThat(originOf(replicaDataSource.getConnection("sa", ""))).isEqualTo("primary");
+    }
+
+    private static String originOf(Connection connection) throws SQLException {
+        try (connection; Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM origin")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tirar de rotação a réplica atrasada e devolvê-la quando alcançar o primário")
+    void shouldFallBackToPrimaryWhileReplicaLags() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        replicaDataSource.refreshLag();
+
+        assertThat(replicaDataSource.isAvailable("replica-0")).isFalse();
+        assertThat(origin(readOnly)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 1.5");
+        replicaDataSource.refreshLag();
+
+        assertThat(origin(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Deve pular a réplica inacessível e usar as demais ou o primário")
+    void shouldSkipUnreachableReplica() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection())
+                .thenReturn(replica.getConnection())
+                .thenThrow(new SQLException("Connection refused"));
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", unreachable);
+        replicas.put("replica-1", replica);
+        use(replicas);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(origin(readOnly)).isEqualTo("replica");
+        }
+        assertThat(replicaDataSource.isAvailable("replica-0")).isFalse();
+
+        use(Map.of("replica-0", unreachable));
+        assertThat(origin(readOnly)).isEqualTo("primary");
+    }
+}
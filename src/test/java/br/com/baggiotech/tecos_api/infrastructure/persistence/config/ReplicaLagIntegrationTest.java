@@ -0,0 +1,167 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Réplica atrasada: um segundo banco H2 com o mesmo esquema e uma cópia antiga da linha. Leituras puras
+ * podem ver o estado antigo, mas um caso de uso que lê e depois grava não pode levar esse estado ao primário.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaLagIntegrationTest.URL,
+        "tecos.datasource.replica.urls=" + ReplicaLagIntegrationTest.REPLICA_URL,
+        "tecos.datasource.replica.username=sa",
+        "tecos.datasource.replica.password=",
+        "tecos.datasource.replica.lag-query=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Replica Lag Integration Tests")
+class ReplicaLagIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:replica-lag-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-lag-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private UUID companyId;
+    private UUID clientId;
+    private UUID userId;
+    private UUID equipmentId;
+    private UUID workOrderId;
+    private String token;
+    private String authorization;
+
+    // A réplica precisa do esquema antes de o contexto medir o atraso
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSource.refreshLag();
+        assertThat(replicaDataSource.isAvailable("replica-0")).isTrue();
+
+        companyId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        equipmentId = UUID.randomUUID();
+        workOrderId = UUID.randomUUID();
+        token = "token-" + workOrderId;
+        // O primário já tem as alterações; a réplica ainda não as recebeu
+        insert(primary(), "Observação nova", "Defeito atualizado");
+        insert(replica(), "Observação antiga", "Defeito antigo");
+        authorization = "Bearer " + tokenService.issue(UUID.randomUUID(), companyId, "ADMIN").accessToken();
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, String observations, String reportedDefect) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO companies (id, name, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                companyId, "Empresa", true, now, now);
+        jdbcTemplate.update("INSERT INTO clients (id, company_id, name, phone, observations, is_active, created_at, "
+                        + "updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                clientId, companyId, "Cliente", "11999999999", observations, true, now, now, false);
+        jdbcTemplate.update("INSERT INTO users (id, company_id, name, email, password, type, is_active, created_at, "
+                        + "updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                userId, companyId, "Técnico", userId + "@example.com", "x", "TECNICO", true, now, now, false);
+        jdbcTemplate.update("INSERT INTO equipments (id, company_id, client_id, type, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", equipmentId, companyId, clientId, "Notebook", now, now, false);
+        jdbcTemplate.update("INSERT INTO work_orders (id, company_id, client_id, equipment_id, technician_id, status, "
+                        + "reported_defect, return, created_at, updated_at, deleted) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                workOrderId, companyId, clientId, equipmentId, userId, "RECEBIDO", reportedDefect, false, now, now, false);
+        jdbcTemplate.update("INSERT INTO public_links (id, company_id, work_order_id, token, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", UUID.randomUUID(), companyId, workOrderId, token, now, now);
+    }
+
+    private JdbcTemplate primary() {
+        return new JdbcTemplate(primaryDataSource);
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate jdbcTemplate : new JdbcTemplate[]{primary(), replica()}) {
+            jdbcTemplate.update("DELETE FROM public_links WHERE work_order_id = ?", workOrderId);
+            jdbcTemplate.update("DELETE FROM work_orders WHERE id = ?", workOrderId);
+            jdbcTemplate.update("DELETE FROM equipments WHERE id = ?", equipmentId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+            jdbcTemplate.update("DELETE FROM clients WHERE id = ?", clientId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+        }
+    }
+
+    @Test
+    @DisplayName("GET deve ler da réplica, mesmo atrasada")
+    void shouldReadFromLaggingReplica() throws Exception {
+        mockMvc.perform(get("/api/clients/{id}", clientId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.observations").value("Observação antiga"));
+    }
+
+    @Test
+    @DisplayName("PUT deve ler a linha no primário e não regravar o estado atrasado da réplica")
+    void shouldNotWriteBackLaggingRow() throws Exception {
+        mockMvc.perform(put("/api/clients/{id}", clientId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"companyId": "%s", "name": "Cliente", "phone": "11988888888"}
+                                """.formatted(companyId)))
+                .andExpect(status().isOk());
+
+        assertThat(primary().queryForMap("SELECT phone, observations FROM clients WHERE id = ?", clientId))
+                .containsEntry("PHONE", "11988888888")
+                .containsEntry("OBSERVATIONS", "Observação nova");
+    }
+
+    @Test
+    @DisplayName("A página pública deve ser carregada do primário, já que fica em cache até o TTL")
+    void shouldLoadPublicPageFromPrimary() throws Exception {
+        mockMvc.perform(get("/api/public/{token}", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workOrder.reportedDefect").value("Defeito atualizado"));
+    }
+}
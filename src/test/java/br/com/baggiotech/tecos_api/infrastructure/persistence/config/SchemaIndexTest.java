@@ -0,0 +1,168 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.config;
+
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, via EXPLAIN do H2, que as consultas das listagens usam os índices criados
+ * em db/migration/V3__hot_path_indexes.sql. O H2 cria índices próprios para as FKs;
+ * com estatísticas (ANALYZE) sobre dados distribuídos entre empresas, o otimizador deve
+ * preferir o índice composto, que restringe mais colunas do predicado.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Schema Index Tests")
+class SchemaIndexTest {
+
+    private static final String ID = "'00000000-0000-0000-0000-000000000001'";
+    private static final String CURSOR = "TIMESTAMP '2024-01-10 12:00:00'";
+    private static final int COMPANIES = 10;
+    private static final int CLIENTS_PER_COMPANY = 10;
+    private static final int WORK_ORDERS_PER_CLIENT = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Dados confirmados (o ANALYZE encerra a transação) e removidos ao final, pois o contexto é compartilhado
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        OrderStatus[] orderStatuses = OrderStatus.values();
+        List<Object[]> workOrders = new ArrayList<>();
+        List<Object[]> budgets = new ArrayList<>();
+        List<Object[]> histories = new ArrayList<>();
+
+        for (int c = 0; c < COMPANIES; c++) {
+            UUID companyId = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO companies (id, name, is_active, created_at, updated_at) "
+                    + "VALUES (?, ?, TRUE, ?, ?)", companyId, "Assistência " + c, now, now);
+            jdbcTemplate.update("INSERT INTO users (id, company_id, name, email, password, type, is_active, "
+                            + "created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?, FALSE)",
+                    userId, companyId, "Técnico " + c, "tecnico" + c + "@example.com", "hash", "TECNICO", now, now);
+
+            for (int k = 0; k < CLIENTS_PER_COMPANY; k++) {
+                UUID clientId = UUID.randomUUID();
+                UUID equipmentId = UUID.randomUUID();
+                jdbcTemplate.update("INSERT INTO clients (id, company_id, name, phone, is_active, created_at, "
+                                + "updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, FALSE)",
+                        clientId, companyId, "Cliente " + k, "11999999999", k % 2 == 0, now, now);
+                jdbcTemplate.update("INSERT INTO equipments (id, company_id, client_id, type, created_at, "
+                                + "updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, FALSE)",
+                        equipmentId, companyId, clientId, "Notebook", now, now);
+
+                for (int w = 0; w < WORK_ORDERS_PER_CLIENT; w++) {
+                    int i = workOrders.size();
+                    UUID workOrderId = UUID.randomUUID();
+                    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(i));
+                    workOrders.add(new Object[]{workOrderId, companyId, clientId, equipmentId, userId,
+                            orderStatuses[i % orderStatuses.length].name(), "Não liga", createdAt, createdAt});
+                    for (BudgetStatus budgetStatus : BudgetStatus.values()) {
+                        budgets.add(new Object[]{UUID.randomUUID(), companyId, workOrderId,
+                                budgetStatus.name(), userId, createdAt, createdAt});
+                    }
+                    histories.add(new Object[]{UUID.randomUUID(), workOrderId, companyId, userId,
+                            OrderStatus.RECEBIDO.name(), createdAt, createdAt});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO work_orders (id, company_id, client_id, equipment_id, technician_id, "
+                + "status, reported_defect, return, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?, FALSE)", workOrders);
+        jdbcTemplate.batchUpdate("INSERT INTO budgets (id, company_id, work_order_id, service_value, parts_value, "
+                + "total_value, status, created_by, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 100, 50, 150, ?, ?, ?, ?)", budgets);
+        jdbcTemplate.batchUpdate("INSERT INTO work_order_histories (id, work_order_id, company_id, user_id, "
+                + "status_after, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", histories);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        for (String table : List.of("work_order_histories", "budgets", "work_orders",
+                "equipments", "clients", "users", "companies")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    // Mesmos predicados gerados pelos repositórios: igualdade nos filtros, seek do cursor em created_at
+    static Stream<Arguments> hotPathQueries() {
+        return Stream.of(
+                Arguments.of("idx_work_orders_company_status_created",
+                        "SELECT id FROM work_orders WHERE deleted = FALSE AND company_id = " + ID
+                                + " AND status = 'RECEBIDO' ORDER BY created_at DESC"),
+                Arguments.of("idx_work_orders_company_created",
+                        "SELECT id FROM work_orders WHERE deleted = FALSE AND company_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_work_orders_client_created",
+                        "SELECT id FROM work_orders WHERE deleted = FALSE AND client_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_work_orders_equipment_created",
+                        "SELECT id FROM work_orders WHERE deleted = FALSE AND equipment_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_work_orders_technician_created",
+                        "SELECT id FROM work_orders WHERE deleted = FALSE AND technician_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_budgets_work_order_status",
+                        "SELECT id FROM budgets WHERE work_order_id = " + ID + " AND status = 'PENDENTE'"),
+                Arguments.of("idx_budgets_company_status_created",
+                        "SELECT id FROM budgets WHERE company_id = " + ID
+                                + " AND status = 'APROVADO' ORDER BY created_at DESC"),
+                Arguments.of("idx_work_order_histories_work_order_created",
+                        "SELECT id FROM work_order_histories WHERE work_order_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_work_order_histories_company_created",
+                        "SELECT id FROM work_order_histories WHERE company_id = " + ID
+                                + " AND created_at < " + CURSOR + " ORDER BY created_at DESC, id DESC"),
+                Arguments.of("idx_clients_company_active",
+                        "SELECT id FROM clients WHERE deleted = FALSE AND company_id = " + ID
+                                + " AND is_active = TRUE")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotPathQueries")
+    @DisplayName("Deve usar o índice composto na consulta da listagem")
+    void shouldUseIndexForHotPathQuery(String index, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).containsIgnoringCase(index);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar todas as migrações versionadas")
+    void shouldApplyAllMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" "
+                        + "WHERE \"version\" IS NOT NULL AND \"success\" = TRUE ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertThat(versions).containsExactly("1", "2", "3", "5", "6", "7", "8");
+    }
+}
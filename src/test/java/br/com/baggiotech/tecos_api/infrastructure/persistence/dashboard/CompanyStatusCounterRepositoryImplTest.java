@@ -0,0 +1,109 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.dashboard;
+
+import br.com.baggiotech.tecos_api.domain.dashboard.CompanyStatusCounterRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CompanyStatusCounterRepositoryImpl.class)
+@DisplayName("CompanyStatusCounterRepositoryImpl Integration Tests")
+class CompanyStatusCounterRepositoryImplTest {
+
+    @Autowired
+    private CompanyStatusCounterRepository repository;
+
+    @Autowired
+    private CompanyJpaRepository companyJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID createCompany(String name) {
+        CompanyJpaEntity company = new CompanyJpaEntity();
+        company.setName(name);
+        company.setIsActive(true);
+        company.setCreatedAt(LocalDateTime.now());
+        company.setUpdatedAt(LocalDateTime.now());
+        return companyJpaRepository.saveAndFlush(company).getId();
+    }
+
+    private Map<OrderStatus, Long> reload(UUID companyId) {
+        entityManager.clear();
+        return repository.findByCompanyId(companyId);
+    }
+
+    @Test
+    @DisplayName("Deve criar os contadores zerados de todos os status")
+    void shouldInitializeAllStatuses() {
+        UUID companyId = createCompany("Empresa");
+
+        repository.initialize(companyId);
+        repository.initialize(companyId);
+
+        assertThat(reload(companyId))
+                .containsOnlyKeys(OrderStatus.values())
+                .allSatisfy((status, count) -> assertThat(count).isZero());
+    }
+
+    @Test
+    @DisplayName("Deve criar os contadores no primeiro ajuste de uma empresa sem linhas")
+    void shouldInitializeOnFirstAdjust() {
+        UUID companyId = createCompany("Empresa");
+
+        repository.adjust(companyId, OrderStatus.RECEBIDO, 1);
+        repository.adjust(companyId, OrderStatus.RECEBIDO, 1);
+
+        Map<OrderStatus, Long> counts = reload(companyId);
+        assertThat(counts).hasSize(OrderStatus.values().length);
+        assertThat(counts.get(OrderStatus.RECEBIDO)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve transferir a contagem entre status sem afetar outra empresa")
+    void shouldMoveCountBetweenStatuses() {
+        UUID companyId = createCompany("Empresa");
+        UUID otherCompanyId = createCompany("Outra");
+        repository.initialize(companyId);
+        repository.initialize(otherCompanyId);
+        repository.adjust(companyId, OrderStatus.RECEBIDO, 3);
+        repository.adjust(otherCompanyId, OrderStatus.RECEBIDO, 1);
+
+        repository.move(companyId, OrderStatus.RECEBIDO, OrderStatus.CANCELADO, 2);
+        repository.move(companyId, OrderStatus.CANCELADO, OrderStatus.RECEBIDO, 1);
+
+        Map<OrderStatus, Long> counts = reload(companyId);
+        assertThat(counts.get(OrderStatus.RECEBIDO)).isEqualTo(2L);
+        assertThat(counts.get(OrderStatus.CANCELADO)).isEqualTo(1L);
+        assertThat(reload(otherCompanyId).get(OrderStatus.RECEBIDO)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve remover os contadores junto com a empresa")
+    void shouldCascadeOnCompanyDelete() {
+        UUID companyId = createCompany("Empresa");
+        repository.initialize(companyId);
+
+        jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+
+        assertThat(reload(companyId)).isEmpty();
+    }
+}
@@ -0,0 +1,253 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.jpa;
+
+import br.com.baggiotech.tecos_api.application.auth.RefreshTokenUseCase;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.analytics.BudgetDailyRollupJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.user.UserRepositoryImpl;
+import br.com.baggiotech.tecos_api.infrastructure.security.InvalidTokenException;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * O cache só é lido por sessões abertas depois da gravação da entrada, então cada passo
+ * usa um EntityManager próprio e confirma a transação; os dados são removidos ao final.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-Level Cache Tests")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private EntityManager sharedEntityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BudgetJpaRepository budgetJpaRepository;
+
+    @Autowired
+    private BudgetDailyRollupJpaRepository budgetDailyRollupJpaRepository;
+
+    private Statistics statistics;
+    private UUID companyId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        inTransaction(entityManager -> {
+            CompanyJpaEntity company = new CompanyJpaEntity();
+            company.setName("Empresa");
+            company.setIsActive(true);
+            entityManager.persist(company);
+
+            UserJpaEntity user = new UserJpaEntity();
+            user.setCompany(company);
+            user.setName("Técnico");
+            user.setEmail("tecnico@example.com");
+            user.setPassword("hash");
+            user.setType("TECNICO");
+            user.setIsActive(true);
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            entityManager.persist(user);
+
+            companyId = company.getId();
+            userId = user.getId();
+            return null;
+        });
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+    }
+
+    private <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            T result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+
+    @Test
+    @DisplayName("Deve servir a empresa do cache a partir do segundo carregamento")
+    void shouldServeCompanyFromCache() {
+        inTransaction(entityManager -> entityManager.find(CompanyJpaEntity.class, companyId));
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        String name = inTransaction(entityManager -> entityManager.find(CompanyJpaEntity.class, companyId).getName());
+
+        assertThat(name).isEqualTo("Empresa");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(region(CompanyJpaEntity.CACHE_REGION).getMissCount()).isEqualTo(1);
+        assertThat(region(CompanyJpaEntity.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve resolver o usuário e a sua empresa sem ir ao banco")
+    void shouldResolveUserAndCompanyFromCache() {
+        inTransaction(entityManager -> entityManager.find(UserJpaEntity.class, userId).getCompany().getName());
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        String companyName = inTransaction(entityManager ->
+                entityManager.find(UserJpaEntity.class, userId).getCompany().getName());
+
+        assertThat(companyName).isEqualTo("Empresa");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(region(UserJpaEntity.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(region(CompanyJpaEntity.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver a versão antiga após atualizar a empresa")
+    void shouldNotServeStaleCompanyAfterUpdate() {
+        inTransaction(entityManager -> entityManager.find(CompanyJpaEntity.class, companyId));
+
+        inTransaction(entityManager -> {
+            entityManager.find(CompanyJpaEntity.class, companyId).setName("Empresa Renomeada");
+            return null;
+        });
+
+        String name = inTransaction(entityManager -> entityManager.find(CompanyJpaEntity.class, companyId).getName());
+        assertThat(name).isEqualTo("Empresa Renomeada");
+    }
+
+    @Test
+    @DisplayName("Não deve devolver usuário excluído que estava em cache")
+    void shouldNotServeDeletedUserFromCache() {
+        inTransaction(entityManager -> entityManager.find(UserJpaEntity.class, userId));
+
+        inTransaction(entityManager -> {
+            entityManager.remove(entityManager.find(UserJpaEntity.class, userId));
+            return null;
+        });
+
+        UserJpaEntity reloaded = inTransaction(entityManager -> entityManager.find(UserJpaEntity.class, userId));
+        assertThat(reloaded).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve renovar o token de usuário desativado em outra instância com a entrada ainda em cache")
+    void shouldNotRefreshTokenForUserDeactivatedElsewhere() {
+        TokenService tokenService = new TokenService("test-secret-with-at-least-32-bytes!!",
+                Duration.ofMinutes(15), Duration.ofDays(7));
+        String refreshToken = tokenService.issue(userId, companyId, "TECNICO").refreshToken();
+        inTransaction(entityManager -> entityManager.find(UserJpaEntity.class, userId));
+
+        // Outra instância desativa o usuário: o cache local não fica sabendo
+        jdbcTemplate.update("UPDATE users SET is_active = false WHERE id = ?", userId);
+        UserJpaEntity cached = inTransaction(entityManager -> entityManager.find(UserJpaEntity.class, userId));
+        assertThat(cached.getIsActive()).isTrue();
+
+        RefreshTokenUseCase useCase = new RefreshTokenUseCase(tokenService,
+                new UserRepositoryImpl(userJpaRepository, sharedEntityManager));
+        // Mesma transação de escrita que o @Transactional do caso de uso abre no contexto completo
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> useCase.execute(refreshToken)))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("A empresa em cache deve sobreviver à aprovação de um orçamento, feita com SQL nativo")
+    void shouldKeepCompanyCachedAcrossBudgetApproval() {
+        UUID clientId = UUID.randomUUID();
+        UUID equipmentId = UUID.randomUUID();
+        UUID workOrderId = UUID.randomUUID();
+        UUID budgetId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO clients (id, company_id, name, phone, is_active, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", clientId, companyId, "Cliente", "11999999999", true, now, now, false);
+        jdbcTemplate.update("INSERT INTO equipments (id, company_id, client_id, type, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", equipmentId, companyId, clientId, "Notebook", now, now, false);
+        jdbcTemplate.update("INSERT INTO work_orders (id, company_id, client_id, equipment_id, technician_id, status, "
+                        + "reported_defect, return, created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                workOrderId, companyId, clientId, equipmentId, userId, "AGUARDANDO_APROVACAO", "Defeito", false,
+                now, now, false);
+        jdbcTemplate.update("INSERT INTO budgets (id, company_id, work_order_id, service_value, parts_value, total_value, "
+                        + "status, created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                budgetId, companyId, workOrderId, 100, 50, 150, "PENDENTE", userId, now, now);
+        try {
+            inTransaction(entityManager -> entityManager.find(CompanyJpaEntity.class, companyId));
+            assertThat(entityManagerFactory.getCache().contains(CompanyJpaEntity.class, companyId)).isTrue();
+
+            // Os mesmos comandos nativos de ApproveBudgetUseCase e BudgetRollupRecorder
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                LocalDateTime approvedAt = LocalDateTime.now();
+                budgetJpaRepository.demoteApprovedExcept(workOrderId, budgetId, approvedAt);
+                budgetJpaRepository.approveIfPending(budgetId, approvedAt, "presential", userId, approvedAt);
+                if (budgetDailyRollupJpaRepository.increment(companyId, userId, LocalDate.now(),
+                        0, BigDecimal.ZERO, 1, new BigDecimal("150.00"), 0, BigDecimal.ZERO) == 0) {
+                    budgetDailyRollupJpaRepository.insert(companyId, userId, LocalDate.now(),
+                            0, BigDecimal.ZERO, 1, new BigDecimal("150.00"), 0, BigDecimal.ZERO);
+                }
+            });
+
+            assertThat(jdbcTemplate.queryForObject("SELECT status FROM budgets WHERE id = ?", String.class, budgetId))
+                    .isEqualTo("APROVADO");
+            assertThat(entityManagerFactory.getCache().contains(CompanyJpaEntity.class, companyId)).isTrue();
+        } finally {
+            jdbcTemplate.update("DELETE FROM budget_daily_rollups WHERE company_id = ?", companyId);
+            jdbcTemplate.update("DELETE FROM budgets WHERE id = ?", budgetId);
+            jdbcTemplate.update("DELETE FROM work_orders WHERE id = ?", workOrderId);
+            jdbcTemplate.update("DELETE FROM equipments WHERE id = ?", equipmentId);
+            jdbcTemplate.update("DELETE FROM clients WHERE id = ?", clientId);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.baggiotech.tecos_api.domain.publiclink.PublicLinkRepository;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.filter.CompanyFilterHelper;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
@@ -17,6 +18,8 @@ import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEn
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +66,9 @@ class PublicLinkRepositoryImplTest {
     @Autowired
     private PublicLinkRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
 
     private Company createCompany(String name, String email) {
         CompanyJpaEntity companyEntity = new CompanyJpaEntity();
@@ -320,4 +326,49 @@ class PublicLinkRepositoryImplTest {
         
         assertThat(repository.existsById(linkId)).isFalse();
     }
+
+    @Test
+    @DisplayName("Deve denormalizar company_id a partir da ordem de serviço")
+    void shouldDenormalizeCompanyFromWorkOrder() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User technician = createUser(company, "Technician", "tech@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        WorkOrder workOrder = createWorkOrder(company, client, equipment, technician);
+        PublicLink withCompany = createPublicLink(workOrder, "token-with-company");
+
+        WorkOrder idOnly = new WorkOrder();
+        idOnly.setId(workOrder.getId());
+        PublicLink withoutCompany = createPublicLink(idOnly, "token-without-company");
+
+        assertThat(publicLinkJpaRepository.findById(withCompany.getId()).orElseThrow().getCompany().getId())
+                .isEqualTo(company.getId());
+        assertThat(publicLinkJpaRepository.findById(withoutCompany.getId()).orElseThrow().getCompany().getId())
+                .isEqualTo(company.getId());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar links pelo tenant com igualdade em company_id")
+    void shouldFilterByTenant() {
+        Company company = createCompany("Test Company", "company@example.com");
+        Company otherCompany = createCompany("Other Company", "other@example.com");
+        User technician = createUser(company, "Technician", "tech@example.com");
+        User otherTechnician = createUser(otherCompany, "Other Technician", "other-tech@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.client.Client otherClient = createClient(otherCompany, "Other Client", "11888888888");
+        WorkOrder workOrder = createWorkOrder(company, client, createEquipment(company, client, "Notebook"), technician);
+        WorkOrder otherWorkOrder = createWorkOrder(otherCompany, otherClient,
+                createEquipment(otherCompany, otherClient, "Celular"), otherTechnician);
+        createPublicLink(workOrder, "token-own");
+        createPublicLink(otherWorkOrder, "token-other");
+        entityManager.flush();
+        entityManager.clear();
+
+        new CompanyFilterHelper(company::getId).enableCompanyFilters(entityManager);
+        try {
+            assertThat(repository.findAll()).extracting(PublicLink::getToken).containsExactly("token-own");
+        } finally {
+            entityManager.unwrap(Session.class).disableFilter(CompanyFilterHelper.COMPANY_FILTER);
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.statistics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Número máximo de comandos SQL que o corpo do teste (sem o @BeforeEach) pode emitir, somando todas as
+ * requisições feitas nele. Na classe vale para todos os métodos; no método, sobrescreve o da classe.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,45 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.statistics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Abre um {@link SqlStatementStats} em volta do corpo do teste e falha se os comandos emitidos passarem
+ * do {@link SqlStatementBudget} declarado. As requisições do MockMvc rodam na mesma thread, então o
+ * escopo aberto pelo filtro de cada requisição soma neste ao fechar.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementStats.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementStats.class);
+        stats.close();
+
+        int budget = budget(context);
+        if (stats.statements() > budget) {
+            String repeated = stats.mostRepeated()
+                    .map(entry -> "\nMais repetido (" + entry.getValue() + "x): " + entry.getKey())
+                    .orElse("");
+            throw new AssertionFailedError("Orçamento de SQL excedido: " + stats.statements()
+                    + " comandos, máximo " + budget + repeated, budget, stats.statements());
+        }
+    }
+
+    private static int budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), SqlStatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), SqlStatementBudget.class))
+                .map(SqlStatementBudget::value)
+                .orElseThrow();
+    }
+}
@@ -158,6 +158,21 @@ class UserRepositoryImplTest {
         assertThat(found.get().getEmail()).isEqualTo("alpha@example.com");
     }
 
+    @Test
+    @DisplayName("Deve trocar o hash da senha somente se o gravado ainda for o esperado")
+    void shouldUpdatePasswordOnlyIfCurrent() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User user = createUser(company, "User Alpha", "alpha@example.com", "hash-antigo", "TECNICO", true);
+
+        assertThat(repository.updatePasswordIfCurrent(user.getId(), "hash-trocado", "hash-novo")).isFalse();
+        assertThat(repository.findCurrentByEmail("alpha@example.com").orElseThrow().getPassword())
+                .isEqualTo("hash-antigo");
+
+        assertThat(repository.updatePasswordIfCurrent(user.getId(), "hash-antigo", "hash-novo")).isTrue();
+        assertThat(repository.findCurrentByEmail("alpha@example.com").orElseThrow().getPassword())
+                .isEqualTo("hash-novo");
+    }
+
     @Test
     @DisplayName("Deve verificar se email existe")
     void shouldCheckIfEmailExists() {
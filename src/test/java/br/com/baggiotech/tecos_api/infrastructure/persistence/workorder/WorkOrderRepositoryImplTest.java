@@ -0,0 +1,578 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.workorder;
+
+import br.com.baggiotech.tecos_api.domain.client.Client;
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.equipment.Equipment;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderFilter;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderRepository;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderStatusView;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(WorkOrderRepositoryImpl.class)
+@DisplayName("WorkOrderRepositoryImpl Integration Tests")
+class WorkOrderRepositoryImplTest {
+
+    @Autowired
+    private CompanyJpaRepository companyJpaRepository;
+
+    @Autowired
+    private ClientJpaRepository clientJpaRepository;
+
+    @Autowired
+    private EquipmentJpaRepository equipmentJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private WorkOrderJpaRepository workOrderJpaRepository;
+
+    @Autowired
+    private WorkOrderRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyJpaEntity company;
+    private CompanyJpaEntity otherCompany;
+    private ClientJpaEntity client;
+    private EquipmentJpaEntity equipment;
+    private UserJpaEntity technician;
+
+    @BeforeEach
+    void setUp() {
+        company = createCompany("Company A", "a@example.com");
+        otherCompany = createCompany("Company B", "b@example.com");
+        client = createClient(company, "Maria Silva");
+        equipment = createEquipment(company, client);
+        technician = createTechnician(company);
+    }
+
+    private CompanyJpaEntity createCompany(String name, String email) {
+        CompanyJpaEntity entity = new CompanyJpaEntity();
+        entity.setName(name);
+        entity.setEmail(email);
+        entity.setIsActive(true);
+        return companyJpaRepository.save(entity);
+    }
+
+    private ClientJpaEntity createClient(CompanyJpaEntity company, String name) {
+        ClientJpaEntity entity = new ClientJpaEntity();
+        entity.setCompany(company);
+        entity.setName(name);
+        entity.setPhone("11999999999");
+        entity.setIsActive(true);
+        return clientJpaRepository.save(entity);
+    }
+
+    private EquipmentJpaEntity createEquipment(CompanyJpaEntity company, ClientJpaEntity client) {
+        EquipmentJpaEntity entity = new EquipmentJpaEntity();
+        entity.setCompany(company);
+        entity.setClient(client);
+        entity.setType("Notebook");
+        return equipmentJpaRepository.save(entity);
+    }
+
+    private UserJpaEntity createTechnician(CompanyJpaEntity company) {
+        UserJpaEntity entity = new UserJpaEntity();
+        entity.setCompany(company);
+        entity.setName("Técnico");
+        entity.setEmail("tech-" + company.getId() + "@example.com");
+        entity.setPassword("password");
+        entity.setType("TECNICO");
+        entity.setIsActive(true);
+        return userJpaRepository.save(entity);
+    }
+
+    private WorkOrderJpaEntity createWorkOrder(CompanyJpaEntity company, OrderStatus status,
+                                               String reportedDefect, boolean returnOrder) {
+        return createWorkOrder(company, status, reportedDefect, returnOrder, LocalDateTime.now());
+    }
+
+    private WorkOrderJpaEntity createWorkOrder(CompanyJpaEntity company, OrderStatus status,
+                                               String reportedDefect, boolean returnOrder,
+                                               LocalDateTime createdAt) {
+        WorkOrderJpaEntity entity = new WorkOrderJpaEntity();
+        entity.setCompany(company);
+        entity.setClient(client);
+        entity.setEquipment(equipment);
+        entity.setTechnician(technician);
+        entity.setStatus(status);
+        entity.setReportedDefect(reportedDefect);
+        entity.setReturnOrder(returnOrder);
+        entity.setCreatedAt(createdAt);
+        entity.setUpdatedAt(createdAt);
+        return workOrderJpaRepository.save(entity);
+    }
+
+    // created_at é preenchido pelo Hibernate (@CreationTimestamp) e não é atualizável pela entidade
+    private void backdate(WorkOrderJpaEntity workOrder, LocalDateTime createdAt) {
+        workOrderJpaRepository.flush();
+        jdbcTemplate.update("UPDATE work_orders SET created_at = ? WHERE id = ?", createdAt, workOrder.getId());
+    }
+
+    private WorkOrderFilter filter(java.util.UUID companyId, OrderStatus status, Boolean returnOrder, String search) {
+        return new WorkOrderFilter(companyId, null, null, null, status, returnOrder, search);
+    }
+
+    @Test
+    @DisplayName("Deve combinar filtros em uma única consulta")
+    void shouldCombineFiltersInSingleQuery() {
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Tela quebrada", false);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", true);
+        createWorkOrder(company, OrderStatus.PRONTO, "Tela quebrada", false);
+        createWorkOrder(otherCompany, OrderStatus.RECEBIDO, "Tela quebrada", false);
+
+        Page<WorkOrderSummary> result = repository.findSummaries(
+                filter(company.getId(), OrderStatus.RECEBIDO, false, "TELA"),
+                PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).reportedDefect()).isEqualTo("Tela quebrada");
+        assertThat(result.getContent().get(0).companyId()).isEqualTo(company.getId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo nome do cliente")
+    void shouldSearchByClientName() {
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+
+        Page<WorkOrderSummary> result = repository.findSummaries(filter(null, null, null, "silva"), PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar a busca por relevância quando não houver ordenação explícita")
+    void shouldRankSearchResultsWhenUnsorted() {
+        WorkOrderJpaEntity inObservations = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        inObservations.setInternalObservations("Verificar tela depois");
+        workOrderJpaRepository.save(inObservations);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Troca de tela", false);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Tela quebrada", false);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Bateria viciada", false);
+
+        Page<WorkOrderSummary> result = repository.findSummaries(
+                filter(company.getId(), null, null, "tela"), PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(WorkOrderSummary::reportedDefect)
+                .containsExactly("Tela quebrada", "Troca de tela", "Não liga");
+    }
+
+    @Test
+    @DisplayName("Deve paginar e ordenar no banco retornando o total")
+    void shouldPaginateAndSortInDatabase() {
+        createWorkOrder(company, OrderStatus.PRONTO, "Defeito 1", false);
+        createWorkOrder(company, OrderStatus.EM_ANALISE, "Defeito 2", false);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 3", false);
+
+        Page<WorkOrderSummary> firstPage = repository.findSummaries(
+                filter(company.getId(), null, null, null),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "status")));
+        Page<WorkOrderSummary> secondPage = repository.findSummaries(
+                filter(company.getId(), null, null, null),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "status")));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(firstPage.getContent()).extracting(WorkOrderSummary::status)
+                .containsExactly(OrderStatus.EM_ANALISE, OrderStatus.PRONTO);
+        assertThat(secondPage.getContent()).extracting(WorkOrderSummary::status)
+                .containsExactly(OrderStatus.RECEBIDO);
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor do mais recente para o mais antigo sem repetir registros")
+    void shouldPaginateByCursor() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 10, 12, 0);
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 1", false, base.minusDays(2));
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 2", false, base.minusDays(1));
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 3", false, base);
+        createWorkOrder(otherCompany, OrderStatus.RECEBIDO, "Outra empresa", false, base);
+
+        WorkOrderFilter companyFilter = filter(company.getId(), null, null, null);
+        CursorPage<WorkOrderSummary> firstPage = repository.findSummariesAfter(companyFilter, null, 2);
+        CursorPage<WorkOrderSummary> secondPage = repository.findSummariesAfter(companyFilter, firstPage.nextCursor(), 2);
+
+        assertThat(firstPage.content()).extracting(WorkOrderSummary::reportedDefect)
+                .containsExactly("Defeito 3", "Defeito 2");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.content()).extracting(WorkOrderSummary::reportedDefect)
+                .containsExactly("Defeito 1");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer em streaming as OS da empresa no período, em ordem de criação")
+    void shouldStreamSummariesWithinPeriodInCreationOrder() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 10, 12, 0);
+        backdate(createWorkOrder(company, OrderStatus.RECEBIDO, "Fora do período", false), base.minusMonths(1));
+        backdate(createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 2", false), base.plusDays(1));
+        backdate(createWorkOrder(company, OrderStatus.RECEBIDO, "Defeito 1", false), base);
+        backdate(createWorkOrder(otherCompany, OrderStatus.RECEBIDO, "Outra empresa", false), base);
+
+        List<WorkOrderSummary> exported;
+        try (Stream<WorkOrderSummary> stream = repository.streamSummaries(
+                filter(company.getId(), null, null, null), base.withDayOfMonth(1), base.plusMonths(1))) {
+            exported = stream.toList();
+        }
+
+        assertThat(exported).extracting(WorkOrderSummary::reportedDefect)
+                .containsExactly("Defeito 1", "Defeito 2");
+        assertThat(exported).extracting(WorkOrderSummary::clientName).containsOnly("Maria Silva");
+    }
+
+    @Test
+    @DisplayName("Deve projetar ids e nomes das associações na listagem")
+    void shouldProjectAssociationNamesInSummary() {
+        createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+
+        WorkOrderSummary summary = repository.findSummaries(
+                filter(company.getId(), null, null, null), PageRequest.of(0, 10)).getContent().get(0);
+
+        assertThat(summary.companyName()).isEqualTo("Company A");
+        assertThat(summary.clientId()).isEqualTo(client.getId());
+        assertThat(summary.clientName()).isEqualTo("Maria Silva");
+        assertThat(summary.equipmentType()).isEqualTo("Notebook");
+        assertThat(summary.technicianName()).isEqualTo("Técnico");
+    }
+
+    @Test
+    @DisplayName("Deve carregar o grafo de detalhe sem copiar a senha do técnico")
+    void shouldLoadDetailGraphWithoutTechnicianPassword() {
+        WorkOrderJpaEntity saved = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+
+        WorkOrder workOrder = repository.findById(saved.getId()).orElseThrow();
+
+        assertThat(workOrder.getClient().getName()).isEqualTo("Maria Silva");
+        assertThat(workOrder.getEquipment().getType()).isEqualTo("Notebook");
+        assertThat(workOrder.getEquipment().getClient().getId()).isEqualTo(client.getId());
+        assertThat(workOrder.getTechnician().getName()).isEqualTo("Técnico");
+        assertThat(workOrder.getTechnician().getCompany().getId()).isEqualTo(company.getId());
+        assertThat(workOrder.getTechnician().getPassword()).isNull();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private WorkOrder newWorkOrder() {
+        WorkOrder workOrder = new WorkOrder();
+        Company companyRef = new Company();
+        companyRef.setId(company.getId());
+        Client clientRef = new Client();
+        clientRef.setId(client.getId());
+        Equipment equipmentRef = new Equipment();
+        equipmentRef.setId(equipment.getId());
+        User technicianRef = new User();
+        technicianRef.setId(technician.getId());
+        workOrder.setCompany(companyRef);
+        workOrder.setClient(clientRef);
+        workOrder.setEquipment(equipmentRef);
+        workOrder.setTechnician(technicianRef);
+        workOrder.setStatus(OrderStatus.RECEBIDO);
+        workOrder.setReportedDefect("Não liga");
+        workOrder.setReturnOrder(false);
+        return workOrder;
+    }
+
+    @Test
+    @DisplayName("Deve inserir OS nova com um único INSERT, sem carregar as associações")
+    void shouldInsertNewWorkOrderWithSingleStatement() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        WorkOrder saved = repository.save(newWorkOrder());
+        entityManager.flush();
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a OS já carregada com um único UPDATE")
+    void shouldUpdateLoadedWorkOrderWithSingleStatement() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        entityManager.flush();
+        entityManager.clear();
+        WorkOrder workOrder = repository.findById(existing.getId()).orElseThrow();
+        Statistics statistics = statistics();
+
+        workOrder.setReportedDefect("Não liga nem carrega");
+        repository.save(workOrder);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT reported_defect FROM work_orders WHERE id = ?",
+                String.class, existing.getId())).isEqualTo("Não liga nem carrega");
+    }
+
+    @Test
+    @DisplayName("Deve listar só os ids das OS do cliente e do equipamento")
+    void shouldFindIdsByClientAndEquipment() {
+        WorkOrderJpaEntity first = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        WorkOrderJpaEntity second = createWorkOrder(company, OrderStatus.PRONTO, "Tela quebrada", false);
+
+        assertThat(repository.findIdsByClientId(client.getId()))
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(repository.findIdsByEquipmentId(equipment.getId()))
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(repository.findIdsByClientId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve reverter, ao salvar a OS, um status alterado depois da leitura")
+    void shouldNotRevertStatusOnSave() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.PRONTO, "Não liga", false);
+        entityManager.flush();
+        entityManager.clear();
+        WorkOrder workOrder = repository.findById(existing.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE work_orders SET status = 'ENTREGUE', delivered_at = CURRENT_TIMESTAMP "
+                + "WHERE id = ?", existing.getId());
+
+        workOrder.setInternalObservations("Cliente avisado");
+        repository.save(workOrder);
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForMap("SELECT status, delivered_at, internal_observations FROM work_orders "
+                + "WHERE id = ?", existing.getId()))
+                .containsEntry("STATUS", "ENTREGUE")
+                .containsEntry("INTERNAL_OBSERVATIONS", "Cliente avisado")
+                .extractingByKey("DELIVERED_AT").isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve gravar alterações de OS lida em transação somente-leitura")
+    void shouldUpdateWorkOrderLoadedAsReadOnly() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        entityManager.flush();
+        entityManager.clear();
+        Session session = entityManager.unwrap(Session.class);
+        session.setDefaultReadOnly(true);
+        WorkOrder workOrder = repository.findById(existing.getId()).orElseThrow();
+        session.setDefaultReadOnly(false);
+
+        workOrder.setReportedDefect("Tela piscando");
+        repository.save(workOrder);
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT reported_defect FROM work_orders WHERE id = ?",
+                String.class, existing.getId())).isEqualTo("Tela piscando");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar transição de status apenas quando o status no banco é o esperado")
+    void shouldCompareAndSetStatus() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.PRONTO, "Não liga", false);
+        entityManager.flush();
+        WorkOrder workOrder = repository.findById(existing.getId()).orElseThrow();
+        workOrder.transitionTo(OrderStatus.ENTREGUE);
+
+        assertThat(repository.compareAndSetStatus(workOrder, OrderStatus.PRONTO)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM work_orders WHERE id = ?",
+                String.class, existing.getId())).isEqualTo("ENTREGUE");
+        assertThat(jdbcTemplate.queryForObject("SELECT delivered_at FROM work_orders WHERE id = ?",
+                LocalDateTime.class, existing.getId())).isNotNull();
+        assertThat(repository.findById(existing.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.ENTREGUE);
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever status alterado por outra requisição")
+    void shouldNotOverwriteStatusChangedConcurrently() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        entityManager.flush();
+        WorkOrder workOrder = repository.findById(existing.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE work_orders SET status = 'CANCELADO' WHERE id = ?", existing.getId());
+
+        workOrder.transitionTo(OrderStatus.EM_ANALISE);
+
+        assertThat(repository.compareAndSetStatus(workOrder, OrderStatus.RECEBIDO)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM work_orders WHERE id = ?",
+                String.class, existing.getId())).isEqualTo("CANCELADO");
+    }
+
+    @Test
+    @DisplayName("Deve trocar status em lote e retornar apenas as OS alteradas por esta chamada")
+    void shouldCompareAndSetStatusesInBatch() {
+        WorkOrderJpaEntity first = createWorkOrder(company, OrderStatus.PRONTO, "Não liga", false);
+        WorkOrderJpaEntity second = createWorkOrder(company, OrderStatus.PRONTO, "Tela quebrada", false);
+        WorkOrderJpaEntity changed = createWorkOrder(company, OrderStatus.PRONTO, "Sem som", false);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE work_orders SET status = 'ENTREGUE' WHERE id = ?", changed.getId());
+
+        assertThat(repository.findStatusesByIdIn(List.of(first.getId(), changed.getId())))
+                .extracting(WorkOrderStatusView::status)
+                .containsExactlyInAnyOrder(OrderStatus.PRONTO, OrderStatus.ENTREGUE);
+
+        Set<UUID> updated = repository.compareAndSetStatuses(
+                List.of(first.getId(), second.getId(), changed.getId()), OrderStatus.PRONTO, OrderStatus.ENTREGUE);
+
+        assertThat(updated).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_orders WHERE status = 'ENTREGUE' "
+                + "AND delivered_at IS NOT NULL", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve travar as OS lidas para o lote até o commit, fazendo uma troca concorrente esperar")
+    void shouldLockStatusesReadForBatch() throws Exception {
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        UUID companyId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID equipmentId = UUID.randomUUID();
+        UUID workOrderId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        committed.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO companies (id, name, is_active, created_at, updated_at) "
+                    + "VALUES (?, 'Empresa', TRUE, ?, ?)", companyId, now, now);
+            jdbcTemplate.update("INSERT INTO clients (id, company_id, name, phone, is_active, created_at, updated_at, "
+                    + "deleted) VALUES (?, ?, 'Cliente', '11999999999', TRUE, ?, ?, FALSE)", clientId, companyId, now, now);
+            jdbcTemplate.update("INSERT INTO users (id, company_id, name, email, password, type, is_active, created_at, "
+                    + "updated_at, deleted) VALUES (?, ?, 'Técnico', ?, 'x', 'TECNICO', TRUE, ?, ?, FALSE)",
+                    userId, companyId, userId + "@example.com", now, now);
+            jdbcTemplate.update("INSERT INTO equipments (id, company_id, client_id, type, created_at, updated_at, deleted) "
+                    + "VALUES (?, ?, ?, 'Notebook', ?, ?, FALSE)", equipmentId, companyId, clientId, now, now);
+            jdbcTemplate.update("INSERT INTO work_orders (id, company_id, client_id, equipment_id, technician_id, status, "
+                    + "reported_defect, return, created_at, updated_at, deleted) "
+                    + "VALUES (?, ?, ?, ?, ?, 'PRONTO', 'Não liga', FALSE, ?, ?, FALSE)",
+                    workOrderId, companyId, clientId, equipmentId, userId, now, now);
+        });
+        try {
+            CompletableFuture<Integer> cancel = committed.execute(status -> {
+                assertThat(repository.findStatusesByIdIn(List.of(workOrderId)))
+                        .extracting(WorkOrderStatusView::status).containsExactly(OrderStatus.PRONTO);
+                // Outra requisição tenta cancelar a mesma OS enquanto o lote decide a troca
+                CompletableFuture<Integer> concurrent = CompletableFuture.supplyAsync(() -> jdbcTemplate.update(
+                        "UPDATE work_orders SET status = 'CANCELADO' WHERE id = ? AND status = 'PRONTO'", workOrderId));
+                sleep(300);
+                assertThat(concurrent).isNotDone();
+                assertThat(repository.compareAndSetStatuses(List.of(workOrderId), OrderStatus.PRONTO, OrderStatus.ENTREGUE))
+                        .containsExactly(workOrderId);
+                return concurrent;
+            });
+
+            assertThat(cancel.get(5, TimeUnit.SECONDS)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT status FROM work_orders WHERE id = ?",
+                    String.class, workOrderId)).isEqualTo("ENTREGUE");
+        } finally {
+            TestTransaction.end();
+            jdbcTemplate.update("DELETE FROM work_orders WHERE id = ?", workOrderId);
+            jdbcTemplate.update("DELETE FROM equipments WHERE id = ?", equipmentId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+            jdbcTemplate.update("DELETE FROM clients WHERE id = ?", clientId);
+            jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver a versão da OS com um único SELECT, sem carregar entidades")
+    void shouldFindVersionWithSingleStatement() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        ResourceVersion version = repository.findVersionById(existing.getId()).orElseThrow();
+
+        assertThat(version.id()).isEqualTo(existing.getId());
+        assertThat(version.lastModified()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão da OS quando o cliente exibido nela é alterado")
+    void shouldBumpVersionWhenClientChanges() {
+        WorkOrderJpaEntity existing = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        entityManager.flush();
+        LocalDateTime before = repository.findVersionById(existing.getId()).orElseThrow().lastModified();
+        LocalDateTime renamedAt = before.plusMinutes(5);
+        entityManager.createQuery("UPDATE ClientJpaEntity c SET c.name = 'Maria Souza', c.updatedAt = :updatedAt " +
+                        "WHERE c.id = :id")
+                .setParameter("updatedAt", renamedAt)
+                .setParameter("id", client.getId())
+                .executeUpdate();
+
+        assertThat(repository.findVersionById(existing.getId()).orElseThrow().lastModified()).isEqualTo(renamedAt);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver versão de OS inexistente ou excluída")
+    void shouldNotFindVersionOfMissingWorkOrder() {
+        WorkOrderJpaEntity deleted = createWorkOrder(company, OrderStatus.RECEBIDO, "Não liga", false);
+        workOrderJpaRepository.delete(deleted);
+        entityManager.flush();
+
+        assertThat(repository.findVersionById(deleted.getId())).isEmpty();
+        assertThat(repository.findVersionById(UUID.randomUUID())).isEmpty();
+    }
+}
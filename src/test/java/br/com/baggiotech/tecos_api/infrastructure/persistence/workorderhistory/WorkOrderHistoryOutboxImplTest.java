@@ -0,0 +1,158 @@
+package br.com.baggiotech.tecos_api.infrastructure.persistence.workorderhistory;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistoryEvent;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaRepository;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryOutboxJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryOutboxJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(WorkOrderHistoryOutboxImpl.class)
+@DisplayName("WorkOrderHistoryOutboxImpl Integration Tests")
+class WorkOrderHistoryOutboxImplTest {
+
+    @Autowired
+    private WorkOrderHistoryOutboxImpl outbox;
+
+    @Autowired
+    private WorkOrderHistoryOutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private WorkOrderHistoryJpaRepository historyJpaRepository;
+
+    @Autowired
+    private CompanyJpaRepository companyJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private ClientJpaRepository clientJpaRepository;
+
+    @Autowired
+    private EquipmentJpaRepository equipmentJpaRepository;
+
+    @Autowired
+    private WorkOrderJpaRepository workOrderJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID companyId;
+    private UUID userId;
+    private UUID workOrderId;
+
+    @BeforeEach
+    void setUp() {
+        CompanyJpaEntity company = new CompanyJpaEntity();
+        company.setName("Empresa");
+        company.setIsActive(true);
+        company.setCreatedAt(LocalDateTime.now());
+        company.setUpdatedAt(LocalDateTime.now());
+        company = companyJpaRepository.save(company);
+        companyId = company.getId();
+
+        UserJpaEntity user = new UserJpaEntity();
+        user.setCompany(company);
+        user.setName("Técnico");
+        user.setEmail("tecnico@example.com");
+        user.setPassword("password");
+        user.setType("TECNICO");
+        user.setIsActive(true);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user = userJpaRepository.save(user);
+        userId = user.getId();
+
+        ClientJpaEntity client = new ClientJpaEntity();
+        client.setCompany(company);
+        client.setName("Cliente");
+        client.setPhone("11999999999");
+        client.setIsActive(true);
+        client.setCreatedAt(LocalDateTime.now());
+        client.setUpdatedAt(LocalDateTime.now());
+        client = clientJpaRepository.save(client);
+
+        EquipmentJpaEntity equipment = new EquipmentJpaEntity();
+        equipment.setCompany(company);
+        equipment.setClient(client);
+        equipment.setType("Notebook");
+        equipment.setCreatedAt(LocalDateTime.now());
+        equipment.setUpdatedAt(LocalDateTime.now());
+        equipment = equipmentJpaRepository.save(equipment);
+
+        WorkOrderJpaEntity workOrder = new WorkOrderJpaEntity();
+        workOrder.setCompany(company);
+        workOrder.setClient(client);
+        workOrder.setEquipment(equipment);
+        workOrder.setTechnician(user);
+        workOrder.setStatus(OrderStatus.RECEBIDO);
+        workOrder.setReportedDefect("Não liga");
+        workOrder.setReturnOrder(false);
+        workOrder.setCreatedAt(LocalDateTime.now());
+        workOrder.setUpdatedAt(LocalDateTime.now());
+        workOrderId = workOrderJpaRepository.save(workOrder).getId();
+    }
+
+    private void enqueue(OrderStatus before, OrderStatus after, LocalDateTime occurredAt) {
+        outbox.enqueue(new WorkOrderHistoryEvent(companyId, workOrderId, userId, before, after,
+                "Troca de status", occurredAt));
+    }
+
+    @Test
+    @DisplayName("Deve mover as pendências mais antigas em lotes, preservando id e data do evento")
+    void shouldRelayOldestEventsInBatches() {
+        LocalDateTime first = LocalDateTime.of(2024, 1, 10, 9, 0);
+        enqueue(null, OrderStatus.RECEBIDO, first);
+        enqueue(OrderStatus.RECEBIDO, OrderStatus.EM_ANALISE, first.plusMinutes(5));
+        enqueue(OrderStatus.EM_ANALISE, OrderStatus.AGUARDANDO_APROVACAO, first.plusMinutes(10));
+        entityManager.flush();
+        List<UUID> pendingIds = outboxJpaRepository.findAll().stream()
+                .map(WorkOrderHistoryOutboxJpaEntity::getId)
+                .toList();
+
+        assertThat(outbox.relay(2)).isEqualTo(2);
+        assertThat(outbox.relay(2)).isEqualTo(1);
+        assertThat(outbox.relay(2)).isZero();
+
+        entityManager.clear();
+        assertThat(outboxJpaRepository.count()).isZero();
+        List<WorkOrderHistoryJpaEntity> histories = historyJpaRepository.findByWorkOrderIdOrderByCreatedAtDesc(workOrderId);
+        assertThat(histories).extracting(WorkOrderHistoryJpaEntity::getId)
+                .containsExactlyInAnyOrderElementsOf(pendingIds);
+        assertThat(histories).extracting(WorkOrderHistoryJpaEntity::getStatusAfter)
+                .containsExactly(OrderStatus.AGUARDANDO_APROVACAO, OrderStatus.EM_ANALISE, OrderStatus.RECEBIDO);
+        WorkOrderHistoryJpaEntity oldest = histories.get(2);
+        assertThat(oldest.getStatusBefore()).isNull();
+        assertThat(oldest.getCreatedAt()).isEqualTo(first);
+        assertThat(oldest.getUpdatedAt()).isEqualTo(first);
+        assertThat(oldest.getCompany().getId()).isEqualTo(companyId);
+        assertThat(oldest.getUser().getId()).isEqualTo(userId);
+    }
+}
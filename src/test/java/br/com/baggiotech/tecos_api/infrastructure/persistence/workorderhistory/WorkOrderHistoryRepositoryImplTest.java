@@ -17,6 +17,9 @@ import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaRe
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaRepository;
 import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorderhistory.WorkOrderHistoryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +28,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -63,6 +67,9 @@ class WorkOrderHistoryRepositoryImplTest {
     @Autowired
     private WorkOrderHistoryRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Company createCompany(String name, String email) {
         CompanyJpaEntity companyEntity = new CompanyJpaEntity();
         companyEntity.setName(name);
@@ -208,6 +215,23 @@ class WorkOrderHistoryRepositoryImplTest {
         assertThat(workOrderHistoryJpaRepository.existsById(saved.getId())).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve denormalizar company_id a partir da ordem de serviço")
+    void shouldDenormalizeCompanyFromWorkOrder() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User user = createUser(company, "Test User", "user@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        WorkOrder workOrder = createWorkOrder(company, client, equipment, user);
+        WorkOrder idOnly = new WorkOrder();
+        idOnly.setId(workOrder.getId());
+
+        WorkOrderHistory history = createHistory(idOnly, user, null, OrderStatus.RECEBIDO, "Criada");
+
+        assertThat(workOrderHistoryJpaRepository.findById(history.getId()).orElseThrow().getCompany().getId())
+                .isEqualTo(company.getId());
+    }
+
     @Test
     @DisplayName("Deve buscar histórico por ID")
     void shouldFindHistoryById() {
@@ -352,4 +376,35 @@ class WorkOrderHistoryRepositoryImplTest {
         
         assertThat(updated.getObservation()).isEqualTo("Updated observation");
     }
+
+    @Test
+    @DisplayName("Deve inserir vários históricos em um único lote JDBC")
+    void shouldInsertHistoriesInSingleJdbcBatch() {
+        Company company = createCompany("Test Company", "company@example.com");
+        User user = createUser(company, "Test User", "user@example.com");
+        br.com.baggiotech.tecos_api.domain.client.Client client = createClient(company, "Test Client", "11999999999");
+        br.com.baggiotech.tecos_api.domain.equipment.Equipment equipment = createEquipment(company, client, "Notebook");
+        List<WorkOrderHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            WorkOrder workOrder = createWorkOrder(company, client, equipment, user);
+            WorkOrderHistory history = new WorkOrderHistory();
+            history.setWorkOrder(workOrder);
+            history.setUser(user);
+            history.setStatusBefore(OrderStatus.PRONTO);
+            history.setStatusAfter(OrderStatus.ENTREGUE);
+            history.setCreatedAt(LocalDateTime.now());
+            history.setUpdatedAt(LocalDateTime.now());
+            histories.add(history);
+        }
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        repository.saveAll(histories);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(histories).allSatisfy(history -> assertThat(history.getId()).isNotNull());
+    }
 }
@@ -0,0 +1,106 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordEncoder Tests")
+class PasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor pool;
+    private PasswordEncoder encoder;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        encoder = new PasswordEncoder(meterRegistry, 4, pool, Duration.ofMillis(200));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    // Ocupa a única thread do pool até o fim do teste
+    private void blockWorker() {
+        pool.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get(PasswordEncoder.REJECTED_METRIC).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve gerar e conferir o hash com o custo configurado")
+    void shouldEncodeAndMatchOnDedicatedPool() {
+        String hash = encoder.encode("senha123");
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("senha123", hash)).isTrue();
+        assertThat(encoder.matches("outra", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve indicar novo hash quando o custo gravado difere do atual")
+    void shouldDetectCostMismatch() {
+        assertThat(encoder.needsRehash(encoder.encode("senha123"))).isFalse();
+        assertThat(encoder.needsRehash("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isTrue();
+        assertThat(encoder.needsRehash(null)).isTrue();
+        assertThat(PasswordEncoder.costOf("$2b$12$abc")).isEqualTo(12);
+        assertThat(PasswordEncoder.costOf("texto-puro")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar na hora quando a fila está cheia")
+    void shouldRejectWhenQueueIsFull() {
+        blockWorker();
+        pool.execute(() -> { });
+
+        assertThatThrownBy(() -> encoder.encode("senha123"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(rejected("queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desistir quando o hash não sai dentro da espera máxima")
+    void shouldRejectWhenWaitExceedsLimit() {
+        blockWorker();
+
+        assertThatThrownBy(() -> encoder.matches("senha123", "$2a$04$hash"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(rejected("timeout")).isEqualTo(1);
+        assertThat(pool.getQueue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve expor a profundidade da fila do pool")
+    void shouldExposeQueueDepth() {
+        blockWorker();
+        pool.execute(() -> { });
+
+        assertThat(meterRegistry.get("executor.queued").tag("name", PasswordEncoder.EXECUTOR_NAME).gauge().value())
+                .isEqualTo(1);
+    }
+}
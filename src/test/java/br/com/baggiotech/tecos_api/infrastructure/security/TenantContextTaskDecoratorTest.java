@@ -0,0 +1,64 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TenantContextTaskDecorator Tests")
+class TenantContextTaskDecoratorTest {
+
+    private final TenantContextTaskDecorator decorator = new TenantContextTaskDecorator();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve repassar o tenant capturado na submissão e limpar a thread executora depois")
+    void shouldPropagateTenantToWorkerThread() throws Exception {
+        UUID companyId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        SecurityContext.setCurrentCompanyId(companyId);
+        SecurityContext.setCurrentUserId(userId);
+        AtomicReference<TenantContext> seen = new AtomicReference<>();
+        AtomicReference<TenantContext> afterTask = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Runnable task = decorator.decorate(() -> seen.set(SecurityContext.current()));
+            SecurityContext.clear();
+            executor.submit(task).get();
+            executor.submit(() -> afterTask.set(SecurityContext.current())).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(seen.get()).isEqualTo(new TenantContext(companyId, userId));
+        assertThat(afterTask.get()).isEqualTo(TenantContext.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o contexto anterior ao sair do bloco")
+    void shouldRestorePreviousContext() {
+        TenantContext outer = new TenantContext(UUID.randomUUID(), UUID.randomUUID());
+        TenantContext inner = new TenantContext(UUID.randomUUID(), null);
+        AtomicReference<UUID> innerCompany = new AtomicReference<>();
+
+        SecurityContext.runWith(outer, () ->
+                SecurityContext.runWith(inner, () -> innerCompany.set(SecurityContext.getCurrentCompanyId())));
+        assertThat(innerCompany.get()).isEqualTo(inner.companyId());
+        assertThat(SecurityContext.current()).isEqualTo(TenantContext.EMPTY);
+
+        SecurityContext.setCurrentCompanyId(outer.companyId());
+        SecurityContext.runWith(inner, () -> { });
+        assertThat(SecurityContext.getCurrentCompanyId()).isEqualTo(outer.companyId());
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenService Tests")
+class TokenServiceTest {
+
+    private static final String SECRET = "test-secret-with-at-least-32-bytes!!";
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+
+    private TokenService tokenService;
+    private UUID userId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = service(NOW);
+        userId = UUID.randomUUID();
+        companyId = UUID.randomUUID();
+    }
+
+    private static TokenService service(Instant now) {
+        return new TokenService(SECRET, Duration.ofMinutes(15), Duration.ofDays(7), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Deve emitir e validar o token de acesso com usuário, empresa e tipo")
+    void shouldIssueAndVerifyAccessToken() {
+        AuthTokens tokens = tokenService.issue(userId, companyId, "ADMIN");
+
+        TokenClaims claims = tokenService.verifyAccess(tokens.accessToken());
+
+        assertThat(tokens.expiresIn()).isEqualTo(900);
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.companyId()).isEqualTo(companyId);
+        assertThat(claims.type()).isEqualTo("ADMIN");
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    @DisplayName("Deve validar o token de renovação apenas como renovação")
+    void shouldKeepAccessAndRefreshTokensApart() {
+        AuthTokens tokens = tokenService.issue(userId, companyId, "ADMIN");
+
+        assertThat(tokenService.verifyRefresh(tokens.refreshToken()).userId()).isEqualTo(userId);
+        assertThatThrownBy(() -> tokenService.verifyAccess(tokens.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.verifyRefresh(tokens.accessToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com payload adulterado")
+    void shouldRejectTamperedPayload() {
+        String token = tokenService.issue(userId, companyId, "TECNICO").accessToken();
+        String[] parts = token.split("\\.");
+        String forged = tokenService.issue(userId, UUID.randomUUID(), "ADMIN").accessToken().split("\\.")[1];
+
+        assertThatThrownBy(() -> tokenService.verifyAccess(parts[0] + "." + forged + "." + parts[2]))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("Assinatura");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado com outra chave")
+    void shouldRejectTokenSignedWithAnotherKey() {
+        TokenService other = new TokenService("another-secret-with-at-least-32-bytes",
+                Duration.ofMinutes(15), Duration.ofDays(7));
+
+        String token = other.issue(userId, companyId, "ADMIN").accessToken();
+
+        assertThatThrownBy(() -> tokenService.verifyAccess(token)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void shouldRejectExpiredToken() {
+        String token = tokenService.issue(userId, companyId, "ADMIN").accessToken();
+
+        assertThatThrownBy(() -> service(NOW.plus(Duration.ofMinutes(15))).verifyAccess(token))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("expirado");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token malformado")
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> tokenService.verifyAccess(null)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.verifyAccess("mock-token-123")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.verifyAccess("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.!!.??"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar segredo com menos de 32 bytes")
+    void shouldRejectShortSecret() {
+        assertThatThrownBy(() -> new TokenService("curto", Duration.ofMinutes(15), Duration.ofDays(7)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
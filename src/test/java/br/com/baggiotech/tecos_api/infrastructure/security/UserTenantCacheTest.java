@@ -0,0 +1,97 @@
+package br.com.baggiotech.tecos_api.infrastructure.security;
+
+import br.com.baggiotech.tecos_api.domain.company.Company;
+import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserTenantCache Tests")
+class UserTenantCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserTenantCache cache;
+    private UUID userId;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserTenantCache(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+        userId = UUID.randomUUID();
+        companyId = UUID.randomUUID();
+    }
+
+    private User user(boolean active) {
+        Company company = new Company();
+        company.setId(companyId);
+        User user = new User();
+        user.setId(userId);
+        user.setCompany(company);
+        user.setIsActive(active);
+        user.setType("TECNICO");
+        return user;
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", UserTenantCache.CACHE_NAME)
+                .tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas na primeira resolução do usuário")
+    void shouldHitDatabaseOnlyOnce() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user(true)));
+
+        Optional<UserTenant> first = cache.get(userId);
+        Optional<UserTenant> second = cache.get(userId);
+
+        assertThat(first).contains(new UserTenant(userId, companyId, true, "TECNICO"));
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findById(userId);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o usuário após invalidação")
+    void shouldReloadAfterInvalidation() {
+        when(userRepository.findById(userId))
+                .thenReturn(Optional.of(user(true)))
+                .thenReturn(Optional.of(user(false)));
+
+        cache.get(userId);
+        cache.invalidate(userId);
+        Optional<UserTenant> reloaded = cache.get(userId);
+
+        assertThat(reloaded).map(UserTenant::active).contains(false);
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar usuários inexistentes")
+    void shouldNotCacheMissingUsers() {
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(userId)).isEmpty();
+        assertThat(cache.get(userId)).isEmpty();
+
+        verify(userRepository, times(2)).findById(userId);
+    }
+}
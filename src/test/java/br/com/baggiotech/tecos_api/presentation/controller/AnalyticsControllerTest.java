@@ -0,0 +1,76 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.application.analytics.GetBudgetAnalyticsUseCase;
+import br.com.baggiotech.tecos_api.domain.analytics.BudgetMonthlySummary;
+import br.com.baggiotech.tecos_api.presentation.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsController Integration Tests")
+class AnalyticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private GetBudgetAnalyticsUseCase getBudgetAnalyticsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AnalyticsController(getBudgetAnalyticsUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve retornar faturamento, ticket médio e taxas por técnico")
+    void shouldReturnMonthlyTotalsByTechnician() throws Exception {
+        UUID companyId = UUID.randomUUID();
+        UUID technicianId = UUID.randomUUID();
+        BudgetMonthlySummary january = new BudgetMonthlySummary(YearMonth.of(2024, 1), technicianId,
+                4, new BigDecimal("700.00"), 3, new BigDecimal("600.00"), 1, new BigDecimal("100.00"));
+        when(getBudgetAnalyticsUseCase.execute(companyId, YearMonth.of(2024, 1), YearMonth.of(2024, 3), true))
+                .thenReturn(List.of(january));
+
+        mockMvc.perform(get("/api/analytics/budgets")
+                        .param("companyId", companyId.toString())
+                        .param("from", "2024-01")
+                        .param("to", "2024-03")
+                        .param("groupBy", "technician"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy").value("technician"))
+                .andExpect(jsonPath("$.items[0].month").value("2024-01"))
+                .andExpect(jsonPath("$.items[0].technicianId").value(technicianId.toString()))
+                .andExpect(jsonPath("$.items[0].revenue").value(600.00))
+                .andExpect(jsonPath("$.items[0].averageTicket").value(200.00))
+                .andExpect(jsonPath("$.items[0].approvalRate").value(0.75))
+                .andExpect(jsonPath("$.items[0].rejectionRate").value(0.25));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar agrupamento desconhecido")
+    void shouldRejectUnknownGroupBy() throws Exception {
+        mockMvc.perform(get("/api/analytics/budgets")
+                        .param("companyId", UUID.randomUUID().toString())
+                        .param("groupBy", "client"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getBudgetAnalyticsUseCase);
+    }
+}
@@ -2,10 +2,17 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.auth.ChangePasswordUseCase;
 import br.com.baggiotech.tecos_api.application.auth.LoginUseCase;
+import br.com.baggiotech.tecos_api.application.auth.RefreshTokenUseCase;
 import br.com.baggiotech.tecos_api.application.user.GetUserByIdUseCase;
 import br.com.baggiotech.tecos_api.application.user.UpdateUserProfileUseCase;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.infrastructure.security.AuthTokens;
+import br.com.baggiotech.tecos_api.infrastructure.security.InvalidTokenException;
+import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContextInterceptor;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenant;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import br.com.baggiotech.tecos_api.presentation.exception.GlobalExceptionHandler;
 import br.com.baggiotech.tecos_api.presentation.mapper.user.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -44,9 +54,18 @@ class AuthControllerTest {
     @Mock
     private UpdateUserProfileUseCase updateUserProfileUseCase;
 
+    @Mock
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    @Mock
+    private UserTenantCache userTenantCache;
+
     @Mock
     private UserMapper userMapper;
 
+    private final TokenService tokenService =
+            new TokenService("test-secret-with-at-least-32-bytes!!", Duration.ofMinutes(15), Duration.ofDays(7));
+
     private AuthController controller;
 
     private User user;
@@ -61,18 +80,12 @@ class AuthControllerTest {
                 getUserByIdUseCase,
                 changePasswordUseCase,
                 updateUserProfileUseCase,
+                refreshTokenUseCase,
+                tokenService,
                 userMapper
         );
 
-        org.springframework.validation.beanvalidation.LocalValidatorFactoryBean validator =
-                new org.springframework.validation.beanvalidation.LocalValidatorFactoryBean();
-        validator.afterPropertiesSet();
-
-        mockMvc = MockMvcBuilders
-                .standaloneSetup(controller)
-                .setControllerAdvice(new GlobalExceptionHandler())
-                .setValidator(validator)
-                .build();
+        mockMvc = buildMockMvc(false);
 
         companyId = UUID.randomUUID();
         userId = UUID.randomUUID();
@@ -97,6 +110,26 @@ class AuthControllerTest {
         user.setUpdatedAt(LocalDateTime.now());
     }
 
+    private String bearer() {
+        return "Bearer " + tokenService.issue(user).accessToken();
+    }
+
+    private MockMvc buildMockMvc(boolean legacyUserHeader) {
+        org.springframework.validation.beanvalidation.LocalValidatorFactoryBean validator =
+                new org.springframework.validation.beanvalidation.LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+
+        return MockMvcBuilders
+                .standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setValidator(validator)
+                // Só as rotas de /api/auth que o WebConfig protege; login, refresh e recuperação de senha são públicas
+                .addMappedInterceptors(new String[]{"/api/auth/me", "/api/auth/logout", "/api/auth/profile",
+                                "/api/auth/change-password"},
+                        new SecurityContextInterceptor(tokenService, userTenantCache, legacyUserHeader))
+                .build();
+    }
+
     @Test
     @DisplayName("POST /api/auth/login - Deve fazer login com sucesso")
     void shouldLoginSuccessfully() throws Exception {
@@ -122,7 +155,9 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.user").exists())
                 .andExpect(jsonPath("$.token").exists())
-                .andExpect(jsonPath("$.tokenType").value("Bearer"));
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
 
         verify(loginUseCase).execute("user@example.com", "password123");
     }
@@ -150,6 +185,7 @@ class AuthControllerTest {
     @DisplayName("POST /api/auth/logout - Deve fazer logout com sucesso")
     void shouldLogoutSuccessfully() throws Exception {
         mockMvc.perform(post("/api/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Logout realizado com sucesso."));
@@ -168,7 +204,7 @@ class AuthControllerTest {
         });
 
         mockMvc.perform(get("/api/auth/me")
-                        .header("X-User-Id", userId.toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(userId.toString()))
@@ -185,6 +221,69 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("GET /api/auth/me - Deve retornar 401 quando o token é inválido")
+    void shouldReturn401WhenTokenIsInvalid() throws Exception {
+        String token = tokenService.issue(user).accessToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\""));
+
+        verify(getUserByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/me - Deve ignorar o cabeçalho X-User-Id legado por padrão")
+    void shouldIgnoreLegacyUserHeaderByDefault() throws Exception {
+        mockMvc.perform(get("/api/auth/me")
+                        .header("X-User-Id", userId.toString()))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(userTenantCache, getUserByIdUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/me - Deve aceitar o cabeçalho X-User-Id legado sem token quando habilitado")
+    void shouldAcceptLegacyUserHeaderWhenEnabled() throws Exception {
+        when(userTenantCache.get(userId)).thenReturn(Optional.of(new UserTenant(userId, companyId, true, "TECNICO")));
+        when(getUserByIdUseCase.execute(userId)).thenReturn(user);
+
+        buildMockMvc(true).perform(get("/api/auth/me")
+                        .header("X-User-Id", userId.toString()))
+                .andExpect(status().isOk());
+
+        verify(getUserByIdUseCase).execute(userId);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/refresh - Deve renovar o par de tokens")
+    void shouldRefreshTokens() throws Exception {
+        AuthTokens tokens = tokenService.issue(user);
+        when(refreshTokenUseCase.execute(tokens.refreshToken())).thenReturn(tokens);
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + tokens.refreshToken() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value(tokens.accessToken()))
+                .andExpect(jsonPath("$.refreshToken").value(tokens.refreshToken()))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"));
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/refresh - Deve retornar 401 quando o token de renovação é inválido")
+    void shouldReturn401WhenRefreshTokenIsInvalid() throws Exception {
+        when(refreshTokenUseCase.execute("invalido")).thenThrow(new InvalidTokenException("Token inválido"));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"invalido\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("POST /api/auth/forgot-password - Deve enviar link de recuperação")
     void shouldSendPasswordResetLink() throws Exception {
@@ -261,7 +360,7 @@ class AuthControllerTest {
         });
 
         mockMvc.perform(put("/api/auth/profile")
-                        .header("X-User-Id", userId.toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isOk())
@@ -284,7 +383,7 @@ class AuthControllerTest {
         doNothing().when(changePasswordUseCase).execute(userId, "oldPassword123", "newPassword123");
 
         mockMvc.perform(put("/api/auth/change-password")
-                        .header("X-User-Id", userId.toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isOk())
@@ -305,7 +404,7 @@ class AuthControllerTest {
                 """;
 
         mockMvc.perform(put("/api/auth/change-password")
-                        .header("X-User-Id", userId.toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isBadRequest());
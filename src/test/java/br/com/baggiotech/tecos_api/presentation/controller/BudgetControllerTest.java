@@ -5,6 +5,8 @@ import br.com.baggiotech.tecos_api.domain.budget.Budget;
 import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
 import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.user.User;
 import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
 import br.com.baggiotech.tecos_api.presentation.dto.budget.ApproveBudgetRequest;
@@ -48,12 +50,18 @@ class BudgetControllerTest {
     @Mock
     private ListBudgetsUseCase listBudgetsUseCase;
 
+    @Mock
+    private ListBudgetsByCursorUseCase listBudgetsByCursorUseCase;
+
     @Mock
     private CreateBudgetUseCase createBudgetUseCase;
 
     @Mock
     private GetBudgetByIdUseCase getBudgetByIdUseCase;
 
+    @Mock
+    private GetBudgetVersionUseCase getBudgetVersionUseCase;
+
     @Mock
     private ApproveBudgetUseCase approveBudgetUseCase;
 
@@ -77,8 +85,10 @@ class BudgetControllerTest {
     void setUp() {
         controller = new BudgetController(
                 listBudgetsUseCase,
+                listBudgetsByCursorUseCase,
                 createBudgetUseCase,
                 getBudgetByIdUseCase,
+                getBudgetVersionUseCase,
                 approveBudgetUseCase,
                 rejectBudgetUseCase,
                 mapper
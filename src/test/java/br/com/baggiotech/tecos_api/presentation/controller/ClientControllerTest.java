@@ -48,6 +48,9 @@ class ClientControllerTest {
     @Mock
     private GetClientByIdUseCase getClientByIdUseCase;
 
+    @Mock
+    private GetClientVersionUseCase getClientVersionUseCase;
+
     @Mock
     private UpdateClientUseCase updateClientUseCase;
 
@@ -70,6 +73,7 @@ class ClientControllerTest {
                 listClientsUseCase,
                 createClientUseCase,
                 getClientByIdUseCase,
+                getClientVersionUseCase,
                 updateClientUseCase,
                 deleteClientUseCase,
                 mapper
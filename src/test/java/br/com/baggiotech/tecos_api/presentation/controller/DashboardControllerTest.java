@@ -0,0 +1,69 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.application.dashboard.GetDashboardSummaryUseCase;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.presentation.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardController Integration Tests")
+class DashboardControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private GetDashboardSummaryUseCase getDashboardSummaryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new DashboardController(getDashboardSummaryUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve retornar as contagens por status e o total")
+    void shouldReturnSummary() throws Exception {
+        UUID companyId = UUID.randomUUID();
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        counts.put(OrderStatus.RECEBIDO, 3L);
+        counts.put(OrderStatus.PRONTO, 2L);
+        when(getDashboardSummaryUseCase.execute(companyId)).thenReturn(counts);
+
+        mockMvc.perform(get("/api/dashboard/summary").param("companyId", companyId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyId").value(companyId.toString()))
+                .andExpect(jsonPath("$.workOrdersByStatus.RECEBIDO").value(3))
+                .andExpect(jsonPath("$.workOrdersByStatus.CANCELADO").value(0))
+                .andExpect(jsonPath("$.totalWorkOrders").value(5));
+    }
+
+    @Test
+    @DisplayName("Deve exigir companyId")
+    void shouldRequireCompanyId() throws Exception {
+        when(getDashboardSummaryUseCase.execute(null))
+                .thenThrow(new IllegalArgumentException("companyId é obrigatório para o resumo do dashboard"));
+
+        mockMvc.perform(get("/api/dashboard/summary"))
+                .andExpect(status().isBadRequest());
+    }
+}
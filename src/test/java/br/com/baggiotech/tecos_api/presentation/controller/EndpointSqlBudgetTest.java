@@ -0,0 +1,188 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.domain.budget.BudgetStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.infrastructure.metrics.SqlStatementStatsFilter;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.budget.BudgetJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.client.ClientJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.company.CompanyJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.equipment.EquipmentJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.user.UserJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.jpa.workorder.WorkOrderJpaEntity;
+import br.com.baggiotech.tecos_api.infrastructure.persistence.statistics.SqlStatementBudget;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orçamento de comandos SQL das listagens com grafos EAGER e da revalidação de detalhe, sobre a aplicação inteira (H2).
+ * Cada ordem tem cliente, equipamento e orçamento próprios: um N+1 nas associações estoura o limite.
+ * Os dados são gravados no @BeforeEach, fora da contagem, e descartados no rollback do teste.
+ * O token de acesso já traz o tenant: o único comando é a listagem, qualquer que seja o número de linhas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@SqlStatementBudget(1)
+@DisplayName("Endpoint SQL Budget Tests")
+class EndpointSqlBudgetTest {
+
+    private static final int WORK_ORDERS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private UUID companyId;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        CompanyJpaEntity company = new CompanyJpaEntity();
+        company.setName("Empresa");
+        company.setIsActive(true);
+        entityManager.persist(company);
+
+        UserJpaEntity technician = new UserJpaEntity();
+        technician.setCompany(company);
+        technician.setName("Técnico");
+        technician.setEmail("tecnico-" + UUID.randomUUID() + "@example.com");
+        technician.setPassword("hash");
+        technician.setType("TECNICO");
+        technician.setIsActive(true);
+        technician.setCreatedAt(now);
+        technician.setUpdatedAt(now);
+        entityManager.persist(technician);
+
+        for (int i = 0; i < WORK_ORDERS; i++) {
+            ClientJpaEntity client = new ClientJpaEntity();
+            client.setCompany(company);
+            client.setName("Cliente " + i);
+            client.setPhone("1199999999" + i);
+            client.setIsActive(true);
+            client.setCreatedAt(now);
+            client.setUpdatedAt(now);
+            entityManager.persist(client);
+
+            EquipmentJpaEntity equipment = new EquipmentJpaEntity();
+            equipment.setCompany(company);
+            equipment.setClient(client);
+            equipment.setType("Notebook");
+            equipment.setCreatedAt(now);
+            equipment.setUpdatedAt(now);
+            entityManager.persist(equipment);
+
+            WorkOrderJpaEntity workOrder = new WorkOrderJpaEntity();
+            workOrder.setCompany(company);
+            workOrder.setClient(client);
+            workOrder.setEquipment(equipment);
+            workOrder.setTechnician(technician);
+            workOrder.setStatus(OrderStatus.AGUARDANDO_APROVACAO);
+            workOrder.setReportedDefect("Não liga");
+            workOrder.setReturnOrder(false);
+            workOrder.setCreatedAt(now.minusMinutes(i));
+            workOrder.setUpdatedAt(now.minusMinutes(i));
+            entityManager.persist(workOrder);
+
+            BudgetJpaEntity budget = new BudgetJpaEntity();
+            budget.setCompany(company);
+            budget.setWorkOrder(workOrder);
+            budget.setServiceValue(new BigDecimal("100.00"));
+            budget.setPartsValue(BigDecimal.ZERO);
+            budget.setTotalValue(new BigDecimal("100.00"));
+            budget.setStatus(BudgetStatus.PENDENTE);
+            budget.setCreatedBy(technician);
+            budget.setCreatedAt(now.minusMinutes(i));
+            budget.setUpdatedAt(now.minusMinutes(i));
+            entityManager.persist(budget);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        companyId = company.getId();
+        authorization = "Bearer " + tokenService.issue(technician.getId(), companyId, technician.getType()).accessToken();
+    }
+
+    @Test
+    @DisplayName("Deve listar ordens de serviço dentro do orçamento de SQL")
+    void shouldListWorkOrdersWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/work-orders")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("companyId", companyId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(WORK_ORDERS))
+                .andExpect(header().string(SqlStatementStatsFilter.STATEMENTS_HEADER, "1"));
+    }
+
+    @Test
+    @DisplayName("Deve listar ordens de serviço por cursor dentro do orçamento de SQL")
+    void shouldListWorkOrdersByCursorWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/work-orders")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("companyId", companyId.toString())
+                        .param("limit", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve listar orçamentos dentro do orçamento de SQL")
+    void shouldListBudgetsWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/budgets")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("companyId", companyId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(WORK_ORDERS));
+    }
+
+    @Test
+    @DisplayName("Deve listar orçamentos por cursor dentro do orçamento de SQL")
+    void shouldListBudgetsByCursorWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/budgets")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("companyId", companyId.toString())
+                        .param("limit", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(10)
+    @DisplayName("Deve revalidar o detalhe da OS com uma única consulta")
+    void shouldRevalidateWorkOrderWithSingleStatement() throws Exception {
+        UUID workOrderId = entityManager.createQuery("SELECT w.id FROM WorkOrderJpaEntity w", UUID.class)
+                .setMaxResults(1)
+                .getSingleResult();
+        String etag = mockMvc.perform(get("/api/work-orders/{id}", workOrderId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/work-orders/{id}", workOrderId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(SqlStatementStatsFilter.STATEMENTS_HEADER, "1"));
+    }
+}
@@ -133,7 +133,23 @@ class PublicControllerTest {
                 .andExpect(jsonPath("$.client.name").value("Test Client"))
                 .andExpect(jsonPath("$.equipment.type").value("Notebook"))
                 .andExpect(jsonPath("$.budgets").isArray())
-                .andExpect(jsonPath("$.budgets[0].totalValue").value(150.00));
+                .andExpect(jsonPath("$.budgets[0].totalValue").value(150.00))
+                .andExpect(header().string("ETag", data.getEtag()))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    @DisplayName("GET /api/public/{token} - Deve retornar 304 quando o ETag não mudou")
+    void shouldReturn304WhenEtagMatches() throws Exception {
+        GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData data =
+            new GetPublicWorkOrderByTokenUseCase.PublicWorkOrderData(workOrder, Arrays.asList(budget));
+
+        when(getPublicWorkOrderByTokenUseCase.execute(token)).thenReturn(data);
+
+        mockMvc.perform(get("/api/public/{token}", token).header("If-None-Match", data.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", data.getEtag()))
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -5,6 +5,9 @@ import br.com.baggiotech.tecos_api.domain.company.Company;
 import br.com.baggiotech.tecos_api.domain.exception.EntityAlreadyExistsException;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
 import br.com.baggiotech.tecos_api.domain.user.User;
+import br.com.baggiotech.tecos_api.infrastructure.security.SecurityContextInterceptor;
+import br.com.baggiotech.tecos_api.infrastructure.security.TokenService;
+import br.com.baggiotech.tecos_api.infrastructure.security.UserTenantCache;
 import br.com.baggiotech.tecos_api.presentation.exception.GlobalExceptionHandler;
 import br.com.baggiotech.tecos_api.presentation.mapper.user.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +20,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -55,6 +60,12 @@ class UserControllerTest {
     @Mock
     private UserMapper mapper;
 
+    @Mock
+    private UserTenantCache userTenantCache;
+
+    private final TokenService tokenService =
+            new TokenService("test-secret-with-at-least-32-bytes!!", Duration.ofMinutes(15), Duration.ofDays(7));
+
     private UserController controller;
 
     private User user;
@@ -77,15 +88,19 @@ class UserControllerTest {
                 new org.springframework.validation.beanvalidation.LocalValidatorFactoryBean();
         validator.afterPropertiesSet();
 
+        companyId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+
+        // Requisições autenticadas por padrão como um administrador da mesma empresa
         mockMvc = MockMvcBuilders
                 .standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setValidator(validator)
+                .addInterceptors(new SecurityContextInterceptor(tokenService, userTenantCache, false))
+                .defaultRequest(get("/").header(HttpHeaders.AUTHORIZATION,
+                        "Bearer " + tokenService.issue(UUID.randomUUID(), companyId, "ADMIN").accessToken()))
                 .build();
 
-        companyId = UUID.randomUUID();
-        userId = UUID.randomUUID();
-
         company = new Company();
         company.setId(companyId);
         company.setName("Test Company");
@@ -339,10 +354,28 @@ class UserControllerTest {
     @DisplayName("DELETE /api/users/{id} - Deve retornar erro quando tentar excluir próprio usuário")
     void shouldReturnErrorWhenDeletingOwnUser() throws Exception {
         mockMvc.perform(delete("/api/users/{id}", userId)
-                        .header("X-User-Id", userId.toString())
+                        .header(HttpHeaders.AUTHORIZATION,
+                                "Bearer " + tokenService.issue(userId, companyId, "ADMIN").accessToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
 
         verify(deleteUserUseCase, never()).execute(userId);
     }
+
+    @Test
+    @DisplayName("GET /api/users - Deve retornar 401 sem token de acesso")
+    void shouldReturnUnauthorizedWithoutToken() throws Exception {
+        MockMvc anonymous = MockMvcBuilders
+                .standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new SecurityContextInterceptor(tokenService, userTenantCache, false))
+                .build();
+
+        anonymous.perform(get("/api/users")
+                        .header("X-User-Id", userId.toString()))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+
+        verifyNoInteractions(listUsersUseCase, userTenantCache);
+    }
 }
@@ -0,0 +1,210 @@
+package br.com.baggiotech.tecos_api.presentation.controller;
+
+import br.com.baggiotech.tecos_api.application.workorder.*;
+import br.com.baggiotech.tecos_api.application.workorder.WorkOrderStatusChange.Outcome;
+import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.version.ResourceVersion;
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrder;
+import br.com.baggiotech.tecos_api.presentation.exception.GlobalExceptionHandler;
+import br.com.baggiotech.tecos_api.presentation.mapper.workorder.WorkOrderMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkOrderController Integration Tests")
+class WorkOrderControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ListWorkOrdersUseCase listWorkOrdersUseCase;
+
+    @Mock
+    private ListWorkOrdersByCursorUseCase listWorkOrdersByCursorUseCase;
+
+    @Mock
+    private CreateWorkOrderUseCase createWorkOrderUseCase;
+
+    @Mock
+    private GetWorkOrderByIdUseCase getWorkOrderByIdUseCase;
+
+    @Mock
+    private GetWorkOrderVersionUseCase getWorkOrderVersionUseCase;
+
+    @Mock
+    private UpdateWorkOrderUseCase updateWorkOrderUseCase;
+
+    @Mock
+    private UpdateWorkOrderStatusUseCase updateWorkOrderStatusUseCase;
+
+    @Mock
+    private CancelWorkOrderUseCase cancelWorkOrderUseCase;
+
+    @Mock
+    private BatchUpdateWorkOrderStatusUseCase batchUpdateWorkOrderStatusUseCase;
+
+    @Mock
+    private ExportWorkOrdersUseCase exportWorkOrdersUseCase;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        WorkOrderController controller = new WorkOrderController(
+                listWorkOrdersUseCase,
+                listWorkOrdersByCursorUseCase,
+                createWorkOrderUseCase,
+                getWorkOrderByIdUseCase,
+                getWorkOrderVersionUseCase,
+                updateWorkOrderUseCase,
+                updateWorkOrderStatusUseCase,
+                cancelWorkOrderUseCase,
+                batchUpdateWorkOrderStatusUseCase,
+                exportWorkOrdersUseCase,
+                new WorkOrderMapper(),
+                objectMapper
+        );
+
+        org.springframework.validation.beanvalidation.LocalValidatorFactoryBean validator =
+            new org.springframework.validation.beanvalidation.LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setValidator(validator)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve trocar status em lote e retornar o resultado de cada OS")
+    void shouldUpdateStatusInBatch() throws Exception {
+        UUID delivered = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(batchUpdateWorkOrderStatusUseCase.execute(List.of(delivered, cancelled), OrderStatus.ENTREGUE, null, userId))
+                .thenReturn(List.of(
+                        new WorkOrderStatusChange(delivered, Outcome.UPDATED, OrderStatus.PRONTO),
+                        new WorkOrderStatusChange(cancelled, Outcome.INVALID_TRANSITION, OrderStatus.CANCELADO)));
+
+        mockMvc.perform(post("/api/work-orders/status:batch")
+                        .param("userId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "workOrderIds", List.of(delivered, cancelled),
+                                "status", "ENTREGUE"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.items[0].workOrderId").value(delivered.toString()))
+                .andExpect(jsonPath("$.items[0].result").value("UPDATED"))
+                .andExpect(jsonPath("$.items[1].result").value("INVALID_TRANSITION"))
+                .andExpect(jsonPath("$.items[1].statusBefore").value("CANCELADO"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do limite")
+    void shouldRejectBatchAboveLimit() throws Exception {
+        List<UUID> ids = Collections.nCopies(101, UUID.randomUUID());
+
+        mockMvc.perform(post("/api/work-orders/status:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("workOrderIds", ids, "status", "ENTREGUE"))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(batchUpdateWorkOrderStatusUseCase);
+    }
+
+    private WorkOrder workOrder(UUID id, LocalDateTime updatedAt) {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setId(id);
+        workOrder.setStatus(OrderStatus.RECEBIDO);
+        workOrder.setReportedDefect("Não liga");
+        workOrder.setUpdatedAt(updatedAt);
+        return workOrder;
+    }
+
+    @Test
+    @DisplayName("Deve devolver a OS com ETag e Last-Modified da versão")
+    void shouldReturnWorkOrderWithValidators() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 10, 14, 30, 15);
+        ResourceVersion version = new ResourceVersion(id, updatedAt);
+        when(getWorkOrderVersionUseCase.execute(id)).thenReturn(Optional.of(version));
+        when(getWorkOrderByIdUseCase.execute(id)).thenReturn(workOrder(id, updatedAt));
+
+        mockMvc.perform(get("/api/work-orders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalGet.etag(version)))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, ConditionalGet.lastModified(version)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.id").value(id.toString()));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem carregar a OS quando o ETag não mudou")
+    void shouldReturnNotModifiedWithoutLoadingWorkOrder() throws Exception {
+        UUID id = UUID.randomUUID();
+        ResourceVersion version = new ResourceVersion(id, LocalDateTime.of(2025, 3, 10, 14, 30, 15));
+        when(getWorkOrderVersionUseCase.execute(id)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/api/work-orders/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalGet.etag(version)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalGet.etag(version)))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(getWorkOrderByIdUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a OS atual quando o ETag enviado é de uma versão anterior")
+    void shouldReturnWorkOrderWhenEtagIsStale() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 10, 14, 30, 15);
+        ResourceVersion previous = new ResourceVersion(id, updatedAt.minusMinutes(1));
+        ResourceVersion current = new ResourceVersion(id, updatedAt);
+        when(getWorkOrderVersionUseCase.execute(id)).thenReturn(Optional.of(current));
+        when(getWorkOrderByIdUseCase.execute(id)).thenReturn(workOrder(id, updatedAt));
+
+        mockMvc.perform(get("/api/work-orders/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalGet.etag(previous)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalGet.etag(current)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 quando a OS não tem versão")
+    void shouldReturnNotFoundWhenWorkOrderHasNoVersion() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(getWorkOrderVersionUseCase.execute(id)).thenReturn(Optional.empty());
+        when(getWorkOrderByIdUseCase.execute(id)).thenThrow(new EntityNotFoundException("WorkOrder", id));
+
+        mockMvc.perform(get("/api/work-orders/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"qualquer\""))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -2,6 +2,8 @@ package br.com.baggiotech.tecos_api.presentation.controller;
 
 import br.com.baggiotech.tecos_api.application.workorderhistory.*;
 import br.com.baggiotech.tecos_api.domain.exception.EntityNotFoundException;
+import br.com.baggiotech.tecos_api.domain.pagination.Cursor;
+import br.com.baggiotech.tecos_api.domain.pagination.CursorPage;
 import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
 import br.com.baggiotech.tecos_api.domain.workorderhistory.WorkOrderHistory;
 import br.com.baggiotech.tecos_api.presentation.dto.workorderhistory.WorkOrderHistoryResponse;
@@ -38,6 +40,9 @@ class WorkOrderHistoryControllerTest {
     @Mock
     private ListWorkOrderHistoriesUseCase listWorkOrderHistoriesUseCase;
 
+    @Mock
+    private ListWorkOrderHistoriesByCursorUseCase listWorkOrderHistoriesByCursorUseCase;
+
     @Mock
     private GetWorkOrderHistoryByIdUseCase getWorkOrderHistoryByIdUseCase;
 
@@ -55,6 +60,7 @@ class WorkOrderHistoryControllerTest {
     void setUp() {
         controller = new WorkOrderHistoryController(
                 listWorkOrderHistoriesUseCase,
+                listWorkOrderHistoriesByCursorUseCase,
                 getWorkOrderHistoryByIdUseCase,
                 mapper
         );
@@ -114,6 +120,38 @@ class WorkOrderHistoryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @DisplayName("GET /api/work-order-histories?limit - Deve paginar por cursor sem contagem total")
+    void shouldListHistoriesByCursor() throws Exception {
+        Cursor next = new Cursor(history.getCreatedAt(), historyId);
+        CursorPage<WorkOrderHistory> page = new CursorPage<>(List.of(history), next, 1);
+
+        when(listWorkOrderHistoriesByCursorUseCase.execute(eq(workOrderId), any(), eq("abc"), eq(1)))
+                .thenReturn(page);
+        when(mapper.toResponse(any(WorkOrderHistory.class))).thenAnswer(invocation -> {
+            WorkOrderHistory h = invocation.getArgument(0);
+            return new WorkOrderHistoryResponse(
+                    h.getId(), h.getWorkOrder() != null ? h.getWorkOrder().getId() : null,
+                    h.getUser() != null ? h.getUser().getId() : null,
+                    h.getUser() != null ? h.getUser().getName() : null,
+                    h.getStatusBefore(), h.getStatusAfter(), h.getObservation(),
+                    h.getCreatedAt(), h.getUpdatedAt()
+            );
+        });
+
+        mockMvc.perform(get("/api/work-order-histories")
+                        .param("workOrderId", workOrderId.toString())
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].statusAfter").value("EM_ANALISE"))
+                .andExpect(jsonPath("$.nextCursor").value(next.encode()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(listWorkOrderHistoriesUseCase, never()).execute(any(), any(), any(), any(), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("GET /api/work-order-histories - Deve filtrar por workOrderId")
     void shouldFilterByWorkOrderId() throws Exception {
@@ -0,0 +1,74 @@
+package br.com.baggiotech.tecos_api.presentation.export;
+
+import br.com.baggiotech.tecos_api.domain.workorder.OrderStatus;
+import br.com.baggiotech.tecos_api.domain.workorder.WorkOrderSummary;
+import br.com.baggiotech.tecos_api.presentation.mapper.workorder.WorkOrderMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WorkOrderExportWriter Tests")
+class WorkOrderExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WorkOrderSummary summary(String reportedDefect) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 10, 12, 0);
+        return new WorkOrderSummary(UUID.randomUUID(), UUID.randomUUID(), "Company", UUID.randomUUID(), "Silva, Maria",
+                UUID.randomUUID(), "Notebook", UUID.randomUUID(), "Técnico", OrderStatus.RECEBIDO, reportedDefect,
+                null, false, null, null, createdAt, createdAt);
+    }
+
+    private WorkOrderExportWriter writer(ExportFormat format, StringWriter output) {
+        return new WorkOrderExportWriter(format, output, objectMapper, new WorkOrderMapper());
+    }
+
+    @Test
+    @DisplayName("Deve escrever cabeçalho e linhas CSV escapando separadores e aspas")
+    void shouldWriteEscapedCsv() throws Exception {
+        StringWriter output = new StringWriter();
+        WorkOrderExportWriter exportWriter = writer(ExportFormat.CSV, output);
+
+        exportWriter.writeHeader();
+        exportWriter.accept(summary("Tela \"piscando\"\nàs vezes"));
+
+        String[] lines = output.toString().split("\r\n");
+        assertThat(lines[0]).startsWith("id,company_id,company_name,client_id,client_name");
+        assertThat(lines[1]).contains(",\"Silva, Maria\",")
+                .contains(",RECEBIDO,\"Tela \"\"piscando\"\"\nàs vezes\",,false,,,2024-01-10T12:00,");
+    }
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha em NDJSON")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        StringWriter output = new StringWriter();
+        WorkOrderExportWriter exportWriter = writer(ExportFormat.NDJSON, output);
+
+        exportWriter.writeHeader();
+        exportWriter.accept(summary("Defeito 1"));
+        exportWriter.accept(summary("Defeito 2"));
+
+        String[] lines = output.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("reportedDefect").asText()).isEqualTo("Defeito 1");
+        assertThat(first.get("clientName").asText()).isEqualTo("Silva, Maria");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato desconhecido")
+    void shouldRejectUnknownFormat() {
+        assertThat(ExportFormat.from("NDJSON")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.from("xlsx"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}